@@ -0,0 +1,358 @@
+package net.tnemc.core.economy.lax;
+
+import net.tnemc.core.economy.lax.account.BasicAccount;
+import net.tnemc.core.economy.lax.account.NPCAccount;
+import net.tnemc.core.economy.lax.account.PlayerAccount;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.ranking.SeedableEconomy;
+import net.tnemc.core.economy.strict.result.response.AccountResponse;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A complete, thread-safe, in-memory {@link EconomyAdapter} implementation. This is meant to be used
+ * as a default provider for small servers, and as the baseline that other providers are benchmarked
+ * against.
+ *
+ * Player accounts are stored by their {@link UUID}, and may also be looked up by their name through
+ * the string-based methods. Every other string identifier is treated as a {@link NPCAccount}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class BasicEconomyAdapter implements EconomyAdapter, SeedableEconomy {
+
+  private final Map<String, BasicAccount> accounts = new ConcurrentHashMap<>();
+  private final Map<UUID, PlayerAccount> players = new ConcurrentHashMap<>();
+  private final Map<String, PlayerAccount> names = new ConcurrentHashMap<>();
+  private final Map<String, Currency> currencies = new ConcurrentHashMap<>();
+
+  private final String name;
+  private final String defaultWorld;
+  private final Currency defaultCurrency;
+
+  private volatile HoldingsListener listener;
+
+  /**
+   * @param name The name of this adapter.
+   * @param defaultWorld The name of the world used by calls that don't specify a world.
+   * @param defaultCurrency The {@link Currency} used by calls that don't specify a currency.
+   *
+   * @since 1.0.0
+   */
+  public BasicEconomyAdapter(String name, String defaultWorld, Currency defaultCurrency) {
+    this.name = name;
+    this.defaultWorld = defaultWorld;
+    this.defaultCurrency = defaultCurrency;
+    addCurrency(defaultCurrency);
+  }
+
+  /**
+   * Used to make an additional {@link Currency} available in this economy.
+   *
+   * @param currency The {@link Currency} to add.
+   *
+   * @since 1.0.0
+   */
+  public void addCurrency(Currency currency) {
+    currencies.put(currency.identifier(), currency);
+  }
+
+  /**
+   * @param identifier The identifier of the {@link Currency}.
+   *
+   * @return An optional containing the {@link Currency} with the specified identifier if it exists,
+   * otherwise an empty optional.
+   *
+   * @since 1.0.0
+   */
+  public Optional<Currency> getCurrency(String identifier) {
+    return Optional.ofNullable(currencies.get(identifier));
+  }
+
+  /**
+   * Used to set the {@link HoldingsListener} that receives the changes made to the accounts of this
+   * economy. Accounts added through {@link #register(UUID, String)} or loaded into this economy
+   * before the listener is set aren't reported.
+   *
+   * @param listener The {@link HoldingsListener}, or null to remove the current listener.
+   *
+   * @since 1.0.0
+   */
+  public void setListener(HoldingsListener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * @return The {@link HoldingsListener} of this economy, or null if there is none.
+   *
+   * @since 1.0.0
+   */
+  public HoldingsListener listener() {
+    return listener;
+  }
+
+  /**
+   * @return The name of the world used by calls that don't specify a world.
+   *
+   * @since 1.0.0
+   */
+  public String defaultWorld() {
+    return defaultWorld;
+  }
+
+  /**
+   * @return An unmodifiable view of every account in this economy.
+   *
+   * @since 1.0.0
+   */
+  @Override
+  public Collection<BasicAccount> accounts() {
+    return Collections.unmodifiableCollection(accounts.values());
+  }
+
+  @Override
+  public boolean vault() {
+    return true;
+  }
+
+  @Override
+  public boolean override() {
+    return false;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public int priority() {
+    return 1;
+  }
+
+  @Override
+  public boolean hasAccount(String identifier) {
+    return find(identifier) != null;
+  }
+
+  @Override
+  public boolean hasAccount(UUID identifier) {
+    return players.containsKey(identifier);
+  }
+
+  @Override
+  public Account getOrCreateAccount(String identifier) {
+    final BasicAccount account = find(identifier);
+    if(account != null) {
+      return account;
+    }
+    final NPCAccount created = new NPCAccount(this, identifier);
+    final BasicAccount existing = accounts.putIfAbsent(identifier, created);
+    if(existing != null) {
+      return existing;
+    }
+    created(created);
+    return created;
+  }
+
+  @Override
+  public UniqueAccount getOrCreateAccount(UUID identifier) {
+    final PlayerAccount account = players.get(identifier);
+    if(account != null) {
+      return account;
+    }
+    final PlayerAccount created = new PlayerAccount(this, identifier, identifier.toString());
+    final PlayerAccount existing = players.putIfAbsent(identifier, created);
+    if(existing != null) {
+      return existing;
+    }
+    accounts.putIfAbsent(created.identifier(), created);
+    names.putIfAbsent(created.name().toLowerCase(), created);
+    created(created);
+    return created;
+  }
+
+  @Override
+  public boolean createAccount(String identifier) {
+    if(find(identifier) != null) {
+      return false;
+    }
+    final NPCAccount account = new NPCAccount(this, identifier);
+    if(accounts.putIfAbsent(identifier, account) != null) {
+      return false;
+    }
+    created(account);
+    return true;
+  }
+
+  @Override
+  public boolean createAccount(UUID identifier, String name) {
+
+    //Vault passes OfflinePlayer#getName, which is null for players that never joined.
+    final PlayerAccount account = new PlayerAccount(this, identifier, (name == null)? identifier.toString() : name);
+    if(players.putIfAbsent(identifier, account) != null) {
+      return false;
+    }
+    accounts.putIfAbsent(account.identifier(), account);
+    names.putIfAbsent(account.name().toLowerCase(), account);
+    created(account);
+    return true;
+  }
+
+  @Override
+  public Optional<Account> getAccount(String identifier) {
+    return Optional.ofNullable(find(identifier));
+  }
+
+  @Override
+  public Optional<UniqueAccount> getAccount(UUID identifier) {
+    return Optional.ofNullable(players.get(identifier));
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(String identifier, ActionSource source) {
+    final BasicAccount account = find(identifier);
+    if(account == null) {
+      return AccountResponse.DOESNT_EXIST;
+    }
+
+    if(account instanceof PlayerAccount) {
+      return deleteAccount(((PlayerAccount)account).getUniqueID(), source);
+    }
+    if(!accounts.remove(account.identifier(), account)) {
+      return AccountResponse.DOESNT_EXIST;
+    }
+    deleted(account);
+    return AccountResponse.DELETED;
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(UUID identifier, ActionSource source) {
+    final PlayerAccount account = players.remove(identifier);
+    if(account == null) {
+      return AccountResponse.DOESNT_EXIST;
+    }
+    accounts.remove(account.identifier(), account);
+    names.remove(account.name().toLowerCase(), account);
+    deleted(account);
+    return AccountResponse.DELETED;
+  }
+
+  @Override
+  public Currency getDefaultCurrency() {
+    return defaultCurrency;
+  }
+
+  @Override
+  public Currency getDefaultCurrency(String world) {
+    return defaultCurrency;
+  }
+
+  @Override
+  public Set<Currency> getCurrencies() {
+    return Collections.unmodifiableSet(new LinkedHashSet<>(currencies.values()));
+  }
+
+  @Override
+  public Set<Currency> getCurrencies(String world) {
+    return getCurrencies();
+  }
+
+  /**
+   * Used to add a player account, for example when loading accounts from storage. If an account
+   * already exists for the identifier, the existing account is returned.
+   *
+   * @param identifier The {@link UUID} of the player.
+   * @param name The name of the player.
+   *
+   * @return The {@link PlayerAccount} for the specified player.
+   *
+   * @since 1.0.0
+   */
+  public PlayerAccount register(UUID identifier, String name) {
+    final PlayerAccount account = players.computeIfAbsent(identifier, id->new PlayerAccount(this, id, (name == null)? id.toString() : name));
+    accounts.putIfAbsent(account.identifier(), account);
+    names.putIfAbsent(account.name().toLowerCase(), account);
+    return account;
+  }
+
+  /**
+   * Called by {@link BasicAccount#setName(String)} after an account's name changed, so the account can
+   * be found by its new name instead of its previous one.
+   *
+   * @param account The {@link BasicAccount} that was renamed.
+   * @param previous The previous name of the account.
+   *
+   * @since 1.0.0
+   */
+  public void renamed(BasicAccount account, String previous) {
+    if(!(account instanceof PlayerAccount)) {
+      return;
+    }
+
+    final PlayerAccount player = (PlayerAccount)account;
+    if(previous != null) {
+      names.remove(previous.toLowerCase(), player);
+    }
+
+    //Names only belong to one player at a time, so the player that was renamed most recently wins.
+    if(players.get(player.getUniqueID()) == player && player.name() != null) {
+      names.put(player.name().toLowerCase(), player);
+    }
+  }
+
+  private void created(BasicAccount account) {
+    final HoldingsListener current = listener;
+    if(current != null) {
+      current.created(account);
+    }
+  }
+
+  private void deleted(BasicAccount account) {
+    final HoldingsListener current = listener;
+    if(current != null) {
+      current.deleted(account);
+    }
+  }
+
+  private BasicAccount find(String identifier) {
+    final BasicAccount account = accounts.get(identifier);
+    if(account != null) {
+      return account;
+    }
+    return names.get(identifier.toLowerCase());
+  }
+}
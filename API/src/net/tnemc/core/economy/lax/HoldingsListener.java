@@ -0,0 +1,66 @@
+package net.tnemc.core.economy.lax;
+
+import net.tnemc.core.economy.lax.account.BasicAccount;
+import net.tnemc.core.economy.strict.currency.Currency;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Receives the changes made to the accounts of a {@link BasicEconomyAdapter}, for example to
+ * persist them. Listeners are called on the thread that made the change, so they should return
+ * quickly.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public interface HoldingsListener {
+
+  /**
+   * Called after an account has been created.
+   *
+   * @param account The created {@link BasicAccount}.
+   *
+   * @since 1.0.0
+   */
+  void created(BasicAccount account);
+
+  /**
+   * Called after an account has been deleted.
+   *
+   * @param account The deleted {@link BasicAccount}.
+   *
+   * @since 1.0.0
+   */
+  void deleted(BasicAccount account);
+
+  /**
+   * Called after the holdings of an account have been changed. Concurrent changes to the same
+   * holdings may be reported in any order, so listeners should read the current value with
+   * {@link BasicAccount#unscaledHoldings(String, Currency)} rather than track the changes themselves.
+   *
+   * @param account The {@link BasicAccount} whose holdings changed.
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   *
+   * @since 1.0.0
+   */
+  void changed(BasicAccount account, String world, Currency currency);
+}
@@ -1,4 +1,408 @@
 package net.tnemc.core.economy.lax.account;
 
-public class BasicAccount {
-}
\ No newline at end of file
+import net.tnemc.core.economy.lax.BasicEconomyAdapter;
+import net.tnemc.core.economy.lax.HoldingsListener;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.Money;
+import net.tnemc.core.economy.strict.result.BasicHoldingsActionResult;
+import net.tnemc.core.economy.strict.result.BasicHoldingsMoveActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.economy.strict.result.response.GeneralResponse;
+import net.tnemc.core.economy.strict.result.response.HoldingsResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The base {@link Account} implementation for the {@link BasicEconomyAdapter in-memory economy}.
+ *
+ * Holdings are kept per world and per currency as fixed-point longs that are scaled by the
+ * currency's {@link Currency#precision() precision}, and every change is applied with a
+ * compare-and-set loop, so no locks are held while updating holdings. Amounts with more decimal
+ * digits than the currency's precision are truncated. The {@link Money} overloads work directly on
+ * the fixed-point values, without creating any {@link BigDecimal} objects.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public abstract class BasicAccount implements Account {
+
+  /**
+   * Returned by {@link #toUnscaled(BigDecimal, int)} when an amount doesn't fit into a long.
+   */
+  public static final long OVERFLOW = Long.MIN_VALUE;
+
+  private final Map<String, Map<String, AtomicLong>> holdings = new ConcurrentHashMap<>();
+
+  protected final BasicEconomyAdapter adapter;
+  private final String identifier;
+  private volatile String name;
+
+  public BasicAccount(BasicEconomyAdapter adapter, String identifier, String name) {
+    this.adapter = adapter;
+    this.identifier = identifier;
+    this.name = name;
+  }
+
+  @Override
+  public String identifier() {
+    return identifier;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  public void setName(String name) {
+    final String previous;
+    synchronized(this) {
+      previous = this.name;
+      this.name = name;
+    }
+    adapter.renamed(this, previous);
+  }
+
+  @Override
+  public BigDecimal holdings(String world) {
+    return holdings(world, adapter.getDefaultCurrency(world));
+  }
+
+  @Override
+  public BigDecimal holdings(String world, Currency currency) {
+    return BigDecimal.valueOf(unscaledHoldings(world, currency), currency.precision());
+  }
+
+  @Override
+  public boolean has(String world, BigDecimal amount) {
+    return has(world, adapter.getDefaultCurrency(world), amount);
+  }
+
+  @Override
+  public boolean has(String world, Currency currency, BigDecimal amount) {
+    final long unscaled = toUnscaled(amount, currency.precision());
+    return unscaled != OVERFLOW && unscaledHoldings(world, currency) >= unscaled;
+  }
+
+  @Override
+  public Money holdingsMoney(String world) {
+    return holdingsMoney(world, adapter.getDefaultCurrency(world));
+  }
+
+  @Override
+  public Money holdingsMoney(String world, Currency currency) {
+    if(currency.precision() > Money.MAX_SCALE) {
+      return Money.of(holdings(world, currency));
+    }
+    return Money.of(unscaledHoldings(world, currency), currency.precision());
+  }
+
+  @Override
+  public boolean has(String world, Money amount) {
+    return has(world, adapter.getDefaultCurrency(world), amount);
+  }
+
+  @Override
+  public boolean has(String world, Currency currency, Money amount) {
+    final long unscaled = toUnscaled(amount, currency.precision());
+    return unscaled != OVERFLOW && unscaledHoldings(world, currency) >= unscaled;
+  }
+
+  @Override
+  public Map<Currency, BigDecimal> getMultiHoldings(String world) {
+    final Map<Currency, BigDecimal> multi = new HashMap<>();
+    for(Currency currency : adapter.getCurrencies(world)) {
+      multi.put(currency, holdings(world, currency));
+    }
+    return multi;
+  }
+
+  @Override
+  public HoldingsActionResult deposit(BigDecimal amount, ActionSource source) {
+    return deposit(amount, adapter.defaultWorld(), source);
+  }
+
+  @Override
+  public HoldingsActionResult deposit(BigDecimal amount, Currency currency, ActionSource source) {
+    return deposit(amount, adapter.defaultWorld(), currency, source);
+  }
+
+  @Override
+  public HoldingsActionResult deposit(BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return change("deposit", amount, world, currency, true);
+  }
+
+  @Override
+  public HoldingsActionResult deposit(Money amount, String world, Currency currency, ActionSource source) {
+    return change("deposit", amount, world, currency, true);
+  }
+
+  @Override
+  public HoldingsMoveActionResult transfer(Account receiving, BigDecimal amount, ActionSource source) {
+    return transfer(receiving, amount, adapter.defaultWorld(), source);
+  }
+
+  @Override
+  public HoldingsMoveActionResult transfer(Account receiving, BigDecimal amount, Currency currency, ActionSource source) {
+    return transfer(receiving, amount, adapter.defaultWorld(), currency, source);
+  }
+
+  @Override
+  public HoldingsMoveActionResult transfer(Account receiving, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return transfer(receiving, Money.of(amount), world, currency, source);
+  }
+
+  @Override
+  public HoldingsMoveActionResult transfer(Account receiving, Money amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult withdrawn = withdraw(amount, world, currency, source);
+    if(!withdrawn.success()) {
+      return new BasicHoldingsMoveActionResult("transfer", this, currency, withdrawn.holdings(),
+                                               receiving, currency, receiving.holdings(world, currency),
+                                               withdrawn.result());
+    }
+
+    final HoldingsActionResult deposited = receiving.deposit(amount, world, currency, source);
+    if(deposited == null || !deposited.success()) {
+
+      //The receiving account couldn't accept the holdings, so give them back to this account.
+      final HoldingsActionResult refunded = change("transfer", amount, world, currency, true);
+      return new BasicHoldingsMoveActionResult("transfer", this, currency, refunded.holdings(),
+                                               receiving, currency, receiving.holdings(world, currency),
+                                               (deposited == null)? GeneralResponse.FAILED : deposited.result());
+    }
+    return new BasicHoldingsMoveActionResult("transfer", this, currency, withdrawn.holdings(),
+                                             receiving, currency, deposited.holdings(),
+                                             GeneralResponse.SUCCESS);
+  }
+
+  private HoldingsMoveActionResult transfer(Account receiving, BigDecimal amount, String world, ActionSource source) {
+    return transfer(receiving, amount, world, adapter.getDefaultCurrency(world), source);
+  }
+
+  @Override
+  public HoldingsActionResult withdraw(BigDecimal amount, ActionSource source) {
+    return withdraw(amount, adapter.defaultWorld(), source);
+  }
+
+  @Override
+  public HoldingsActionResult withdraw(BigDecimal amount, Currency currency, ActionSource source) {
+    return withdraw(amount, adapter.defaultWorld(), currency, source);
+  }
+
+  @Override
+  public HoldingsActionResult withdraw(BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return change("withdraw", amount, world, currency, false);
+  }
+
+  @Override
+  public HoldingsActionResult withdraw(Money amount, String world, Currency currency, ActionSource source) {
+    return change("withdraw", amount, world, currency, false);
+  }
+
+  private HoldingsActionResult deposit(BigDecimal amount, String world, ActionSource source) {
+    return deposit(amount, world, adapter.getDefaultCurrency(world), source);
+  }
+
+  private HoldingsActionResult withdraw(BigDecimal amount, String world, ActionSource source) {
+    return withdraw(amount, world, adapter.getDefaultCurrency(world), source);
+  }
+
+  /**
+   * Used to get the fixed-point holdings of this account.
+   *
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   *
+   * @return The holdings, scaled by the currency's precision.
+   *
+   * @since 1.0.0
+   */
+  public long unscaledHoldings(String world, Currency currency) {
+    final AtomicLong value = holder(world, currency, false);
+    return (value == null)? 0L : value.get();
+  }
+
+  /**
+   * Used to set the fixed-point holdings of this account directly, for example when loading them
+   * from storage. This bypasses the minimum and maximum holdings checks.
+   *
+   * @param world The name of the world.
+   * @param currency The identifier of the {@link Currency} of the holdings.
+   * @param unscaled The holdings, scaled by the currency's precision.
+   *
+   * @since 1.0.0
+   */
+  public void setUnscaledHoldings(String world, String currency, long unscaled) {
+    holdings.computeIfAbsent(world, key->new ConcurrentHashMap<>())
+            .computeIfAbsent(currency, key->new AtomicLong()).set(unscaled);
+  }
+
+  /**
+   * @return A copy of every fixed-point holdings value of this account, keyed by world name and then
+   * by currency identifier.
+   *
+   * @since 1.0.0
+   */
+  public Map<String, Map<String, Long>> unscaledHoldings() {
+    final Map<String, Map<String, Long>> copy = new HashMap<>();
+    for(Map.Entry<String, Map<String, AtomicLong>> world : holdings.entrySet()) {
+      final Map<String, Long> currencies = new HashMap<>();
+      for(Map.Entry<String, AtomicLong> entry : world.getValue().entrySet()) {
+        currencies.put(entry.getKey(), entry.getValue().get());
+      }
+      copy.put(world.getKey(), currencies);
+    }
+    return copy;
+  }
+
+  /**
+   * Used to apply a change to this account's holdings without taking any locks.
+   *
+   * @param actionType The identifier of the action performing the change.
+   * @param amount The amount to add or remove.
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   * @param add True if the amount should be added, false if it should be removed.
+   *
+   * @return The {@link HoldingsActionResult} of the change.
+   */
+  protected HoldingsActionResult change(String actionType, BigDecimal amount, String world, Currency currency, boolean add) {
+    if(amount.signum() < 0) {
+      return result(actionType, world, currency, GeneralResponse.FAILED);
+    }
+    return change(actionType, toUnscaled(amount, currency.precision()), world, currency, add);
+  }
+
+  /**
+   * Used to apply a change to this account's holdings without taking any locks.
+   *
+   * @param actionType The identifier of the action performing the change.
+   * @param amount The amount to add or remove.
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   * @param add True if the amount should be added, false if it should be removed.
+   *
+   * @return The {@link HoldingsActionResult} of the change.
+   */
+  protected HoldingsActionResult change(String actionType, Money amount, String world, Currency currency, boolean add) {
+    if(amount.signum() < 0) {
+      return result(actionType, world, currency, GeneralResponse.FAILED);
+    }
+    return change(actionType, toUnscaled(amount, currency.precision()), world, currency, add);
+  }
+
+  private HoldingsActionResult change(String actionType, long unscaled, String world, Currency currency, boolean add) {
+    if(unscaled == OVERFLOW) {
+      return result(actionType, world, currency, (add)? HoldingsResponse.MAX_HOLDINGS : HoldingsResponse.INSUFFICIENT);
+    }
+
+    final AtomicLong value = holder(world, currency, true);
+    long current;
+    long updated;
+    do {
+      current = value.get();
+      if(add) {
+        if(current > Long.MAX_VALUE - unscaled) {
+          return result(actionType, currency, current, HoldingsResponse.MAX_HOLDINGS);
+        }
+        updated = current + unscaled;
+      } else {
+        if(current < unscaled) {
+          return result(actionType, currency, current, HoldingsResponse.INSUFFICIENT);
+        }
+        updated = current - unscaled;
+      }
+    } while(!value.compareAndSet(current, updated));
+
+    final HoldingsListener listener = adapter.listener();
+    if(listener != null) {
+      listener.changed(this, world, currency);
+    }
+    return result(actionType, currency, updated, GeneralResponse.SUCCESS);
+  }
+
+  private HoldingsActionResult result(String actionType, String world, Currency currency, EconomyResponse response) {
+    return result(actionType, currency, unscaledHoldings(world, currency), response);
+  }
+
+  private HoldingsActionResult result(String actionType, Currency currency, long unscaled, EconomyResponse response) {
+    return new BasicHoldingsActionResult(actionType, this, currency,
+                                         BigDecimal.valueOf(unscaled, currency.precision()), response);
+  }
+
+  private AtomicLong holder(String world, Currency currency, boolean create) {
+    if(create) {
+      return holdings.computeIfAbsent(world, key->new ConcurrentHashMap<>())
+                     .computeIfAbsent(currency.identifier(), key->new AtomicLong());
+    }
+
+    final Map<String, AtomicLong> worldHoldings = holdings.get(world);
+    return (worldHoldings == null)? null : worldHoldings.get(currency.identifier());
+  }
+
+  /**
+   * Used to convert an amount into a fixed-point long. Digits beyond the specified precision are
+   * truncated.
+   *
+   * @param amount The amount to convert.
+   * @param precision The number of decimal digits the long is scaled by.
+   *
+   * @return The scaled long, or {@link #OVERFLOW} if the amount doesn't fit into a long.
+   *
+   * @since 1.0.0
+   */
+  public static long toUnscaled(BigDecimal amount, int precision) {
+    final BigDecimal scaled = amount.setScale(precision, RoundingMode.DOWN);
+    if(scaled.precision() > 18 && scaled.unscaledValue().bitLength() > 63) {
+      return OVERFLOW;
+    }
+    return scaled.unscaledValue().longValue();
+  }
+
+  /**
+   * Used to convert an amount into a fixed-point long. Digits beyond the specified precision are
+   * truncated.
+   *
+   * @param amount The amount to convert.
+   * @param precision The number of decimal digits the long is scaled by.
+   *
+   * @return The scaled long, or {@link #OVERFLOW} if the amount doesn't fit into a long.
+   *
+   * @since 1.0.0
+   */
+  public static long toUnscaled(Money amount, int precision) {
+    final Money scaled = amount.withScale(precision);
+    if(!scaled.isCompact()) {
+      return toUnscaled(scaled.toBigDecimal(), precision);
+    }
+    return scaled.unscaledValue();
+  }
+}
@@ -1,4 +1,82 @@
 package net.tnemc.core.economy.lax.account;
 
-public class NPCAccount {
-}
\ No newline at end of file
+import net.tnemc.core.economy.lax.BasicEconomyAdapter;
+import net.tnemc.core.economy.strict.account.AccessLevel;
+import net.tnemc.core.economy.strict.account.GenericAccount;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The {@link GenericAccount} implementation for the {@link BasicEconomyAdapter in-memory economy},
+ * which represents non-player accounts such as banks, NPCs and server accounts.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class NPCAccount extends BasicAccount implements GenericAccount {
+
+  private final Map<UUID, Set<AccessLevel>> access = new ConcurrentHashMap<>();
+
+  public NPCAccount(BasicEconomyAdapter adapter, String identifier) {
+    super(adapter, identifier, identifier);
+  }
+
+  @Override
+  public boolean hasAccess(UUID identifier, AccessLevel accessLevel) {
+    final Set<AccessLevel> levels = access.get(identifier);
+    return levels != null && levels.contains(accessLevel);
+  }
+
+  @Override
+  public boolean updateAccess(UUID identifier, AccessLevel accessLevel, ActionSource source) {
+    access.compute(identifier, (id, levels)->{
+      final Set<AccessLevel> updated = EnumSet.of(accessLevel);
+      if(levels != null) {
+        updated.addAll(levels);
+      }
+      return Collections.unmodifiableSet(updated);
+    });
+    return true;
+  }
+
+  @Override
+  public boolean removeAccess(UUID identifier, ActionSource source) {
+    return access.remove(identifier) != null;
+  }
+
+  /**
+   * @return An unmodifiable view of the access levels that have been granted for this account,
+   * keyed by player identifier.
+   *
+   * @since 1.0.0
+   */
+  public Map<UUID, Set<AccessLevel>> access() {
+    return Collections.unmodifiableMap(access);
+  }
+}
@@ -1,4 +1,48 @@
 package net.tnemc.core.economy.lax.account;
 
-public class PlayerAccount {
-}
\ No newline at end of file
+import net.tnemc.core.economy.lax.BasicEconomyAdapter;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+
+import java.util.UUID;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The {@link UniqueAccount} implementation for the {@link BasicEconomyAdapter in-memory economy},
+ * which represents a player.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class PlayerAccount extends BasicAccount implements UniqueAccount {
+
+  private final UUID uuid;
+
+  public PlayerAccount(BasicEconomyAdapter adapter, UUID uuid, String name) {
+    super(adapter, uuid.toString(), name);
+    this.uuid = uuid;
+  }
+
+  @Override
+  public UUID getUniqueID() {
+    return uuid;
+  }
+}
@@ -1,18 +1,65 @@
 package net.tnemc.core.economy.lax.currency;
 
 import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.CurrencyFormat;
 
 import java.math.BigDecimal;
 
+/**
+ * A basic, immutable {@link Currency} implementation used by the
+ * {@link net.tnemc.core.economy.lax.BasicEconomyAdapter in-memory economy}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
 public class BasicCurrency implements Currency {
 
-  private String identifier;
-  private String symbol;
-  private char decimal = '.';
-  private String display;
-  private String plural;
-  private int precision = 2;
-  private boolean isDefault;
+  private final String identifier;
+  private final String symbol;
+  private final char decimal;
+  private final String display;
+  private final String plural;
+  private final int precision;
+  private final boolean isDefault;
+  private final CurrencyFormat format;
+
+  /**
+   * Creates a currency that uses '.' as its decimal character and two decimal digits.
+   *
+   * @param identifier A unique non-user friendly identifier for the currency.
+   * @param symbol The currency's symbol.
+   * @param display The currency's user-friendly display name.
+   * @param plural The plural form of the currency's user-friendly display name.
+   * @param isDefault Whether this currency is the default currency.
+   *
+   * @since 1.0.0
+   */
+  public BasicCurrency(String identifier, String symbol, String display, String plural, boolean isDefault) {
+    this(identifier, symbol, '.', display, plural, 2, isDefault);
+  }
+
+  /**
+   * @param identifier A unique non-user friendly identifier for the currency.
+   * @param symbol The currency's symbol.
+   * @param decimal The currency's decimal character.
+   * @param display The currency's user-friendly display name.
+   * @param plural The plural form of the currency's user-friendly display name.
+   * @param precision The currency's number of decimal digits.
+   * @param isDefault Whether this currency is the default currency.
+   *
+   * @since 1.0.0
+   */
+  public BasicCurrency(String identifier, String symbol, char decimal, String display, String plural,
+                       int precision, boolean isDefault) {
+    this.identifier = identifier;
+    this.symbol = symbol;
+    this.decimal = decimal;
+    this.display = display;
+    this.plural = plural;
+    this.precision = precision;
+    this.isDefault = isDefault;
+    this.format = CurrencyFormat.of(this);
+  }
 
   /**
    * @return A unique non-user friendly identifier for the currency.
@@ -21,7 +68,7 @@ public class BasicCurrency implements Currency {
    */
   @Override
   public String identifier() {
-    return null;
+    return identifier;
   }
 
   /**
@@ -31,7 +78,7 @@ public class BasicCurrency implements Currency {
    */
   @Override
   public String symbol() {
-    return null;
+    return symbol;
   }
 
   /**
@@ -41,7 +88,7 @@ public class BasicCurrency implements Currency {
    */
   @Override
   public char decimal() {
-    return 0;
+    return decimal;
   }
 
   /**
@@ -51,7 +98,7 @@ public class BasicCurrency implements Currency {
    */
   @Override
   public String display() {
-    return null;
+    return display;
   }
 
   /**
@@ -61,7 +108,7 @@ public class BasicCurrency implements Currency {
    */
   @Override
   public String displayPlural() {
-    return null;
+    return plural;
   }
 
   /**
@@ -71,7 +118,7 @@ public class BasicCurrency implements Currency {
    */
   @Override
   public int precision() {
-    return 0;
+    return precision;
   }
 
   /**
@@ -83,7 +130,7 @@ public class BasicCurrency implements Currency {
    */
   @Override
   public boolean isDefault() {
-    return false;
+    return isDefault;
   }
 
   /**
@@ -97,7 +144,7 @@ public class BasicCurrency implements Currency {
    */
   @Override
   public boolean isDefault(String world) {
-    return false;
+    return isDefault;
   }
 
   /**
@@ -111,7 +158,7 @@ public class BasicCurrency implements Currency {
    */
   @Override
   public String format(BigDecimal amount) {
-    return null;
+    return format(amount, precision);
   }
 
   /**
@@ -126,6 +173,6 @@ public class BasicCurrency implements Currency {
    */
   @Override
   public String format(BigDecimal amount, int precision) {
-    return null;
+    return format.format(amount, precision);
   }
 }
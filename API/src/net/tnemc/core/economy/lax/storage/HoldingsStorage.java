@@ -0,0 +1,106 @@
+package net.tnemc.core.economy.lax.storage;
+
+import com.sun.istack.internal.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Persists the accounts and holdings of a {@link net.tnemc.core.economy.lax.BasicEconomyAdapter}.
+ * Holdings are always written as their current value rather than as a change, so writing the same
+ * holdings twice is harmless.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public interface HoldingsStorage extends Closeable {
+
+  /**
+   * Used to read every stored account and its holdings.
+   *
+   * @param visitor The {@link StorageVisitor} that receives the accounts and holdings.
+   *
+   * @throws IOException If the storage couldn't be read.
+   *
+   * @since 1.0.0
+   */
+  void load(@NotNull StorageVisitor visitor) throws IOException;
+
+  /**
+   * Used to store an account, replacing the stored account with the same identifier.
+   *
+   * @param account The {@link StoredAccount} to store.
+   *
+   * @throws IOException If the account couldn't be written.
+   *
+   * @since 1.0.0
+   */
+  void saveAccount(@NotNull StoredAccount account) throws IOException;
+
+  /**
+   * Used to delete an account and all of its holdings.
+   *
+   * @param identifier The identifier of the account.
+   *
+   * @throws IOException If the deletion couldn't be written.
+   *
+   * @since 1.0.0
+   */
+  void deleteAccount(@NotNull String identifier) throws IOException;
+
+  /**
+   * Used to store several holdings at once. Implementations write the whole batch together where they
+   * are able to.
+   *
+   * @param holdings The {@link StoredHoldings} to store.
+   *
+   * @throws IOException If the holdings couldn't be written.
+   *
+   * @since 1.0.0
+   */
+  void saveHoldings(@NotNull Collection<StoredHoldings> holdings) throws IOException;
+
+  /**
+   * Used to store the holdings of an account in one world and currency.
+   *
+   * @param holdings The {@link StoredHoldings} to store.
+   *
+   * @throws IOException If the holdings couldn't be written.
+   *
+   * @since 1.0.0
+   */
+  default void saveHoldings(@NotNull StoredHoldings holdings) throws IOException {
+    saveHoldings(Collections.singletonList(holdings));
+  }
+
+  /**
+   * Used to make sure everything written so far is on disk.
+   *
+   * @throws IOException If the storage couldn't be flushed.
+   *
+   * @since 1.0.0
+   */
+  void flush() throws IOException;
+}
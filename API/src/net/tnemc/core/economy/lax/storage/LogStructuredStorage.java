@@ -0,0 +1,522 @@
+package net.tnemc.core.economy.lax.storage;
+
+import com.sun.istack.internal.NotNull;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A {@link HoldingsStorage} that stores accounts and holdings in append-only, memory-mapped segment
+ * files.
+ *
+ * Every write appends a small binary record to the active segment, so it only costs a copy into the
+ * mapped memory, and it survives a crash of the server process as soon as the call returns. A
+ * background thread forces the written records to disk at a fixed interval, the same way the
+ * {@link net.tnemc.core.economy.strict.journal.Journal} does.
+ *
+ * Since a segment holds every change made while it was active, the same holdings appear in many
+ * segments. Once enough segments are full, the background thread compacts them into a snapshot that
+ * only holds the latest value of each account and holdings, and deletes the merged files. Loading
+ * reads the snapshot and the segments written after it in parallel, and applies them in order.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class LogStructuredStorage implements HoldingsStorage {
+
+  private static final String PREFIX = "storage-";
+  private static final String SEGMENT = ".seg";
+  private static final String SNAPSHOT = ".snap";
+  private static final String TEMP = ".tmp";
+  private static final int SNAPSHOT_BUFFER = 1 << 20;
+
+  private final Object lock = new Object();
+  private final Object compaction = new Object();
+  private final StorageRecords records = new StorageRecords();
+
+  private final Path directory;
+  private final int segmentSize;
+  private final long flushInterval;
+  private final int compactAfter;
+  private final Logger logger;
+  private final List<Segment> sealed;
+  private final Thread worker;
+
+  private Segment active;
+  private volatile boolean dirty = false;
+  private volatile boolean closed = false;
+  private volatile long compactions = 0L;
+
+  private LogStructuredStorage(Path directory, int segmentSize, long flushInterval, int compactAfter,
+                               Logger logger, List<Segment> sealed, long base) throws IOException {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.flushInterval = flushInterval;
+    this.compactAfter = compactAfter;
+    this.logger = logger;
+    this.sealed = sealed;
+    this.active = create(base);
+
+    this.worker = new Thread(this::workLoop, "Reserve-Storage");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /**
+   * Used to open the storage in the specified directory, creating it if it doesn't exist. Records
+   * written by this instance are always placed in a new segment.
+   *
+   * @param directory The directory that holds the segment and snapshot files.
+   * @param segmentSize The size of each segment file, in bytes.
+   * @param flushInterval The interval at which written records are forced to disk, and at which the
+   *                      storage checks if it should be compacted.
+   * @param unit The {@link TimeUnit} of the flush interval.
+   * @param compactAfter The number of full segments that triggers a compaction.
+   * @param logger The {@link Logger} that background failures are reported to.
+   *
+   * @return The opened {@link LogStructuredStorage}.
+   *
+   * @throws IOException If the directory or the files couldn't be read or created.
+   *
+   * @since 1.0.0
+   */
+  public static LogStructuredStorage open(@NotNull Path directory, int segmentSize, long flushInterval,
+                                          @NotNull TimeUnit unit, int compactAfter, @NotNull Logger logger) throws IOException {
+    if(segmentSize < 4096) {
+      throw new IllegalArgumentException("The segment size of the storage must be at least 4096 bytes.");
+    }
+    Files.createDirectories(directory);
+
+    Segment snapshot = null;
+    final List<Segment> segments = new ArrayList<>();
+    final List<Path> stale = new ArrayList<>();
+    try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*")) {
+      for(Path path : stream) {
+        final String name = path.getFileName().toString();
+        if(name.endsWith(TEMP)) {
+          stale.add(path);
+          continue;
+        }
+
+        final boolean isSnapshot = name.endsWith(SNAPSHOT);
+        final long base = base(name, (isSnapshot)? SNAPSHOT : SEGMENT);
+        if(base <= 0) {
+          continue;
+        }
+
+        final Segment segment = new Segment(path, base, isSnapshot);
+        if(!isSnapshot) {
+          segments.add(segment);
+        } else if(snapshot == null || base > snapshot.base) {
+          if(snapshot != null) {
+            stale.add(snapshot.path);
+          }
+          snapshot = segment;
+        } else {
+          stale.add(path);
+        }
+      }
+    }
+    Collections.sort(segments);
+
+    //Segments up to the base of the snapshot were merged into it, but a crash may have happened
+    //before they were deleted.
+    final List<Segment> sealed = new ArrayList<>();
+    long last = 0L;
+    if(snapshot != null) {
+      sealed.add(snapshot);
+      last = snapshot.base;
+    }
+    for(Segment segment : segments) {
+      if(segment.base <= last) {
+        stale.add(segment.path);
+      } else {
+        sealed.add(segment);
+        last = segment.base;
+      }
+    }
+
+    for(Path path : stale) {
+      Files.deleteIfExists(path);
+    }
+
+    return new LogStructuredStorage(directory, segmentSize, Math.max(1L, unit.toMillis(flushInterval)),
+                                    Math.max(2, compactAfter), logger, sealed, last + 1);
+  }
+
+  @Override
+  public void load(@NotNull StorageVisitor visitor) throws IOException {
+    final List<Path> paths = new ArrayList<>();
+    synchronized(lock) {
+      for(Segment segment : sealed) {
+        paths.add(segment.path);
+      }
+      paths.add(active.path);
+    }
+    read(paths).visit(visitor);
+  }
+
+  @Override
+  public void saveAccount(@NotNull StoredAccount account) throws IOException {
+    synchronized(lock) {
+      reserve(account.identifier(), StorageRecords.name(account), null);
+      records.account(active.buffer, account);
+      dirty = true;
+    }
+  }
+
+  @Override
+  public void deleteAccount(@NotNull String identifier) throws IOException {
+    synchronized(lock) {
+      reserve(identifier, null, null);
+      records.delete(active.buffer, identifier);
+      dirty = true;
+    }
+  }
+
+  @Override
+  public void saveHoldings(@NotNull Collection<StoredHoldings> holdings) throws IOException {
+    synchronized(lock) {
+      for(StoredHoldings entry : holdings) {
+        reserve(entry.identifier(), entry.world(), entry.currency());
+        records.holdings(active.buffer, entry);
+      }
+      dirty = true;
+    }
+  }
+
+  @Override
+  public void saveHoldings(@NotNull StoredHoldings holdings) throws IOException {
+    synchronized(lock) {
+      reserve(holdings.identifier(), holdings.world(), holdings.currency());
+      records.holdings(active.buffer, holdings);
+      dirty = true;
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    synchronized(lock) {
+      if(!closed) {
+        dirty = false;
+        active.buffer.force();
+      }
+    }
+  }
+
+  /**
+   * Used to merge every full segment into a new snapshot now, instead of waiting for the background
+   * thread.
+   *
+   * @throws IOException If the snapshot couldn't be written.
+   *
+   * @since 1.0.0
+   */
+  public void compact() throws IOException {
+    synchronized(compaction) {
+      merge();
+    }
+  }
+
+  private void merge() throws IOException {
+    final List<Segment> merging;
+    synchronized(lock) {
+      if(closed || sealed.isEmpty() || sealed.size() == 1 && sealed.get(0).snapshot) {
+        return;
+      }
+      merging = new ArrayList<>(sealed);
+    }
+
+    final List<Path> paths = merging.stream().map(segment->segment.path).collect(Collectors.toList());
+    final StorageState state = read(paths);
+
+    final long base = merging.get(merging.size() - 1).base;
+    final Path target = directory.resolve(name(base, SNAPSHOT));
+    final Path temp = directory.resolve(name(base, SNAPSHOT) + TEMP);
+    writeSnapshot(state, temp, base);
+    try {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch(AtomicMoveNotSupportedException e) {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    synchronized(lock) {
+      sealed.removeAll(merging);
+      sealed.add(0, new Segment(target, base, true));
+    }
+
+    for(Segment segment : merging) {
+      if(!segment.path.equals(target)) {
+        try {
+          Files.deleteIfExists(segment.path);
+        } catch(IOException ignore) {
+          //The file is still mapped on some platforms, it's deleted the next time the storage is opened.
+        }
+      }
+    }
+    compactions++;
+  }
+
+  /**
+   * @return The number of segment and snapshot files, including the active segment.
+   *
+   * @since 1.0.0
+   */
+  public int files() {
+    synchronized(lock) {
+      return sealed.size() + 1;
+    }
+  }
+
+  /**
+   * @return The number of compactions performed since the storage was opened.
+   *
+   * @since 1.0.0
+   */
+  public long compactions() {
+    return compactions;
+  }
+
+  /**
+   * Used to force every written record to disk and close the storage.
+   *
+   * @since 1.0.0
+   */
+  @Override
+  public void close() throws IOException {
+    synchronized(lock) {
+      if(closed) {
+        return;
+      }
+      closed = true;
+      active.buffer.force();
+      active.channel.close();
+    }
+    worker.interrupt();
+  }
+
+  private void workLoop() {
+    while(!closed) {
+      try {
+        Thread.sleep(flushInterval);
+      } catch(InterruptedException e) {
+        return;
+      }
+
+      final MappedByteBuffer buffer;
+      final int full;
+      synchronized(lock) {
+        if(closed) {
+          return;
+        }
+        buffer = (dirty)? active.buffer : null;
+        dirty = false;
+        full = sealed.size();
+      }
+
+      //Records written to a newer segment in the meantime are forced when the next interval passes,
+      //and the previous segment is forced when it's rotated.
+      if(buffer != null) {
+        buffer.force();
+      }
+
+      if(full >= compactAfter) {
+        try {
+          compact();
+        } catch(IOException e) {
+          if(!closed) {
+            logger.log(Level.WARNING, "Unable to compact the storage in " + directory, e);
+          }
+        }
+      }
+    }
+  }
+
+  private void reserve(String first, String second, String third) throws IOException {
+    if(closed) {
+      throw new IOException("The storage is closed.");
+    }
+
+    int bound = records.bound(first, second, third);
+    if(active.buffer.remaining() < bound) {
+      rotate();
+      bound = records.bound(first, second, third);
+      if(active.buffer.remaining() < bound) {
+        throw new IOException("The record is larger than a segment.");
+      }
+    }
+  }
+
+  private void rotate() throws IOException {
+    active.buffer.force();
+    active.channel.close();
+
+    sealed.add(new Segment(active.path, active.base, false));
+    active = create(active.base + 1);
+  }
+
+  private Segment create(long base) throws IOException {
+    final Path path = directory.resolve(name(base, SEGMENT));
+
+    final FileChannel channel;
+    try(RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.setLength(segmentSize);
+      channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    StorageRecords.header(buffer, base);
+    records.reset();
+    return new Segment(path, base, channel, buffer);
+  }
+
+  private void writeSnapshot(StorageState state, Path path, long base) throws IOException {
+    try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                               StandardOpenOption.TRUNCATE_EXISTING)) {
+      final ByteBuffer[] buffer = new ByteBuffer[] { ByteBuffer.allocate(SNAPSHOT_BUFFER) };
+      StorageRecords.header(buffer[0], base);
+
+      state.write(new StorageRecords(), bytes->{
+        if(buffer[0].remaining() < bytes) {
+          drain(channel, buffer[0]);
+          if(buffer[0].capacity() < bytes) {
+            buffer[0] = ByteBuffer.allocate(bytes);
+          }
+        }
+        return buffer[0];
+      });
+      drain(channel, buffer[0]);
+      channel.force(true);
+    } catch(UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static void drain(FileChannel channel, ByteBuffer buffer) {
+    buffer.flip();
+    try {
+      while(buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch(IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Reads the specified files in parallel, and merges their states in the order they were written.
+   */
+  private static StorageState read(List<Path> paths) throws IOException {
+    final Map<String, String> pool = new ConcurrentHashMap<>();
+
+    final List<StorageState> states;
+    try {
+      states = paths.parallelStream().map(path->{
+        try {
+          return StorageRecords.read(path, pool);
+        } catch(IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }).collect(Collectors.toList());
+    } catch(UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    if(states.isEmpty()) {
+      return new StorageState();
+    }
+
+    final StorageState merged = states.get(0);
+    for(int i = 1; i < states.size(); i++) {
+      merged.merge(states.get(i));
+    }
+    return merged;
+  }
+
+  private static String name(long base, String suffix) {
+    return String.format("%s%020d%s", PREFIX, base, suffix);
+  }
+
+  private static long base(String name, String suffix) {
+    if(!name.endsWith(suffix)) {
+      return -1L;
+    }
+
+    try {
+      return Long.parseLong(name.substring(PREFIX.length(), name.length() - suffix.length()));
+    } catch(NumberFormatException e) {
+      return -1L;
+    }
+  }
+
+  private static final class Segment implements Comparable<Segment> {
+
+    private final Path path;
+    private final long base;
+    private final boolean snapshot;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private Segment(Path path, long base, boolean snapshot) {
+      this.path = path;
+      this.base = base;
+      this.snapshot = snapshot;
+      this.channel = null;
+      this.buffer = null;
+    }
+
+    private Segment(Path path, long base, FileChannel channel, MappedByteBuffer buffer) {
+      this.path = path;
+      this.base = base;
+      this.snapshot = false;
+      this.channel = channel;
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int compareTo(Segment other) {
+      return Long.compare(base, other.base);
+    }
+  }
+}
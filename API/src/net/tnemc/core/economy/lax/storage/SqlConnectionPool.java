@@ -0,0 +1,162 @@
+package net.tnemc.core.economy.lax.storage;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A fixed-size pool of connections to an embedded database. The connections are opened up front,
+ * and each one keeps the statements prepared on it, so repeated queries skip parsing and planning.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+final class SqlConnectionPool implements Closeable {
+
+  private static final long BORROW_TIMEOUT = 30L;
+
+  private final BlockingQueue<Pooled> idle;
+  private final List<Pooled> connections;
+  private volatile boolean closed = false;
+
+  /**
+   * @param url The JDBC url of the database.
+   * @param size The number of connections to open.
+   * @param setup The statements executed once on every new connection, such as pragmas.
+   */
+  SqlConnectionPool(String url, int size, List<String> setup) throws SQLException {
+    this.idle = new ArrayBlockingQueue<>(size);
+    this.connections = new ArrayList<>(size);
+
+    try {
+      for(int i = 0; i < size; i++) {
+        final Connection connection = DriverManager.getConnection(url);
+        final Pooled pooled = new Pooled(connection);
+        connections.add(pooled);
+
+        try(Statement statement = connection.createStatement()) {
+          for(String sql : setup) {
+            statement.execute(sql);
+          }
+        }
+        idle.add(pooled);
+      }
+    } catch(SQLException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Used to take a connection from the pool, waiting for one to be released if they're all in use.
+   * Every borrowed connection must be {@link #release(Pooled) released}.
+   */
+  Pooled borrow() throws SQLException {
+    if(closed) {
+      throw new SQLException("The connection pool is closed.");
+    }
+
+    final Pooled pooled;
+    try {
+      pooled = idle.poll(BORROW_TIMEOUT, TimeUnit.SECONDS);
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a database connection.", e);
+    }
+
+    if(pooled == null) {
+      throw new SQLException("Timed out while waiting for a database connection.");
+    }
+    return pooled;
+  }
+
+  void release(Pooled pooled) {
+    idle.offer(pooled);
+  }
+
+  int size() {
+    return connections.size();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    for(Pooled pooled : connections) {
+      pooled.close();
+    }
+  }
+
+  static final class Pooled {
+
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private final Connection connection;
+
+    private Pooled(Connection connection) {
+      this.connection = connection;
+    }
+
+    Connection connection() {
+      return connection;
+    }
+
+    /**
+     * @return The statement for the specified SQL, prepared on this connection the first time it's
+     * used and reused afterwards.
+     */
+    PreparedStatement prepare(String sql) throws SQLException {
+      PreparedStatement statement = statements.get(sql);
+      if(statement == null) {
+        statement = connection.prepareStatement(sql);
+        statements.put(sql, statement);
+      }
+      return statement;
+    }
+
+    private void close() {
+      for(PreparedStatement statement : statements.values()) {
+        try {
+          statement.close();
+        } catch(SQLException ignore) {
+          //The connection is closed right after.
+        }
+      }
+      statements.clear();
+
+      try {
+        connection.close();
+      } catch(SQLException ignore) {
+        //Nothing left to release.
+      }
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package net.tnemc.core.economy.lax.storage;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The schema of {@link SqlStorage}, as a list of migrations keyed by the plugin version that
+ * introduced them.
+ *
+ * The version a database was last migrated to is stored in it. A database that holds the Reserve
+ * tables but no version was created before versions were stored, so the last run version of the
+ * plugin is used instead.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+final class SqlMigrations {
+
+  static final String ACCOUNTS = "reserve_accounts";
+  static final String HOLDINGS = "reserve_holdings";
+  static final String SCHEMA = "reserve_schema";
+
+  private static final String[][] MIGRATIONS = new String[][] {
+      {
+          "0.1.5.4",
+          "CREATE TABLE IF NOT EXISTS " + ACCOUNTS + " (identifier VARCHAR(64) NOT NULL PRIMARY KEY, "
+              + "uuid VARCHAR(36), name VARCHAR(64) NOT NULL)",
+          "CREATE TABLE IF NOT EXISTS " + HOLDINGS + " (identifier VARCHAR(64) NOT NULL, world VARCHAR(64) NOT NULL, "
+              + "currency VARCHAR(64) NOT NULL, amount BIGINT NOT NULL, PRIMARY KEY(identifier, world, currency))"
+      }
+  };
+
+  private SqlMigrations() {
+  }
+
+  /**
+   * Used to apply every migration newer than the version the database was last migrated to, in a
+   * single transaction.
+   *
+   * @param connection The {@link Connection} to migrate with.
+   * @param lastRunVersion The version of the plugin that last ran, used for databases that don't hold
+   *                       a version.
+   *
+   * @return The number of migrations applied.
+   */
+  static int migrate(Connection connection, String lastRunVersion) throws SQLException {
+    try(Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE IF NOT EXISTS " + SCHEMA + " (version VARCHAR(32) NOT NULL)");
+    }
+
+    String current = stored(connection);
+    if(current == null) {
+      current = (exists(connection, ACCOUNTS) && lastRunVersion != null)? lastRunVersion : "0";
+    }
+
+    final boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
+    try {
+      int applied = 0;
+      String latest = current;
+      for(String[] migration : MIGRATIONS) {
+        if(compare(migration[0], current) <= 0) {
+          continue;
+        }
+
+        try(Statement statement = connection.createStatement()) {
+          for(int i = 1; i < migration.length; i++) {
+            statement.execute(migration[i]);
+          }
+        }
+        latest = migration[0];
+        applied++;
+      }
+
+      try(Statement statement = connection.createStatement()) {
+        statement.execute("DELETE FROM " + SCHEMA);
+      }
+      try(PreparedStatement statement = connection.prepareStatement("INSERT INTO " + SCHEMA + " (version) VALUES (?)")) {
+        statement.setString(1, latest);
+        statement.executeUpdate();
+      }
+      connection.commit();
+      return applied;
+    } catch(SQLException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+  }
+
+  /**
+   * Compares two dotted version strings numerically, treating missing and non-numeric parts as zero.
+   */
+  static int compare(String first, String second) {
+    final String[] left = first.split("\\.");
+    final String[] right = second.split("\\.");
+    for(int i = 0; i < Math.max(left.length, right.length); i++) {
+      final int result = Long.compare(part(left, i), part(right, i));
+      if(result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  private static long part(String[] parts, int index) {
+    if(index >= parts.length) {
+      return 0L;
+    }
+
+    try {
+      return Long.parseLong(parts[index].replaceAll("[^0-9].*$", ""));
+    } catch(NumberFormatException e) {
+      return 0L;
+    }
+  }
+
+  private static String stored(Connection connection) throws SQLException {
+    try(Statement statement = connection.createStatement();
+        ResultSet result = statement.executeQuery("SELECT version FROM " + SCHEMA)) {
+      return (result.next())? result.getString(1) : null;
+    }
+  }
+
+  private static boolean exists(Connection connection, String table) throws SQLException {
+    final DatabaseMetaData meta = connection.getMetaData();
+    try(ResultSet result = meta.getTables(null, null, table, null)) {
+      return result.next();
+    }
+  }
+}
@@ -0,0 +1,288 @@
+package net.tnemc.core.economy.lax.storage;
+
+import com.sun.istack.internal.NotNull;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A {@link HoldingsStorage} backed by an embedded SQLite database file, for servers that want SQL
+ * access to the economy without running a database server.
+ *
+ * The database is opened in WAL journal mode, so reads don't block the writer, and with
+ * synchronous=NORMAL, which only syncs the log at checkpoints while still being safe against server
+ * crashes. Connections are kept in a small pool with their prepared statements cached, and a batch of
+ * holdings is upserted in a single transaction.
+ *
+ * Every save runs on the calling thread and is committed before it returns, so each save costs at
+ * least one write to the database file. Saving every change as it happens on the server's main
+ * thread will stall it on slow disks.
+ *
+ * The SQLite JDBC driver isn't bundled, and must be loaded before the storage is opened. Upserts use
+ * {@code INSERT ... ON CONFLICT ... DO UPDATE}, which needs SQLite 3.24.0 or newer. The driver shipped
+ * with older server builds bundles an older SQLite, so the version is checked when the storage is
+ * opened.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class SqlStorage implements HoldingsStorage {
+
+  private static final int BATCH = 500;
+
+  private static final List<String> SETUP = Collections.unmodifiableList(Arrays.asList(
+      "PRAGMA journal_mode=WAL",
+      "PRAGMA synchronous=NORMAL",
+      "PRAGMA busy_timeout=5000"
+  ));
+
+  private static final String SELECT_ACCOUNTS = "SELECT identifier, uuid, name FROM " + SqlMigrations.ACCOUNTS;
+  private static final String SELECT_HOLDINGS = "SELECT identifier, world, currency, amount FROM " + SqlMigrations.HOLDINGS;
+  private static final String UPSERT_ACCOUNT = "INSERT INTO " + SqlMigrations.ACCOUNTS + " (identifier, uuid, name) VALUES (?, ?, ?) "
+      + "ON CONFLICT(identifier) DO UPDATE SET uuid = excluded.uuid, name = excluded.name";
+  private static final String UPSERT_HOLDINGS = "INSERT INTO " + SqlMigrations.HOLDINGS + " (identifier, world, currency, amount) VALUES (?, ?, ?, ?) "
+      + "ON CONFLICT(identifier, world, currency) DO UPDATE SET amount = excluded.amount";
+  private static final String DELETE_ACCOUNT = "DELETE FROM " + SqlMigrations.ACCOUNTS + " WHERE identifier = ?";
+  private static final String DELETE_HOLDINGS = "DELETE FROM " + SqlMigrations.HOLDINGS + " WHERE identifier = ?";
+
+  private final SqlConnectionPool pool;
+
+  private SqlStorage(SqlConnectionPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Used to open the database at the specified url, creating and migrating its tables as needed.
+   *
+   * @param url The JDBC url of the database, for example "jdbc:sqlite:plugins/Reserve/storage/economy.db".
+   * @param connections The number of pooled connections.
+   * @param lastRunVersion The version of the plugin that last ran, used to migrate databases that
+   *                       don't hold their schema version.
+   *
+   * @return The opened {@link SqlStorage}.
+   *
+   * @throws IOException If the database couldn't be opened or migrated.
+   *
+   * @since 1.0.0
+   */
+  public static SqlStorage open(@NotNull String url, int connections, String lastRunVersion) throws IOException {
+    final SqlConnectionPool pool;
+    try {
+      pool = new SqlConnectionPool(url, Math.max(1, connections), SETUP);
+    } catch(SQLException e) {
+      throw new IOException("Unable to open the database: " + e.getMessage(), e);
+    }
+
+    final SqlStorage storage = new SqlStorage(pool);
+    try {
+      storage.execute(connection->{
+        requireUpserts(connection.connection());
+        return SqlMigrations.migrate(connection.connection(), lastRunVersion);
+      });
+    } catch(IOException e) {
+      pool.close();
+      throw e;
+    }
+    return storage;
+  }
+
+  @Override
+  public void load(@NotNull StorageVisitor visitor) throws IOException {
+    execute(connection->{
+      try(ResultSet result = connection.prepare(SELECT_ACCOUNTS).executeQuery()) {
+        while(result.next()) {
+          final String unique = result.getString(2);
+          visitor.account(new StoredAccount(result.getString(1), (unique == null)? null : UUID.fromString(unique),
+                                            result.getString(3)));
+        }
+      }
+
+      try(ResultSet result = connection.prepare(SELECT_HOLDINGS).executeQuery()) {
+        while(result.next()) {
+          visitor.holdings(new StoredHoldings(result.getString(1), result.getString(2), result.getString(3),
+                                              result.getLong(4)));
+        }
+      }
+      return null;
+    });
+  }
+
+  @Override
+  public void saveAccount(@NotNull StoredAccount account) throws IOException {
+    execute(connection->{
+      final PreparedStatement statement = connection.prepare(UPSERT_ACCOUNT);
+      statement.setString(1, account.identifier());
+      statement.setString(2, (account.unique() == null)? null : account.unique().toString());
+      statement.setString(3, StorageRecords.name(account));
+      return statement.executeUpdate();
+    });
+  }
+
+  @Override
+  public void deleteAccount(@NotNull String identifier) throws IOException {
+    transaction(connection->{
+      final PreparedStatement holdings = connection.prepare(DELETE_HOLDINGS);
+      holdings.setString(1, identifier);
+      holdings.executeUpdate();
+
+      final PreparedStatement account = connection.prepare(DELETE_ACCOUNT);
+      account.setString(1, identifier);
+      return account.executeUpdate();
+    });
+  }
+
+  @Override
+  public void saveHoldings(@NotNull Collection<StoredHoldings> holdings) throws IOException {
+    if(holdings.isEmpty()) {
+      return;
+    }
+
+    transaction(connection->{
+      final PreparedStatement statement = connection.prepare(UPSERT_HOLDINGS);
+      int pending = 0;
+      for(StoredHoldings entry : holdings) {
+        bind(statement, entry);
+        statement.addBatch();
+        if(++pending == BATCH) {
+          statement.executeBatch();
+          pending = 0;
+        }
+      }
+      if(pending > 0) {
+        statement.executeBatch();
+      }
+      return null;
+    });
+  }
+
+  @Override
+  public void saveHoldings(@NotNull StoredHoldings holdings) throws IOException {
+    execute(connection->{
+      final PreparedStatement statement = connection.prepare(UPSERT_HOLDINGS);
+      bind(statement, holdings);
+      return statement.executeUpdate();
+    });
+  }
+
+  /**
+   * Every write is committed as it happens, so flushing only moves the write-ahead log into the
+   * database file where that's possible without waiting for readers.
+   */
+  @Override
+  public void flush() throws IOException {
+    execute(connection->{
+      try(Statement statement = connection.connection().createStatement()) {
+        statement.execute("PRAGMA wal_checkpoint(PASSIVE)");
+      }
+      return null;
+    });
+  }
+
+  /**
+   * @return The number of pooled connections.
+   *
+   * @since 1.0.0
+   */
+  public int connections() {
+    return pool.size();
+  }
+
+  @Override
+  public void close() {
+    pool.close();
+  }
+
+  /**
+   * Fails if the SQLite library is older than 3.24.0, which added the upsert syntax.
+   */
+  private static void requireUpserts(Connection connection) throws SQLException {
+    final String version;
+    try(Statement statement = connection.createStatement();
+        ResultSet result = statement.executeQuery("SELECT sqlite_version()")) {
+      version = (result.next())? result.getString(1) : null;
+    }
+
+    final String[] parts = (version == null)? new String[0] : version.split("\\.");
+    try {
+      final int major = (parts.length > 0)? Integer.parseInt(parts[0]) : 0;
+      final int minor = (parts.length > 1)? Integer.parseInt(parts[1]) : 0;
+      if(major > 3 || major == 3 && minor >= 24) {
+        return;
+      }
+    } catch(NumberFormatException ignore) {
+      //Reported below.
+    }
+    throw new SQLException("SQLite 3.24.0 or newer is required, the server provides SQLite " + version);
+  }
+
+  private static void bind(PreparedStatement statement, StoredHoldings holdings) throws SQLException {
+    statement.setString(1, holdings.identifier());
+    statement.setString(2, holdings.world());
+    statement.setString(3, holdings.currency());
+    statement.setLong(4, holdings.unscaled());
+  }
+
+  private <T> T transaction(Work<T> work) throws IOException {
+    return execute(pooled->{
+      final Connection connection = pooled.connection();
+      connection.setAutoCommit(false);
+      try {
+        final T result = work.run(pooled);
+        connection.commit();
+        return result;
+      } catch(SQLException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    });
+  }
+
+  private <T> T execute(Work<T> work) throws IOException {
+    SqlConnectionPool.Pooled connection = null;
+    try {
+      connection = pool.borrow();
+      return work.run(connection);
+    } catch(SQLException e) {
+      throw new IOException(e.getMessage(), e);
+    } finally {
+      if(connection != null) {
+        pool.release(connection);
+      }
+    }
+  }
+
+  private interface Work<T> {
+    T run(SqlConnectionPool.Pooled connection) throws SQLException;
+  }
+}
@@ -0,0 +1,187 @@
+package net.tnemc.core.economy.lax.storage;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.lax.BasicEconomyAdapter;
+import net.tnemc.core.economy.lax.HoldingsListener;
+import net.tnemc.core.economy.lax.account.BasicAccount;
+import net.tnemc.core.economy.lax.account.PlayerAccount;
+import net.tnemc.core.economy.strict.currency.Currency;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Connects a {@link BasicEconomyAdapter} to a {@link HoldingsStorage}. Binding loads the stored
+ * accounts and holdings into the economy, after which every account creation, deletion and holdings
+ * change is written to the storage as it happens.
+ *
+ * Example:
+ * <pre>
+ *   HoldingsStorage storage = LogStructuredStorage.open(directory, 64 << 20, 1, TimeUnit.SECONDS, 8, logger);
+ *   StorageBinding binding = StorageBinding.bind(adapter, storage, logger);
+ *   ...
+ *   binding.close();
+ * </pre>
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class StorageBinding implements HoldingsListener, Closeable {
+
+  private final Object lock = new Object();
+
+  private final BasicEconomyAdapter adapter;
+  private final HoldingsStorage storage;
+  private final Logger logger;
+
+  private StorageBinding(BasicEconomyAdapter adapter, HoldingsStorage storage, Logger logger) {
+    this.adapter = adapter;
+    this.storage = storage;
+    this.logger = logger;
+  }
+
+  /**
+   * Used to load the contents of a storage into an economy, and write every later change of the
+   * economy to it.
+   *
+   * @param adapter The {@link BasicEconomyAdapter} to load into.
+   * @param storage The {@link HoldingsStorage} to load from and write to.
+   * @param logger The {@link Logger} that failed writes are reported to.
+   *
+   * @return The {@link StorageBinding}, which should be closed when the economy is shut down.
+   *
+   * @throws IOException If the storage couldn't be read.
+   *
+   * @since 1.0.0
+   */
+  public static StorageBinding bind(@NotNull BasicEconomyAdapter adapter, @NotNull HoldingsStorage storage,
+                                    @NotNull Logger logger) throws IOException {
+    final Map<String, BasicAccount> loaded = new HashMap<>();
+    storage.load(new StorageVisitor() {
+      @Override
+      public void account(StoredAccount account) {
+        if(account.unique() != null) {
+          final PlayerAccount player = adapter.register(account.unique(), account.name());
+          loaded.put(account.identifier(), player);
+        } else {
+          loaded.put(account.identifier(), (BasicAccount)adapter.getOrCreateAccount(account.identifier()));
+        }
+      }
+
+      @Override
+      public void holdings(StoredHoldings holdings) {
+        final BasicAccount account = loaded.computeIfAbsent(holdings.identifier(),
+                                                            id->(BasicAccount)adapter.getOrCreateAccount(id));
+        account.setUnscaledHoldings(holdings.world(), holdings.currency(), holdings.unscaled());
+      }
+    });
+
+    final StorageBinding binding = new StorageBinding(adapter, storage, logger);
+    adapter.setListener(binding);
+    return binding;
+  }
+
+  /**
+   * @return The {@link BasicEconomyAdapter} that is written to the storage.
+   *
+   * @since 1.0.0
+   */
+  public BasicEconomyAdapter adapter() {
+    return adapter;
+  }
+
+  /**
+   * Used to make sure every change made to the economy before this call is on disk, for example
+   * before acknowledging the journal entries of those changes.
+   *
+   * @throws IOException If the storage couldn't be flushed.
+   *
+   * @since 1.0.0
+   */
+  public void flush() throws IOException {
+    storage.flush();
+  }
+
+  /**
+   * @return The {@link HoldingsStorage} the economy is written to.
+   *
+   * @since 1.0.0
+   */
+  public HoldingsStorage storage() {
+    return storage;
+  }
+
+  @Override
+  public void created(BasicAccount account) {
+    final StoredAccount stored = new StoredAccount(account.identifier(),
+                                                   (account instanceof PlayerAccount)? ((PlayerAccount)account).getUniqueID() : null,
+                                                   account.name());
+    try {
+      storage.saveAccount(stored);
+    } catch(IOException e) {
+      logger.log(Level.SEVERE, "Unable to store the account " + account.identifier(), e);
+    }
+  }
+
+  @Override
+  public void deleted(BasicAccount account) {
+    try {
+      storage.deleteAccount(account.identifier());
+    } catch(IOException e) {
+      logger.log(Level.SEVERE, "Unable to delete the stored account " + account.identifier(), e);
+    }
+  }
+
+  @Override
+  public void changed(BasicAccount account, String world, Currency currency) {
+    //The value is read while holding the lock, so the last write for the holdings is always the
+    //current value, even when concurrent changes are reported out of order.
+    synchronized(lock) {
+      try {
+        storage.saveHoldings(new StoredHoldings(account.identifier(), world, currency.identifier(),
+                                                account.unscaledHoldings(world, currency)));
+      } catch(IOException e) {
+        logger.log(Level.SEVERE, "Unable to store the holdings of " + account.identifier(), e);
+      }
+    }
+  }
+
+  /**
+   * Used to stop writing the changes of the economy, and close the storage.
+   *
+   * @since 1.0.0
+   */
+  @Override
+  public void close() throws IOException {
+    if(adapter.listener() == this) {
+      adapter.setListener(null);
+    }
+    synchronized(lock) {
+      storage.close();
+    }
+  }
+}
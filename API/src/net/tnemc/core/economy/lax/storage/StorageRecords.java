@@ -0,0 +1,300 @@
+package net.tnemc.core.economy.lax.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The binary format of the files written by {@link LogStructuredStorage}. Each file starts with a
+ * header, followed by records framed by their length and a CRC32 checksum. Strings are written once
+ * per file as a definition record and referenced by their index afterwards, and numbers are written
+ * as variable length integers, so a holdings record is usually around 15 bytes.
+ *
+ * An instance holds the string definitions of the file being written, and isn't thread-safe.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+final class StorageRecords {
+
+  static final int MAGIC = 0x52535331;
+  static final int VERSION = 1;
+  static final int HEADER = 16;
+
+  private static final int FRAME = 8;
+  private static final int RECORD = FRAME + 64;
+
+  private static final byte STRING = 1;
+  private static final byte ACCOUNT = 2;
+  private static final byte HOLDINGS = 3;
+  private static final byte DELETE = 4;
+
+  private final Map<String, Integer> dictionary = new HashMap<>();
+  private final CRC32 crc = new CRC32();
+  private ByteBuffer payload = ByteBuffer.allocate(256);
+
+  /**
+   * Forgets the strings defined so far, which is done when a new file is started.
+   */
+  void reset() {
+    dictionary.clear();
+  }
+
+  static void header(ByteBuffer out, long base) {
+    out.putInt(MAGIC);
+    out.putInt(VERSION);
+    out.putLong(base);
+  }
+
+  /**
+   * @return The maximum number of bytes a record referencing the specified strings could take,
+   * including the definitions of the strings that aren't defined yet. Null strings are ignored.
+   */
+  int bound(String first, String second, String third) {
+    return RECORD + bound(first) + bound(second) + bound(third);
+  }
+
+  private int bound(String value) {
+    if(value == null || dictionary.containsKey(value)) {
+      return 0;
+    }
+    return FRAME + 11 + value.length() * 3;
+  }
+
+  void account(ByteBuffer out, StoredAccount account) {
+    final int identifier = string(out, account.identifier());
+    final int name = string(out, name(account));
+
+    begin(ACCOUNT);
+    varint(identifier);
+    if(account.unique() == null) {
+      payload.put((byte)0);
+    } else {
+      payload.put((byte)1);
+      payload.putLong(account.unique().getMostSignificantBits());
+      payload.putLong(account.unique().getLeastSignificantBits());
+    }
+    varint(name);
+    end(out);
+  }
+
+  void holdings(ByteBuffer out, StoredHoldings holdings) {
+    final int identifier = string(out, holdings.identifier());
+    final int world = string(out, holdings.world());
+    final int currency = string(out, holdings.currency());
+
+    begin(HOLDINGS);
+    varint(identifier);
+    varint(world);
+    varint(currency);
+    varlong((holdings.unscaled() << 1) ^ (holdings.unscaled() >> 63));
+    end(out);
+  }
+
+  void delete(ByteBuffer out, String identifier) {
+    final int id = string(out, identifier);
+
+    begin(DELETE);
+    varint(id);
+    end(out);
+  }
+
+  static String name(StoredAccount account) {
+    return (account.name() == null)? account.identifier() : account.name();
+  }
+
+  private int string(ByteBuffer out, String value) {
+    final Integer existing = dictionary.get(value);
+    if(existing != null) {
+      return existing;
+    }
+
+    final int id = dictionary.size();
+    dictionary.put(value, id);
+
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    begin(STRING);
+    varint(id);
+    varint(bytes.length);
+    ensure(bytes.length);
+    payload.put(bytes);
+    end(out);
+    return id;
+  }
+
+  private void begin(byte type) {
+    payload.clear();
+    payload.put(type);
+  }
+
+  private void end(ByteBuffer out) {
+    crc.reset();
+    crc.update(payload.array(), 0, payload.position());
+
+    out.putInt(payload.position());
+    out.putInt((int)crc.getValue());
+    out.put(payload.array(), 0, payload.position());
+  }
+
+  private void ensure(int length) {
+    if(payload.remaining() < length) {
+      final ByteBuffer larger = ByteBuffer.allocate(Math.max(payload.capacity() << 1, payload.position() + length));
+      payload.flip();
+      larger.put(payload);
+      payload = larger;
+    }
+  }
+
+  private void varint(int value) {
+    varlong(value & 0xFFFFFFFFL);
+  }
+
+  private void varlong(long value) {
+    ensure(10);
+    while((value & ~0x7FL) != 0) {
+      payload.put((byte)((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    payload.put((byte)value);
+  }
+
+  /**
+   * Reads every valid record of a file into a {@link StorageState}, stopping at the end of the written
+   * records or at the first record that is incomplete or fails its checksum.
+   *
+   * @param path The file to read.
+   * @param pool Used to share the world and currency names between files, since there are only a few
+   *             of them and they're referenced by every holdings record.
+   */
+  static StorageState read(Path path, Map<String, String> pool) throws IOException {
+    final StorageState state = new StorageState();
+
+    try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if(size < HEADER) {
+        return state;
+      }
+
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        return state;
+      }
+      buffer.getLong();
+
+      final List<String> strings = new ArrayList<>();
+      final ByteBuffer record = buffer.duplicate();
+      final CRC32 crc = new CRC32();
+      while(buffer.remaining() >= FRAME) {
+        final int length = buffer.getInt();
+        if(length <= 0 || length > buffer.remaining() - 4) {
+          break;
+        }
+        final int checksum = buffer.getInt();
+        final int start = buffer.position();
+
+        record.limit(record.capacity());
+        record.position(start);
+        record.limit(start + length);
+        crc.reset();
+        crc.update(record);
+        if((int)crc.getValue() != checksum) {
+          break;
+        }
+
+        record.position(start);
+        decode(record, strings, pool, state);
+        buffer.position(start + length);
+      }
+    }
+    return state;
+  }
+
+  private static void decode(ByteBuffer record, List<String> strings, Map<String, String> pool, StorageState state) {
+    final byte type = record.get();
+    switch(type) {
+      case STRING:
+        final int id = readInt(record);
+        final byte[] bytes = new byte[readInt(record)];
+        record.get(bytes);
+        while(strings.size() <= id) {
+          strings.add(null);
+        }
+        strings.set(id, new String(bytes, StandardCharsets.UTF_8));
+        break;
+      case ACCOUNT:
+        final String identifier = strings.get(readInt(record));
+        final UUID unique = (record.get() == 1)? new UUID(record.getLong(), record.getLong()) : null;
+        state.account(new StoredAccount(identifier, unique, strings.get(readInt(record))));
+        break;
+      case HOLDINGS:
+        final String account = strings.get(readInt(record));
+        final String world = pooled(strings, readInt(record), pool);
+        final String currency = pooled(strings, readInt(record), pool);
+        final long encoded = readLong(record);
+        state.holdings(account, world, currency, (encoded >>> 1) ^ -(encoded & 1));
+        break;
+      case DELETE:
+        state.delete(strings.get(readInt(record)));
+        break;
+      default:
+        //Written by a newer version, skip it.
+        break;
+    }
+  }
+
+  private static String pooled(List<String> strings, int id, Map<String, String> pool) {
+    final String value = strings.get(id);
+    final String existing = pool.putIfAbsent(value, value);
+    if(existing != null && existing != value) {
+      strings.set(id, existing);
+      return existing;
+    }
+    return value;
+  }
+
+  private static int readInt(ByteBuffer buffer) {
+    return (int)readLong(buffer);
+  }
+
+  private static long readLong(ByteBuffer buffer) {
+    long value = 0L;
+    int shift = 0;
+    byte current;
+    do {
+      current = buffer.get();
+      value |= (long)(current & 0x7F) << shift;
+      shift += 7;
+    } while((current & 0x80) != 0);
+    return value;
+  }
+}
@@ -0,0 +1,159 @@
+package net.tnemc.core.economy.lax.storage;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The accounts and holdings read from one or more storage files. The state of a later file is
+ * merged into the state of the files before it, so the latest value of every account and holdings
+ * wins, and deletions discard everything that came before them.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+final class StorageState {
+
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  void account(StoredAccount account) {
+    final Entry entry = entry(account.identifier());
+    entry.account = account;
+    entry.deleted = false;
+  }
+
+  void holdings(String identifier, String world, String currency, long unscaled) {
+    final Entry entry = entry(identifier);
+    entry.deleted = false;
+    entry.holdings(world).put(currency, unscaled);
+  }
+
+  void delete(String identifier) {
+    final Entry entry = entry(identifier);
+    entry.reset = true;
+    entry.deleted = true;
+    entry.account = null;
+    entry.holdings = null;
+  }
+
+  /**
+   * Applies the state of a file that was written after the files this state was read from.
+   */
+  void merge(StorageState later) {
+    for(Map.Entry<String, Entry> change : later.entries.entrySet()) {
+      final Entry entry = change.getValue();
+      if(entry.reset) {
+        entries.remove(change.getKey());
+      }
+      if(entry.deleted) {
+        continue;
+      }
+
+      //A tombstone that's left in this state was read from the first file, and is replaced by the
+      //account the later file re-creates.
+      final Entry current = entries.get(change.getKey());
+      if(current == null || current.deleted) {
+        entry.reset = false;
+        entries.put(change.getKey(), entry);
+        continue;
+      }
+
+      if(entry.account != null) {
+        current.account = entry.account;
+      }
+      if(entry.holdings != null) {
+        for(Map.Entry<String, Map<String, Long>> world : entry.holdings.entrySet()) {
+          current.holdings(world.getKey()).putAll(world.getValue());
+        }
+      }
+    }
+  }
+
+  void visit(StorageVisitor visitor) {
+    for(Map.Entry<String, Entry> change : entries.entrySet()) {
+      final Entry entry = change.getValue();
+      if(entry.deleted) {
+        continue;
+      }
+
+      if(entry.account != null) {
+        visitor.account(entry.account);
+      }
+      if(entry.holdings != null) {
+        for(Map.Entry<String, Map<String, Long>> world : entry.holdings.entrySet()) {
+          for(Map.Entry<String, Long> holdings : world.getValue().entrySet()) {
+            visitor.holdings(new StoredHoldings(change.getKey(), world.getKey(), holdings.getKey(), holdings.getValue()));
+          }
+        }
+      }
+    }
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * Used to write the state as records, for example into a snapshot.
+   *
+   * @param records The {@link StorageRecords} used to encode the records.
+   * @param sink Called before each record with the space it may need, and returns the buffer to
+   *             write it into.
+   */
+  void write(StorageRecords records, Sink sink) {
+    visit(new StorageVisitor() {
+      @Override
+      public void account(StoredAccount account) {
+        records.account(sink.reserve(records.bound(account.identifier(), StorageRecords.name(account), null)), account);
+      }
+
+      @Override
+      public void holdings(StoredHoldings holdings) {
+        records.holdings(sink.reserve(records.bound(holdings.identifier(), holdings.world(), holdings.currency())), holdings);
+      }
+    });
+  }
+
+  private Entry entry(String identifier) {
+    return entries.computeIfAbsent(identifier, key->new Entry());
+  }
+
+  interface Sink {
+    ByteBuffer reserve(int bytes);
+  }
+
+  private static final class Entry {
+
+    private boolean reset = false;
+    private boolean deleted = false;
+    private StoredAccount account;
+    private Map<String, Map<String, Long>> holdings;
+
+    private Map<String, Long> holdings(String world) {
+      if(holdings == null) {
+        holdings = new HashMap<>(2);
+      }
+      return holdings.computeIfAbsent(world, key->new HashMap<>(2));
+    }
+  }
+}
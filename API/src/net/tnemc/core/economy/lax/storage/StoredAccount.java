@@ -0,0 +1,81 @@
+package net.tnemc.core.economy.lax.storage;
+
+import java.util.UUID;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An account as it's kept by a {@link HoldingsStorage}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class StoredAccount {
+
+  private final String identifier;
+  private final UUID unique;
+  private final String name;
+
+  /**
+   * @param identifier The identifier of the account.
+   * @param unique The {@link UUID} of the player that owns the account, or null if it isn't a player account.
+   * @param name The name of the account.
+   *
+   * @since 1.0.0
+   */
+  public StoredAccount(String identifier, UUID unique, String name) {
+    this.identifier = identifier;
+    this.unique = unique;
+    this.name = name;
+  }
+
+  /**
+   * @return The identifier of the account.
+   *
+   * @since 1.0.0
+   */
+  public String identifier() {
+    return identifier;
+  }
+
+  /**
+   * @return The {@link UUID} of the player that owns the account, or null if it isn't a player account.
+   *
+   * @since 1.0.0
+   */
+  public UUID unique() {
+    return unique;
+  }
+
+  /**
+   * @return The name of the account.
+   *
+   * @since 1.0.0
+   */
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public String toString() {
+    return "StoredAccount{" + identifier + ", " + name + "}";
+  }
+}
@@ -0,0 +1,92 @@
+package net.tnemc.core.economy.lax.storage;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The holdings of an account in one world and currency, as they're kept by a {@link HoldingsStorage}.
+ * Holdings are stored as fixed-point longs scaled by the precision of their currency.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class StoredHoldings {
+
+  private final String identifier;
+  private final String world;
+  private final String currency;
+  private final long unscaled;
+
+  /**
+   * @param identifier The identifier of the account.
+   * @param world The name of the world.
+   * @param currency The identifier of the currency.
+   * @param unscaled The holdings, scaled by the currency's precision.
+   *
+   * @since 1.0.0
+   */
+  public StoredHoldings(String identifier, String world, String currency, long unscaled) {
+    this.identifier = identifier;
+    this.world = world;
+    this.currency = currency;
+    this.unscaled = unscaled;
+  }
+
+  /**
+   * @return The identifier of the account.
+   *
+   * @since 1.0.0
+   */
+  public String identifier() {
+    return identifier;
+  }
+
+  /**
+   * @return The name of the world.
+   *
+   * @since 1.0.0
+   */
+  public String world() {
+    return world;
+  }
+
+  /**
+   * @return The identifier of the currency.
+   *
+   * @since 1.0.0
+   */
+  public String currency() {
+    return currency;
+  }
+
+  /**
+   * @return The holdings, scaled by the currency's precision.
+   *
+   * @since 1.0.0
+   */
+  public long unscaled() {
+    return unscaled;
+  }
+
+  @Override
+  public String toString() {
+    return "StoredHoldings{" + identifier + ", " + world + ", " + currency + ", " + unscaled + "}";
+  }
+}
@@ -0,0 +1,341 @@
+package net.tnemc.core.economy.lax.storage;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A {@link HoldingsStorage} that holds holdings changes in memory and writes them to another storage
+ * in batches. The economy itself stays the authority for the current holdings, so this only keeps
+ * the latest value written for each account, world and currency. Any number of changes to the same
+ * holdings between two flushes are coalesced into a single write.
+ *
+ * Pending holdings are written by a background thread once the flush interval has passed, or sooner
+ * when the batch size is reached. Account creations and deletions are written right away. Changes
+ * that are still pending when the server crashes are lost, so the flush interval bounds how much can
+ * be lost; use the journal as well if that isn't acceptable. {@link #flush()} and {@link #close()}
+ * write everything pending before returning.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class WriteBehindStorage implements HoldingsStorage {
+
+  private final Map<Key, StoredHoldings> dirty = new ConcurrentHashMap<>();
+  private final Object signal = new Object();
+  private final Object flushLock = new Object();
+
+  private final LongAdder writes = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder flushed = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LatencyHistogram flushLatency = new LatencyHistogram();
+
+  private final HoldingsStorage delegate;
+  private final long interval;
+  private final int batchSize;
+  private final Logger logger;
+  private final Thread flusher;
+
+  private volatile boolean wake = false;
+  private volatile boolean closed = false;
+
+  /**
+   * @param delegate The {@link HoldingsStorage} pending holdings are written to.
+   * @param interval The maximum time a change is held before it's written.
+   * @param unit The {@link TimeUnit} of the interval.
+   * @param batchSize The number of pending holdings that triggers a write before the interval has
+   *                  passed, and the maximum number of holdings written in one batch.
+   * @param logger The {@link Logger} that failed background writes are reported to.
+   *
+   * @since 1.0.0
+   */
+  public WriteBehindStorage(@NotNull HoldingsStorage delegate, long interval, @NotNull TimeUnit unit, int batchSize,
+                            @NotNull Logger logger) {
+    this.delegate = delegate;
+    this.interval = Math.max(1L, unit.toMillis(interval));
+    this.batchSize = Math.max(1, batchSize);
+    this.logger = logger;
+
+    this.flusher = new Thread(this::flushLoop, "Reserve-WriteBehind");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  @Override
+  public void load(@NotNull StorageVisitor visitor) throws IOException {
+    drain();
+    delegate.load(visitor);
+  }
+
+  @Override
+  public void saveAccount(@NotNull StoredAccount account) throws IOException {
+    ensureOpen();
+    delegate.saveAccount(account);
+  }
+
+  @Override
+  public void deleteAccount(@NotNull String identifier) throws IOException {
+    ensureOpen();
+
+    //Holding the flush lock keeps a flush that's in progress from writing the account's holdings
+    //back after the deletion.
+    synchronized(flushLock) {
+      dirty.keySet().removeIf(key->key.identifier.equals(identifier));
+      delegate.deleteAccount(identifier);
+    }
+  }
+
+  @Override
+  public void saveHoldings(@NotNull Collection<StoredHoldings> holdings) throws IOException {
+    ensureOpen();
+    for(StoredHoldings entry : holdings) {
+      mark(entry);
+    }
+  }
+
+  @Override
+  public void saveHoldings(@NotNull StoredHoldings holdings) throws IOException {
+    ensureOpen();
+    mark(holdings);
+  }
+
+  /**
+   * Used to write every pending change, and flush the underlying storage.
+   */
+  @Override
+  public void flush() throws IOException {
+    drain();
+    delegate.flush();
+  }
+
+  /**
+   * @return The number of holdings waiting to be written.
+   *
+   * @since 1.0.0
+   */
+  public int queueDepth() {
+    return dirty.size();
+  }
+
+  /**
+   * @return The number of holdings changes received.
+   *
+   * @since 1.0.0
+   */
+  public long writes() {
+    return writes.sum();
+  }
+
+  /**
+   * @return The number of holdings changes that replaced a pending change instead of adding a write.
+   *
+   * @since 1.0.0
+   */
+  public long coalesced() {
+    return coalesced.sum();
+  }
+
+  /**
+   * @return The number of holdings written to the underlying storage.
+   *
+   * @since 1.0.0
+   */
+  public long flushed() {
+    return flushed.sum();
+  }
+
+  /**
+   * @return The number of flushes that failed, and were retried by the next flush.
+   *
+   * @since 1.0.0
+   */
+  public long failures() {
+    return failures.sum();
+  }
+
+  /**
+   * @return The {@link LatencyHistogram} of the time each flush took.
+   *
+   * @since 1.0.0
+   */
+  public LatencyHistogram flushLatency() {
+    return flushLatency;
+  }
+
+  /**
+   * Used to stop the background thread, write every pending change and close the underlying storage.
+   *
+   * @since 1.0.0
+   */
+  @Override
+  public void close() throws IOException {
+    if(closed) {
+      return;
+    }
+    closed = true;
+    synchronized(signal) {
+      signal.notifyAll();
+    }
+
+    try {
+      drain();
+    } finally {
+      delegate.close();
+    }
+  }
+
+  private void mark(StoredHoldings holdings) {
+    writes.increment();
+    if(dirty.put(new Key(holdings), holdings) != null) {
+      coalesced.increment();
+    }
+
+    if(!wake && dirty.size() >= batchSize) {
+      wake = true;
+      synchronized(signal) {
+        signal.notifyAll();
+      }
+    }
+  }
+
+  private void flushLoop() {
+    while(!closed) {
+      synchronized(signal) {
+        if(!wake && !closed) {
+          try {
+            signal.wait(interval);
+          } catch(InterruptedException e) {
+            return;
+          }
+        }
+      }
+      wake = false;
+      if(closed) {
+        return;
+      }
+
+      try {
+        drain();
+      } catch(IOException e) {
+        logger.log(Level.WARNING, "Unable to write " + dirty.size() + " pending holdings, retrying in " + interval + "ms", e);
+      }
+    }
+  }
+
+  /**
+   * Writes every pending holdings in batches. A holdings is only removed from the pending holdings if
+   * it wasn't changed again while it was written, and holdings stay pending if their batch fails.
+   */
+  private void drain() throws IOException {
+    synchronized(flushLock) {
+      if(dirty.isEmpty()) {
+        return;
+      }
+
+      final long start = System.nanoTime();
+      try {
+        final List<Map.Entry<Key, StoredHoldings>> batch = new ArrayList<>(Math.min(dirty.size(), batchSize));
+        for(Map.Entry<Key, StoredHoldings> entry : dirty.entrySet()) {
+          batch.add(entry);
+          if(batch.size() == batchSize) {
+            write(batch);
+          }
+        }
+        write(batch);
+      } catch(IOException | RuntimeException e) {
+        failures.increment();
+        throw e;
+      } finally {
+        flushLatency.record(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private void write(List<Map.Entry<Key, StoredHoldings>> batch) throws IOException {
+    if(batch.isEmpty()) {
+      return;
+    }
+
+    final List<StoredHoldings> values = new ArrayList<>(batch.size());
+    for(Map.Entry<Key, StoredHoldings> entry : batch) {
+      values.add(entry.getValue());
+    }
+    delegate.saveHoldings(values);
+
+    for(Map.Entry<Key, StoredHoldings> entry : batch) {
+      dirty.remove(entry.getKey(), entry.getValue());
+    }
+    flushed.add(batch.size());
+    batch.clear();
+  }
+
+  private void ensureOpen() throws IOException {
+    if(closed) {
+      throw new IOException("The storage is closed.");
+    }
+  }
+
+  private static final class Key {
+
+    private final String identifier;
+    private final String world;
+    private final String currency;
+    private final int hash;
+
+    private Key(StoredHoldings holdings) {
+      this.identifier = holdings.identifier();
+      this.world = holdings.world();
+      this.currency = holdings.currency();
+      this.hash = (identifier.hashCode() * 31 + world.hashCode()) * 31 + currency.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if(this == other) {
+        return true;
+      }
+      if(!(other instanceof Key)) {
+        return false;
+      }
+
+      final Key key = (Key)other;
+      return hash == key.hash && identifier.equals(key.identifier) && world.equals(key.world) && currency.equals(key.currency);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -27,9 +27,18 @@ import com.sun.istack.internal.NotNull;
 import net.tnemc.core.economy.strict.account.Account;
 import net.tnemc.core.economy.strict.account.UniqueAccount;
 import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.Money;
+import net.tnemc.core.economy.strict.ranking.RankedHoldings;
+import net.tnemc.core.economy.strict.result.TransactionResult;
 import net.tnemc.core.economy.strict.result.response.EconomyResponse;
 import net.tnemc.core.generic.source.ActionSource;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -228,6 +237,287 @@ public interface EconomyAdapter {
    */
   EconomyResponse deleteAccount(@NotNull UUID identifier, @NotNull ActionSource source);
 
+  /**
+   * Used to determine which of the specified identifiers have an {@link Account}.
+   *
+   * This method is safe to search for non-player accounts. The default implementation calls
+   * {@link #hasAccount(String)} for each identifier, implementations that are able to answer in a
+   * single lookup should override it.
+   *
+   * @param identifiers The string identifiers for the accounts that are being looked for.
+   *
+   * @return A map containing every specified identifier, mapped to true if an account with that
+   * identifier exists, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  default Map<String, Boolean> hasAccounts(@NotNull Collection<String> identifiers) {
+    final Map<String, Boolean> found = new HashMap<>();
+    for(String identifier : identifiers) {
+      found.put(identifier, hasAccount(identifier));
+    }
+    return found;
+  }
+
+  /**
+   * Used to determine which of the specified identifiers have an {@link Account}.
+   *
+   * This method is not safe to search for non-player accounts. The default implementation calls
+   * {@link #hasAccount(UUID)} for each identifier, implementations that are able to answer in a
+   * single lookup should override it.
+   *
+   * @param identifiers The {@link UUID identifiers} for the accounts that are being looked for.
+   *
+   * @return A map containing every specified identifier, mapped to true if an account with that
+   * identifier exists, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  default Map<UUID, Boolean> hasUniqueAccounts(@NotNull Collection<UUID> identifiers) {
+    final Map<UUID, Boolean> found = new HashMap<>();
+    for(UUID identifier : identifiers) {
+      found.put(identifier, hasAccount(identifier));
+    }
+    return found;
+  }
+
+  /**
+   * Looks for the accounts with the provided identifiers.
+   *
+   * This method is safe to search for non-player accounts. The default implementation calls
+   * {@link #getAccount(String)} for each identifier, implementations that are able to answer in a
+   * single lookup should override it.
+   *
+   * @param identifiers The string identifiers for the accounts that are being looked for.
+   *
+   * @return A map of identifier to {@link Account} for every account that was found. Identifiers
+   * without an account are not contained in the map.
+   *
+   * @since 1.0.0
+   */
+  default Map<String, Account> getAccounts(@NotNull Collection<String> identifiers) {
+    final Map<String, Account> accounts = new HashMap<>();
+    for(String identifier : identifiers) {
+      getAccount(identifier).ifPresent(account->accounts.put(identifier, account));
+    }
+    return accounts;
+  }
+
+  /**
+   * Looks for the {@link UniqueAccount accounts} with the provided identifiers.
+   *
+   * This method is not safe to search for non-player accounts. The default implementation calls
+   * {@link #getAccount(UUID)} for each identifier, implementations that are able to answer in a
+   * single lookup should override it.
+   *
+   * @param identifiers The {@link UUID identifiers} for the accounts that are being looked for.
+   *
+   * @return A map of identifier to {@link UniqueAccount} for every account that was found.
+   * Identifiers without an account are not contained in the map.
+   *
+   * @since 1.0.0
+   */
+  default Map<UUID, UniqueAccount> getUniqueAccounts(@NotNull Collection<UUID> identifiers) {
+    final Map<UUID, UniqueAccount> accounts = new HashMap<>();
+    for(UUID identifier : identifiers) {
+      getAccount(identifier).ifPresent(account->accounts.put(identifier, account));
+    }
+    return accounts;
+  }
+
+  /**
+   * Looks for the {@link UniqueAccount accounts} with the provided identifiers, and creates any
+   * that don't exist.
+   *
+   * This method is not safe to search for non-player accounts. The default implementation calls
+   * {@link #getOrCreateAccount(UUID)} for each identifier, implementations that are able to answer in
+   * a single lookup should override it.
+   *
+   * @param identifiers The {@link UUID identifiers} for the accounts that are being looked for.
+   *
+   * @return A map of identifier to {@link UniqueAccount} for every specified identifier.
+   *
+   * @since 1.0.0
+   */
+  default Map<UUID, UniqueAccount> getOrCreateUniqueAccounts(@NotNull Collection<UUID> identifiers) {
+    final Map<UUID, UniqueAccount> accounts = new HashMap<>();
+    for(UUID identifier : identifiers) {
+      accounts.put(identifier, getOrCreateAccount(identifier));
+    }
+    return accounts;
+  }
+
+  /**
+   * Attempts to create an account for each of the specified identifiers.
+   *
+   * This method is not intended for non-player accounts. The default implementation calls
+   * {@link #createAccount(UUID, String)} for each identifier, implementations that are able to create
+   * the accounts in a single operation should override it.
+   *
+   * @param accounts A map of {@link UUID} identifier to the String representation of the name for
+   *                 each account being created, usually the username of the player.
+   *
+   * @return A map containing every specified identifier, mapped to true if the account was created,
+   * otherwise false.
+   *
+   * @since 1.0.0
+   */
+  default Map<UUID, Boolean> createAccounts(@NotNull Map<UUID, String> accounts) {
+    final Map<UUID, Boolean> created = new HashMap<>();
+    for(Map.Entry<UUID, String> entry : accounts.entrySet()) {
+      created.put(entry.getKey(), createAccount(entry.getKey(), entry.getValue()));
+    }
+    return created;
+  }
+
+  /**
+   * Used to apply every leg of a {@link Transaction} as a single all-or-nothing operation.
+   *
+   * The default implementation applies each leg in order through the {@link Account} methods, and
+   * reverts the legs that were already applied if a later leg fails. Implementations that are backed
+   * by transactional storage should override this method to apply the whole transaction at once.
+   *
+   * @param transaction The {@link Transaction} to apply.
+   *
+   * @return The aggregate {@link TransactionResult result} of the transaction.
+   *
+   * @since 1.0.0
+   */
+  default TransactionResult execute(@NotNull Transaction transaction) {
+    return transaction.applyInOrder();
+  }
+
+  /**
+   * Used to convert an amount into {@link Money} using the precision of the world's default
+   * currency. Extra decimal digits are truncated.
+   *
+   * @param amount The amount to convert.
+   * @param world The name of the world.
+   *
+   * @return The {@link Money} representing the amount.
+   *
+   * @since 1.0.0
+   */
+  default Money money(double amount, @NotNull String world) {
+    return Money.of(amount, getDefaultCurrency(world));
+  }
+
+  /**
+   * Used to convert an amount into {@link Money} using the precision of the world's default
+   * currency. Extra decimal digits are truncated.
+   *
+   * @param amount The amount to convert.
+   * @param world The name of the world.
+   *
+   * @return The {@link Money} representing the amount.
+   *
+   * @since 1.0.0
+   */
+  default Money money(@NotNull BigDecimal amount, @NotNull String world) {
+    return Money.of(amount, getDefaultCurrency(world));
+  }
+
+  /**
+   * Used to get the holdings of an account as {@link Money}.
+   *
+   * @param identifier The {@link UUID} of the account.
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   *
+   * @return An optional containing the holdings if the account exists, otherwise an empty optional.
+   *
+   * @since 1.0.0
+   */
+  default Optional<Money> holdingsMoney(@NotNull UUID identifier, @NotNull String world, @NotNull Currency currency) {
+    return getAccount(identifier).map(account->account.holdingsMoney(world, currency));
+  }
+
+  /**
+   * Used to check if an account has at least the specified amount.
+   *
+   * @param identifier The {@link UUID} of the account.
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the amount.
+   * @param amount The amount to check for.
+   *
+   * @return True if the account exists and has at least the specified amount, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  default boolean has(@NotNull UUID identifier, @NotNull String world, @NotNull Currency currency, @NotNull Money amount) {
+    return getAccount(identifier).map(account->account.has(world, currency, amount)).orElse(false);
+  }
+
+  /**
+   * Used to get the accounts with the highest holdings, for example for a balance top list.
+   *
+   * The default implementation returns an empty list, since adapters have no way to list their
+   * accounts. Adapters that keep their holdings sorted, such as the
+   * {@link net.tnemc.core.economy.strict.ranking.RankingEconomyAdapter}, override this method.
+   *
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   * @param offset The number of accounts to skip, for paging.
+   * @param limit The maximum number of accounts to return.
+   *
+   * @return The ranked holdings, from the highest to the lowest.
+   *
+   * @since 1.0.0
+   */
+  default List<RankedHoldings> topHoldings(@NotNull String world, @NotNull Currency currency, int offset, int limit) {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Used to get the position of an account in the holdings ranking.
+   *
+   * @param account The {@link Account}.
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   *
+   * @return The rank of the account, where 1 is the account with the highest holdings, or -1 if this
+   * adapter doesn't rank holdings or the account isn't ranked.
+   *
+   * @since 1.0.0
+   */
+  default long rank(@NotNull Account account, @NotNull String world, @NotNull Currency currency) {
+    return -1L;
+  }
+
+  /**
+   * Used to get the accounts with holdings greater than the specified minimum.
+   *
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   * @param minimum The amount the holdings must be greater than.
+   * @param offset The number of accounts to skip, for paging.
+   * @param limit The maximum number of accounts to return.
+   *
+   * @return The ranked holdings, from the highest to the lowest, or an empty list if this adapter
+   * doesn't rank holdings.
+   *
+   * @since 1.0.0
+   */
+  default List<RankedHoldings> holdingsAbove(@NotNull String world, @NotNull Currency currency, @NotNull BigDecimal minimum,
+                                             int offset, int limit) {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Used to count the accounts with holdings greater than the specified minimum.
+   *
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   * @param minimum The amount the holdings must be greater than.
+   *
+   * @return The number of accounts, or -1 if this adapter doesn't rank holdings.
+   *
+   * @since 1.0.0
+   */
+  default long countAbove(@NotNull String world, @NotNull Currency currency, @NotNull BigDecimal minimum) {
+    return -1L;
+  }
+
   /**
    * Used to get the default currency. This could be the default currency for the server globally or
    * for the default world if the implementation supports multi-world.
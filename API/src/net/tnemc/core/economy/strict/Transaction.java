@@ -0,0 +1,275 @@
+package net.tnemc.core.economy.strict;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.result.BasicHoldingsActionResult;
+import net.tnemc.core.economy.strict.result.BasicHoldingsMoveActionResult;
+import net.tnemc.core.economy.strict.result.BasicTransactionResult;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.TransactionResult;
+import net.tnemc.core.economy.strict.result.response.CustomResponse;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.economy.strict.result.response.GeneralResponse;
+import net.tnemc.core.generic.source.ActionSource;
+import net.tnemc.core.generic.source.PluginSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Represents a group of deposits, withdrawals and transfers that should be applied all-or-nothing
+ * through {@link EconomyAdapter#execute(Transaction)}. Transactions are immutable, and are created
+ * through {@link #builder(ActionSource)}.
+ *
+ * Example:
+ * <pre>
+ *   Transaction payout = Transaction.builder(source)
+ *                                   .withdraw(buyer, price, world, currency)
+ *                                   .deposit(seller, price.subtract(tax), world, currency)
+ *                                   .deposit(taxAccount, tax, world, currency)
+ *                                   .build();
+ *   TransactionResult result = adapter.execute(payout);
+ * </pre>
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class Transaction {
+
+  private final ActionSource source;
+  private final List<TransactionLeg> legs;
+
+  private Transaction(ActionSource source, List<TransactionLeg> legs) {
+    this.source = source;
+    this.legs = Collections.unmodifiableList(legs);
+  }
+
+  /**
+   * Used to begin building a new {@link Transaction}.
+   *
+   * @param source The {@link ActionSource source} that every leg of the transaction is performed with.
+   *
+   * @return A new {@link Builder}.
+   *
+   * @since 1.0.0
+   */
+  public static Builder builder(@NotNull ActionSource source) {
+    return new Builder(source);
+  }
+
+  /**
+   * @return The {@link ActionSource source} that every leg of this transaction is performed with.
+   *
+   * @since 1.0.0
+   */
+  public ActionSource source() {
+    return source;
+  }
+
+  /**
+   * @return The {@link TransactionLeg legs} of this transaction, in the order they were added.
+   *
+   * @since 1.0.0
+   */
+  public List<TransactionLeg> legs() {
+    return legs;
+  }
+
+  /**
+   * Applies each leg in order through the {@link Account} methods. If a leg fails, the legs that
+   * were already applied are reverted in reverse order. This is the fallback used by
+   * {@link EconomyAdapter#execute(Transaction)} for adapters that are unable to apply a transaction
+   * in a single operation.
+   *
+   * @return The {@link TransactionResult} of the transaction.
+   */
+  TransactionResult applyInOrder() {
+    final List<HoldingsActionResult> results = new ArrayList<>(legs.size());
+
+    for(int i = 0; i < legs.size(); i++) {
+      final TransactionLeg leg = legs.get(i);
+
+      HoldingsActionResult result;
+      try {
+        result = perform(leg);
+      } catch(RuntimeException e) {
+        result = failed(leg, new CustomResponse(false, "The transaction leg failed: " + e.getMessage()));
+      }
+      if(result == null) {
+        result = failed(leg, GeneralResponse.FAILED);
+      }
+      results.add(result);
+
+      if(!result.success()) {
+        for(int j = i + 1; j < legs.size(); j++) {
+          results.add(failed(legs.get(j), GeneralResponse.FAILED));
+        }
+
+        final EconomyResponse response = (revert(i - 1))? result :
+            new CustomResponse(false, "The transaction failed and could not be fully reverted: " + result.response());
+        return new BasicTransactionResult(this, results, response);
+      }
+    }
+    return new BasicTransactionResult(this, results, GeneralResponse.SUCCESS);
+  }
+
+  private HoldingsActionResult perform(TransactionLeg leg) {
+    switch(leg.type()) {
+      case DEPOSIT:
+        return leg.account().deposit(leg.amount(), leg.world(), leg.currency(), source);
+      case WITHDRAW:
+        return leg.account().withdraw(leg.amount(), leg.world(), leg.currency(), source);
+      default:
+        return leg.account().transfer(leg.receiving(), leg.amount(), leg.world(), leg.currency(), source);
+    }
+  }
+
+  private boolean revert(int last) {
+    final ActionSource rollback = new PluginSource(source.name(), "Reverting failed transaction: " + source.reason());
+
+    boolean reverted = true;
+    for(int i = last; i >= 0; i--) {
+      final TransactionLeg leg = legs.get(i);
+
+      try {
+        final HoldingsActionResult result;
+        switch(leg.type()) {
+          case DEPOSIT:
+            result = leg.account().withdraw(leg.amount(), leg.world(), leg.currency(), rollback);
+            break;
+          case WITHDRAW:
+            result = leg.account().deposit(leg.amount(), leg.world(), leg.currency(), rollback);
+            break;
+          default:
+            result = leg.receiving().transfer(leg.account(), leg.amount(), leg.world(), leg.currency(), rollback);
+            break;
+        }
+        if(result == null || !result.success()) {
+          reverted = false;
+        }
+      } catch(RuntimeException e) {
+        reverted = false;
+      }
+    }
+    return reverted;
+  }
+
+  private static HoldingsActionResult failed(TransactionLeg leg, EconomyResponse response) {
+    if(leg.type() == TransactionLeg.Type.TRANSFER) {
+      return new BasicHoldingsMoveActionResult(leg.type().actionType(), leg.account(), leg.currency(), null,
+                                               leg.receiving(), leg.currency(), null, response);
+    }
+    return new BasicHoldingsActionResult(leg.type().actionType(), leg.account(), leg.currency(), null, response);
+  }
+
+  /**
+   * Used to collect the legs of a {@link Transaction}.
+   *
+   * @since 1.0.0
+   */
+  public static final class Builder {
+
+    private final ActionSource source;
+    private final List<TransactionLeg> legs = new ArrayList<>();
+
+    private Builder(ActionSource source) {
+      this.source = source;
+    }
+
+    /**
+     * Adds a leg that deposits holdings into the specified {@link Account}.
+     *
+     * @param account The {@link Account} to deposit into.
+     * @param amount The amount to deposit. Must be greater than zero.
+     * @param world The name of the world the deposit is performed in.
+     * @param currency The {@link Currency} the deposit is performed in.
+     *
+     * @return This builder.
+     *
+     * @since 1.0.0
+     */
+    public Builder deposit(@NotNull Account account, @NotNull BigDecimal amount, @NotNull String world, @NotNull Currency currency) {
+      return add(new TransactionLeg(TransactionLeg.Type.DEPOSIT, account, null, amount, world, currency));
+    }
+
+    /**
+     * Adds a leg that withdraws holdings from the specified {@link Account}.
+     *
+     * @param account The {@link Account} to withdraw from.
+     * @param amount The amount to withdraw. Must be greater than zero.
+     * @param world The name of the world the withdrawal is performed in.
+     * @param currency The {@link Currency} the withdrawal is performed in.
+     *
+     * @return This builder.
+     *
+     * @since 1.0.0
+     */
+    public Builder withdraw(@NotNull Account account, @NotNull BigDecimal amount, @NotNull String world, @NotNull Currency currency) {
+      return add(new TransactionLeg(TransactionLeg.Type.WITHDRAW, account, null, amount, world, currency));
+    }
+
+    /**
+     * Adds a leg that transfers holdings from one {@link Account} to another.
+     *
+     * @param account The {@link Account} to transfer from.
+     * @param receiving The {@link Account} to transfer to.
+     * @param amount The amount to transfer. Must be greater than zero.
+     * @param world The name of the world the transfer is performed in.
+     * @param currency The {@link Currency} the transfer is performed in.
+     *
+     * @return This builder.
+     *
+     * @since 1.0.0
+     */
+    public Builder transfer(@NotNull Account account, @NotNull Account receiving, @NotNull BigDecimal amount,
+                            @NotNull String world, @NotNull Currency currency) {
+      if(receiving == null) {
+        throw new IllegalArgumentException("The receiving account of a transfer cannot be null.");
+      }
+      return add(new TransactionLeg(TransactionLeg.Type.TRANSFER, account, receiving, amount, world, currency));
+    }
+
+    /**
+     * @return The {@link Transaction} containing every leg added to this builder.
+     *
+     * @since 1.0.0
+     */
+    public Transaction build() {
+      return new Transaction(source, new ArrayList<>(legs));
+    }
+
+    private Builder add(TransactionLeg leg) {
+      if(leg.account() == null || leg.world() == null || leg.currency() == null || leg.amount() == null) {
+        throw new IllegalArgumentException("The account, amount, world and currency of a transaction leg cannot be null.");
+      }
+      if(leg.amount().signum() <= 0) {
+        throw new IllegalArgumentException("The amount of a transaction leg must be greater than zero.");
+      }
+      legs.add(leg);
+      return this;
+    }
+  }
+}
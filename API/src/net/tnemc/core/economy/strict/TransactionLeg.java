@@ -0,0 +1,132 @@
+package net.tnemc.core.economy.strict;
+
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+
+import java.math.BigDecimal;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Represents a single deposit, withdraw or transfer that is part of a {@link Transaction}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class TransactionLeg {
+
+  /**
+   * The type of action a {@link TransactionLeg} performs.
+   *
+   * @since 1.0.0
+   */
+  public enum Type {
+    DEPOSIT("deposit"),
+    WITHDRAW("withdraw"),
+    TRANSFER("transfer");
+
+    private final String actionType;
+
+    Type(String actionType) {
+      this.actionType = actionType;
+    }
+
+    /**
+     * @return The action type identifier used for the {@link net.tnemc.core.economy.strict.result.HoldingsActionResult}
+     * of legs of this type.
+     *
+     * @since 1.0.0
+     */
+    public String actionType() {
+      return actionType;
+    }
+  }
+
+  private final Type type;
+  private final Account account;
+  private final Account receiving;
+  private final BigDecimal amount;
+  private final String world;
+  private final Currency currency;
+
+  TransactionLeg(Type type, Account account, Account receiving, BigDecimal amount, String world, Currency currency) {
+    this.type = type;
+    this.account = account;
+    this.receiving = receiving;
+    this.amount = amount;
+    this.world = world;
+    this.currency = currency;
+  }
+
+  /**
+   * @return The {@link Type} of action this leg performs.
+   *
+   * @since 1.0.0
+   */
+  public Type type() {
+    return type;
+  }
+
+  /**
+   * @return The {@link Account} this leg is performed on. For transfers this is the sending account.
+   *
+   * @since 1.0.0
+   */
+  public Account account() {
+    return account;
+  }
+
+  /**
+   * @return The {@link Account} that receives the holdings for transfers, otherwise null.
+   *
+   * @since 1.0.0
+   */
+  public Account receiving() {
+    return receiving;
+  }
+
+  /**
+   * @return The amount of holdings this leg deposits, withdraws or transfers.
+   *
+   * @since 1.0.0
+   */
+  public BigDecimal amount() {
+    return amount;
+  }
+
+  /**
+   * @return The name of the world this leg is performed in.
+   *
+   * @since 1.0.0
+   */
+  public String world() {
+    return world;
+  }
+
+  /**
+   * @return The {@link Currency} this leg is performed in.
+   *
+   * @since 1.0.0
+   */
+  public Currency currency() {
+    return currency;
+  }
+}
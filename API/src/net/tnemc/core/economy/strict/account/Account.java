@@ -2,6 +2,7 @@ package net.tnemc.core.economy.strict.account;
 
 import com.sun.istack.internal.NotNull;
 import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.Money;
 import net.tnemc.core.economy.strict.result.HoldingsActionResult;
 import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
 import net.tnemc.core.generic.Identifiable;
@@ -79,4 +80,81 @@ public interface Account extends Identifiable {
 
 
   HoldingsActionResult withdraw(@NotNull BigDecimal amount, @NotNull String world, @NotNull Currency currency, @NotNull ActionSource source);
+
+
+  /**
+   * Used to get the holdings of this account as {@link Money}.
+   *
+   * @param world The name of the world.
+   *
+   * @return The holdings of this account in the world's default currency.
+   *
+   * @since 1.0.0
+   */
+  default Money holdingsMoney(@NotNull String world) {
+    return Money.of(holdings(world));
+  }
+
+  /**
+   * Used to get the holdings of this account as {@link Money}, scaled by the currency's precision.
+   *
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   *
+   * @return The holdings of this account.
+   *
+   * @since 1.0.0
+   */
+  default Money holdingsMoney(@NotNull String world, @NotNull Currency currency) {
+    return Money.of(holdings(world, currency), currency);
+  }
+
+  /**
+   * @param world The name of the world.
+   * @param amount The amount to check for, in the world's default currency.
+   *
+   * @return True if this account has at least the specified amount, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  default boolean has(@NotNull String world, @NotNull Money amount) {
+    return has(world, amount.toBigDecimal());
+  }
+
+  /**
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the amount.
+   * @param amount The amount to check for.
+   *
+   * @return True if this account has at least the specified amount, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  default boolean has(@NotNull String world, @NotNull Currency currency, @NotNull Money amount) {
+    return has(world, currency, amount.toBigDecimal());
+  }
+
+  /**
+   * @see #deposit(BigDecimal, String, Currency, ActionSource)
+   * @since 1.0.0
+   */
+  default HoldingsActionResult deposit(@NotNull Money amount, @NotNull String world, @NotNull Currency currency, @NotNull ActionSource source) {
+    return deposit(amount.toBigDecimal(), world, currency, source);
+  }
+
+  /**
+   * @see #transfer(Account, BigDecimal, String, Currency, ActionSource)
+   * @since 1.0.0
+   */
+  default HoldingsMoveActionResult transfer(@NotNull Account receiving, @NotNull Money amount, @NotNull String world, @NotNull Currency currency, @NotNull ActionSource source) {
+    return transfer(receiving, amount.toBigDecimal(), world, currency, source);
+  }
+
+  /**
+   * @see #withdraw(BigDecimal, String, Currency, ActionSource)
+   * @since 1.0.0
+   */
+  default HoldingsActionResult withdraw(@NotNull Money amount, @NotNull String world, @NotNull Currency currency, @NotNull ActionSource source) {
+    return withdraw(amount.toBigDecimal(), world, currency, source);
+  }
 }
\ No newline at end of file
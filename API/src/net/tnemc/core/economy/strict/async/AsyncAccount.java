@@ -0,0 +1,75 @@
+package net.tnemc.core.economy.strict.async;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The asynchronous counterpart to {@link Account}. Every method returns a {@link CompletableFuture}
+ * that is completed once the underlying provider has finished the call, which allows callers to
+ * stay off of the server's main thread.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public interface AsyncAccount {
+
+  /**
+   * @return The blocking {@link Account} that this object performs its calls against.
+   *
+   * @since 1.0.0
+   */
+  Account account();
+
+  CompletableFuture<BigDecimal> holdings(@NotNull String world);
+
+  CompletableFuture<BigDecimal> holdings(@NotNull String world, @NotNull Currency currency);
+
+  CompletableFuture<Boolean> has(@NotNull String world, @NotNull BigDecimal amount);
+
+  CompletableFuture<Boolean> has(@NotNull String world, @NotNull Currency currency, @NotNull BigDecimal amount);
+
+  CompletableFuture<HoldingsActionResult> deposit(@NotNull BigDecimal amount, @NotNull ActionSource source);
+
+  CompletableFuture<HoldingsActionResult> deposit(@NotNull BigDecimal amount, @NotNull Currency currency, @NotNull ActionSource source);
+
+  CompletableFuture<HoldingsActionResult> deposit(@NotNull BigDecimal amount, @NotNull String world, @NotNull Currency currency, @NotNull ActionSource source);
+
+  CompletableFuture<HoldingsMoveActionResult> transfer(@NotNull Account receiving, @NotNull BigDecimal amount, @NotNull ActionSource source);
+
+  CompletableFuture<HoldingsMoveActionResult> transfer(@NotNull Account receiving, @NotNull BigDecimal amount, @NotNull Currency currency, @NotNull ActionSource source);
+
+  CompletableFuture<HoldingsMoveActionResult> transfer(@NotNull Account receiving, @NotNull BigDecimal amount, @NotNull String world, @NotNull Currency currency, @NotNull ActionSource source);
+
+  CompletableFuture<HoldingsActionResult> withdraw(@NotNull BigDecimal amount, @NotNull ActionSource source);
+
+  CompletableFuture<HoldingsActionResult> withdraw(@NotNull BigDecimal amount, @NotNull Currency currency, @NotNull ActionSource source);
+
+  CompletableFuture<HoldingsActionResult> withdraw(@NotNull BigDecimal amount, @NotNull String world, @NotNull Currency currency, @NotNull ActionSource source);
+}
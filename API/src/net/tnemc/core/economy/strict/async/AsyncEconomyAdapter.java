@@ -0,0 +1,170 @@
+package net.tnemc.core.economy.strict.async;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The asynchronous counterpart to {@link EconomyAdapter}. Implementations that are backed by remote
+ * storage may implement this directly, otherwise {@link ExecutorAsyncEconomyAdapter} may be used to
+ * run an existing blocking {@link EconomyAdapter} on a worker pool.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public interface AsyncEconomyAdapter {
+
+  /**
+   * @return The blocking {@link EconomyAdapter} that this object performs its calls against.
+   *
+   * @since 1.0.0
+   */
+  EconomyAdapter adapter();
+
+  /**
+   * Used to determine if an {@link Account} exists with the specified identifier.
+   *
+   * This method is safe to search for non-player accounts.
+   *
+   * @param identifier The string identifier for the account that is being looked for.
+   *
+   * @return A future completed with true if an account with the specified identifier exists,
+   * otherwise false.
+   *
+   * @since 1.0.0
+   */
+  CompletableFuture<Boolean> hasAccount(@NotNull String identifier);
+
+  /**
+   * Used to determine if an {@link Account} exists with the specified identifier.
+   *
+   * This method is not safe to search for non-player accounts.
+   *
+   * @param identifier The {@link UUID identifier} for the account that is being looked for.
+   *
+   * @return A future completed with true if an account with the specified identifier exists,
+   * otherwise false.
+   *
+   * @since 1.0.0
+   */
+  CompletableFuture<Boolean> hasAccount(@NotNull UUID identifier);
+
+  /**
+   * Looks for an account based on the provided identifier and if none is found, creates it.
+   *
+   * This method is safe to search for non-player accounts.
+   *
+   * @param identifier The string identifier for the account that is being looked for.
+   *
+   * @return A future completed with the correlating {@link AsyncAccount account}.
+   *
+   * @since 1.0.0
+   */
+  CompletableFuture<AsyncAccount> getOrCreateAccount(@NotNull String identifier);
+
+  /**
+   * Looks for an account based on the provided identifier and if none is found, creates it.
+   *
+   * This method is not safe to search for non-player accounts.
+   *
+   * @param identifier The {@link UUID} identifier for the account that is being looked for.
+   *
+   * @return A future completed with the correlating {@link AsyncAccount account}.
+   *
+   * @since 1.0.0
+   */
+  CompletableFuture<AsyncAccount> getOrCreateAccount(@NotNull UUID identifier);
+
+  /**
+   * Looks for an account based on the provided identifier.
+   *
+   * This method is safe to search for non-player accounts.
+   *
+   * @param identifier The string identifier for the account that is being looked for.
+   *
+   * @return A future completed with an optional containing the {@link AsyncAccount} if found,
+   * otherwise an empty optional.
+   *
+   * @since 1.0.0
+   */
+  CompletableFuture<Optional<AsyncAccount>> getAccount(@NotNull String identifier);
+
+  /**
+   * Looks for an account based on the provided {@link UUID identifier}.
+   *
+   * This method is not safe to search for non-player accounts.
+   *
+   * @param identifier The {@link UUID identifier} for the account that is being looked for.
+   *
+   * @return A future completed with an optional containing the {@link AsyncAccount} if found,
+   * otherwise an empty optional.
+   *
+   * @since 1.0.0
+   */
+  CompletableFuture<Optional<AsyncAccount>> getAccount(@NotNull UUID identifier);
+
+  /**
+   * Used to delete the specified account.
+   *
+   * This method is safe to search for non-player accounts.
+   *
+   * @param identifier The identifier associated with the account that you wish to delete.
+   * @param source The {@link ActionSource source} response for this deletion call.
+   *
+   * @return A future completed with the {@link EconomyResponse response} of the deletion action.
+   *
+   * @since 1.0.0
+   */
+  CompletableFuture<EconomyResponse> deleteAccount(@NotNull String identifier, @NotNull ActionSource source);
+
+  /**
+   * Used to delete the specified account.
+   *
+   * This method is not safe to search for non-player accounts.
+   *
+   * @param identifier The identifier associated with the account that you wish to delete.
+   * @param source The {@link ActionSource source} response for this deletion call.
+   *
+   * @return A future completed with the {@link EconomyResponse response} of the deletion action.
+   *
+   * @since 1.0.0
+   */
+  CompletableFuture<EconomyResponse> deleteAccount(@NotNull UUID identifier, @NotNull ActionSource source);
+
+  /**
+   * Used to obtain an {@link AsyncAccount} for an {@link Account} that has already been resolved.
+   *
+   * @param account The blocking {@link Account} to wrap.
+   *
+   * @return The {@link AsyncAccount} that performs its calls against the specified account.
+   *
+   * @since 1.0.0
+   */
+  AsyncAccount async(@NotNull Account account);
+}
@@ -0,0 +1,118 @@
+package net.tnemc.core.economy.strict.async;
+
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The {@link AsyncAccount} implementation used by {@link ExecutorAsyncEconomyAdapter}, which runs
+ * the calls of a blocking {@link Account} on the adapter's executor.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class ExecutorAsyncAccount implements AsyncAccount {
+
+  private final ExecutorAsyncEconomyAdapter adapter;
+  private final Account account;
+
+  public ExecutorAsyncAccount(ExecutorAsyncEconomyAdapter adapter, Account account) {
+    this.adapter = adapter;
+    this.account = account;
+  }
+
+  @Override
+  public Account account() {
+    return account;
+  }
+
+  @Override
+  public CompletableFuture<BigDecimal> holdings(String world) {
+    return adapter.submit(()->account.holdings(world));
+  }
+
+  @Override
+  public CompletableFuture<BigDecimal> holdings(String world, Currency currency) {
+    return adapter.submit(()->account.holdings(world, currency));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> has(String world, BigDecimal amount) {
+    return adapter.submit(()->account.has(world, amount));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> has(String world, Currency currency, BigDecimal amount) {
+    return adapter.submit(()->account.has(world, currency, amount));
+  }
+
+  @Override
+  public CompletableFuture<HoldingsActionResult> deposit(BigDecimal amount, ActionSource source) {
+    return adapter.submit(()->account.deposit(amount, source));
+  }
+
+  @Override
+  public CompletableFuture<HoldingsActionResult> deposit(BigDecimal amount, Currency currency, ActionSource source) {
+    return adapter.submit(()->account.deposit(amount, currency, source));
+  }
+
+  @Override
+  public CompletableFuture<HoldingsActionResult> deposit(BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return adapter.submit(()->account.deposit(amount, world, currency, source));
+  }
+
+  @Override
+  public CompletableFuture<HoldingsMoveActionResult> transfer(Account receiving, BigDecimal amount, ActionSource source) {
+    return adapter.submit(()->account.transfer(receiving, amount, source));
+  }
+
+  @Override
+  public CompletableFuture<HoldingsMoveActionResult> transfer(Account receiving, BigDecimal amount, Currency currency, ActionSource source) {
+    return adapter.submit(()->account.transfer(receiving, amount, currency, source));
+  }
+
+  @Override
+  public CompletableFuture<HoldingsMoveActionResult> transfer(Account receiving, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return adapter.submit(()->account.transfer(receiving, amount, world, currency, source));
+  }
+
+  @Override
+  public CompletableFuture<HoldingsActionResult> withdraw(BigDecimal amount, ActionSource source) {
+    return adapter.submit(()->account.withdraw(amount, source));
+  }
+
+  @Override
+  public CompletableFuture<HoldingsActionResult> withdraw(BigDecimal amount, Currency currency, ActionSource source) {
+    return adapter.submit(()->account.withdraw(amount, currency, source));
+  }
+
+  @Override
+  public CompletableFuture<HoldingsActionResult> withdraw(BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return adapter.submit(()->account.withdraw(amount, world, currency, source));
+  }
+}
@@ -0,0 +1,173 @@
+package net.tnemc.core.economy.strict.async;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The default {@link AsyncEconomyAdapter} implementation, which runs the calls of a blocking
+ * {@link EconomyAdapter} on the supplied {@link Executor}. If the executor rejects a call, for
+ * example because its queue is full, the returned future is completed exceptionally with the
+ * {@link RejectedExecutionException} rather than running the call on the calling thread.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class ExecutorAsyncEconomyAdapter implements AsyncEconomyAdapter {
+
+  private final EconomyAdapter adapter;
+  private final Executor executor;
+
+  /**
+   * @param adapter The blocking {@link EconomyAdapter} to run calls against.
+   * @param executor The {@link Executor} that the blocking calls should be run on.
+   *
+   * @since 1.0.0
+   */
+  public ExecutorAsyncEconomyAdapter(@NotNull EconomyAdapter adapter, @NotNull Executor executor) {
+    this.adapter = adapter;
+    this.executor = executor;
+  }
+
+  /**
+   * Used to create a bounded {@link ThreadPoolExecutor} suitable for use with this adapter. The
+   * executor uses daemon threads, and rejects new calls once the pending queue is full.
+   *
+   * @param name The prefix to use for the names of the worker threads.
+   * @param threads The number of worker threads.
+   * @param queue The maximum number of calls that may be waiting for a worker thread.
+   *
+   * @return The created {@link ThreadPoolExecutor}.
+   *
+   * @since 1.0.0
+   */
+  public static ThreadPoolExecutor boundedExecutor(@NotNull String name, int threads, int queue) {
+    final int size = Math.max(1, threads);
+    final AtomicInteger count = new AtomicInteger();
+    final ThreadFactory factory = runnable->{
+      final Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, 60L, TimeUnit.SECONDS,
+                                                               new ArrayBlockingQueue<>(Math.max(1, queue)),
+                                                               factory, new ThreadPoolExecutor.AbortPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  @Override
+  public EconomyAdapter adapter() {
+    return adapter;
+  }
+
+  /**
+   * @return The {@link Executor} that this adapter runs its calls on.
+   *
+   * @since 1.0.0
+   */
+  public Executor executor() {
+    return executor;
+  }
+
+  @Override
+  public CompletableFuture<Boolean> hasAccount(String identifier) {
+    return submit(()->adapter.hasAccount(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> hasAccount(UUID identifier) {
+    return submit(()->adapter.hasAccount(identifier));
+  }
+
+  @Override
+  public CompletableFuture<AsyncAccount> getOrCreateAccount(String identifier) {
+    return submit(()->async(adapter.getOrCreateAccount(identifier)));
+  }
+
+  @Override
+  public CompletableFuture<AsyncAccount> getOrCreateAccount(UUID identifier) {
+    return submit(()->async(adapter.getOrCreateAccount(identifier)));
+  }
+
+  @Override
+  public CompletableFuture<Optional<AsyncAccount>> getAccount(String identifier) {
+    return submit(()->adapter.getAccount(identifier).map(this::async));
+  }
+
+  @Override
+  public CompletableFuture<Optional<AsyncAccount>> getAccount(UUID identifier) {
+    return submit(()->adapter.getAccount(identifier).map(this::async));
+  }
+
+  @Override
+  public CompletableFuture<EconomyResponse> deleteAccount(String identifier, ActionSource source) {
+    return submit(()->adapter.deleteAccount(identifier, source));
+  }
+
+  @Override
+  public CompletableFuture<EconomyResponse> deleteAccount(UUID identifier, ActionSource source) {
+    return submit(()->adapter.deleteAccount(identifier, source));
+  }
+
+  @Override
+  public AsyncAccount async(Account account) {
+    return new ExecutorAsyncAccount(this, account);
+  }
+
+  /**
+   * Used to run a blocking call on this adapter's {@link Executor}.
+   *
+   * @param call The blocking call to perform.
+   * @param <T> The type of value returned by the call.
+   *
+   * @return A future that is completed with the call's result, or exceptionally if the call threw
+   * an exception or was rejected by the executor.
+   *
+   * @since 1.0.0
+   */
+  protected <T> CompletableFuture<T> submit(Supplier<T> call) {
+    try {
+      return CompletableFuture.supplyAsync(call, executor);
+    } catch(RejectedExecutionException e) {
+      final CompletableFuture<T> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      return failed;
+    }
+  }
+}
@@ -0,0 +1,331 @@
+package net.tnemc.core.economy.strict.cache;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.Transaction;
+import net.tnemc.core.economy.strict.TransactionLeg;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.Money;
+import net.tnemc.core.economy.strict.forwarding.ForwardingEconomyAdapter;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import net.tnemc.core.economy.strict.result.TransactionResult;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A read-through cache of account holdings, keyed by account, world and currency. Reads are served
+ * from the cache when possible, and the holdings returned by deposits, withdrawals, transfers and
+ * transactions made through this adapter replace the cached values, so a balance never has to be
+ * read again after a write.
+ *
+ * Changes made directly through the wrapped adapter, for example by the economy plugin's own
+ * commands, aren't seen by the cache until the entry expires, so the time to live should be kept
+ * short. The {@link #has(Account, String, Currency, BigDecimal) has} checks are answered by
+ * comparing the cached holdings with the amount.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class CachingEconomyAdapter extends ForwardingEconomyAdapter {
+
+  private final HoldingsCache cache;
+
+  /**
+   * @param delegate The {@link EconomyAdapter} to cache the holdings of.
+   * @param maximumSize The maximum number of holdings values to cache.
+   * @param ttl The time a cached value stays valid for. Values less than or equal to zero mean
+   * values are only removed when they're evicted for space.
+   * @param unit The {@link TimeUnit} of the ttl.
+   *
+   * @since 1.0.0
+   */
+  public CachingEconomyAdapter(@NotNull EconomyAdapter delegate, int maximumSize, long ttl, @NotNull TimeUnit unit) {
+    super(delegate);
+    this.cache = new HoldingsCache(maximumSize, unit.toNanos(ttl));
+  }
+
+  /**
+   * @return The number of holdings reads that were served from the cache.
+   *
+   * @since 1.0.0
+   */
+  public long hits() {
+    return cache.hits();
+  }
+
+  /**
+   * @return The number of holdings reads that had to be passed to the wrapped adapter.
+   *
+   * @since 1.0.0
+   */
+  public long misses() {
+    return cache.misses();
+  }
+
+  /**
+   * @return The number of cached values that were removed because they expired, or to make space.
+   *
+   * @since 1.0.0
+   */
+  public long evictions() {
+    return cache.evictions();
+  }
+
+  /**
+   * @return The number of cached values.
+   *
+   * @since 1.0.0
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Used to remove every cached value of an account, for example after its holdings were changed
+   * without going through this adapter.
+   *
+   * @param identifier The identifier of the {@link Account}.
+   *
+   * @since 1.0.0
+   */
+  public void invalidate(@NotNull String identifier) {
+    cache.invalidate(identifier);
+  }
+
+  /**
+   * Used to remove every cached value.
+   *
+   * @since 1.0.0
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(String identifier, ActionSource source) {
+    final Optional<Account> account = delegate.getAccount(identifier);
+    final EconomyResponse response = super.deleteAccount(identifier, source);
+    account.ifPresent(deleted->cache.invalidate(deleted.identifier()));
+    cache.invalidate(identifier);
+    return response;
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(UUID identifier, ActionSource source) {
+    final Optional<UniqueAccount> account = delegate.getAccount(identifier);
+    final EconomyResponse response = super.deleteAccount(identifier, source);
+    account.ifPresent(deleted->cache.invalidate(deleted.identifier()));
+    cache.invalidate(identifier.toString());
+    return response;
+  }
+
+  @Override
+  public TransactionResult execute(Transaction transaction) {
+    final TransactionResult result = super.execute(transaction);
+    final List<TransactionLeg> legs = transaction.legs();
+    final List<HoldingsActionResult> results = (result == null)? null : result.results();
+
+    if(result == null || !result.success() || results == null || results.size() != legs.size()) {
+
+      //Failed legs may have been reverted, so the returned holdings can't be trusted.
+      for(TransactionLeg leg : legs) {
+        cache.invalidate(key(leg.account(), leg.world(), leg.currency()));
+        if(leg.receiving() != null) {
+          cache.invalidate(key(leg.receiving(), leg.world(), leg.currency()));
+        }
+      }
+      return result;
+    }
+
+    for(int i = 0; i < legs.size(); i++) {
+      final TransactionLeg leg = legs.get(i);
+      update(leg.account(), leg.world(), leg.currency(), results.get(i));
+    }
+    return result;
+  }
+
+  @Override
+  protected BigDecimal holdings(Account account, String world, Currency currency) {
+    final HoldingsKey key = key(account, world, (currency == null)? delegate.getDefaultCurrency(world) : currency);
+
+    final BigDecimal cached = cache.get(key);
+    if(cached != null) {
+      return cached;
+    }
+
+    final BigDecimal holdings = super.holdings(account, world, currency);
+    if(holdings != null) {
+      cache.load(key, holdings);
+    }
+    return holdings;
+  }
+
+  @Override
+  protected boolean has(Account account, String world, Currency currency, BigDecimal amount) {
+    final BigDecimal holdings = holdings(account, world, currency);
+    if(holdings == null) {
+      return super.has(account, world, currency, amount);
+    }
+    return holdings.compareTo(amount) >= 0;
+  }
+
+  @Override
+  protected Money holdingsMoney(Account account, String world, Currency currency) {
+    final Currency resolved = (currency == null)? delegate.getDefaultCurrency(world) : currency;
+    final HoldingsKey key = key(account, world, resolved);
+
+    final BigDecimal cached = cache.get(key);
+    if(cached != null) {
+      return Money.of(cached, resolved);
+    }
+
+    final Money holdings = super.holdingsMoney(account, world, currency);
+    if(holdings != null) {
+      cache.load(key, holdings.toBigDecimal());
+    }
+    return holdings;
+  }
+
+  @Override
+  protected boolean has(Account account, String world, Currency currency, Money amount) {
+    final Money holdings = holdingsMoney(account, world, currency);
+    if(holdings == null) {
+      return super.has(account, world, currency, amount);
+    }
+    return holdings.compareTo(amount) >= 0;
+  }
+
+  @Override
+  protected Map<Currency, BigDecimal> getMultiHoldings(Account account, String world) {
+    final Map<Currency, BigDecimal> holdings = super.getMultiHoldings(account, world);
+    if(holdings != null) {
+      for(Map.Entry<Currency, BigDecimal> entry : holdings.entrySet()) {
+        if(entry.getKey() != null && entry.getValue() != null) {
+          cache.load(key(account, world, entry.getKey()), entry.getValue());
+        }
+      }
+    }
+    return holdings;
+  }
+
+  @Override
+  protected HoldingsActionResult deposit(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.deposit(account, amount, world, currency, source);
+    update(account, world, currency, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult withdraw(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.withdraw(account, amount, world, currency, source);
+    update(account, world, currency, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, BigDecimal amount, String world,
+                                              Currency currency, ActionSource source) {
+    final HoldingsMoveActionResult result = super.transfer(account, receiving, amount, world, currency, source);
+    update(account, world, currency, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult deposit(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.deposit(account, amount, world, currency, source);
+    update(account, world, currency, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult withdraw(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.withdraw(account, amount, world, currency, source);
+    update(account, world, currency, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, Money amount, String world,
+                                              Currency currency, ActionSource source) {
+    final HoldingsMoveActionResult result = super.transfer(account, receiving, amount, world, currency, source);
+    update(account, world, currency, result);
+    return result;
+  }
+
+  /**
+   * Used to store the holdings returned by a write. Unsuccessful writes don't change the holdings,
+   * so they leave the cache untouched. If the world or the holdings aren't known, the affected
+   * values are removed instead.
+   */
+  private void update(Account account, String world, Currency currency, HoldingsActionResult result) {
+    if(result == null || !result.success()) {
+      return;
+    }
+
+    if(world == null) {
+      cache.invalidate(account.identifier());
+      if(result instanceof HoldingsMoveActionResult && ((HoldingsMoveActionResult)result).receivingAccount() != null) {
+        cache.invalidate(((HoldingsMoveActionResult)result).receivingAccount().identifier());
+      }
+      return;
+    }
+
+    store(account, world, (result.currency() == null)? currency : result.currency(), result.holdings());
+
+    if(result instanceof HoldingsMoveActionResult) {
+      final HoldingsMoveActionResult move = (HoldingsMoveActionResult)result;
+      if(move.receivingAccount() != null) {
+        store(move.receivingAccount(), world, (move.receivedCurrency() == null)? currency : move.receivedCurrency(),
+              move.receivingHoldings());
+      }
+    }
+  }
+
+  private void store(Account account, String world, Currency currency, BigDecimal holdings) {
+    if(currency == null) {
+      cache.invalidate(account.identifier());
+      return;
+    }
+
+    final HoldingsKey key = key(account, world, currency);
+    if(holdings == null) {
+      cache.invalidate(key);
+    } else {
+      cache.put(key, holdings);
+    }
+  }
+
+  private static HoldingsKey key(Account account, String world, Currency currency) {
+    return new HoldingsKey(account.identifier(), world, currency.identifier());
+  }
+}
@@ -0,0 +1,152 @@
+package net.tnemc.core.economy.strict.cache;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+import net.tnemc.core.economy.strict.forwarding.ForwardingEconomyAdapter;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Caches the {@link UniqueAccount} handles resolved by the wrapped adapter, so repeated lookups of
+ * the same player are a single map lookup instead of a full resolution by the economy plugin.
+ *
+ * Handles are removed when the account is deleted through this adapter. If the economy plugin
+ * replaces its account objects on its own, {@link #invalidate(UUID)} should be called so the stale
+ * handle isn't used.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class HandleCachingEconomyAdapter extends ForwardingEconomyAdapter {
+
+  private final Map<UUID, UniqueAccount> handles = new ConcurrentHashMap<>();
+  private final int maximumSize;
+
+  /**
+   * @param delegate The {@link EconomyAdapter} to cache the account handles of.
+   * @param maximumSize The maximum number of handles to cache. Once full, an arbitrary handle is
+   * removed for every new one.
+   *
+   * @since 1.0.0
+   */
+  public HandleCachingEconomyAdapter(@NotNull EconomyAdapter delegate, int maximumSize) {
+    super(delegate);
+    this.maximumSize = Math.max(1, maximumSize);
+  }
+
+  /**
+   * @return The number of cached handles.
+   *
+   * @since 1.0.0
+   */
+  public int size() {
+    return handles.size();
+  }
+
+  /**
+   * Used to remove the cached handle of an account.
+   *
+   * @param identifier The {@link UUID} of the account.
+   *
+   * @since 1.0.0
+   */
+  public void invalidate(@NotNull UUID identifier) {
+    handles.remove(identifier);
+  }
+
+  /**
+   * Used to remove every cached handle.
+   *
+   * @since 1.0.0
+   */
+  public void invalidateAll() {
+    handles.clear();
+  }
+
+  @Override
+  public boolean hasAccount(UUID identifier) {
+    return handles.containsKey(identifier) || super.hasAccount(identifier);
+  }
+
+  @Override
+  public UniqueAccount getOrCreateAccount(UUID identifier) {
+    final UniqueAccount handle = handles.get(identifier);
+    if(handle != null) {
+      return handle;
+    }
+    return cache(identifier, super.getOrCreateAccount(identifier));
+  }
+
+  @Override
+  public Optional<UniqueAccount> getAccount(UUID identifier) {
+    final UniqueAccount handle = handles.get(identifier);
+    if(handle != null) {
+      return Optional.of(handle);
+    }
+    return super.getAccount(identifier).map(account->cache(identifier, account));
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(String identifier, ActionSource source) {
+    final Optional<Account> account = delegate.getAccount(identifier);
+    final EconomyResponse response = super.deleteAccount(identifier, source);
+    account.ifPresent(deleted->{
+      if(deleted instanceof UniqueAccount) {
+        handles.remove(((UniqueAccount)deleted).getUniqueID());
+      }
+    });
+    return response;
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(UUID identifier, ActionSource source) {
+    final EconomyResponse response = super.deleteAccount(identifier, source);
+    handles.remove(identifier);
+    return response;
+  }
+
+  private UniqueAccount cache(UUID identifier, UniqueAccount account) {
+    if(account == null) {
+      return null;
+    }
+
+    if(handles.size() >= maximumSize) {
+      final Iterator<UUID> iterator = handles.keySet().iterator();
+      if(iterator.hasNext()) {
+        iterator.next();
+        iterator.remove();
+      }
+    }
+
+    final UniqueAccount existing = handles.putIfAbsent(identifier, account);
+    return (existing == null)? account : existing;
+  }
+}
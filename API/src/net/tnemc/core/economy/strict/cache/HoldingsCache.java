@@ -0,0 +1,214 @@
+package net.tnemc.core.economy.strict.cache;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A size and time bounded cache of holdings values. The entries are split across a number of
+ * stripes, each of which is an access ordered {@link LinkedHashMap} guarded by its own lock, so
+ * unrelated accounts don't contend with each other. Each stripe evicts its least recently used
+ * entry once it's full.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+final class HoldingsCache {
+
+  private static final int MAX_STRIPES = 16;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private final Stripe[] stripes;
+  private final int mask;
+  private final long ttl;
+
+  /**
+   * @param maximumSize The maximum number of entries in the cache.
+   * @param ttl The time an entry stays valid for, in nanoseconds. Values less than or equal to zero
+   * mean entries are only removed when they're evicted for space.
+   */
+  HoldingsCache(int maximumSize, long ttl) {
+    final int size = Math.max(1, maximumSize);
+
+    int count = 1;
+    while(count < MAX_STRIPES && count * MAX_STRIPES <= size) {
+      count <<= 1;
+    }
+
+    this.stripes = new Stripe[count];
+    for(int i = 0; i < count; i++) {
+      stripes[i] = new Stripe((size + count - 1) / count);
+    }
+    this.mask = count - 1;
+    this.ttl = ttl;
+  }
+
+  /**
+   * @return The cached value, or null if there's no valid entry for the key.
+   */
+  BigDecimal get(HoldingsKey key) {
+    final Stripe stripe = stripe(key);
+    final BigDecimal value;
+    boolean expired = false;
+
+    synchronized(stripe) {
+      final CachedHoldings entry = stripe.get(key);
+      if(entry != null && entry.expired(System.nanoTime())) {
+        stripe.remove(key);
+        expired = true;
+        value = null;
+      } else {
+        value = (entry == null)? null : entry.value;
+      }
+    }
+
+    if(value == null) {
+      misses.increment();
+      if(expired) {
+        evictions.increment();
+      }
+      return null;
+    }
+    hits.increment();
+    return value;
+  }
+
+  /**
+   * Used to store a value that was returned by a write, replacing any existing entry.
+   */
+  void put(HoldingsKey key, BigDecimal value) {
+    final Stripe stripe = stripe(key);
+    final CachedHoldings entry = new CachedHoldings(value, expiry());
+    synchronized(stripe) {
+      stripe.put(key, entry);
+    }
+  }
+
+  /**
+   * Used to store a value that was read from the economy after a miss. A valid entry that was
+   * stored in the meantime, for example by a concurrent write, is kept since it's newer.
+   */
+  void load(HoldingsKey key, BigDecimal value) {
+    final Stripe stripe = stripe(key);
+    final CachedHoldings entry = new CachedHoldings(value, expiry());
+    synchronized(stripe) {
+      final CachedHoldings current = stripe.get(key);
+      if(current == null || current.expired(System.nanoTime())) {
+        stripe.put(key, entry);
+      }
+    }
+  }
+
+  void invalidate(HoldingsKey key) {
+    final Stripe stripe = stripe(key);
+    synchronized(stripe) {
+      stripe.remove(key);
+    }
+  }
+
+  void invalidate(String account) {
+    for(Stripe stripe : stripes) {
+      synchronized(stripe) {
+        stripe.keySet().removeIf(key->key.account().equals(account));
+      }
+    }
+  }
+
+  void invalidateAll() {
+    for(Stripe stripe : stripes) {
+      synchronized(stripe) {
+        stripe.clear();
+      }
+    }
+  }
+
+  int size() {
+    int size = 0;
+    for(Stripe stripe : stripes) {
+      synchronized(stripe) {
+        size += stripe.size();
+      }
+    }
+    return size;
+  }
+
+  long hits() {
+    return hits.sum();
+  }
+
+  long misses() {
+    return misses.sum();
+  }
+
+  long evictions() {
+    return evictions.sum();
+  }
+
+  private Stripe stripe(HoldingsKey key) {
+    final int hash = key.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & mask];
+  }
+
+  private long expiry() {
+    return (ttl <= 0)? Long.MAX_VALUE : System.nanoTime() + ttl;
+  }
+
+  private static final class CachedHoldings {
+
+    private final BigDecimal value;
+    private final long expires;
+
+    private CachedHoldings(BigDecimal value, long expires) {
+      this.value = value;
+      this.expires = expires;
+    }
+
+    private boolean expired(long now) {
+      return expires != Long.MAX_VALUE && now - expires >= 0;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private final class Stripe extends LinkedHashMap<HoldingsKey, CachedHoldings> {
+
+    private final int capacity;
+
+    private Stripe(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<HoldingsKey, CachedHoldings> eldest) {
+      if(size() > capacity) {
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package net.tnemc.core.economy.strict.cache;
+
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The key of a cached holdings value, made up of the account identifier, world name and currency
+ * identifier.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+final class HoldingsKey {
+
+  private final String account;
+  private final String world;
+  private final String currency;
+  private final int hash;
+
+  HoldingsKey(String account, String world, String currency) {
+    this.account = account;
+    this.world = world;
+    this.currency = currency;
+    this.hash = 31 * (31 * account.hashCode() + world.hashCode()) + currency.hashCode();
+  }
+
+  String account() {
+    return account;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if(this == obj) {
+      return true;
+    }
+
+    if(!(obj instanceof HoldingsKey)) {
+      return false;
+    }
+
+    final HoldingsKey key = (HoldingsKey)obj;
+    return hash == key.hash && account.equals(key.account) && world.equals(key.world) && currency.equals(key.currency);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+}
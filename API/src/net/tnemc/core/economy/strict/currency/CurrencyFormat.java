@@ -0,0 +1,350 @@
+package net.tnemc.core.economy.strict.currency;
+
+import com.sun.istack.internal.NotNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A formatter for amounts of a {@link Currency}, compiled once from the currency's symbol, decimal
+ * character, precision and display names.
+ *
+ * Amounts are truncated to the requested precision, matching {@link RoundingMode#DOWN}, and written
+ * into a reused per-thread char buffer from the last digit to the first, so formatting an amount
+ * that fits into a long only allocates the returned string. Larger amounts are formatted from their
+ * {@link BigDecimal#toPlainString() plain string}.
+ *
+ * Example:
+ * <pre>
+ *   CurrencyFormat format = CurrencyFormat.builder(currency).grouping(',').cache(256).build();
+ *   format.format(new BigDecimal("-1234.5"));  // -$1,234.50
+ * </pre>
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class CurrencyFormat {
+
+  private static final long[] POWERS = new long[Money.MAX_SCALE + 1];
+  private static final int DIGITS = 20;
+
+  static {
+    POWERS[0] = 1L;
+    for(int i = 1; i < POWERS.length; i++) {
+      POWERS[i] = POWERS[i - 1] * 10L;
+    }
+  }
+
+  private final ThreadLocal<char[]> buffers;
+  private final AtomicReferenceArray<Cached> cache;
+
+  private final char[] symbol;
+  private final char decimal;
+  private final char grouping;
+  private final char[] singular;
+  private final char[] plural;
+  private final int precision;
+
+  private CurrencyFormat(Builder builder) {
+    this.symbol = builder.symbol.toCharArray();
+    this.decimal = builder.currency.decimal();
+    this.grouping = builder.grouping;
+    this.singular = (builder.names)? (" " + builder.currency.display()).toCharArray() : new char[0];
+    this.plural = (builder.names)? (" " + builder.currency.displayPlural()).toCharArray() : new char[0];
+    this.precision = builder.currency.precision();
+    this.cache = (builder.cache > 0)? new AtomicReferenceArray<>(Math.max(1, Integer.highestOneBit(builder.cache - 1) << 1)) : null;
+
+    //Sign, symbol, up to 19 integer digits with their grouping characters, the fraction and the name.
+    final int size = 1 + symbol.length + DIGITS + DIGITS / 3 + 1 + Money.MAX_SCALE + Math.max(singular.length, plural.length);
+    this.buffers = ThreadLocal.withInitial(()->new char[size]);
+  }
+
+  /**
+   * Used to compile a format that writes the currency's symbol before the amount, groups the integer
+   * digits by thousands, and doesn't cache its results.
+   *
+   * @param currency The {@link Currency} to compile the format of.
+   *
+   * @return The compiled {@link CurrencyFormat}.
+   *
+   * @since 1.0.0
+   */
+  public static CurrencyFormat of(@NotNull Currency currency) {
+    return builder(currency).build();
+  }
+
+  /**
+   * Used to begin configuring a format for a currency.
+   *
+   * @param currency The {@link Currency} to compile the format of.
+   *
+   * @return A new {@link Builder}.
+   *
+   * @since 1.0.0
+   */
+  public static Builder builder(@NotNull Currency currency) {
+    return new Builder(currency);
+  }
+
+  /**
+   * Used to format an amount with the currency's precision.
+   *
+   * @param amount The amount to format.
+   *
+   * @return The formatted text.
+   *
+   * @since 1.0.0
+   */
+  public String format(@NotNull BigDecimal amount) {
+    return format(amount, precision);
+  }
+
+  /**
+   * Used to format an amount with the specified number of decimal digits.
+   *
+   * @param amount The amount to format.
+   * @param precision The number of decimal digits, from 0 to {@link Money#MAX_SCALE}.
+   *
+   * @return The formatted text.
+   *
+   * @since 1.0.0
+   */
+  public String format(@NotNull BigDecimal amount, int precision) {
+    checkPrecision(precision);
+    final BigDecimal scaled = (amount.scale() == precision)? amount : amount.setScale(precision, RoundingMode.DOWN);
+    if(scaled.precision() <= 18) {
+      return format(scaled.unscaledValue().longValue(), precision);
+    }
+    return formatLarge(scaled);
+  }
+
+  /**
+   * Used to format an amount of {@link Money} with its own scale.
+   *
+   * @param amount The amount to format.
+   *
+   * @return The formatted text.
+   *
+   * @since 1.0.0
+   */
+  public String format(@NotNull Money amount) {
+    return (amount.isCompact())? format(amount.unscaledValue(), amount.scale()) : formatLarge(amount.toBigDecimal());
+  }
+
+  /**
+   * Used to format an amount that is given as an unscaled value, for example 12345 with a precision
+   * of 2 for 123.45.
+   *
+   * @param unscaled The unscaled amount.
+   * @param precision The number of decimal digits in the unscaled amount.
+   *
+   * @return The formatted text.
+   *
+   * @since 1.0.0
+   */
+  public String format(long unscaled, int precision) {
+    checkPrecision(precision);
+    if(unscaled == Long.MIN_VALUE) {
+      return formatLarge(BigDecimal.valueOf(unscaled, precision));
+    }
+
+    final int slot = (cache == null)? -1 : slot(unscaled, precision);
+    if(slot >= 0) {
+      final Cached cached = cache.get(slot);
+      if(cached != null && cached.unscaled == unscaled && cached.precision == precision) {
+        return cached.text;
+      }
+    }
+
+    final char[] buffer = buffers.get();
+    int position = buffer.length;
+
+    final boolean one = unscaled == POWERS[precision] || unscaled == -POWERS[precision];
+    final char[] name = (one)? singular : plural;
+    position -= name.length;
+    System.arraycopy(name, 0, buffer, position, name.length);
+
+    long remaining = Math.abs(unscaled);
+    for(int i = 0; i < precision; i++) {
+      buffer[--position] = (char)('0' + remaining % 10);
+      remaining /= 10;
+    }
+    if(precision > 0) {
+      buffer[--position] = decimal;
+    }
+
+    int digits = 0;
+    do {
+      if(digits > 0 && digits % 3 == 0 && grouping != 0) {
+        buffer[--position] = grouping;
+      }
+      buffer[--position] = (char)('0' + remaining % 10);
+      remaining /= 10;
+      digits++;
+    } while(remaining > 0);
+
+    position -= symbol.length;
+    System.arraycopy(symbol, 0, buffer, position, symbol.length);
+    if(unscaled < 0) {
+      buffer[--position] = '-';
+    }
+
+    final String text = new String(buffer, position, buffer.length - position);
+    if(slot >= 0) {
+      cache.set(slot, new Cached(unscaled, precision, text));
+    }
+    return text;
+  }
+
+  private String formatLarge(BigDecimal amount) {
+    final String plain = amount.abs().toPlainString();
+    final int point = plain.indexOf('.');
+    final int integerDigits = (point < 0)? plain.length() : point;
+
+    final StringBuilder builder = new StringBuilder(plain.length() + plain.length() / 3 + symbol.length + plural.length + 2);
+    if(amount.signum() < 0) {
+      builder.append('-');
+    }
+    builder.append(symbol);
+    for(int i = 0; i < integerDigits; i++) {
+      if(i > 0 && (integerDigits - i) % 3 == 0 && grouping != 0) {
+        builder.append(grouping);
+      }
+      builder.append(plain.charAt(i));
+    }
+    if(point >= 0) {
+      builder.append(decimal).append(plain, point + 1, plain.length());
+    }
+    builder.append(plural);
+    return builder.toString();
+  }
+
+  private int slot(long unscaled, int precision) {
+    long hash = unscaled * 0x9E3779B97F4A7C15L + precision;
+    hash ^= (hash >>> 32);
+    return (int)hash & (cache.length() - 1);
+  }
+
+  private static void checkPrecision(int precision) {
+    if(precision < 0 || precision > Money.MAX_SCALE) {
+      throw new IllegalArgumentException("The precision of a format must be between 0 and " + Money.MAX_SCALE + ".");
+    }
+  }
+
+  /**
+   * A formatted amount kept by the cache of recent results.
+   */
+  private static final class Cached {
+
+    private final long unscaled;
+    private final int precision;
+    private final String text;
+
+    private Cached(long unscaled, int precision, String text) {
+      this.unscaled = unscaled;
+      this.precision = precision;
+      this.text = text;
+    }
+  }
+
+  /**
+   * Used to configure a {@link CurrencyFormat} before it's compiled.
+   *
+   * @since 1.0.0
+   */
+  public static final class Builder {
+
+    private final Currency currency;
+    private String symbol;
+    private char grouping;
+    private boolean names = false;
+    private int cache = 0;
+
+    private Builder(Currency currency) {
+      this.currency = currency;
+      this.symbol = currency.symbol();
+      this.grouping = (currency.decimal() == ',')? '.' : ',';
+    }
+
+    /**
+     * @param grouping The character placed between groups of thousands, or 0 to not group digits.
+     * Defaults to ',' unless the currency's decimal character is ',', in which case it's '.'.
+     *
+     * @return This builder.
+     *
+     * @since 1.0.0
+     */
+    public Builder grouping(char grouping) {
+      this.grouping = grouping;
+      return this;
+    }
+
+    /**
+     * @param symbol The text placed before the amount. Defaults to the currency's symbol.
+     *
+     * @return This builder.
+     *
+     * @since 1.0.0
+     */
+    public Builder symbol(@NotNull String symbol) {
+      this.symbol = symbol;
+      return this;
+    }
+
+    /**
+     * @param names True if the currency's display name should follow the amount, using the singular
+     * name for amounts of exactly one and the plural name otherwise.
+     *
+     * @return This builder.
+     *
+     * @since 1.0.0
+     */
+    public Builder names(boolean names) {
+      this.names = names;
+      return this;
+    }
+
+    /**
+     * @param size The number of recently formatted amounts to remember, or 0 to disable the cache.
+     * Rounded up to a power of two.
+     *
+     * @return This builder.
+     *
+     * @since 1.0.0
+     */
+    public Builder cache(int size) {
+      this.cache = Math.max(0, size);
+      return this;
+    }
+
+    /**
+     * @return The compiled {@link CurrencyFormat}.
+     *
+     * @since 1.0.0
+     */
+    public CurrencyFormat build() {
+      return new CurrencyFormat(this);
+    }
+  }
+}
@@ -0,0 +1,410 @@
+package net.tnemc.core.economy.strict.currency;
+
+import com.sun.istack.internal.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An immutable amount of money. Amounts are stored as a long that is scaled by a number of decimal
+ * digits, usually the {@link Currency#precision() precision} of the currency, so comparing and
+ * adding amounts only requires primitive arithmetic. Amounts that don't fit into a long, and the
+ * results of arithmetic that would overflow one, fall back to a {@link BigDecimal} automatically.
+ *
+ * Conversions to a smaller scale truncate the extra digits, in the same way as
+ * {@link RoundingMode#DOWN}. Two amounts are only {@link #equals(Object) equal} if they have the
+ * same value and the same scale, use {@link #compareTo(Money)} to compare values regardless of scale.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class Money implements Comparable<Money> {
+
+  /**
+   * The largest scale that an amount may have while still being stored as a long.
+   */
+  public static final int MAX_SCALE = 18;
+
+  private static final long[] POWERS = new long[MAX_SCALE + 1];
+
+  /**
+   * The largest magnitude a scaled double may have while it can still be converted exactly.
+   */
+  private static final double EXACT_DOUBLE = 1e15;
+
+  static {
+    POWERS[0] = 1L;
+    for(int i = 1; i < POWERS.length; i++) {
+      POWERS[i] = POWERS[i - 1] * 10L;
+    }
+  }
+
+  private final long unscaled;
+  private final int scale;
+
+  /**
+   * The value of this amount if it doesn't fit into a long, otherwise null.
+   */
+  private final BigDecimal big;
+
+  private Money(long unscaled, int scale, BigDecimal big) {
+    this.unscaled = unscaled;
+    this.scale = scale;
+    this.big = big;
+  }
+
+  /**
+   * @param unscaled The amount, scaled by the specified number of decimal digits.
+   * @param scale The number of decimal digits of the amount, between 0 and {@link #MAX_SCALE}.
+   *
+   * @return The {@link Money} representing unscaled * 10^-scale.
+   *
+   * @since 1.0.0
+   */
+  public static Money of(long unscaled, int scale) {
+    if(scale < 0 || scale > MAX_SCALE) {
+      throw new IllegalArgumentException("The scale of an unscaled amount must be between 0 and " + MAX_SCALE + ".");
+    }
+
+    if(unscaled == Long.MIN_VALUE) {
+      return new Money(0L, scale, BigDecimal.valueOf(unscaled, scale));
+    }
+    return new Money(unscaled, scale, null);
+  }
+
+  /**
+   * @param scale The number of decimal digits of the amount.
+   *
+   * @return A {@link Money} representing zero with the specified scale.
+   *
+   * @since 1.0.0
+   */
+  public static Money zero(int scale) {
+    return of(0L, scale);
+  }
+
+  /**
+   * Used to convert a {@link BigDecimal} without changing its value or scale.
+   *
+   * @param amount The amount to convert.
+   *
+   * @return The {@link Money} representing the amount.
+   *
+   * @since 1.0.0
+   */
+  public static Money of(@NotNull BigDecimal amount) {
+    return normalize((amount.scale() < 0)? amount.setScale(0) : amount);
+  }
+
+  /**
+   * Used to convert a {@link BigDecimal} to the specified scale. Extra decimal digits are truncated.
+   *
+   * @param amount The amount to convert.
+   * @param scale The number of decimal digits of the result.
+   *
+   * @return The {@link Money} representing the amount.
+   *
+   * @since 1.0.0
+   */
+  public static Money of(@NotNull BigDecimal amount, int scale) {
+    checkScale(scale);
+    return normalize(amount.setScale(scale, RoundingMode.DOWN));
+  }
+
+  /**
+   * Used to convert a {@link BigDecimal} to the precision of the specified {@link Currency}. Extra
+   * decimal digits are truncated.
+   *
+   * @param amount The amount to convert.
+   * @param currency The {@link Currency} whose precision is used as the scale.
+   *
+   * @return The {@link Money} representing the amount.
+   *
+   * @since 1.0.0
+   */
+  public static Money of(@NotNull BigDecimal amount, @NotNull Currency currency) {
+    return of(amount, currency.precision());
+  }
+
+  /**
+   * Used to convert a double to the specified scale. The double is read as the shortest decimal
+   * that represents it, the same as {@link BigDecimal#valueOf(double)}, and extra decimal digits are
+   * truncated. Doubles that are exactly representable at the scale are converted without creating a
+   * {@link BigDecimal}.
+   *
+   * @param amount The amount to convert.
+   * @param scale The number of decimal digits of the result.
+   *
+   * @return The {@link Money} representing the amount.
+   *
+   * @since 1.0.0
+   */
+  public static Money of(double amount, int scale) {
+    if(Double.isNaN(amount) || Double.isInfinite(amount)) {
+      throw new IllegalArgumentException("An amount of money must be a finite number.");
+    }
+    checkScale(scale);
+
+    if(scale <= MAX_SCALE) {
+      final double scaled = amount * POWERS[scale];
+      if(Math.abs(scaled) < EXACT_DOUBLE) {
+        final long rounded = Math.round(scaled);
+        if(rounded / (double)POWERS[scale] == amount) {
+          return new Money(rounded, scale, null);
+        }
+      }
+    }
+    return of(BigDecimal.valueOf(amount), scale);
+  }
+
+  /**
+   * Used to convert a double to the precision of the specified {@link Currency}.
+   *
+   * @param amount The amount to convert.
+   * @param currency The {@link Currency} whose precision is used as the scale.
+   *
+   * @return The {@link Money} representing the amount.
+   *
+   * @see #of(double, int)
+   * @since 1.0.0
+   */
+  public static Money of(double amount, @NotNull Currency currency) {
+    return of(amount, currency.precision());
+  }
+
+  /**
+   * @return True if this amount is stored as a long, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  public boolean isCompact() {
+    return big == null;
+  }
+
+  /**
+   * @return This amount scaled by its {@link #scale() scale}.
+   *
+   * @throws ArithmeticException If this amount isn't {@link #isCompact() compact}.
+   *
+   * @since 1.0.0
+   */
+  public long unscaledValue() {
+    if(big != null) {
+      throw new ArithmeticException("The amount " + big.toPlainString() + " doesn't fit into a long.");
+    }
+    return unscaled;
+  }
+
+  /**
+   * @return The number of decimal digits of this amount.
+   *
+   * @since 1.0.0
+   */
+  public int scale() {
+    return scale;
+  }
+
+  /**
+   * @return -1, 0, or 1 if this amount is negative, zero, or positive.
+   *
+   * @since 1.0.0
+   */
+  public int signum() {
+    return (big == null)? Long.signum(unscaled) : big.signum();
+  }
+
+  /**
+   * Used to convert this amount to another scale. Extra decimal digits are truncated.
+   *
+   * @param scale The number of decimal digits of the result.
+   *
+   * @return The converted {@link Money}, or this amount if it already has the scale.
+   *
+   * @since 1.0.0
+   */
+  public Money withScale(int scale) {
+    if(scale == this.scale) {
+      return this;
+    }
+    checkScale(scale);
+
+    if(big == null && scale <= MAX_SCALE) {
+      if(scale < this.scale) {
+        return new Money(unscaled / POWERS[this.scale - scale], scale, null);
+      }
+
+      final long raised = raise(unscaled, scale - this.scale);
+      if(raised != Long.MIN_VALUE) {
+        return new Money(raised, scale, null);
+      }
+    }
+    return of(toBigDecimal(), scale);
+  }
+
+  /**
+   * @param other The amount to add.
+   *
+   * @return The sum of the two amounts, with the larger scale of the two.
+   *
+   * @since 1.0.0
+   */
+  public Money add(@NotNull Money other) {
+    if(big == null && other.big == null) {
+      final int scale = Math.max(this.scale, other.scale);
+      final long left = raise(unscaled, scale - this.scale);
+      final long right = raise(other.unscaled, scale - other.scale);
+
+      if(left != Long.MIN_VALUE && right != Long.MIN_VALUE) {
+        final long sum = left + right;
+        if(((left ^ sum) & (right ^ sum)) >= 0 && sum != Long.MIN_VALUE) {
+          return new Money(sum, scale, null);
+        }
+      }
+    }
+    return normalize(toBigDecimal().add(other.toBigDecimal()));
+  }
+
+  /**
+   * @param other The amount to subtract.
+   *
+   * @return The difference of the two amounts, with the larger scale of the two.
+   *
+   * @since 1.0.0
+   */
+  public Money subtract(@NotNull Money other) {
+    return add(other.negate());
+  }
+
+  /**
+   * @return The negated amount.
+   *
+   * @since 1.0.0
+   */
+  public Money negate() {
+    return (big == null)? new Money(-unscaled, scale, null) : normalize(big.negate());
+  }
+
+  @Override
+  public int compareTo(@NotNull Money other) {
+    if(big == null && other.big == null) {
+      if(scale == other.scale) {
+        return Long.compare(unscaled, other.unscaled);
+      }
+
+      final int scale = Math.max(this.scale, other.scale);
+      final long left = raise(unscaled, scale - this.scale);
+      final long right = raise(other.unscaled, scale - other.scale);
+      if(left != Long.MIN_VALUE && right != Long.MIN_VALUE) {
+        return Long.compare(left, right);
+      }
+    }
+    return toBigDecimal().compareTo(other.toBigDecimal());
+  }
+
+  /**
+   * @return This amount as a {@link BigDecimal}.
+   *
+   * @since 1.0.0
+   */
+  public BigDecimal toBigDecimal() {
+    return (big == null)? BigDecimal.valueOf(unscaled, scale) : big;
+  }
+
+  /**
+   * @return The double closest to this amount.
+   *
+   * @since 1.0.0
+   */
+  public double doubleValue() {
+    if(big == null && Math.abs(unscaled) < (1L << 53)) {
+      return unscaled / (double)POWERS[scale];
+    }
+    return toBigDecimal().doubleValue();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if(this == obj) {
+      return true;
+    }
+
+    if(!(obj instanceof Money)) {
+      return false;
+    }
+
+    final Money money = (Money)obj;
+    if(big == null) {
+      return money.big == null && unscaled == money.unscaled && scale == money.scale;
+    }
+    return big.equals(money.big);
+  }
+
+  @Override
+  public int hashCode() {
+    return (big == null)? 31 * Long.hashCode(unscaled) + scale : big.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+
+  private static Money normalize(BigDecimal amount) {
+    if(amount.scale() <= MAX_SCALE) {
+      final BigInteger value = amount.unscaledValue();
+      if(value.bitLength() < 64) {
+        final long unscaled = value.longValue();
+        if(unscaled != Long.MIN_VALUE) {
+          return new Money(unscaled, amount.scale(), null);
+        }
+      }
+    }
+    return new Money(0L, amount.scale(), amount);
+  }
+
+  /**
+   * @return The value multiplied by 10^digits, or {@link Long#MIN_VALUE} if the result doesn't fit.
+   */
+  private static long raise(long value, int digits) {
+    if(digits == 0) {
+      return value;
+    }
+
+    if(digits > MAX_SCALE) {
+      return (value == 0L)? 0L : Long.MIN_VALUE;
+    }
+
+    final long power = POWERS[digits];
+    if(Math.abs(value) > Long.MAX_VALUE / power) {
+      return Long.MIN_VALUE;
+    }
+    return value * power;
+  }
+
+  private static void checkScale(int scale) {
+    if(scale < 0) {
+      throw new IllegalArgumentException("The scale of an amount of money can't be negative.");
+    }
+  }
+}
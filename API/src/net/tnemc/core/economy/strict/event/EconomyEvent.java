@@ -0,0 +1,152 @@
+package net.tnemc.core.economy.strict.event;
+
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The base of the events published through an {@link EconomyEventBus}. Depending on the
+ * {@link EconomyAction}, some of the values are not applicable and are null:
+ * <ul>
+ *   <li>The account is null for {@link EconomyAction#CREATE} and {@link EconomyAction#DELETE},
+ *   where only the identifier is known.</li>
+ *   <li>The receiving account is only set for {@link EconomyAction#TRANSFER}.</li>
+ *   <li>The amount, world and currency are only set for deposits, withdrawals and transfers. The world
+ *   and currency are also null when the economy's defaults are used.</li>
+ *   <li>The source is null for accounts that are created without one.</li>
+ * </ul>
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public abstract class EconomyEvent {
+
+  private final long time = System.currentTimeMillis();
+
+  private final EconomyAction action;
+  private final String identifier;
+  private final Account account;
+  private final Account receiving;
+  private final BigDecimal amount;
+  private final String world;
+  private final Currency currency;
+  private final ActionSource source;
+
+  protected EconomyEvent(EconomyAction action, String identifier, Account account, Account receiving, BigDecimal amount,
+                         String world, Currency currency, ActionSource source) {
+    this.action = action;
+    this.identifier = identifier;
+    this.account = account;
+    this.receiving = receiving;
+    this.amount = amount;
+    this.world = world;
+    this.currency = currency;
+    this.source = source;
+  }
+
+  /**
+   * @return The time this event was created, in milliseconds since the epoch.
+   *
+   * @since 1.0.0
+   */
+  public long time() {
+    return time;
+  }
+
+  /**
+   * @return The {@link EconomyAction} this event was published for.
+   *
+   * @since 1.0.0
+   */
+  public EconomyAction action() {
+    return action;
+  }
+
+  /**
+   * @return The identifier of the account the action is performed on. For transfers this is the
+   * sending account.
+   *
+   * @since 1.0.0
+   */
+  public String identifier() {
+    return identifier;
+  }
+
+  /**
+   * @return The {@link Account} the action is performed on, or null for account creation and deletion.
+   *
+   * @since 1.0.0
+   */
+  public Account account() {
+    return account;
+  }
+
+  /**
+   * @return The {@link Account} that receives the holdings for transfers, otherwise null.
+   *
+   * @since 1.0.0
+   */
+  public Account receiving() {
+    return receiving;
+  }
+
+  /**
+   * @return The amount deposited, withdrawn or transferred, otherwise null.
+   *
+   * @since 1.0.0
+   */
+  public BigDecimal amount() {
+    return amount;
+  }
+
+  /**
+   * @return The name of the world the action is performed in, or null if not applicable or the
+   * economy's default world is used.
+   *
+   * @since 1.0.0
+   */
+  public String world() {
+    return world;
+  }
+
+  /**
+   * @return The {@link Currency} the action is performed in, or null if not applicable or the
+   * default currency is used.
+   *
+   * @since 1.0.0
+   */
+  public Currency currency() {
+    return currency;
+  }
+
+  /**
+   * @return The {@link ActionSource source} of the action, or null if it wasn't given one.
+   *
+   * @since 1.0.0
+   */
+  public ActionSource source() {
+    return source;
+  }
+}
@@ -0,0 +1,207 @@
+package net.tnemc.core.economy.strict.event;
+
+import com.sun.istack.internal.NotNull;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Delivers {@link EconomyEvent economy events} to the registered {@link EconomyListener listeners}.
+ *
+ * Listeners are kept in a copy-on-write list, so publishing never locks, and registering a listener
+ * doesn't affect events that are already being delivered. {@link PreEconomyEvent Pre events} are
+ * delivered on the calling thread, since they may cancel the action. {@link PostEconomyEvent Post
+ * events} are queued and delivered in batches on a dispatcher thread, so slow listeners never add to
+ * the latency of the economy call. If the queue is full, post events are dropped and counted rather
+ * than blocking the caller.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class EconomyEventBus implements Closeable {
+
+  private final List<EconomyListener> listeners = new CopyOnWriteArrayList<>();
+  private final LongAdder dropped = new LongAdder();
+
+  private final BlockingQueue<PostEconomyEvent> queue;
+  private final int batchSize;
+  private final Logger logger;
+  private final Thread dispatcher;
+
+  private volatile boolean closed = false;
+
+  /**
+   * @param capacity The maximum number of post events that may wait for delivery.
+   * @param batchSize The maximum number of post events delivered to a listener at once.
+   * @param logger The {@link Logger} used to report listeners that throw exceptions.
+   *
+   * @since 1.0.0
+   */
+  public EconomyEventBus(int capacity, int batchSize, @NotNull Logger logger) {
+    this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    this.batchSize = Math.max(1, batchSize);
+    this.logger = logger;
+
+    this.dispatcher = new Thread(this::dispatch, "Reserve-Events");
+    dispatcher.setDaemon(true);
+    dispatcher.start();
+  }
+
+  /**
+   * Used to register a listener.
+   *
+   * @param listener The {@link EconomyListener} to register.
+   *
+   * @since 1.0.0
+   */
+  public void register(@NotNull EconomyListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Used to unregister a listener.
+   *
+   * @param listener The {@link EconomyListener} to unregister.
+   *
+   * @since 1.0.0
+   */
+  public void unregister(@NotNull EconomyListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * @return True if at least one listener is registered, otherwise false. Publishers may use this to
+   * skip creating events nobody will receive.
+   *
+   * @since 1.0.0
+   */
+  public boolean hasListeners() {
+    return !listeners.isEmpty();
+  }
+
+  /**
+   * @return The number of post events that were dropped because the queue was full.
+   *
+   * @since 1.0.0
+   */
+  public long dropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * @return The number of post events waiting to be delivered.
+   *
+   * @since 1.0.0
+   */
+  public int pending() {
+    return queue.size();
+  }
+
+  /**
+   * Used to deliver a pre event to every listener on the calling thread.
+   *
+   * @param event The {@link PreEconomyEvent} to deliver.
+   *
+   * @return True if the event was cancelled by a listener, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  public boolean firePre(@NotNull PreEconomyEvent event) {
+    for(EconomyListener listener : listeners) {
+      try {
+        listener.preAction(event);
+      } catch(RuntimeException e) {
+        logger.log(Level.WARNING, "An economy listener failed to handle a " + event.action() + " pre event.", e);
+      }
+    }
+    return event.cancelled();
+  }
+
+  /**
+   * Used to queue a post event for delivery on the dispatcher thread.
+   *
+   * @param event The {@link PostEconomyEvent} to queue.
+   *
+   * @since 1.0.0
+   */
+  public void publish(@NotNull PostEconomyEvent event) {
+    if(closed || listeners.isEmpty()) {
+      return;
+    }
+
+    if(!queue.offer(event)) {
+      dropped.increment();
+    }
+  }
+
+  /**
+   * Used to stop the dispatcher thread once the queued post events have been delivered.
+   *
+   * @since 1.0.0
+   */
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void dispatch() {
+    while(!closed || !queue.isEmpty()) {
+      final PostEconomyEvent first;
+      try {
+        first = queue.poll(100, TimeUnit.MILLISECONDS);
+      } catch(InterruptedException e) {
+        return;
+      }
+      if(first == null) {
+        continue;
+      }
+
+      final List<PostEconomyEvent> batch = new ArrayList<>(Math.min(batchSize, queue.size() + 1));
+      batch.add(first);
+      queue.drainTo(batch, batchSize - 1);
+
+      final List<PostEconomyEvent> events = Collections.unmodifiableList(batch);
+      for(EconomyListener listener : listeners) {
+        try {
+          listener.postActions(events);
+        } catch(RuntimeException e) {
+          logger.log(Level.WARNING, "An economy listener failed to handle a batch of post events.", e);
+        }
+      }
+    }
+  }
+}
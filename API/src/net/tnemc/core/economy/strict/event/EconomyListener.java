@@ -0,0 +1,68 @@
+package net.tnemc.core.economy.strict.event;
+
+import java.util.List;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Receives the events published through an {@link EconomyEventBus}. Every method has an empty
+ * default implementation, so listeners only need to override the ones they're interested in.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public interface EconomyListener {
+
+  /**
+   * Called on the thread performing an action, before it's performed. This should return quickly, as
+   * it's part of the caller's economy call.
+   *
+   * @param event The {@link PreEconomyEvent}, which may be cancelled.
+   *
+   * @since 1.0.0
+   */
+  default void preAction(PreEconomyEvent event) {
+  }
+
+  /**
+   * Called on the dispatcher thread with a batch of performed actions, in the order they were
+   * published. By default this calls {@link #postAction(PostEconomyEvent)} for each event.
+   *
+   * @param events The {@link PostEconomyEvent events} of the batch.
+   *
+   * @since 1.0.0
+   */
+  default void postActions(List<PostEconomyEvent> events) {
+    for(PostEconomyEvent event : events) {
+      postAction(event);
+    }
+  }
+
+  /**
+   * Called on the dispatcher thread for each performed action.
+   *
+   * @param event The {@link PostEconomyEvent}.
+   *
+   * @since 1.0.0
+   */
+  default void postAction(PostEconomyEvent event) {
+  }
+}
@@ -0,0 +1,352 @@
+package net.tnemc.core.economy.strict.event;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.Transaction;
+import net.tnemc.core.economy.strict.TransactionLeg;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.Money;
+import net.tnemc.core.economy.strict.forwarding.ForwardingEconomyAdapter;
+import net.tnemc.core.economy.strict.result.BasicHoldingsActionResult;
+import net.tnemc.core.economy.strict.result.BasicHoldingsMoveActionResult;
+import net.tnemc.core.economy.strict.result.BasicTransactionResult;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import net.tnemc.core.economy.strict.result.TransactionResult;
+import net.tnemc.core.economy.strict.result.response.AccountResponse;
+import net.tnemc.core.economy.strict.result.response.CustomResponse;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.economy.strict.result.response.GeneralResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An {@link EconomyAdapter} decorator that publishes {@link EconomyEvent economy events} for
+ * deposits, withdrawals, transfers, and account creation and deletion through an
+ * {@link EconomyEventBus}. When no listeners are registered, calls are forwarded without creating
+ * any events.
+ *
+ * Accounts that are created implicitly by {@link #getOrCreateAccount(String)} only publish a post
+ * event, since those calls can't fail without breaking their callers.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class EventingEconomyAdapter extends ForwardingEconomyAdapter {
+
+  private final EconomyEventBus bus;
+
+  /**
+   * @param delegate The {@link EconomyAdapter} to publish the events of.
+   * @param bus The {@link EconomyEventBus} to publish the events through.
+   *
+   * @since 1.0.0
+   */
+  public EventingEconomyAdapter(@NotNull EconomyAdapter delegate, @NotNull EconomyEventBus bus) {
+    super(delegate);
+    this.bus = bus;
+  }
+
+  /**
+   * @return The {@link EconomyEventBus} this adapter publishes its events through.
+   *
+   * @since 1.0.0
+   */
+  public EconomyEventBus bus() {
+    return bus;
+  }
+
+  @Override
+  public Account getOrCreateAccount(String identifier) {
+    if(!bus.hasListeners() || delegate.hasAccount(identifier)) {
+      return super.getOrCreateAccount(identifier);
+    }
+
+    final Account account = super.getOrCreateAccount(identifier);
+    created(identifier, account != null);
+    return account;
+  }
+
+  @Override
+  public UniqueAccount getOrCreateAccount(UUID identifier) {
+    if(!bus.hasListeners() || delegate.hasAccount(identifier)) {
+      return super.getOrCreateAccount(identifier);
+    }
+
+    final UniqueAccount account = super.getOrCreateAccount(identifier);
+    created(identifier.toString(), account != null);
+    return account;
+  }
+
+  @Override
+  public boolean createAccount(String identifier) {
+    if(!bus.hasListeners()) {
+      return super.createAccount(identifier);
+    }
+
+    if(bus.firePre(new PreEconomyEvent(EconomyAction.CREATE, identifier, null, null, null, null, null, null))) {
+      return false;
+    }
+    final boolean created = super.createAccount(identifier);
+    created(identifier, created);
+    return created;
+  }
+
+  @Override
+  public boolean createAccount(UUID identifier, String name) {
+    if(!bus.hasListeners()) {
+      return super.createAccount(identifier, name);
+    }
+
+    if(bus.firePre(new PreEconomyEvent(EconomyAction.CREATE, identifier.toString(), null, null, null, null, null, null))) {
+      return false;
+    }
+    final boolean created = super.createAccount(identifier, name);
+    created(identifier.toString(), created);
+    return created;
+  }
+
+  @Override
+  public Map<UUID, Boolean> createAccounts(Map<UUID, String> accounts) {
+    if(!bus.hasListeners()) {
+      return super.createAccounts(accounts);
+    }
+
+    final Map<UUID, String> allowed = new HashMap<>();
+    final Map<UUID, Boolean> results = new HashMap<>();
+    for(Map.Entry<UUID, String> entry : accounts.entrySet()) {
+      if(bus.firePre(new PreEconomyEvent(EconomyAction.CREATE, entry.getKey().toString(), null, null, null, null, null, null))) {
+        results.put(entry.getKey(), false);
+      } else {
+        allowed.put(entry.getKey(), entry.getValue());
+      }
+    }
+
+    if(!allowed.isEmpty()) {
+      final Map<UUID, Boolean> created = super.createAccounts(allowed);
+      for(UUID identifier : allowed.keySet()) {
+        final boolean success = Boolean.TRUE.equals(created.get(identifier));
+        results.put(identifier, success);
+        created(identifier.toString(), success);
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(String identifier, ActionSource source) {
+    if(!bus.hasListeners()) {
+      return super.deleteAccount(identifier, source);
+    }
+
+    final PreEconomyEvent pre = new PreEconomyEvent(EconomyAction.DELETE, identifier, null, null, null, null, null, source);
+    if(bus.firePre(pre)) {
+      return new CustomResponse(false, pre.cancelReason());
+    }
+
+    final EconomyResponse response = super.deleteAccount(identifier, source);
+    bus.publish(new PostEconomyEvent(EconomyAction.DELETE, identifier, null, null, null, null, null, source, response, null, null));
+    return response;
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(UUID identifier, ActionSource source) {
+    if(!bus.hasListeners()) {
+      return super.deleteAccount(identifier, source);
+    }
+
+    final PreEconomyEvent pre = new PreEconomyEvent(EconomyAction.DELETE, identifier.toString(), null, null, null, null, null, source);
+    if(bus.firePre(pre)) {
+      return new CustomResponse(false, pre.cancelReason());
+    }
+
+    final EconomyResponse response = super.deleteAccount(identifier, source);
+    bus.publish(new PostEconomyEvent(EconomyAction.DELETE, identifier.toString(), null, null, null, null, null, source,
+                                     response, null, null));
+    return response;
+  }
+
+  @Override
+  public TransactionResult execute(Transaction transaction) {
+    if(!bus.hasListeners()) {
+      return super.execute(transaction);
+    }
+
+    final List<TransactionLeg> legs = transaction.legs();
+    for(TransactionLeg leg : legs) {
+      final PreEconomyEvent pre = new PreEconomyEvent(action(leg.type()), leg.account().identifier(), leg.account(),
+                                                      leg.receiving(), leg.amount(), leg.world(), leg.currency(),
+                                                      transaction.source());
+      if(bus.firePre(pre)) {
+        return cancelled(transaction, pre.cancelReason());
+      }
+    }
+
+    final TransactionResult result = super.execute(transaction);
+    final List<HoldingsActionResult> results = (result == null)? null : result.results();
+    for(int i = 0; i < legs.size(); i++) {
+      final TransactionLeg leg = legs.get(i);
+      final HoldingsActionResult legResult = (results == null || results.size() != legs.size())? null : results.get(i);
+
+      final EconomyResponse response = (legResult != null)? legResult.result() :
+                                       (result == null)? GeneralResponse.FAILED : result.result();
+      bus.publish(new PostEconomyEvent(action(leg.type()), leg.account().identifier(), leg.account(), leg.receiving(),
+                                       leg.amount(), leg.world(), leg.currency(), transaction.source(), response,
+                                       (legResult == null)? null : legResult.holdings(), receivingHoldings(legResult)));
+    }
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult deposit(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    if(!bus.hasListeners()) {
+      return super.deposit(account, amount, world, currency, source);
+    }
+
+    final Account wrapped = wrap(account);
+    final PreEconomyEvent pre = new PreEconomyEvent(EconomyAction.DEPOSIT, account.identifier(), wrapped, null, amount,
+                                                    world, currency, source);
+    if(bus.firePre(pre)) {
+      return new BasicHoldingsActionResult(TransactionLeg.Type.DEPOSIT.actionType(), wrapped, currency, null,
+                                           new CustomResponse(false, pre.cancelReason()));
+    }
+
+    final HoldingsActionResult result = super.deposit(account, amount, world, currency, source);
+    published(EconomyAction.DEPOSIT, wrapped, null, amount, world, currency, source, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult withdraw(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    if(!bus.hasListeners()) {
+      return super.withdraw(account, amount, world, currency, source);
+    }
+
+    final Account wrapped = wrap(account);
+    final PreEconomyEvent pre = new PreEconomyEvent(EconomyAction.WITHDRAW, account.identifier(), wrapped, null, amount,
+                                                    world, currency, source);
+    if(bus.firePre(pre)) {
+      return new BasicHoldingsActionResult(TransactionLeg.Type.WITHDRAW.actionType(), wrapped, currency, null,
+                                           new CustomResponse(false, pre.cancelReason()));
+    }
+
+    final HoldingsActionResult result = super.withdraw(account, amount, world, currency, source);
+    published(EconomyAction.WITHDRAW, wrapped, null, amount, world, currency, source, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, BigDecimal amount, String world,
+                                              Currency currency, ActionSource source) {
+    if(!bus.hasListeners()) {
+      return super.transfer(account, receiving, amount, world, currency, source);
+    }
+
+    final Account wrapped = wrap(account);
+    final Account wrappedReceiving = wrap(receiving);
+    final PreEconomyEvent pre = new PreEconomyEvent(EconomyAction.TRANSFER, account.identifier(), wrapped, wrappedReceiving,
+                                                    amount, world, currency, source);
+    if(bus.firePre(pre)) {
+      return new BasicHoldingsMoveActionResult(TransactionLeg.Type.TRANSFER.actionType(), wrapped, currency, null,
+                                               wrappedReceiving, currency, null, new CustomResponse(false, pre.cancelReason()));
+    }
+
+    final HoldingsMoveActionResult result = super.transfer(account, receiving, amount, world, currency, source);
+    published(EconomyAction.TRANSFER, wrapped, wrappedReceiving, amount, world, currency, source, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult deposit(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    if(!bus.hasListeners()) {
+      return super.deposit(account, amount, world, currency, source);
+    }
+    return deposit(account, amount.toBigDecimal(), world, currency, source);
+  }
+
+  @Override
+  protected HoldingsActionResult withdraw(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    if(!bus.hasListeners()) {
+      return super.withdraw(account, amount, world, currency, source);
+    }
+    return withdraw(account, amount.toBigDecimal(), world, currency, source);
+  }
+
+  @Override
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, Money amount, String world,
+                                              Currency currency, ActionSource source) {
+    if(!bus.hasListeners()) {
+      return super.transfer(account, receiving, amount, world, currency, source);
+    }
+    return transfer(account, receiving, amount.toBigDecimal(), world, currency, source);
+  }
+
+  private void created(String identifier, boolean success) {
+    bus.publish(new PostEconomyEvent(EconomyAction.CREATE, identifier, null, null, null, null, null, null,
+                                     (success)? AccountResponse.CREATED : AccountResponse.CREATION_FAILED, null, null));
+  }
+
+  private void published(EconomyAction action, Account account, Account receiving, BigDecimal amount, String world,
+                         Currency currency, ActionSource source, HoldingsActionResult result) {
+    bus.publish(new PostEconomyEvent(action, account.identifier(), account, receiving, amount, world, currency, source,
+                                     (result == null)? GeneralResponse.FAILED : result.result(),
+                                     (result == null)? null : result.holdings(), receivingHoldings(result)));
+  }
+
+  private static BigDecimal receivingHoldings(HoldingsActionResult result) {
+    return (result instanceof HoldingsMoveActionResult)? ((HoldingsMoveActionResult)result).receivingHoldings() : null;
+  }
+
+  private static EconomyAction action(TransactionLeg.Type type) {
+    switch(type) {
+      case DEPOSIT:
+        return EconomyAction.DEPOSIT;
+      case WITHDRAW:
+        return EconomyAction.WITHDRAW;
+      default:
+        return EconomyAction.TRANSFER;
+    }
+  }
+
+  private static TransactionResult cancelled(Transaction transaction, String reason) {
+    final EconomyResponse response = new CustomResponse(false, reason);
+    final List<HoldingsActionResult> results = new ArrayList<>(transaction.legs().size());
+    for(TransactionLeg leg : transaction.legs()) {
+      if(leg.type() == TransactionLeg.Type.TRANSFER) {
+        results.add(new BasicHoldingsMoveActionResult(leg.type().actionType(), leg.account(), leg.currency(), null,
+                                                      leg.receiving(), leg.currency(), null, response));
+      } else {
+        results.add(new BasicHoldingsActionResult(leg.type().actionType(), leg.account(), leg.currency(), null, response));
+      }
+    }
+    return new BasicTransactionResult(transaction, results, response);
+  }
+}
@@ -0,0 +1,88 @@
+package net.tnemc.core.economy.strict.event;
+
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Published after an economy action was performed, whether it succeeded or not. Post events are
+ * delivered in batches on the {@link EconomyEventBus event bus's} dispatcher thread, so listeners
+ * should not expect to be called on the thread that performed the action.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class PostEconomyEvent extends EconomyEvent {
+
+  private final EconomyResponse response;
+  private final BigDecimal holdings;
+  private final BigDecimal receivingHoldings;
+
+  public PostEconomyEvent(EconomyAction action, String identifier, Account account, Account receiving, BigDecimal amount,
+                          String world, Currency currency, ActionSource source, EconomyResponse response,
+                          BigDecimal holdings, BigDecimal receivingHoldings) {
+    super(action, identifier, account, receiving, amount, world, currency, source);
+    this.response = response;
+    this.holdings = holdings;
+    this.receivingHoldings = receivingHoldings;
+  }
+
+  /**
+   * @return True if the action succeeded, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  public boolean success() {
+    return response != null && response.success();
+  }
+
+  /**
+   * @return The {@link EconomyResponse} of the action.
+   *
+   * @since 1.0.0
+   */
+  public EconomyResponse response() {
+    return response;
+  }
+
+  /**
+   * @return The holdings of the account after the action, or null if they aren't known.
+   *
+   * @since 1.0.0
+   */
+  public BigDecimal holdings() {
+    return holdings;
+  }
+
+  /**
+   * @return The holdings of the receiving account after a transfer, or null if they aren't known.
+   *
+   * @since 1.0.0
+   */
+  public BigDecimal receivingHoldings() {
+    return receivingHoldings;
+  }
+}
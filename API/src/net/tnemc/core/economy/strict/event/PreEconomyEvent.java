@@ -0,0 +1,75 @@
+package net.tnemc.core.economy.strict.event;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Published before an economy action is performed. Listeners receive this event on the thread that
+ * performs the action, and may cancel it, in which case the action fails with the given reason.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class PreEconomyEvent extends EconomyEvent {
+
+  private volatile String cancelReason = null;
+
+  public PreEconomyEvent(EconomyAction action, String identifier, Account account, Account receiving, BigDecimal amount,
+                         String world, Currency currency, ActionSource source) {
+    super(action, identifier, account, receiving, amount, world, currency, source);
+  }
+
+  /**
+   * @return True if a listener cancelled the action, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  public boolean cancelled() {
+    return cancelReason != null;
+  }
+
+  /**
+   * @return The reason the action was cancelled with, or null if it wasn't cancelled.
+   *
+   * @since 1.0.0
+   */
+  public String cancelReason() {
+    return cancelReason;
+  }
+
+  /**
+   * Used to cancel the action.
+   *
+   * @param reason The reason for cancelling the action, which is returned as the response of the
+   * failed action.
+   *
+   * @since 1.0.0
+   */
+  public void cancel(@NotNull String reason) {
+    this.cancelReason = reason;
+  }
+}
@@ -0,0 +1,211 @@
+package net.tnemc.core.economy.strict.forwarding;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.Money;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+import java.util.Map;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An {@link Account} created by a {@link ForwardingEconomyAdapter}. The holdings calls are routed
+ * through the adapter, and every other call is forwarded to the wrapped account.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class ForwardingAccount implements Account {
+
+  protected final ForwardingEconomyAdapter adapter;
+  protected final Account delegate;
+
+  /**
+   * @param adapter The {@link ForwardingEconomyAdapter} that created this account.
+   * @param delegate The wrapped {@link Account}.
+   *
+   * @since 1.0.0
+   */
+  public ForwardingAccount(@NotNull ForwardingEconomyAdapter adapter, @NotNull Account delegate) {
+    this.adapter = adapter;
+    this.delegate = delegate;
+  }
+
+  /**
+   * @return The {@link ForwardingEconomyAdapter} that created this account.
+   *
+   * @since 1.0.0
+   */
+  public ForwardingEconomyAdapter adapter() {
+    return adapter;
+  }
+
+  /**
+   * @return The wrapped {@link Account}.
+   *
+   * @since 1.0.0
+   */
+  public Account delegate() {
+    return delegate;
+  }
+
+  @Override
+  public String identifier() {
+    return delegate.identifier();
+  }
+
+  @Override
+  public String name() {
+    return delegate.name();
+  }
+
+  @Override
+  public BigDecimal holdings(String world) {
+    return adapter.holdings(delegate, world, null);
+  }
+
+  @Override
+  public BigDecimal holdings(String world, Currency currency) {
+    return adapter.holdings(delegate, world, currency);
+  }
+
+  @Override
+  public boolean has(String world, BigDecimal amount) {
+    return adapter.has(delegate, world, null, amount);
+  }
+
+  @Override
+  public boolean has(String world, Currency currency, BigDecimal amount) {
+    return adapter.has(delegate, world, currency, amount);
+  }
+
+  @Override
+  public Map<Currency, BigDecimal> getMultiHoldings(String world) {
+    return adapter.getMultiHoldings(delegate, world);
+  }
+
+  @Override
+  public HoldingsActionResult deposit(BigDecimal amount, ActionSource source) {
+    return adapter.deposit(delegate, amount, null, null, source);
+  }
+
+  @Override
+  public HoldingsActionResult deposit(BigDecimal amount, Currency currency, ActionSource source) {
+    return adapter.deposit(delegate, amount, null, currency, source);
+  }
+
+  @Override
+  public HoldingsActionResult deposit(BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return adapter.deposit(delegate, amount, world, currency, source);
+  }
+
+  @Override
+  public HoldingsMoveActionResult transfer(Account receiving, BigDecimal amount, ActionSource source) {
+    return adapter.transfer(delegate, adapter.unwrap(receiving), amount, null, null, source);
+  }
+
+  @Override
+  public HoldingsMoveActionResult transfer(Account receiving, BigDecimal amount, Currency currency, ActionSource source) {
+    return adapter.transfer(delegate, adapter.unwrap(receiving), amount, null, currency, source);
+  }
+
+  @Override
+  public HoldingsMoveActionResult transfer(Account receiving, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return adapter.transfer(delegate, adapter.unwrap(receiving), amount, world, currency, source);
+  }
+
+  @Override
+  public HoldingsActionResult withdraw(BigDecimal amount, ActionSource source) {
+    return adapter.withdraw(delegate, amount, null, null, source);
+  }
+
+  @Override
+  public HoldingsActionResult withdraw(BigDecimal amount, Currency currency, ActionSource source) {
+    return adapter.withdraw(delegate, amount, null, currency, source);
+  }
+
+  @Override
+  public HoldingsActionResult withdraw(BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return adapter.withdraw(delegate, amount, world, currency, source);
+  }
+
+  @Override
+  public Money holdingsMoney(String world) {
+    return adapter.holdingsMoney(delegate, world, null);
+  }
+
+  @Override
+  public Money holdingsMoney(String world, Currency currency) {
+    return adapter.holdingsMoney(delegate, world, currency);
+  }
+
+  @Override
+  public boolean has(String world, Money amount) {
+    return adapter.has(delegate, world, null, amount);
+  }
+
+  @Override
+  public boolean has(String world, Currency currency, Money amount) {
+    return adapter.has(delegate, world, currency, amount);
+  }
+
+  @Override
+  public HoldingsActionResult deposit(Money amount, String world, Currency currency, ActionSource source) {
+    return adapter.deposit(delegate, amount, world, currency, source);
+  }
+
+  @Override
+  public HoldingsMoveActionResult transfer(Account receiving, Money amount, String world, Currency currency, ActionSource source) {
+    return adapter.transfer(delegate, adapter.unwrap(receiving), amount, world, currency, source);
+  }
+
+  @Override
+  public HoldingsActionResult withdraw(Money amount, String world, Currency currency, ActionSource source) {
+    return adapter.withdraw(delegate, amount, world, currency, source);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if(this == obj) {
+      return true;
+    }
+
+    if(obj instanceof ForwardingAccount) {
+      return delegate.equals(((ForwardingAccount)obj).delegate);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return delegate.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+}
@@ -0,0 +1,526 @@
+package net.tnemc.core.economy.strict.forwarding;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.Transaction;
+import net.tnemc.core.economy.strict.TransactionLeg;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.account.GenericAccount;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.Money;
+import net.tnemc.core.economy.strict.ranking.RankedHoldings;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import net.tnemc.core.economy.strict.result.TransactionResult;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A base for {@link EconomyAdapter} decorators. Every call is forwarded to the wrapped adapter, and
+ * the accounts it returns are wrapped in {@link ForwardingAccount forwarding accounts}, which route
+ * their holdings calls back through the protected methods of this class. A decorator only needs to
+ * override the calls it is interested in.
+ *
+ * The holdings methods receive the wrapped adapter's account, and a null world or currency when the
+ * caller used an overload that leaves them up to the wrapped adapter. The {@link Money} overloads
+ * have their own methods, which pass the {@link Money} on to the wrapped adapter's account, so a
+ * decorator that observes the BigDecimal calls should override those as well.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public abstract class ForwardingEconomyAdapter implements EconomyAdapter {
+
+  protected final EconomyAdapter delegate;
+
+  /**
+   * @param delegate The {@link EconomyAdapter} that calls are forwarded to.
+   *
+   * @since 1.0.0
+   */
+  public ForwardingEconomyAdapter(@NotNull EconomyAdapter delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * @return The {@link EconomyAdapter} that calls are forwarded to.
+   *
+   * @since 1.0.0
+   */
+  public EconomyAdapter delegate() {
+    return delegate;
+  }
+
+  @Override
+  public boolean vault() {
+    return delegate.vault();
+  }
+
+  @Override
+  public boolean override() {
+    return delegate.override();
+  }
+
+  @Override
+  public String name() {
+    return delegate.name();
+  }
+
+  @Override
+  public int priority() {
+    return delegate.priority();
+  }
+
+  @Override
+  public boolean hasAccount(String identifier) {
+    return delegate.hasAccount(identifier);
+  }
+
+  @Override
+  public boolean hasAccount(UUID identifier) {
+    return delegate.hasAccount(identifier);
+  }
+
+  @Override
+  public Account getOrCreateAccount(String identifier) {
+    return wrap(delegate.getOrCreateAccount(identifier));
+  }
+
+  @Override
+  public UniqueAccount getOrCreateAccount(UUID identifier) {
+    return wrap(delegate.getOrCreateAccount(identifier));
+  }
+
+  @Override
+  public boolean createAccount(String identifier) {
+    return delegate.createAccount(identifier);
+  }
+
+  @Override
+  public boolean createAccount(UUID identifier, String name) {
+    return delegate.createAccount(identifier, name);
+  }
+
+  @Override
+  public Optional<Account> getAccount(String identifier) {
+    return delegate.getAccount(identifier).map(account->wrap(account));
+  }
+
+  @Override
+  public Optional<UniqueAccount> getAccount(UUID identifier) {
+    return delegate.getAccount(identifier).map(account->wrap(account));
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(String identifier, ActionSource source) {
+    return delegate.deleteAccount(identifier, source);
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(UUID identifier, ActionSource source) {
+    return delegate.deleteAccount(identifier, source);
+  }
+
+  @Override
+  public Map<String, Boolean> hasAccounts(Collection<String> identifiers) {
+    return delegate.hasAccounts(identifiers);
+  }
+
+  @Override
+  public Map<UUID, Boolean> hasUniqueAccounts(Collection<UUID> identifiers) {
+    return delegate.hasUniqueAccounts(identifiers);
+  }
+
+  @Override
+  public Map<String, Account> getAccounts(Collection<String> identifiers) {
+    final Map<String, Account> accounts = new HashMap<>();
+    for(Map.Entry<String, Account> entry : delegate.getAccounts(identifiers).entrySet()) {
+      accounts.put(entry.getKey(), wrap(entry.getValue()));
+    }
+    return accounts;
+  }
+
+  @Override
+  public Map<UUID, UniqueAccount> getUniqueAccounts(Collection<UUID> identifiers) {
+    return wrap(delegate.getUniqueAccounts(identifiers));
+  }
+
+  @Override
+  public Map<UUID, UniqueAccount> getOrCreateUniqueAccounts(Collection<UUID> identifiers) {
+    return wrap(delegate.getOrCreateUniqueAccounts(identifiers));
+  }
+
+  @Override
+  public Map<UUID, Boolean> createAccounts(Map<UUID, String> accounts) {
+    return delegate.createAccounts(accounts);
+  }
+
+  @Override
+  public TransactionResult execute(Transaction transaction) {
+    return delegate.execute(unwrap(transaction));
+  }
+
+  @Override
+  public List<RankedHoldings> topHoldings(String world, Currency currency, int offset, int limit) {
+    return delegate.topHoldings(world, currency, offset, limit);
+  }
+
+  @Override
+  public long rank(Account account, String world, Currency currency) {
+    return delegate.rank(unwrap(account), world, currency);
+  }
+
+  @Override
+  public List<RankedHoldings> holdingsAbove(String world, Currency currency, BigDecimal minimum, int offset, int limit) {
+    return delegate.holdingsAbove(world, currency, minimum, offset, limit);
+  }
+
+  @Override
+  public long countAbove(String world, Currency currency, BigDecimal minimum) {
+    return delegate.countAbove(world, currency, minimum);
+  }
+
+  @Override
+  public Currency getDefaultCurrency() {
+    return delegate.getDefaultCurrency();
+  }
+
+  @Override
+  public Currency getDefaultCurrency(String world) {
+    return delegate.getDefaultCurrency(world);
+  }
+
+  @Override
+  public Set<Currency> getCurrencies() {
+    return delegate.getCurrencies();
+  }
+
+  @Override
+  public Set<Currency> getCurrencies(String world) {
+    return delegate.getCurrencies(world);
+  }
+
+  @Override
+  public Money money(double amount, String world) {
+    return delegate.money(amount, world);
+  }
+
+  @Override
+  public Money money(BigDecimal amount, String world) {
+    return delegate.money(amount, world);
+  }
+
+  /**
+   * Called by {@link ForwardingAccount#holdings(String)} and {@link ForwardingAccount#holdings(String, Currency)}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param world The name of the world.
+   * @param currency The {@link Currency}, or null for the world's default currency.
+   *
+   * @return The holdings of the account.
+   *
+   * @since 1.0.0
+   */
+  protected BigDecimal holdings(Account account, String world, Currency currency) {
+    return (currency == null)? account.holdings(world) : account.holdings(world, currency);
+  }
+
+  /**
+   * Called by {@link ForwardingAccount#has(String, BigDecimal)} and
+   * {@link ForwardingAccount#has(String, Currency, BigDecimal)}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param world The name of the world.
+   * @param currency The {@link Currency}, or null for the world's default currency.
+   * @param amount The amount to check for.
+   *
+   * @return True if the account has at least the specified amount, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  protected boolean has(Account account, String world, Currency currency, BigDecimal amount) {
+    return (currency == null)? account.has(world, amount) : account.has(world, currency, amount);
+  }
+
+  /**
+   * Called by {@link ForwardingAccount#getMultiHoldings(String)}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param world The name of the world.
+   *
+   * @return The holdings of the account for every currency in the world.
+   *
+   * @since 1.0.0
+   */
+  protected Map<Currency, BigDecimal> getMultiHoldings(Account account, String world) {
+    return account.getMultiHoldings(world);
+  }
+
+  /**
+   * Called by the deposit methods of {@link ForwardingAccount}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param amount The amount to deposit.
+   * @param world The name of the world, or null for the wrapped adapter's default world.
+   * @param currency The {@link Currency}, or null for the default currency.
+   * @param source The {@link ActionSource source} of the deposit.
+   *
+   * @return The {@link HoldingsActionResult} of the deposit.
+   *
+   * @since 1.0.0
+   */
+  protected HoldingsActionResult deposit(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    if(world != null) {
+      return account.deposit(amount, world, currency, source);
+    }
+    return (currency == null)? account.deposit(amount, source) : account.deposit(amount, currency, source);
+  }
+
+  /**
+   * Called by the withdraw methods of {@link ForwardingAccount}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param amount The amount to withdraw.
+   * @param world The name of the world, or null for the wrapped adapter's default world.
+   * @param currency The {@link Currency}, or null for the default currency.
+   * @param source The {@link ActionSource source} of the withdrawal.
+   *
+   * @return The {@link HoldingsActionResult} of the withdrawal.
+   *
+   * @since 1.0.0
+   */
+  protected HoldingsActionResult withdraw(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    if(world != null) {
+      return account.withdraw(amount, world, currency, source);
+    }
+    return (currency == null)? account.withdraw(amount, source) : account.withdraw(amount, currency, source);
+  }
+
+  /**
+   * Called by the transfer methods of {@link ForwardingAccount}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param receiving The receiving {@link Account}, unwrapped if it was created by this adapter.
+   * @param amount The amount to transfer.
+   * @param world The name of the world, or null for the wrapped adapter's default world.
+   * @param currency The {@link Currency}, or null for the default currency.
+   * @param source The {@link ActionSource source} of the transfer.
+   *
+   * @return The {@link HoldingsMoveActionResult} of the transfer.
+   *
+   * @since 1.0.0
+   */
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, BigDecimal amount, String world,
+                                              Currency currency, ActionSource source) {
+    if(world != null) {
+      return account.transfer(receiving, amount, world, currency, source);
+    }
+    return (currency == null)? account.transfer(receiving, amount, source) : account.transfer(receiving, amount, currency, source);
+  }
+
+  /**
+   * Called by {@link ForwardingAccount#holdingsMoney(String)} and
+   * {@link ForwardingAccount#holdingsMoney(String, Currency)}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param world The name of the world.
+   * @param currency The {@link Currency}, or null for the world's default currency.
+   *
+   * @return The holdings of the account as {@link Money}.
+   *
+   * @since 1.0.0
+   */
+  protected Money holdingsMoney(Account account, String world, Currency currency) {
+    return (currency == null)? account.holdingsMoney(world) : account.holdingsMoney(world, currency);
+  }
+
+  /**
+   * Called by {@link ForwardingAccount#has(String, Money)} and
+   * {@link ForwardingAccount#has(String, Currency, Money)}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param world The name of the world.
+   * @param currency The {@link Currency}, or null for the world's default currency.
+   * @param amount The amount to check for.
+   *
+   * @return True if the account has at least the specified amount, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  protected boolean has(Account account, String world, Currency currency, Money amount) {
+    return (currency == null)? account.has(world, amount) : account.has(world, currency, amount);
+  }
+
+  /**
+   * Called by {@link ForwardingAccount#deposit(Money, String, Currency, ActionSource)}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param amount The amount to deposit.
+   * @param world The name of the world.
+   * @param currency The {@link Currency}.
+   * @param source The {@link ActionSource source} of the deposit.
+   *
+   * @return The {@link HoldingsActionResult} of the deposit.
+   *
+   * @since 1.0.0
+   */
+  protected HoldingsActionResult deposit(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    return account.deposit(amount, world, currency, source);
+  }
+
+  /**
+   * Called by {@link ForwardingAccount#withdraw(Money, String, Currency, ActionSource)}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param amount The amount to withdraw.
+   * @param world The name of the world.
+   * @param currency The {@link Currency}.
+   * @param source The {@link ActionSource source} of the withdrawal.
+   *
+   * @return The {@link HoldingsActionResult} of the withdrawal.
+   *
+   * @since 1.0.0
+   */
+  protected HoldingsActionResult withdraw(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    return account.withdraw(amount, world, currency, source);
+  }
+
+  /**
+   * Called by {@link ForwardingAccount#transfer(Account, Money, String, Currency, ActionSource)}.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   * @param receiving The receiving {@link Account}, unwrapped if it was created by this adapter.
+   * @param amount The amount to transfer.
+   * @param world The name of the world.
+   * @param currency The {@link Currency}.
+   * @param source The {@link ActionSource source} of the transfer.
+   *
+   * @return The {@link HoldingsMoveActionResult} of the transfer.
+   *
+   * @since 1.0.0
+   */
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, Money amount, String world,
+                                              Currency currency, ActionSource source) {
+    return account.transfer(receiving, amount, world, currency, source);
+  }
+
+  /**
+   * Used to wrap an account returned by the wrapped adapter.
+   *
+   * @param account The wrapped adapter's {@link Account}.
+   *
+   * @return The wrapped account, or null if the account is null.
+   *
+   * @since 1.0.0
+   */
+  protected Account wrap(Account account) {
+    if(account == null) {
+      return null;
+    }
+
+    if(account instanceof UniqueAccount) {
+      return wrap((UniqueAccount)account);
+    }
+
+    if(account instanceof GenericAccount) {
+      return new ForwardingGenericAccount(this, (GenericAccount)account);
+    }
+    return new ForwardingAccount(this, account);
+  }
+
+  /**
+   * Used to wrap a unique account returned by the wrapped adapter.
+   *
+   * @param account The wrapped adapter's {@link UniqueAccount}.
+   *
+   * @return The wrapped account, or null if the account is null.
+   *
+   * @since 1.0.0
+   */
+  protected UniqueAccount wrap(UniqueAccount account) {
+    return (account == null)? null : new ForwardingUniqueAccount(this, account);
+  }
+
+  /**
+   * Used to get the wrapped adapter's account for an account that may have been created by this
+   * adapter. Accounts created by other adapters are returned as is.
+   *
+   * @param account The {@link Account} to unwrap.
+   *
+   * @return The wrapped adapter's {@link Account}.
+   *
+   * @since 1.0.0
+   */
+  protected Account unwrap(Account account) {
+    if(account instanceof ForwardingAccount && ((ForwardingAccount)account).adapter() == this) {
+      return ((ForwardingAccount)account).delegate();
+    }
+    return account;
+  }
+
+  /**
+   * Used to rebuild a {@link Transaction} with the wrapped adapter's accounts, so that it may be
+   * passed to the wrapped adapter's {@link EconomyAdapter#execute(Transaction)}.
+   *
+   * @param transaction The {@link Transaction} to unwrap.
+   *
+   * @return The unwrapped {@link Transaction}.
+   *
+   * @since 1.0.0
+   */
+  protected Transaction unwrap(Transaction transaction) {
+    final Transaction.Builder builder = Transaction.builder(transaction.source());
+    for(TransactionLeg leg : transaction.legs()) {
+      switch(leg.type()) {
+        case DEPOSIT:
+          builder.deposit(unwrap(leg.account()), leg.amount(), leg.world(), leg.currency());
+          break;
+        case WITHDRAW:
+          builder.withdraw(unwrap(leg.account()), leg.amount(), leg.world(), leg.currency());
+          break;
+        default:
+          builder.transfer(unwrap(leg.account()), unwrap(leg.receiving()), leg.amount(), leg.world(), leg.currency());
+          break;
+      }
+    }
+    return builder.build();
+  }
+
+  private Map<UUID, UniqueAccount> wrap(Map<UUID, UniqueAccount> accounts) {
+    final Map<UUID, UniqueAccount> wrapped = new HashMap<>();
+    for(Map.Entry<UUID, UniqueAccount> entry : accounts.entrySet()) {
+      wrapped.put(entry.getKey(), wrap(entry.getValue()));
+    }
+    return wrapped;
+  }
+}
@@ -0,0 +1,67 @@
+package net.tnemc.core.economy.strict.forwarding;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.account.AccessLevel;
+import net.tnemc.core.economy.strict.account.GenericAccount;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.util.UUID;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A {@link GenericAccount} created by a {@link ForwardingEconomyAdapter}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class ForwardingGenericAccount extends ForwardingAccount implements GenericAccount {
+
+  /**
+   * @param adapter The {@link ForwardingEconomyAdapter} that created this account.
+   * @param delegate The wrapped {@link GenericAccount}.
+   *
+   * @since 1.0.0
+   */
+  public ForwardingGenericAccount(@NotNull ForwardingEconomyAdapter adapter, @NotNull GenericAccount delegate) {
+    super(adapter, delegate);
+  }
+
+  @Override
+  public GenericAccount delegate() {
+    return (GenericAccount)delegate;
+  }
+
+  @Override
+  public boolean hasAccess(UUID identifier, AccessLevel accessLevel) {
+    return delegate().hasAccess(identifier, accessLevel);
+  }
+
+  @Override
+  public boolean updateAccess(UUID identifier, AccessLevel accessLevel, ActionSource source) {
+    return delegate().updateAccess(identifier, accessLevel, source);
+  }
+
+  @Override
+  public boolean removeAccess(UUID identifier, ActionSource source) {
+    return delegate().removeAccess(identifier, source);
+  }
+}
@@ -0,0 +1,55 @@
+package net.tnemc.core.economy.strict.forwarding;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+
+import java.util.UUID;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A {@link UniqueAccount} created by a {@link ForwardingEconomyAdapter}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class ForwardingUniqueAccount extends ForwardingAccount implements UniqueAccount {
+
+  /**
+   * @param adapter The {@link ForwardingEconomyAdapter} that created this account.
+   * @param delegate The wrapped {@link UniqueAccount}.
+   *
+   * @since 1.0.0
+   */
+  public ForwardingUniqueAccount(@NotNull ForwardingEconomyAdapter adapter, @NotNull UniqueAccount delegate) {
+    super(adapter, delegate);
+  }
+
+  @Override
+  public UniqueAccount delegate() {
+    return (UniqueAccount)delegate;
+  }
+
+  @Override
+  public UUID getUniqueID() {
+    return delegate().getUniqueID();
+  }
+}
@@ -0,0 +1,536 @@
+package net.tnemc.core.economy.strict.journal;
+
+import com.sun.istack.internal.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An append-only journal of economy operations, stored in memory-mapped segment files.
+ *
+ * Appending an entry copies it into the mapped segment, which survives a crash of the server
+ * process as soon as the call returns. A background thread forces the written entries to disk at a
+ * fixed interval, so every entry appended during an interval shares a single disk flush (group
+ * commit). Callers that need the entry to also survive a crash of the machine may wait for the next
+ * flush with {@link #awaitFlushed(long, long, TimeUnit)}.
+ *
+ * Every entry has a sequence number. Once the economy has persisted the operations up to a sequence
+ * number, it should be {@link #acknowledge(long) acknowledged}, after which segments that only hold
+ * acknowledged entries are deleted. Entries from a previous run that were never acknowledged can be
+ * read with {@link #unacknowledged(Consumer)} and re-applied with a {@link JournalReplayer}.
+ *
+ * Each record is framed by its length, a CRC32 checksum and its sequence number, so a record that
+ * was only partially written when the server crashed is detected and ignored.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class Journal implements Closeable {
+
+  private static final int MAGIC = 0x52534A31;
+  private static final int VERSION = 1;
+  private static final int HEADER = 16;
+  private static final int FRAME = 16;
+  private static final String PREFIX = "journal-";
+  private static final String SUFFIX = ".seg";
+  private static final String CHECKPOINT = "checkpoint";
+
+  private final Object lock = new Object();
+  private final CRC32 crc = new CRC32();
+  private final ByteBuffer scratch = ByteBuffer.allocate(8);
+
+  private final Path directory;
+  private final int segmentSize;
+  private final long flushInterval;
+  private final long sessionStart;
+  private final long recovered;
+  private final List<Segment> segments;
+  private final Thread flusher;
+
+  private Segment active;
+  private long sequence;
+  private volatile long flushed;
+  private volatile long checkpoint;
+  private volatile boolean closed = false;
+
+  private Journal(Path directory, int segmentSize, long flushInterval, long checkpoint, long sequence,
+                  long recovered, List<Segment> segments) throws IOException {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.flushInterval = flushInterval;
+    this.checkpoint = checkpoint;
+    this.sequence = sequence;
+    this.flushed = sequence;
+    this.sessionStart = sequence + 1;
+    this.recovered = recovered;
+    this.segments = segments;
+    this.active = create(sessionStart);
+
+    this.flusher = new Thread(this::flushLoop, "Reserve-Journal");
+    flusher.setDaemon(true);
+    flusher.start();
+  }
+
+  /**
+   * Used to open the journal in the specified directory, creating it if it doesn't exist. Entries
+   * written by this instance are always placed in a new segment.
+   *
+   * @param directory The directory that holds the segment files.
+   * @param segmentSize The size of each segment file, in bytes.
+   * @param flushInterval The interval at which written entries are forced to disk.
+   * @param unit The {@link TimeUnit} of the flush interval.
+   *
+   * @return The opened {@link Journal}.
+   *
+   * @throws IOException If the directory or the segment files couldn't be read or created.
+   *
+   * @since 1.0.0
+   */
+  public static Journal open(@NotNull Path directory, int segmentSize, long flushInterval, @NotNull TimeUnit unit) throws IOException {
+    if(segmentSize < 4096) {
+      throw new IllegalArgumentException("The segment size of a journal must be at least 4096 bytes.");
+    }
+    Files.createDirectories(directory);
+
+    final long checkpoint = readCheckpoint(directory);
+    final List<Segment> segments = new ArrayList<>();
+    try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+      for(Path path : stream) {
+        final long base = base(path);
+        if(base > 0) {
+          segments.add(new Segment(path, base));
+        }
+      }
+    }
+    Collections.sort(segments);
+
+    final long[] state = new long[] { checkpoint, 0L };
+    for(Segment segment : segments) {
+      read(segment.path, (sequence, payload)->{
+        state[0] = Math.max(state[0], sequence);
+        if(sequence > checkpoint) {
+          state[1]++;
+        }
+      });
+    }
+
+    final Journal journal = new Journal(directory, segmentSize, Math.max(1L, unit.toMillis(flushInterval)),
+                                        checkpoint, state[0], state[1], segments);
+    journal.clean();
+    return journal;
+  }
+
+  /**
+   * Used to append an entry to the journal.
+   *
+   * @param entry The {@link JournalEntry} to append.
+   *
+   * @return The sequence number assigned to the entry.
+   *
+   * @throws IOException If a new segment was needed and couldn't be created, or the journal is closed.
+   *
+   * @since 1.0.0
+   */
+  public long append(@NotNull JournalEntry entry) throws IOException {
+    final byte[] payload = entry.encode();
+    final int length = FRAME + payload.length;
+    if(length + 4 > segmentSize - HEADER) {
+      throw new IOException("The journal entry is larger than a segment.");
+    }
+
+    synchronized(lock) {
+      if(closed) {
+        throw new IOException("The journal is closed.");
+      }
+
+      if(active.buffer.remaining() < length + 4) {
+        rotate();
+      }
+
+      final long next = sequence + 1;
+      scratch.clear();
+      scratch.putLong(next);
+      crc.reset();
+      crc.update(scratch.array(), 0, 8);
+      crc.update(payload, 0, payload.length);
+
+      final MappedByteBuffer buffer = active.buffer;
+      buffer.putInt(payload.length);
+      buffer.putInt((int)crc.getValue());
+      buffer.putLong(next);
+      buffer.put(payload);
+
+      sequence = next;
+      return next;
+    }
+  }
+
+  /**
+   * Used to wait until the entry with the specified sequence number has been forced to disk.
+   *
+   * @param sequence The sequence number to wait for.
+   * @param timeout The maximum time to wait.
+   * @param unit The {@link TimeUnit} of the timeout.
+   *
+   * @return True if the entry has been forced to disk, false if the timeout elapsed first.
+   *
+   * @throws InterruptedException If the thread was interrupted while waiting.
+   *
+   * @since 1.0.0
+   */
+  public boolean awaitFlushed(long sequence, long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    synchronized(lock) {
+      while(flushed < sequence) {
+        final long remaining = deadline - System.nanoTime();
+        if(remaining <= 0 || closed) {
+          return flushed >= sequence;
+        }
+        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Used to mark every entry up to and including the specified sequence number as persisted by the
+   * economy. Segments that only hold acknowledged entries are deleted.
+   *
+   * @param sequence The sequence number to acknowledge.
+   *
+   * @throws IOException If the checkpoint couldn't be written.
+   *
+   * @since 1.0.0
+   */
+  public void acknowledge(long sequence) throws IOException {
+    synchronized(lock) {
+      final long target = Math.min(sequence, this.sequence);
+      if(target <= checkpoint) {
+        return;
+      }
+      writeCheckpoint(target);
+      checkpoint = target;
+      clean();
+    }
+  }
+
+  /**
+   * Used to read the entries written by a previous run that were never acknowledged, in the order
+   * they were written.
+   *
+   * @param consumer The {@link Consumer} that receives each entry.
+   *
+   * @throws IOException If a segment couldn't be read.
+   *
+   * @since 1.0.0
+   */
+  public void unacknowledged(@NotNull Consumer<JournalEntry> consumer) throws IOException {
+    final List<Segment> previous;
+    synchronized(lock) {
+      previous = new ArrayList<>(segments);
+    }
+
+    final long after = checkpoint;
+    for(Segment segment : previous) {
+      read(segment.path, (sequence, payload)->{
+        if(sequence > after && sequence < sessionStart) {
+          final byte[] bytes = new byte[payload.remaining()];
+          payload.get(bytes);
+          consumer.accept(JournalEntry.decode(sequence, new DataInputStream(new ByteArrayInputStream(bytes))));
+        }
+      });
+    }
+  }
+
+  /**
+   * @return The number of entries from previous runs that were not acknowledged when this journal was
+   * opened.
+   *
+   * @since 1.0.0
+   */
+  public long recovered() {
+    return recovered;
+  }
+
+  /**
+   * @return The sequence number of the first entry written by this run.
+   *
+   * @since 1.0.0
+   */
+  public long sessionStart() {
+    return sessionStart;
+  }
+
+  /**
+   * @return The sequence number of the last entry appended to the journal.
+   *
+   * @since 1.0.0
+   */
+  public long lastSequence() {
+    synchronized(lock) {
+      return sequence;
+    }
+  }
+
+  /**
+   * @return The sequence number of the last acknowledged entry.
+   *
+   * @since 1.0.0
+   */
+  public long checkpoint() {
+    return checkpoint;
+  }
+
+  /**
+   * Used to force every written entry to disk and close the journal.
+   *
+   * @since 1.0.0
+   */
+  @Override
+  public void close() throws IOException {
+    synchronized(lock) {
+      if(closed) {
+        return;
+      }
+      closed = true;
+      active.buffer.force();
+      flushed = sequence;
+      active.channel.close();
+      lock.notifyAll();
+    }
+    flusher.interrupt();
+  }
+
+  private void flushLoop() {
+    while(!closed) {
+      try {
+        Thread.sleep(flushInterval);
+      } catch(InterruptedException e) {
+        return;
+      }
+
+      final MappedByteBuffer buffer;
+      final long target;
+      synchronized(lock) {
+        if(closed || flushed >= sequence) {
+          continue;
+        }
+        buffer = active.buffer;
+        target = sequence;
+      }
+
+      //Entries appended to a newer segment in the meantime have a higher sequence number, and the
+      //previous segment is forced when it's rotated, so forcing this buffer is enough for the target.
+      buffer.force();
+      synchronized(lock) {
+        if(target > flushed) {
+          flushed = target;
+        }
+        lock.notifyAll();
+      }
+    }
+  }
+
+  private void rotate() throws IOException {
+    active.buffer.force();
+    active.channel.close();
+    flushed = sequence;
+    lock.notifyAll();
+
+    segments.add(new Segment(active.path, active.base));
+    active = create(sequence + 1);
+  }
+
+  private Segment create(long base) throws IOException {
+    final Path path = directory.resolve(String.format("%s%020d%s", PREFIX, base, SUFFIX));
+
+    //A segment with this base can only exist if it was created without any entries being written.
+    Files.deleteIfExists(path);
+    segments.removeIf(segment->segment.base == base);
+
+    final FileChannel channel;
+    try(RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.setLength(segmentSize);
+      channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    buffer.putInt(MAGIC);
+    buffer.putInt(VERSION);
+    buffer.putLong(base);
+    return new Segment(path, base, channel, buffer);
+  }
+
+  /**
+   * Deletes the segments before the active one whose entries have all been acknowledged.
+   */
+  private void clean() {
+    final long acknowledged = checkpoint;
+    final Iterator<Segment> iterator = segments.iterator();
+    while(iterator.hasNext()) {
+      final Segment segment = iterator.next();
+      final long next = nextBase(segment);
+      if(next - 1 > acknowledged) {
+        break;
+      }
+
+      try {
+        Files.deleteIfExists(segment.path);
+        iterator.remove();
+      } catch(IOException ignore) {
+        //The segment is still mapped on some platforms, it will be deleted by a later clean.
+        break;
+      }
+    }
+  }
+
+  private long nextBase(Segment segment) {
+    final int index = segments.indexOf(segment);
+    return (index + 1 < segments.size())? segments.get(index + 1).base : active.base;
+  }
+
+  private void writeCheckpoint(long value) throws IOException {
+    final Path temp = directory.resolve(CHECKPOINT + ".tmp");
+    final ByteBuffer bytes = ByteBuffer.allocate(8);
+    bytes.putLong(value);
+    Files.write(temp, bytes.array());
+
+    final Path target = directory.resolve(CHECKPOINT);
+    try {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch(AtomicMoveNotSupportedException e) {
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static long readCheckpoint(Path directory) throws IOException {
+    final Path path = directory.resolve(CHECKPOINT);
+    if(!Files.exists(path)) {
+      return 0L;
+    }
+
+    final byte[] bytes = Files.readAllBytes(path);
+    return (bytes.length < 8)? 0L : ByteBuffer.wrap(bytes).getLong();
+  }
+
+  private static long base(Path path) {
+    final String name = path.getFileName().toString();
+    try {
+      return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    } catch(NumberFormatException e) {
+      return -1L;
+    }
+  }
+
+  /**
+   * Reads every valid record of a segment, stopping at the end of the written records or at the
+   * first record that is incomplete or fails its checksum.
+   */
+  private static void read(Path path, RecordVisitor visitor) throws IOException {
+    try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if(size < HEADER) {
+        return;
+      }
+
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        return;
+      }
+      buffer.getLong();
+
+      final CRC32 crc = new CRC32();
+      final byte[] sequenceBytes = new byte[8];
+      while(buffer.remaining() >= FRAME) {
+        final int length = buffer.getInt();
+        if(length <= 0 || length > buffer.remaining() - 12) {
+          return;
+        }
+        final int checksum = buffer.getInt();
+        final int start = buffer.position();
+        final long sequence = buffer.getLong();
+
+        ByteBuffer.wrap(sequenceBytes).putLong(sequence);
+        crc.reset();
+        crc.update(sequenceBytes, 0, 8);
+        final ByteBuffer payload = buffer.duplicate();
+        payload.position(start + 8);
+        payload.limit(start + 8 + length);
+        crc.update(payload.duplicate());
+        if((int)crc.getValue() != checksum) {
+          return;
+        }
+
+        visitor.visit(sequence, payload);
+        buffer.position(start + 8 + length);
+      }
+    }
+  }
+
+  private interface RecordVisitor {
+    void visit(long sequence, ByteBuffer payload) throws IOException;
+  }
+
+  private static final class Segment implements Comparable<Segment> {
+
+    private final Path path;
+    private final long base;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private Segment(Path path, long base) {
+      this(path, base, null, null);
+    }
+
+    private Segment(Path path, long base, FileChannel channel, MappedByteBuffer buffer) {
+      this.path = path;
+      this.base = base;
+      this.channel = channel;
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int compareTo(Segment other) {
+      return Long.compare(base, other.base);
+    }
+  }
+}
@@ -0,0 +1,250 @@
+package net.tnemc.core.economy.strict.journal;
+
+import net.tnemc.core.economy.strict.TransactionLeg;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A single operation recorded in a {@link Journal}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class JournalEntry {
+
+  private final long sequence;
+  private final long time;
+  private final TransactionLeg.Type type;
+  private final String account;
+  private final boolean unique;
+  private final String receiving;
+  private final boolean receivingUnique;
+  private final String world;
+  private final String currency;
+  private final BigDecimal amount;
+  private final String source;
+  private final String reason;
+
+  /**
+   * @param type The {@link TransactionLeg.Type type} of the operation.
+   * @param account The identifier of the account the operation was performed on.
+   * @param unique True if the account identifier is the {@link java.util.UUID} of a unique account.
+   * @param receiving The identifier of the receiving account for transfers, otherwise null.
+   * @param receivingUnique True if the receiving account identifier is a {@link java.util.UUID}.
+   * @param world The name of the world, or null if the economy's default world was used.
+   * @param currency The identifier of the currency, or null if the default currency was used.
+   * @param amount The amount of the operation.
+   * @param source The name of the {@link net.tnemc.core.generic.source.ActionSource source}.
+   * @param reason The reason given by the {@link net.tnemc.core.generic.source.ActionSource source}.
+   *
+   * @since 1.0.0
+   */
+  public JournalEntry(TransactionLeg.Type type, String account, boolean unique, String receiving, boolean receivingUnique,
+                      String world, String currency, BigDecimal amount, String source, String reason) {
+    this(0L, System.currentTimeMillis(), type, account, unique, receiving, receivingUnique, world, currency, amount, source, reason);
+  }
+
+  private JournalEntry(long sequence, long time, TransactionLeg.Type type, String account, boolean unique, String receiving,
+                       boolean receivingUnique, String world, String currency, BigDecimal amount, String source, String reason) {
+    this.sequence = sequence;
+    this.time = time;
+    this.type = type;
+    this.account = account;
+    this.unique = unique;
+    this.receiving = receiving;
+    this.receivingUnique = receivingUnique;
+    this.world = world;
+    this.currency = currency;
+    this.amount = amount;
+    this.source = source;
+    this.reason = reason;
+  }
+
+  /**
+   * @return The sequence number assigned by the {@link Journal}, or 0 if the entry hasn't been read
+   * from a journal.
+   *
+   * @since 1.0.0
+   */
+  public long sequence() {
+    return sequence;
+  }
+
+  /**
+   * @return The time the operation was recorded, in milliseconds since the epoch.
+   *
+   * @since 1.0.0
+   */
+  public long time() {
+    return time;
+  }
+
+  /**
+   * @return The {@link TransactionLeg.Type type} of the operation.
+   *
+   * @since 1.0.0
+   */
+  public TransactionLeg.Type type() {
+    return type;
+  }
+
+  /**
+   * @return The identifier of the account the operation was performed on.
+   *
+   * @since 1.0.0
+   */
+  public String account() {
+    return account;
+  }
+
+  /**
+   * @return True if {@link #account()} is the {@link java.util.UUID} of a unique account.
+   *
+   * @since 1.0.0
+   */
+  public boolean unique() {
+    return unique;
+  }
+
+  /**
+   * @return The identifier of the receiving account for transfers, otherwise null.
+   *
+   * @since 1.0.0
+   */
+  public String receiving() {
+    return receiving;
+  }
+
+  /**
+   * @return True if {@link #receiving()} is the {@link java.util.UUID} of a unique account.
+   *
+   * @since 1.0.0
+   */
+  public boolean receivingUnique() {
+    return receivingUnique;
+  }
+
+  /**
+   * @return The name of the world, or null if the economy's default world was used.
+   *
+   * @since 1.0.0
+   */
+  public String world() {
+    return world;
+  }
+
+  /**
+   * @return The identifier of the currency, or null if the default currency was used.
+   *
+   * @since 1.0.0
+   */
+  public String currency() {
+    return currency;
+  }
+
+  /**
+   * @return The amount of the operation.
+   *
+   * @since 1.0.0
+   */
+  public BigDecimal amount() {
+    return amount;
+  }
+
+  /**
+   * @return The name of the {@link net.tnemc.core.generic.source.ActionSource source} of the operation.
+   *
+   * @since 1.0.0
+   */
+  public String source() {
+    return source;
+  }
+
+  /**
+   * @return The reason given by the {@link net.tnemc.core.generic.source.ActionSource source} of the operation.
+   *
+   * @since 1.0.0
+   */
+  public String reason() {
+    return reason;
+  }
+
+  /**
+   * @return The payload of this entry, without its sequence number.
+   */
+  byte[] encode() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+    try(DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeLong(time);
+      out.writeByte(type.ordinal());
+      out.writeBoolean(unique);
+      out.writeBoolean(receivingUnique);
+      out.writeUTF(account);
+      writeNullable(out, receiving);
+      writeNullable(out, world);
+      writeNullable(out, currency);
+      out.writeUTF(amount.toString());
+      writeNullable(out, source);
+      writeNullable(out, reason);
+    } catch(IOException e) {
+      throw new IllegalStateException("Unable to encode journal entry.", e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static JournalEntry decode(long sequence, DataInputStream in) throws IOException {
+    final long time = in.readLong();
+    final TransactionLeg.Type type = TransactionLeg.Type.values()[in.readByte()];
+    final boolean unique = in.readBoolean();
+    final boolean receivingUnique = in.readBoolean();
+    final String account = in.readUTF();
+    final String receiving = readNullable(in);
+    final String world = readNullable(in);
+    final String currency = readNullable(in);
+    final BigDecimal amount = new BigDecimal(in.readUTF());
+    final String source = readNullable(in);
+    final String reason = readNullable(in);
+    return new JournalEntry(sequence, time, type, account, unique, receiving, receivingUnique, world, currency, amount, source, reason);
+  }
+
+  private static void writeNullable(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if(value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readNullable(DataInputStream in) throws IOException {
+    return (in.readBoolean())? in.readUTF() : null;
+  }
+
+  @Override
+  public String toString() {
+    return "#" + sequence + " " + type.actionType() + " " + amount.toPlainString() + " " + account
+        + ((receiving == null)? "" : " -> " + receiving) + " (" + source + ": " + reason + ")";
+  }
+}
@@ -0,0 +1,194 @@
+package net.tnemc.core.economy.strict.journal;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.generic.source.ActionSource;
+import net.tnemc.core.generic.source.PluginSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Re-applies the entries of a {@link Journal} that were written by a previous run, but never
+ * acknowledged, for example because the server crashed before the economy saved its data.
+ *
+ * Replaying should happen against the economy provider itself, rather than through a
+ * {@link JournalingEconomyAdapter}, so that the replayed operations aren't journaled a second time.
+ * Every processed entry is acknowledged once the replay finishes, including the ones that failed,
+ * which are listed in the {@link Report} so they can be corrected by hand.
+ *
+ * Replaying is only correct when the journal is {@link Journal#acknowledge(long) acknowledged} each
+ * time the economy saves. Entries the economy saved without acknowledging them are applied a second
+ * time.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class JournalReplayer {
+
+  private final Journal journal;
+  private final EconomyAdapter adapter;
+
+  /**
+   * @param journal The {@link Journal} to replay.
+   * @param adapter The {@link EconomyAdapter} to apply the entries to.
+   *
+   * @since 1.0.0
+   */
+  public JournalReplayer(@NotNull Journal journal, @NotNull EconomyAdapter adapter) {
+    this.journal = journal;
+    this.adapter = adapter;
+  }
+
+  /**
+   * Used to re-apply every unacknowledged entry from previous runs.
+   *
+   * @return The {@link Report} of the replay.
+   *
+   * @throws IOException If the journal couldn't be read or acknowledged.
+   *
+   * @since 1.0.0
+   */
+  public Report replay() throws IOException {
+    final Report report = new Report();
+    journal.unacknowledged(entry->{
+      boolean applied;
+      try {
+        applied = apply(entry);
+      } catch(RuntimeException e) {
+        applied = false;
+      }
+
+      if(applied) {
+        report.replayed++;
+      } else {
+        report.failures.add(entry);
+      }
+    });
+
+    journal.acknowledge(journal.sessionStart() - 1);
+    return report;
+  }
+
+  private boolean apply(JournalEntry entry) {
+    final Account account = account(entry.account(), entry.unique());
+
+    Currency currency = null;
+    if(entry.currency() != null) {
+      currency = currency(entry.currency());
+      if(currency == null) {
+        return false;
+      }
+    }
+
+    final ActionSource source = new PluginSource((entry.source() == null)? "Reserve" : entry.source(),
+                                                 "Journal replay: " + entry.reason());
+    final String world = entry.world();
+
+    final HoldingsActionResult result;
+    switch(entry.type()) {
+      case DEPOSIT:
+        if(world != null) {
+          result = account.deposit(entry.amount(), world, (currency == null)? adapter.getDefaultCurrency(world) : currency, source);
+        } else {
+          result = (currency == null)? account.deposit(entry.amount(), source) : account.deposit(entry.amount(), currency, source);
+        }
+        break;
+      case WITHDRAW:
+        if(world != null) {
+          result = account.withdraw(entry.amount(), world, (currency == null)? adapter.getDefaultCurrency(world) : currency, source);
+        } else {
+          result = (currency == null)? account.withdraw(entry.amount(), source) : account.withdraw(entry.amount(), currency, source);
+        }
+        break;
+      default:
+        final Account receiving = account(entry.receiving(), entry.receivingUnique());
+        if(world != null) {
+          result = account.transfer(receiving, entry.amount(), world, (currency == null)? adapter.getDefaultCurrency(world) : currency, source);
+        } else {
+          result = (currency == null)? account.transfer(receiving, entry.amount(), source) :
+                                       account.transfer(receiving, entry.amount(), currency, source);
+        }
+        break;
+    }
+    return result != null && result.success();
+  }
+
+  private Account account(String identifier, boolean unique) {
+    if(unique) {
+      try {
+        return adapter.getOrCreateAccount(UUID.fromString(identifier));
+      } catch(IllegalArgumentException ignore) {
+        //Not a valid UUID, fall back to the string identifier.
+      }
+    }
+    return adapter.getOrCreateAccount(identifier);
+  }
+
+  private Currency currency(String identifier) {
+    for(Currency currency : adapter.getCurrencies()) {
+      if(currency.identifier().equals(identifier)) {
+        return currency;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * The outcome of a {@link JournalReplayer#replay() replay}.
+   *
+   * @since 1.0.0
+   */
+  public static final class Report {
+
+    private final List<JournalEntry> failures = new ArrayList<>();
+    private int replayed = 0;
+
+    private Report() {
+    }
+
+    /**
+     * @return The number of entries that were re-applied.
+     *
+     * @since 1.0.0
+     */
+    public int replayed() {
+      return replayed;
+    }
+
+    /**
+     * @return The entries that couldn't be re-applied, in the order they were written.
+     *
+     * @since 1.0.0
+     */
+    public List<JournalEntry> failures() {
+      return Collections.unmodifiableList(failures);
+    }
+  }
+}
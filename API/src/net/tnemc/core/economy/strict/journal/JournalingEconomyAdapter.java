@@ -0,0 +1,182 @@
+package net.tnemc.core.economy.strict.journal;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.Transaction;
+import net.tnemc.core.economy.strict.TransactionLeg;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.Money;
+import net.tnemc.core.economy.strict.forwarding.ForwardingEconomyAdapter;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import net.tnemc.core.economy.strict.result.TransactionResult;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An {@link EconomyAdapter} decorator that records every successful deposit, withdrawal and transfer
+ * in a {@link Journal}. This decorator should wrap the economy provider directly, so that the
+ * journal reflects the operations that were actually applied by the provider.
+ *
+ * By default an operation returns as soon as its entry is written to the journal's mapped segment.
+ * In synchronous mode it also waits for the journal's next group commit, so that the entry survives
+ * a crash of the machine.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class JournalingEconomyAdapter extends ForwardingEconomyAdapter {
+
+  private static final long SYNC_TIMEOUT = 5L;
+
+  private final Journal journal;
+  private final boolean sync;
+  private final Logger logger;
+
+  /**
+   * @param delegate The {@link EconomyAdapter} to journal the operations of.
+   * @param journal The {@link Journal} to write to.
+   * @param sync True if operations should wait until their entry is forced to disk.
+   * @param logger The {@link Logger} used to report entries that couldn't be written.
+   *
+   * @since 1.0.0
+   */
+  public JournalingEconomyAdapter(@NotNull EconomyAdapter delegate, @NotNull Journal journal, boolean sync, @NotNull Logger logger) {
+    super(delegate);
+    this.journal = journal;
+    this.sync = sync;
+    this.logger = logger;
+  }
+
+  /**
+   * @return The {@link Journal} this adapter writes to.
+   *
+   * @since 1.0.0
+   */
+  public Journal journal() {
+    return journal;
+  }
+
+  @Override
+  public TransactionResult execute(Transaction transaction) {
+    final TransactionResult result = super.execute(transaction);
+    if(result != null && result.success()) {
+      for(TransactionLeg leg : transaction.legs()) {
+        record(leg.type(), leg.account(), leg.receiving(), leg.amount(), leg.world(), leg.currency(), transaction.source());
+      }
+    }
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult deposit(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.deposit(account, amount, world, currency, source);
+    if(result != null && result.success()) {
+      record(TransactionLeg.Type.DEPOSIT, account, null, amount, world, currency, source);
+    }
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult withdraw(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.withdraw(account, amount, world, currency, source);
+    if(result != null && result.success()) {
+      record(TransactionLeg.Type.WITHDRAW, account, null, amount, world, currency, source);
+    }
+    return result;
+  }
+
+  @Override
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, BigDecimal amount, String world,
+                                              Currency currency, ActionSource source) {
+    final HoldingsMoveActionResult result = super.transfer(account, receiving, amount, world, currency, source);
+    if(result != null && result.success()) {
+      record(TransactionLeg.Type.TRANSFER, account, receiving, amount, world, currency, source);
+    }
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult deposit(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.deposit(account, amount, world, currency, source);
+    if(result != null && result.success()) {
+      record(TransactionLeg.Type.DEPOSIT, account, null, amount.toBigDecimal(), world, currency, source);
+    }
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult withdraw(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.withdraw(account, amount, world, currency, source);
+    if(result != null && result.success()) {
+      record(TransactionLeg.Type.WITHDRAW, account, null, amount.toBigDecimal(), world, currency, source);
+    }
+    return result;
+  }
+
+  @Override
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, Money amount, String world,
+                                              Currency currency, ActionSource source) {
+    final HoldingsMoveActionResult result = super.transfer(account, receiving, amount, world, currency, source);
+    if(result != null && result.success()) {
+      record(TransactionLeg.Type.TRANSFER, account, receiving, amount.toBigDecimal(), world, currency, source);
+    }
+    return result;
+  }
+
+  private void record(TransactionLeg.Type type, Account account, Account receiving, BigDecimal amount, String world,
+                      Currency currency, ActionSource source) {
+    final JournalEntry entry = new JournalEntry(type, identifier(account), account instanceof UniqueAccount,
+                                                (receiving == null)? null : identifier(receiving),
+                                                receiving instanceof UniqueAccount, world,
+                                                (currency == null)? null : currency.identifier(), amount,
+                                                (source == null)? null : source.name(),
+                                                (source == null)? null : source.reason());
+
+    //The operation has already been applied, so a journal failure is reported rather than thrown.
+    try {
+      final long sequence = journal.append(entry);
+      if(sync && !journal.awaitFlushed(sequence, SYNC_TIMEOUT, TimeUnit.SECONDS)) {
+        logger.warning("Timed out waiting for journal entry " + sequence + " to be flushed.");
+      }
+    } catch(IOException e) {
+      logger.log(Level.SEVERE, "Unable to journal economy operation: " + entry, e);
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static String identifier(Account account) {
+    if(account instanceof UniqueAccount) {
+      return ((UniqueAccount)account).getUniqueID().toString();
+    }
+    return account.identifier();
+  }
+}
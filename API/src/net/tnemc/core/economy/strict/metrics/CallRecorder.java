@@ -0,0 +1,45 @@
+package net.tnemc.core.economy.strict.metrics;
+
+import net.tnemc.core.generic.source.ActionSource;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Receives the timing of every call made through an {@link InstrumentedEconomyAdapter}. Recorders
+ * are called on the thread that made the call, right after it returns, so they should be cheap.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public interface CallRecorder {
+
+  /**
+   * Used to record a call.
+   *
+   * @param method The name of the called method.
+   * @param source The {@link ActionSource source} of the call, or null if the method doesn't take one.
+   * @param nanos The latency of the call, in nanoseconds.
+   * @param error True if the call threw an exception, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  void record(String method, ActionSource source, long nanos, boolean error);
+}
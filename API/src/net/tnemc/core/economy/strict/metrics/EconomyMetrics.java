@@ -0,0 +1,158 @@
+package net.tnemc.core.economy.strict.metrics;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Collects {@link OperationStats} for economy calls, split by the name of the called method and by
+ * the name of the {@link net.tnemc.core.generic.source.ActionSource source} that made the call.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class EconomyMetrics implements CallRecorder {
+
+  private static final Comparator<OperationStats> BY_CALLS = Comparator.comparingLong(OperationStats::calls).reversed();
+
+  private final Map<String, OperationStats> methods = new ConcurrentHashMap<>();
+  private final Map<String, OperationStats> sources = new ConcurrentHashMap<>();
+
+  @Override
+  public void record(String method, ActionSource source, long nanos, boolean error) {
+    record(method, (source == null)? null : source.name(), nanos, error);
+  }
+
+  /**
+   * Used to record a call.
+   *
+   * @param method The name of the called method.
+   * @param source The name of the source of the call, or null if the method doesn't take a source.
+   * @param nanos The latency of the call, in nanoseconds.
+   * @param error True if the call threw an exception, otherwise false.
+   *
+   * @since 1.0.0
+   */
+  public void record(@NotNull String method, String source, long nanos, boolean error) {
+    stats(methods, method).record(nanos, error);
+    if(source != null) {
+      stats(sources, source).record(nanos, error);
+    }
+  }
+
+  /**
+   * @return The statistics of every called method, ordered by the number of calls.
+   *
+   * @since 1.0.0
+   */
+  public List<OperationStats> methods() {
+    return sorted(methods);
+  }
+
+  /**
+   * @return The statistics of every source that made a call, ordered by the number of calls.
+   *
+   * @since 1.0.0
+   */
+  public List<OperationStats> sources() {
+    return sorted(sources);
+  }
+
+  /**
+   * @param method The name of the method.
+   *
+   * @return An optional containing the statistics of the method if it has been called, otherwise an
+   * empty optional.
+   *
+   * @since 1.0.0
+   */
+  public Optional<OperationStats> method(@NotNull String method) {
+    return Optional.ofNullable(methods.get(method));
+  }
+
+  /**
+   * @param source The name of the source.
+   *
+   * @return An optional containing the statistics of the source if it has made a call, otherwise an
+   * empty optional.
+   *
+   * @since 1.0.0
+   */
+  public Optional<OperationStats> source(@NotNull String source) {
+    return Optional.ofNullable(sources.get(source));
+  }
+
+  /**
+   * @return The total number of recorded calls.
+   *
+   * @since 1.0.0
+   */
+  public long calls() {
+    long calls = 0;
+    for(OperationStats stats : methods.values()) {
+      calls += stats.calls();
+    }
+    return calls;
+  }
+
+  /**
+   * @return The total number of recorded calls that threw an exception.
+   *
+   * @since 1.0.0
+   */
+  public long errors() {
+    long errors = 0;
+    for(OperationStats stats : methods.values()) {
+      errors += stats.errors();
+    }
+    return errors;
+  }
+
+  /**
+   * Used to clear every recorded call.
+   *
+   * @since 1.0.0
+   */
+  public void reset() {
+    methods.values().forEach(OperationStats::reset);
+    sources.values().forEach(OperationStats::reset);
+  }
+
+  private static OperationStats stats(Map<String, OperationStats> map, String name) {
+    final OperationStats stats = map.get(name);
+    return (stats != null)? stats : map.computeIfAbsent(name, OperationStats::new);
+  }
+
+  private static List<OperationStats> sorted(Map<String, OperationStats> map) {
+    final List<OperationStats> list = new ArrayList<>(map.values());
+    list.sort(BY_CALLS);
+    return Collections.unmodifiableList(list);
+  }
+}
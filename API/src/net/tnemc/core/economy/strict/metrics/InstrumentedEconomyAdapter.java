@@ -0,0 +1,258 @@
+package net.tnemc.core.economy.strict.metrics;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.Transaction;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.Money;
+import net.tnemc.core.economy.strict.forwarding.ForwardingEconomyAdapter;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import net.tnemc.core.economy.strict.result.TransactionResult;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An {@link EconomyAdapter} decorator that times every adapter and account call, and passes the
+ * timings to its {@link CallRecorder recorders}, such as {@link EconomyMetrics}. Account calls are
+ * recorded with an "account." prefix, for example "account.deposit".
+ *
+ * This decorator should be placed outermost, so the recorded latencies include every other decorator.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class InstrumentedEconomyAdapter extends ForwardingEconomyAdapter {
+
+  private final CallRecorder[] recorders;
+
+  /**
+   * @param delegate The {@link EconomyAdapter} to record the calls of.
+   * @param recorders The {@link CallRecorder recorders} to pass the timings to.
+   *
+   * @since 1.0.0
+   */
+  public InstrumentedEconomyAdapter(@NotNull EconomyAdapter delegate, @NotNull CallRecorder... recorders) {
+    super(delegate);
+    this.recorders = recorders.clone();
+  }
+
+  /**
+   * @return The {@link CallRecorder recorders} this adapter passes its timings to.
+   *
+   * @since 1.0.0
+   */
+  public List<CallRecorder> recorders() {
+    return Collections.unmodifiableList(Arrays.asList(recorders));
+  }
+
+  @Override
+  public boolean hasAccount(String identifier) {
+    return time("hasAccount", null, ()->super.hasAccount(identifier));
+  }
+
+  @Override
+  public boolean hasAccount(UUID identifier) {
+    return time("hasAccount", null, ()->super.hasAccount(identifier));
+  }
+
+  @Override
+  public Account getOrCreateAccount(String identifier) {
+    return time("getOrCreateAccount", null, ()->super.getOrCreateAccount(identifier));
+  }
+
+  @Override
+  public UniqueAccount getOrCreateAccount(UUID identifier) {
+    return time("getOrCreateAccount", null, ()->super.getOrCreateAccount(identifier));
+  }
+
+  @Override
+  public boolean createAccount(String identifier) {
+    return time("createAccount", null, ()->super.createAccount(identifier));
+  }
+
+  @Override
+  public boolean createAccount(UUID identifier, String name) {
+    return time("createAccount", null, ()->super.createAccount(identifier, name));
+  }
+
+  @Override
+  public Optional<Account> getAccount(String identifier) {
+    return time("getAccount", null, ()->super.getAccount(identifier));
+  }
+
+  @Override
+  public Optional<UniqueAccount> getAccount(UUID identifier) {
+    return time("getAccount", null, ()->super.getAccount(identifier));
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(String identifier, ActionSource source) {
+    return time("deleteAccount", source, ()->super.deleteAccount(identifier, source));
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(UUID identifier, ActionSource source) {
+    return time("deleteAccount", source, ()->super.deleteAccount(identifier, source));
+  }
+
+  @Override
+  public Map<String, Boolean> hasAccounts(Collection<String> identifiers) {
+    return time("hasAccounts", null, ()->super.hasAccounts(identifiers));
+  }
+
+  @Override
+  public Map<UUID, Boolean> hasUniqueAccounts(Collection<UUID> identifiers) {
+    return time("hasUniqueAccounts", null, ()->super.hasUniqueAccounts(identifiers));
+  }
+
+  @Override
+  public Map<String, Account> getAccounts(Collection<String> identifiers) {
+    return time("getAccounts", null, ()->super.getAccounts(identifiers));
+  }
+
+  @Override
+  public Map<UUID, UniqueAccount> getUniqueAccounts(Collection<UUID> identifiers) {
+    return time("getUniqueAccounts", null, ()->super.getUniqueAccounts(identifiers));
+  }
+
+  @Override
+  public Map<UUID, UniqueAccount> getOrCreateUniqueAccounts(Collection<UUID> identifiers) {
+    return time("getOrCreateUniqueAccounts", null, ()->super.getOrCreateUniqueAccounts(identifiers));
+  }
+
+  @Override
+  public Map<UUID, Boolean> createAccounts(Map<UUID, String> accounts) {
+    return time("createAccounts", null, ()->super.createAccounts(accounts));
+  }
+
+  @Override
+  public TransactionResult execute(Transaction transaction) {
+    return time("execute", transaction.source(), ()->super.execute(transaction));
+  }
+
+  @Override
+  public Currency getDefaultCurrency() {
+    return time("getDefaultCurrency", null, super::getDefaultCurrency);
+  }
+
+  @Override
+  public Currency getDefaultCurrency(String world) {
+    return time("getDefaultCurrency", null, ()->super.getDefaultCurrency(world));
+  }
+
+  @Override
+  public Set<Currency> getCurrencies() {
+    return time("getCurrencies", null, super::getCurrencies);
+  }
+
+  @Override
+  public Set<Currency> getCurrencies(String world) {
+    return time("getCurrencies", null, ()->super.getCurrencies(world));
+  }
+
+  @Override
+  protected BigDecimal holdings(Account account, String world, Currency currency) {
+    return time("account.holdings", null, ()->super.holdings(account, world, currency));
+  }
+
+  @Override
+  protected boolean has(Account account, String world, Currency currency, BigDecimal amount) {
+    return time("account.has", null, ()->super.has(account, world, currency, amount));
+  }
+
+  @Override
+  protected Map<Currency, BigDecimal> getMultiHoldings(Account account, String world) {
+    return time("account.getMultiHoldings", null, ()->super.getMultiHoldings(account, world));
+  }
+
+  @Override
+  protected HoldingsActionResult deposit(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return time("account.deposit", source, ()->super.deposit(account, amount, world, currency, source));
+  }
+
+  @Override
+  protected HoldingsActionResult withdraw(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    return time("account.withdraw", source, ()->super.withdraw(account, amount, world, currency, source));
+  }
+
+  @Override
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, BigDecimal amount, String world,
+                                              Currency currency, ActionSource source) {
+    return time("account.transfer", source, ()->super.transfer(account, receiving, amount, world, currency, source));
+  }
+
+  @Override
+  protected Money holdingsMoney(Account account, String world, Currency currency) {
+    return time("account.holdings", null, ()->super.holdingsMoney(account, world, currency));
+  }
+
+  @Override
+  protected boolean has(Account account, String world, Currency currency, Money amount) {
+    return time("account.has", null, ()->super.has(account, world, currency, amount));
+  }
+
+  @Override
+  protected HoldingsActionResult deposit(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    return time("account.deposit", source, ()->super.deposit(account, amount, world, currency, source));
+  }
+
+  @Override
+  protected HoldingsActionResult withdraw(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    return time("account.withdraw", source, ()->super.withdraw(account, amount, world, currency, source));
+  }
+
+  @Override
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, Money amount, String world,
+                                              Currency currency, ActionSource source) {
+    return time("account.transfer", source, ()->super.transfer(account, receiving, amount, world, currency, source));
+  }
+
+  private <T> T time(String method, ActionSource source, Supplier<T> call) {
+    final long start = System.nanoTime();
+    boolean error = true;
+    try {
+      final T result = call.get();
+      error = false;
+      return result;
+    } finally {
+      final long nanos = System.nanoTime() - start;
+      for(CallRecorder recorder : recorders) {
+        recorder.record(method, source, nanos, error);
+      }
+    }
+  }
+}
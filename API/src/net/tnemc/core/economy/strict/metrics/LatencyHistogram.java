@@ -0,0 +1,153 @@
+package net.tnemc.core.economy.strict.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A lock-free histogram of latencies, in nanoseconds.
+ *
+ * Values are counted in log-linear buckets: every power of two is split into eight buckets, so a
+ * reported percentile is at most 12.5% above the actual value, while the histogram stays a fixed
+ * size no matter how many values are recorded. Recording a value is a single atomic increment.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BITS;
+  private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder total = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+  /**
+   * Used to record a latency.
+   *
+   * @param nanos The latency in nanoseconds. Negative values are recorded as zero.
+   *
+   * @since 1.0.0
+   */
+  public void record(long nanos) {
+    final long value = Math.max(0L, nanos);
+    counts.incrementAndGet(index(value));
+    total.increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * @return The number of recorded latencies.
+   *
+   * @since 1.0.0
+   */
+  public long count() {
+    return total.sum();
+  }
+
+  /**
+   * @return The highest recorded latency, in nanoseconds.
+   *
+   * @since 1.0.0
+   */
+  public long max() {
+    return max.get();
+  }
+
+  /**
+   * @return The mean of the recorded latencies, in nanoseconds.
+   *
+   * @since 1.0.0
+   */
+  public double mean() {
+    final long count = total.sum();
+    return (count == 0)? 0.0 : (double)sum.sum() / count;
+  }
+
+  /**
+   * Used to get the latency below which the specified fraction of the recorded latencies fall.
+   *
+   * @param quantile The quantile, from 0.0 to 1.0. For example 0.99 for the 99th percentile.
+   *
+   * @return The latency at the quantile, in nanoseconds, or 0 if nothing has been recorded.
+   *
+   * @since 1.0.0
+   */
+  public long percentile(double quantile) {
+    final long[] snapshot = new long[BUCKETS];
+    long count = 0;
+    for(int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      count += snapshot[i];
+    }
+    if(count == 0) {
+      return 0L;
+    }
+
+    final long rank = Math.max(1L, (long)Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * count));
+    long seen = 0;
+    for(int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if(seen >= rank) {
+        return Math.min(upperBound(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Used to clear every recorded latency.
+   *
+   * @since 1.0.0
+   */
+  public void reset() {
+    for(int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0L);
+    }
+    total.reset();
+    sum.reset();
+    max.reset();
+  }
+
+  static int index(long value) {
+    if(value < SUB_BUCKETS) {
+      return (int)value;
+    }
+    final int exponent = 63 - Long.numberOfLeadingZeros(value);
+    final int sub = (int)(value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  static long upperBound(int index) {
+    if(index < SUB_BUCKETS) {
+      return index;
+    }
+    final int shift = index / SUB_BUCKETS - 1;
+    final long lower = (long)(SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    return lower + (1L << shift) - 1;
+  }
+}
@@ -0,0 +1,117 @@
+package net.tnemc.core.economy.strict.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The call count, error count and {@link LatencyHistogram latencies} recorded for one operation, or
+ * for one {@link net.tnemc.core.generic.source.ActionSource source}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class OperationStats {
+
+  private final LatencyHistogram latency = new LatencyHistogram();
+  private final LongAdder errors = new LongAdder();
+
+  private final String name;
+
+  OperationStats(String name) {
+    this.name = name;
+  }
+
+  void record(long nanos, boolean error) {
+    latency.record(nanos);
+    if(error) {
+      errors.increment();
+    }
+  }
+
+  void reset() {
+    latency.reset();
+    errors.reset();
+  }
+
+  /**
+   * @return The name of the operation or source these statistics are for.
+   *
+   * @since 1.0.0
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * @return The number of recorded calls.
+   *
+   * @since 1.0.0
+   */
+  public long calls() {
+    return latency.count();
+  }
+
+  /**
+   * @return The number of recorded calls that threw an exception.
+   *
+   * @since 1.0.0
+   */
+  public long errors() {
+    return errors.sum();
+  }
+
+  /**
+   * @return The {@link LatencyHistogram} of the recorded calls.
+   *
+   * @since 1.0.0
+   */
+  public LatencyHistogram latency() {
+    return latency;
+  }
+
+  /**
+   * @return The median latency, in nanoseconds.
+   *
+   * @since 1.0.0
+   */
+  public long p50() {
+    return latency.percentile(0.5);
+  }
+
+  /**
+   * @return The 99th percentile latency, in nanoseconds.
+   *
+   * @since 1.0.0
+   */
+  public long p99() {
+    return latency.percentile(0.99);
+  }
+
+  /**
+   * @return The 99.9th percentile latency, in nanoseconds.
+   *
+   * @since 1.0.0
+   */
+  public long p999() {
+    return latency.percentile(0.999);
+  }
+}
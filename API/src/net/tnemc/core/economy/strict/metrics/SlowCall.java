@@ -0,0 +1,91 @@
+package net.tnemc.core.economy.strict.metrics;
+
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A call that exceeded the threshold of a {@link SlowCallWatchdog}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class SlowCall {
+
+  private final long time = System.currentTimeMillis();
+
+  private final String method;
+  private final String blame;
+  private final long nanos;
+  private final StackTraceElement[] stack;
+
+  SlowCall(String method, String blame, long nanos, StackTraceElement[] stack) {
+    this.method = method;
+    this.blame = blame;
+    this.nanos = nanos;
+    this.stack = stack;
+  }
+
+  /**
+   * @return The time the call completed, in milliseconds since the epoch.
+   *
+   * @since 1.0.0
+   */
+  public long time() {
+    return time;
+  }
+
+  /**
+   * @return The name of the called method.
+   *
+   * @since 1.0.0
+   */
+  public String method() {
+    return method;
+  }
+
+  /**
+   * @return The name of the plugin the call is blamed on.
+   *
+   * @since 1.0.0
+   */
+  public String blame() {
+    return blame;
+  }
+
+  /**
+   * @return The latency of the call, in nanoseconds.
+   *
+   * @since 1.0.0
+   */
+  public long nanos() {
+    return nanos;
+  }
+
+  /**
+   * @return The stack of the thread that made the call, starting at the caller of the economy, or
+   * an empty array if it wasn't captured.
+   *
+   * @since 1.0.0
+   */
+  public StackTraceElement[] stack() {
+    return stack.clone();
+  }
+}
@@ -0,0 +1,301 @@
+package net.tnemc.core.economy.strict.metrics;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.generic.source.ActionSource;
+import net.tnemc.core.generic.source.BridgeSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A {@link CallRecorder} that flags calls made on the server's main thread which take longer than a
+ * threshold, and blames them on the plugin that made the call.
+ *
+ * A call is blamed on the name of its {@link ActionSource} when it has one. Otherwise, or when the
+ * source is a {@link BridgeSource} that only names the bridge, the stack of the calling thread is
+ * walked and passed to a resolver, which maps it to a plugin. Stacks are only captured for slow calls,
+ * and for calls with a source only when they're the worst call of their plugin so far, so fast calls
+ * never pay for a stack walk. Only one in every {@code sample} of the slow calls that need the stack
+ * to be blamed walks it. The others are blamed on their bridge, or on an unknown plugin.
+ *
+ * The most recent slow calls are kept in a fixed-size ring buffer, and every plugin that made a slow
+ * call has an {@link Offender} entry with its totals and its worst call.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class SlowCallWatchdog implements CallRecorder {
+
+  private static final String UNKNOWN = "Unknown";
+  private static final String PACKAGE = "net.tnemc.core.economy.strict.";
+  private static final StackTraceElement[] NO_STACK = new StackTraceElement[0];
+  private static final Comparator<Offender> BY_TOTAL = Comparator.comparingLong(Offender::totalNanos).reversed();
+
+  private final Map<String, Offender> offenders = new ConcurrentHashMap<>();
+
+  private final SlowCall[] recent;
+  private final int maximumOffenders;
+  private final int sample;
+  private final BooleanSupplier mainThread;
+  private final Function<StackTraceElement[], String> resolver;
+
+  private volatile long thresholdNanos;
+  private int next = 0;
+
+  //Only touched by calls on the main thread.
+  private int unresolved = 0;
+
+  /**
+   * @param threshold The latency above which a call is flagged.
+   * @param unit The {@link TimeUnit} of the threshold.
+   * @param capacity The number of slow calls kept in the ring buffer, which is also the maximum number
+   * of offenders tracked.
+   * @param sample The stack is walked for one in every this many slow calls that don't name their
+   * plugin. 1 walks it for every such call.
+   * @param mainThread Returns true if the calling thread is the server's main thread.
+   * @param resolver Maps the stack of a call without a source to the name of the calling plugin, or
+   * returns null if no plugin could be found.
+   *
+   * @since 1.0.0
+   */
+  public SlowCallWatchdog(long threshold, @NotNull TimeUnit unit, int capacity, int sample,
+                          @NotNull BooleanSupplier mainThread, @NotNull Function<StackTraceElement[], String> resolver) {
+    this.thresholdNanos = unit.toNanos(threshold);
+    this.recent = new SlowCall[Math.max(1, capacity)];
+    this.maximumOffenders = Math.max(1, capacity);
+    this.sample = Math.max(1, sample);
+    this.mainThread = mainThread;
+    this.resolver = resolver;
+  }
+
+  @Override
+  public void record(String method, ActionSource source, long nanos, boolean error) {
+    if(nanos < thresholdNanos || !mainThread.getAsBoolean()) {
+      return;
+    }
+
+    final boolean named = source != null && source.name() != null && !(source instanceof BridgeSource);
+    String blame = (named)? source.name() : null;
+    StackTraceElement[] stack = null;
+    if(!named && unresolved++ % sample == 0) {
+      stack = stack();
+      blame = resolver.apply(stack);
+    }
+
+    if(blame == null) {
+      blame = (source == null || source.name() == null)? UNKNOWN : source.name();
+    }
+
+    Offender offender = offenders.get(blame);
+    if(offender == null) {
+      if(offenders.size() >= maximumOffenders && !offenders.containsKey(blame)) {
+        blame = UNKNOWN;
+      }
+      offender = offenders.computeIfAbsent(blame, Offender::new);
+    }
+
+    if(stack == null && offender.worstNanos() < nanos) {
+      stack = stack();
+    }
+
+    final SlowCall call = new SlowCall(method, blame, nanos, (stack == null)? NO_STACK : stack);
+    offender.add(call);
+    synchronized(recent) {
+      recent[next] = call;
+      next = (next + 1) % recent.length;
+    }
+  }
+
+  /**
+   * @return The latency above which a call is flagged, in nanoseconds.
+   *
+   * @since 1.0.0
+   */
+  public long thresholdNanos() {
+    return thresholdNanos;
+  }
+
+  /**
+   * Used to change the latency above which a call is flagged.
+   *
+   * @param threshold The new threshold.
+   * @param unit The {@link TimeUnit} of the threshold.
+   *
+   * @since 1.0.0
+   */
+  public void threshold(long threshold, @NotNull TimeUnit unit) {
+    this.thresholdNanos = unit.toNanos(threshold);
+  }
+
+  /**
+   * @return Every plugin that made a slow call, ordered by the total time of their slow calls.
+   *
+   * @since 1.0.0
+   */
+  public List<Offender> offenders() {
+    final List<Offender> list = new ArrayList<>(offenders.values());
+    list.sort(BY_TOTAL);
+    return Collections.unmodifiableList(list);
+  }
+
+  /**
+   * @param name The name of the plugin.
+   *
+   * @return An optional containing the {@link Offender} entry of the plugin if it made a slow call,
+   * otherwise an empty optional.
+   *
+   * @since 1.0.0
+   */
+  public Optional<Offender> offender(@NotNull String name) {
+    for(Offender offender : offenders.values()) {
+      if(offender.name().equalsIgnoreCase(name)) {
+        return Optional.of(offender);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @return The most recent slow calls, newest first.
+   *
+   * @since 1.0.0
+   */
+  public List<SlowCall> recent() {
+    final List<SlowCall> list = new ArrayList<>(recent.length);
+    synchronized(recent) {
+      for(int i = 1; i <= recent.length; i++) {
+        final SlowCall call = recent[(next - i + recent.length) % recent.length];
+        if(call == null) {
+          break;
+        }
+        list.add(call);
+      }
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+  /**
+   * Used to clear every recorded slow call.
+   *
+   * @since 1.0.0
+   */
+  public void reset() {
+    offenders.clear();
+    synchronized(recent) {
+      Arrays.fill(recent, null);
+      next = 0;
+    }
+  }
+
+  /**
+   * Captures the stack of the calling thread, without the frames of Reserve's own decorators.
+   */
+  private static StackTraceElement[] stack() {
+    final StackTraceElement[] stack = new Throwable().getStackTrace();
+    int start = 0;
+    while(start < stack.length && stack[start].getClassName().startsWith(PACKAGE)) {
+      start++;
+    }
+    return Arrays.copyOfRange(stack, start, stack.length);
+  }
+
+  /**
+   * The slow calls made by a single plugin.
+   *
+   * @since 1.0.0
+   */
+  public static final class Offender {
+
+    private final String name;
+
+    private long count = 0;
+    private long totalNanos = 0;
+    private SlowCall worst = null;
+
+    private Offender(String name) {
+      this.name = name;
+    }
+
+    private synchronized void add(SlowCall call) {
+      count++;
+      totalNanos += call.nanos();
+      if(worst == null || call.nanos() > worst.nanos()) {
+        worst = call;
+      }
+    }
+
+    /**
+     * @return The name of the plugin.
+     *
+     * @since 1.0.0
+     */
+    public String name() {
+      return name;
+    }
+
+    /**
+     * @return The number of slow calls made by the plugin.
+     *
+     * @since 1.0.0
+     */
+    public synchronized long count() {
+      return count;
+    }
+
+    /**
+     * @return The total latency of the slow calls made by the plugin, in nanoseconds.
+     *
+     * @since 1.0.0
+     */
+    public synchronized long totalNanos() {
+      return totalNanos;
+    }
+
+    /**
+     * @return The latency of the worst call made by the plugin, in nanoseconds.
+     *
+     * @since 1.0.0
+     */
+    public synchronized long worstNanos() {
+      return (worst == null)? 0L : worst.nanos();
+    }
+
+    /**
+     * @return The worst {@link SlowCall} made by the plugin.
+     *
+     * @since 1.0.0
+     */
+    public synchronized SlowCall worst() {
+      return worst;
+    }
+  }
+}
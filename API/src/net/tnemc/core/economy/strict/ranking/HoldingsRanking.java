@@ -0,0 +1,148 @@
+package net.tnemc.core.economy.strict.ranking;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The ranking of the holdings of every known account for a single world and currency. Updates replace
+ * the account's previous entry in the {@link HoldingsSkipList}, so the ranking is kept up to date
+ * without ever sorting every account.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+final class HoldingsRanking {
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, BigDecimal> holdings = new HashMap<>();
+  private final HoldingsSkipList list = new HoldingsSkipList();
+
+  void update(String identifier, BigDecimal value) {
+
+    //Most updates come from reading holdings that haven't changed, which only needs the read lock.
+    lock.readLock().lock();
+    try {
+      final BigDecimal current = holdings.get(identifier);
+      if(current != null && current.compareTo(value) == 0) {
+        return;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    lock.writeLock().lock();
+    try {
+      final BigDecimal previous = holdings.get(identifier);
+      if(previous != null) {
+        if(previous.compareTo(value) == 0) {
+          return;
+        }
+        list.remove(identifier, previous);
+      }
+      holdings.put(identifier, value);
+      list.insert(identifier, value);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Adds an account only if it isn't ranked yet, so a value read while seeding never replaces a newer
+   * value from a change made in the meantime.
+   */
+  boolean seed(String identifier, BigDecimal value) {
+    lock.writeLock().lock();
+    try {
+      if(holdings.putIfAbsent(identifier, value) != null) {
+        return false;
+      }
+      list.insert(identifier, value);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  void remove(String identifier) {
+    lock.writeLock().lock();
+    try {
+      final BigDecimal previous = holdings.remove(identifier);
+      if(previous != null) {
+        list.remove(identifier, previous);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  long rank(String identifier) {
+    lock.readLock().lock();
+    try {
+      final BigDecimal value = holdings.get(identifier);
+      return (value == null)? -1L : list.rank(identifier, value);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  long countAbove(BigDecimal minimum) {
+    lock.readLock().lock();
+    try {
+      return list.countAbove(minimum);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  List<RankedHoldings> top(long offset, int limit) {
+    lock.readLock().lock();
+    try {
+      return list.range(offset, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  List<RankedHoldings> above(BigDecimal minimum, long offset, int limit) {
+    lock.readLock().lock();
+    try {
+      final long count = list.countAbove(minimum);
+      return list.range(offset, (int)Math.max(0L, Math.min(limit, count - offset)));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  int size() {
+    lock.readLock().lock();
+    try {
+      return list.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package net.tnemc.core.economy.strict.ranking;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An indexable skip list of account holdings, ordered from the highest holdings to the lowest, with
+ * ties ordered by identifier. Every link stores the number of entries it skips, so the rank of an
+ * entry and the entry at a rank are both found in O(log n), in the same way as Redis sorted sets.
+ *
+ * This class is not thread-safe.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+final class HoldingsSkipList {
+
+  private static final int MAX_LEVEL = 32;
+  private static final int PROBABILITY = 4;
+
+  private final Node head = new Node(null, null, MAX_LEVEL);
+  private int level = 1;
+  private int size = 0;
+
+  int size() {
+    return size;
+  }
+
+  void insert(String identifier, BigDecimal holdings) {
+    final Node[] update = new Node[MAX_LEVEL];
+    final int[] rank = new int[MAX_LEVEL];
+
+    Node node = head;
+    for(int i = level - 1; i >= 0; i--) {
+      rank[i] = (i == level - 1)? 0 : rank[i + 1];
+      while(node.next[i] != null && compare(node.next[i], holdings, identifier) < 0) {
+        rank[i] += node.span[i];
+        node = node.next[i];
+      }
+      update[i] = node;
+    }
+
+    final int nodeLevel = randomLevel();
+    if(nodeLevel > level) {
+      for(int i = level; i < nodeLevel; i++) {
+        rank[i] = 0;
+        update[i] = head;
+        head.span[i] = size;
+      }
+      level = nodeLevel;
+    }
+
+    final Node inserted = new Node(identifier, holdings, nodeLevel);
+    for(int i = 0; i < nodeLevel; i++) {
+      inserted.next[i] = update[i].next[i];
+      update[i].next[i] = inserted;
+
+      inserted.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+      update[i].span[i] = (rank[0] - rank[i]) + 1;
+    }
+
+    for(int i = nodeLevel; i < level; i++) {
+      update[i].span[i]++;
+    }
+    size++;
+  }
+
+  boolean remove(String identifier, BigDecimal holdings) {
+    final Node[] update = new Node[MAX_LEVEL];
+
+    Node node = head;
+    for(int i = level - 1; i >= 0; i--) {
+      while(node.next[i] != null && compare(node.next[i], holdings, identifier) < 0) {
+        node = node.next[i];
+      }
+      update[i] = node;
+    }
+
+    final Node removed = node.next[0];
+    if(removed == null || compare(removed, holdings, identifier) != 0) {
+      return false;
+    }
+
+    for(int i = 0; i < level; i++) {
+      if(update[i].next[i] == removed) {
+        update[i].span[i] += removed.span[i] - 1;
+        update[i].next[i] = removed.next[i];
+      } else {
+        update[i].span[i]--;
+      }
+    }
+
+    while(level > 1 && head.next[level - 1] == null) {
+      level--;
+    }
+    size--;
+    return true;
+  }
+
+  /**
+   * @return The 1-based rank of the entry, or 0 if it isn't in the list.
+   */
+  long rank(String identifier, BigDecimal holdings) {
+    long rank = 0;
+    Node node = head;
+    for(int i = level - 1; i >= 0; i--) {
+      while(node.next[i] != null && compare(node.next[i], holdings, identifier) <= 0) {
+        rank += node.span[i];
+        node = node.next[i];
+      }
+      if(node != head && compare(node, holdings, identifier) == 0) {
+        return rank;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * @return The number of entries with holdings greater than the minimum.
+   */
+  long countAbove(BigDecimal minimum) {
+    long count = 0;
+    Node node = head;
+    for(int i = level - 1; i >= 0; i--) {
+      while(node.next[i] != null && node.next[i].holdings.compareTo(minimum) > 0) {
+        count += node.span[i];
+        node = node.next[i];
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @return Up to limit entries, starting at the 0-based offset.
+   */
+  List<RankedHoldings> range(long offset, int limit) {
+    final List<RankedHoldings> range = new ArrayList<>(Math.max(0, Math.min(limit, size)));
+    if(offset < 0 || offset >= size || limit <= 0) {
+      return range;
+    }
+
+    long traversed = 0;
+    Node node = head;
+    for(int i = level - 1; i >= 0; i--) {
+      while(node.next[i] != null && traversed + node.span[i] <= offset + 1) {
+        traversed += node.span[i];
+        node = node.next[i];
+      }
+    }
+
+    while(node != null && range.size() < limit) {
+      range.add(new RankedHoldings(node.identifier, traversed, node.holdings));
+      node = node.next[0];
+      traversed++;
+    }
+    return range;
+  }
+
+  /**
+   * Compares the node's entry to the specified entry, where entries with higher holdings come first.
+   */
+  private static int compare(Node node, BigDecimal holdings, String identifier) {
+    final int result = holdings.compareTo(node.holdings);
+    return (result != 0)? result : node.identifier.compareTo(identifier);
+  }
+
+  private static int randomLevel() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    int level = 1;
+    while(level < MAX_LEVEL && random.nextInt(PROBABILITY) == 0) {
+      level++;
+    }
+    return level;
+  }
+
+  private static final class Node {
+
+    private final String identifier;
+    private final BigDecimal holdings;
+    private final Node[] next;
+    private final int[] span;
+
+    private Node(String identifier, BigDecimal holdings, int level) {
+      this.identifier = identifier;
+      this.holdings = holdings;
+      this.next = new Node[level];
+      this.span = new int[level];
+    }
+  }
+}
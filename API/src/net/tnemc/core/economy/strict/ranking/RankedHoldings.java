@@ -0,0 +1,74 @@
+package net.tnemc.core.economy.strict.ranking;
+
+import java.math.BigDecimal;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * The holdings of an account together with its position in a holdings ranking.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class RankedHoldings {
+
+  private final String identifier;
+  private final long rank;
+  private final BigDecimal holdings;
+
+  public RankedHoldings(String identifier, long rank, BigDecimal holdings) {
+    this.identifier = identifier;
+    this.rank = rank;
+    this.holdings = holdings;
+  }
+
+  /**
+   * @return The identifier of the account.
+   *
+   * @since 1.0.0
+   */
+  public String identifier() {
+    return identifier;
+  }
+
+  /**
+   * @return The position of the account, where 1 is the account with the highest holdings.
+   *
+   * @since 1.0.0
+   */
+  public long rank() {
+    return rank;
+  }
+
+  /**
+   * @return The holdings of the account.
+   *
+   * @since 1.0.0
+   */
+  public BigDecimal holdings() {
+    return holdings;
+  }
+
+  @Override
+  public String toString() {
+    return "#" + rank + " " + identifier + ": " + holdings.toPlainString();
+  }
+}
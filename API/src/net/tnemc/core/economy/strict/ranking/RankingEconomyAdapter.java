@@ -0,0 +1,321 @@
+package net.tnemc.core.economy.strict.ranking;
+
+import com.sun.istack.internal.NotNull;
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.Transaction;
+import net.tnemc.core.economy.strict.TransactionLeg;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.Money;
+import net.tnemc.core.economy.strict.forwarding.ForwardingEconomyAdapter;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import net.tnemc.core.economy.strict.result.TransactionResult;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+import net.tnemc.core.generic.source.ActionSource;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An {@link EconomyAdapter} decorator that keeps a ranking of account holdings for every world and
+ * currency, and uses it to answer {@link #topHoldings(String, Currency, int, int)},
+ * {@link #rank(Account, String, Currency)} and the other ranking queries in O(log n).
+ *
+ * The rankings are updated incrementally: every holdings value read through this adapter, and every
+ * holdings value returned by a successful deposit, withdrawal, transfer or transaction replaces the
+ * account's previous entry. Accounts only appear in a ranking once their holdings have been seen, so
+ * a complete ranking needs to be {@link #seed(Iterable, Collection) seeded} with the provider's
+ * accounts, which is only done for providers that implement {@link SeedableEconomy}. The rankings of
+ * other providers fill in as their accounts are used. The rankings can be handed on to a new adapter for the same economy when its decorators
+ * are rebuilt, so they don't need to be seeded again.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class RankingEconomyAdapter extends ForwardingEconomyAdapter {
+
+  private final Map<String, Map<String, HoldingsRanking>> rankings;
+
+  /**
+   * @param delegate The {@link EconomyAdapter} to rank the holdings of.
+   *
+   * @since 1.0.0
+   */
+  public RankingEconomyAdapter(@NotNull EconomyAdapter delegate) {
+    this(delegate, null);
+  }
+
+  /**
+   * @param delegate The {@link EconomyAdapter} to rank the holdings of.
+   * @param previous The {@link RankingEconomyAdapter} that ranked the same economy before, whose
+   *                 rankings are kept and shared with this adapter, or null to start empty.
+   *
+   * @since 1.0.0
+   */
+  public RankingEconomyAdapter(@NotNull EconomyAdapter delegate, RankingEconomyAdapter previous) {
+    super(delegate);
+    this.rankings = (previous == null)? new ConcurrentHashMap<>() : previous.rankings;
+  }
+
+  /**
+   * Used to add an account to the ranking of a world and currency, by reading its holdings. Accounts
+   * that are already ranked keep their entry, since it was set by a later change.
+   *
+   * @param account The {@link Account} to add.
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   *
+   * @since 1.0.0
+   */
+  public void seed(@NotNull Account account, @NotNull String world, @NotNull Currency currency) {
+    final Account unwrapped = unwrap(account);
+    final BigDecimal holdings = unwrapped.holdings(world, currency);
+    if(holdings != null) {
+      ranking(world, currency, true).seed(unwrapped.identifier(), holdings);
+    }
+  }
+
+  /**
+   * Used to add accounts to the rankings of every currency of the specified worlds.
+   *
+   * @param accounts The {@link Account accounts} to add.
+   * @param worlds The names of the worlds.
+   *
+   * @return The number of accounts that were seeded.
+   *
+   * @since 1.0.0
+   */
+  public int seed(@NotNull Iterable<? extends Account> accounts, @NotNull Collection<String> worlds) {
+    int seeded = 0;
+    for(Account account : accounts) {
+      for(String world : worlds) {
+        final Collection<Currency> currencies = delegate.getCurrencies(world);
+        if(currencies == null) {
+          continue;
+        }
+        for(Currency currency : currencies) {
+          seed(account, world, currency);
+        }
+      }
+      seeded++;
+    }
+    return seeded;
+  }
+
+  /**
+   * @param world The name of the world.
+   * @param currency The {@link Currency} of the holdings.
+   *
+   * @return The number of accounts in the ranking of the world and currency.
+   *
+   * @since 1.0.0
+   */
+  public int size(@NotNull String world, @NotNull Currency currency) {
+    final HoldingsRanking ranking = ranking(world, currency, false);
+    return (ranking == null)? 0 : ranking.size();
+  }
+
+  @Override
+  public List<RankedHoldings> topHoldings(String world, Currency currency, int offset, int limit) {
+    final HoldingsRanking ranking = ranking(world, currency, false);
+    return (ranking == null)? Collections.emptyList() : ranking.top(offset, limit);
+  }
+
+  @Override
+  public long rank(Account account, String world, Currency currency) {
+    final HoldingsRanking ranking = ranking(world, currency, false);
+    return (ranking == null)? -1L : ranking.rank(account.identifier());
+  }
+
+  @Override
+  public List<RankedHoldings> holdingsAbove(String world, Currency currency, BigDecimal minimum, int offset, int limit) {
+    final HoldingsRanking ranking = ranking(world, currency, false);
+    return (ranking == null)? Collections.emptyList() : ranking.above(minimum, offset, limit);
+  }
+
+  @Override
+  public long countAbove(String world, Currency currency, BigDecimal minimum) {
+    final HoldingsRanking ranking = ranking(world, currency, false);
+    return (ranking == null)? -1L : ranking.countAbove(minimum);
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(String identifier, ActionSource source) {
+    final Optional<Account> account = delegate.getAccount(identifier);
+    final EconomyResponse response = super.deleteAccount(identifier, source);
+    if(response != null && response.success()) {
+      remove(account.map(Account::identifier).orElse(identifier));
+    }
+    return response;
+  }
+
+  @Override
+  public EconomyResponse deleteAccount(UUID identifier, ActionSource source) {
+    final Optional<UniqueAccount> account = delegate.getAccount(identifier);
+    final EconomyResponse response = super.deleteAccount(identifier, source);
+    if(response != null && response.success()) {
+      remove(account.map(Account::identifier).orElse(identifier.toString()));
+    }
+    return response;
+  }
+
+  @Override
+  public TransactionResult execute(Transaction transaction) {
+    final TransactionResult result = super.execute(transaction);
+    final List<TransactionLeg> legs = transaction.legs();
+    final List<HoldingsActionResult> results = (result == null)? null : result.results();
+    if(result == null || !result.success() || results == null || results.size() != legs.size()) {
+      return result;
+    }
+
+    for(int i = 0; i < legs.size(); i++) {
+      final TransactionLeg leg = legs.get(i);
+      updated(leg.account(), leg.receiving(), leg.world(), leg.currency(), results.get(i));
+    }
+    return result;
+  }
+
+  @Override
+  protected BigDecimal holdings(Account account, String world, Currency currency) {
+    final BigDecimal holdings = super.holdings(account, world, currency);
+    update(account, world, (currency == null)? delegate.getDefaultCurrency(world) : currency, holdings);
+    return holdings;
+  }
+
+  @Override
+  protected Money holdingsMoney(Account account, String world, Currency currency) {
+    final Money holdings = super.holdingsMoney(account, world, currency);
+    if(holdings != null) {
+      update(account, world, (currency == null)? delegate.getDefaultCurrency(world) : currency, holdings.toBigDecimal());
+    }
+    return holdings;
+  }
+
+  @Override
+  protected Map<Currency, BigDecimal> getMultiHoldings(Account account, String world) {
+    final Map<Currency, BigDecimal> holdings = super.getMultiHoldings(account, world);
+    if(holdings != null) {
+      for(Map.Entry<Currency, BigDecimal> entry : holdings.entrySet()) {
+        update(account, world, entry.getKey(), entry.getValue());
+      }
+    }
+    return holdings;
+  }
+
+  @Override
+  protected HoldingsActionResult deposit(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.deposit(account, amount, world, currency, source);
+    updated(account, null, world, currency, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult withdraw(Account account, BigDecimal amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.withdraw(account, amount, world, currency, source);
+    updated(account, null, world, currency, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, BigDecimal amount, String world,
+                                              Currency currency, ActionSource source) {
+    final HoldingsMoveActionResult result = super.transfer(account, receiving, amount, world, currency, source);
+    updated(account, receiving, world, currency, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult deposit(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.deposit(account, amount, world, currency, source);
+    updated(account, null, world, currency, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsActionResult withdraw(Account account, Money amount, String world, Currency currency, ActionSource source) {
+    final HoldingsActionResult result = super.withdraw(account, amount, world, currency, source);
+    updated(account, null, world, currency, result);
+    return result;
+  }
+
+  @Override
+  protected HoldingsMoveActionResult transfer(Account account, Account receiving, Money amount, String world,
+                                              Currency currency, ActionSource source) {
+    final HoldingsMoveActionResult result = super.transfer(account, receiving, amount, world, currency, source);
+    updated(account, receiving, world, currency, result);
+    return result;
+  }
+
+  private void updated(Account account, Account receiving, String world, Currency currency, HoldingsActionResult result) {
+
+    //Without a world the holdings can't be attributed to a ranking, they're picked up on the next read.
+    if(world == null || result == null || !result.success()) {
+      return;
+    }
+
+    final Currency resolved = (currency == null)? delegate.getDefaultCurrency(world) : currency;
+    update(account, world, resolved, result.holdings());
+    if(receiving != null && result instanceof HoldingsMoveActionResult) {
+      update(receiving, world, resolved, ((HoldingsMoveActionResult)result).receivingHoldings());
+    }
+  }
+
+  private void update(Account account, String world, Currency currency, BigDecimal holdings) {
+    if(holdings == null || currency == null) {
+      return;
+    }
+    ranking(world, currency, true).update(unwrap(account).identifier(), holdings);
+  }
+
+  private void remove(String identifier) {
+    for(Map<String, HoldingsRanking> currencies : rankings.values()) {
+      for(HoldingsRanking ranking : currencies.values()) {
+        ranking.remove(identifier);
+      }
+    }
+  }
+
+  private HoldingsRanking ranking(String world, Currency currency, boolean create) {
+    Map<String, HoldingsRanking> currencies = rankings.get(world);
+    if(currencies == null) {
+      if(!create) {
+        return null;
+      }
+      currencies = rankings.computeIfAbsent(world, key->new ConcurrentHashMap<>());
+    }
+
+    final HoldingsRanking ranking = currencies.get(currency.identifier());
+    if(ranking != null || !create) {
+      return ranking;
+    }
+    return currencies.computeIfAbsent(currency.identifier(), key->new HoldingsRanking());
+  }
+}
@@ -0,0 +1,49 @@
+package net.tnemc.core.economy.strict.ranking;
+
+import net.tnemc.core.economy.strict.account.Account;
+
+import java.util.Collection;
+
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Implemented by an {@link net.tnemc.core.economy.strict.EconomyAdapter} that can list all of its
+ * accounts cheaply, for example because it keeps them in memory. A new
+ * {@link RankingEconomyAdapter} for such an economy is {@link RankingEconomyAdapter#seed(Iterable, Collection) seeded}
+ * with these accounts, so its rankings are complete from the start. The rankings of other economies
+ * fill in as their accounts are read or changed.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public interface SeedableEconomy {
+
+  /**
+   * Used to get every account of this economy. This is called from a background thread, so the
+   * returned collection must be safe to iterate while the economy is in use.
+   *
+   * @return Every account of this economy.
+   *
+   * @since 1.0.0
+   */
+  Collection<? extends Account> accounts();
+}
@@ -0,0 +1,91 @@
+package net.tnemc.core.economy.strict.result;
+
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+
+import java.math.BigDecimal;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+public class BasicHoldingsActionResult implements HoldingsActionResult {
+
+  private final String actionType;
+  private final Account account;
+  private final Currency currency;
+  private final BigDecimal holdings;
+  private final EconomyResponse result;
+
+  /**
+   * This is a helper class for Reserve implementations to return the result of an action performed
+   * on an {@link Account account's} holdings.
+   *
+   * @param actionType The identifier of the type of action performed.
+   * @param account The {@link Account} that was affected by the action.
+   * @param currency The {@link Currency} that was used during the action.
+   * @param holdings The resulting holdings of the account after the action was performed.
+   * @param result The {@link EconomyResponse response} for the action's result.
+   *
+   * @since 1.0.0
+   */
+  public BasicHoldingsActionResult(final String actionType, final Account account, final Currency currency,
+                                   final BigDecimal holdings, final EconomyResponse result) {
+    this.actionType = actionType;
+    this.account = account;
+    this.currency = currency;
+    this.holdings = holdings;
+    this.result = result;
+  }
+
+  @Override
+  public String actionType() {
+    return actionType;
+  }
+
+  @Override
+  public Account account() {
+    return account;
+  }
+
+  @Override
+  public Currency currency() {
+    return currency;
+  }
+
+  @Override
+  public BigDecimal holdings() {
+    return holdings;
+  }
+
+  @Override
+  public EconomyResponse result() {
+    return result;
+  }
+
+  @Override
+  public boolean success() {
+    return result.success();
+  }
+
+  @Override
+  public String response() {
+    return result.response();
+  }
+}
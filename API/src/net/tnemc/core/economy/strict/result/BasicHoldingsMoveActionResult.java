@@ -0,0 +1,74 @@
+package net.tnemc.core.economy.strict.result;
+
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+
+import java.math.BigDecimal;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+public class BasicHoldingsMoveActionResult extends BasicHoldingsActionResult implements HoldingsMoveActionResult {
+
+  private final Account receivingAccount;
+  private final Currency receivedCurrency;
+  private final BigDecimal receivingHoldings;
+
+  /**
+   * This is a helper class for Reserve implementations to return the result of an action that moved
+   * holdings from one {@link Account account} to another.
+   *
+   * @param actionType The identifier of the type of action performed.
+   * @param account The {@link Account} that the holdings were moved from.
+   * @param currency The {@link Currency} that the holdings were moved from.
+   * @param holdings The resulting holdings of the sending account after the action was performed.
+   * @param receivingAccount The {@link Account} that received the holdings.
+   * @param receivedCurrency The {@link Currency} that the holdings were received in.
+   * @param receivingHoldings The resulting holdings of the receiving account after the action was
+   *                          performed.
+   * @param result The {@link EconomyResponse response} for the action's result.
+   *
+   * @since 1.0.0
+   */
+  public BasicHoldingsMoveActionResult(final String actionType, final Account account, final Currency currency,
+                                       final BigDecimal holdings, final Account receivingAccount,
+                                       final Currency receivedCurrency, final BigDecimal receivingHoldings,
+                                       final EconomyResponse result) {
+    super(actionType, account, currency, holdings, result);
+    this.receivingAccount = receivingAccount;
+    this.receivedCurrency = receivedCurrency;
+    this.receivingHoldings = receivingHoldings;
+  }
+
+  @Override
+  public Account receivingAccount() {
+    return receivingAccount;
+  }
+
+  @Override
+  public Currency receivedCurrency() {
+    return receivedCurrency;
+  }
+
+  @Override
+  public BigDecimal receivingHoldings() {
+    return receivingHoldings;
+  }
+}
@@ -0,0 +1,76 @@
+package net.tnemc.core.economy.strict.result;
+
+import net.tnemc.core.economy.strict.Transaction;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+public class BasicTransactionResult implements TransactionResult {
+
+  private final Transaction transaction;
+  private final List<HoldingsActionResult> results;
+  private final EconomyResponse result;
+
+  /**
+   * This is a helper class for Reserve implementations to return the result of executing a
+   * {@link Transaction}.
+   *
+   * @param transaction The {@link Transaction} that was executed.
+   * @param results The {@link HoldingsActionResult} for each leg, in the order of the transaction's legs.
+   * @param result The {@link EconomyResponse response} for the transaction's result.
+   *
+   * @since 1.0.0
+   */
+  public BasicTransactionResult(final Transaction transaction, final List<HoldingsActionResult> results,
+                                final EconomyResponse result) {
+    this.transaction = transaction;
+    this.results = Collections.unmodifiableList(new ArrayList<>(results));
+    this.result = result;
+  }
+
+  @Override
+  public Transaction transaction() {
+    return transaction;
+  }
+
+  @Override
+  public List<HoldingsActionResult> results() {
+    return results;
+  }
+
+  @Override
+  public EconomyResponse result() {
+    return result;
+  }
+
+  @Override
+  public boolean success() {
+    return result.success();
+  }
+
+  @Override
+  public String response() {
+    return result.response();
+  }
+}
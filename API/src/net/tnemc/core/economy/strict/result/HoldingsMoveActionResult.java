@@ -3,7 +3,7 @@ package net.tnemc.core.economy.strict.result;
 import net.tnemc.core.economy.strict.account.Account;
 import net.tnemc.core.economy.strict.currency.Currency;
 
-import java.util.Set;
+import java.math.BigDecimal;
 /**
  * Created by creatorfromhell on 10/14/2021.
  * <p>
@@ -35,7 +35,7 @@ import java.util.Set;
  * @author creatorfromhell
  * @since 1.0.0
  */
-public interface HoldingsMoveActionResult {
+public interface HoldingsMoveActionResult extends HoldingsActionResult {
 
   /**
    * @return The {@link Account} that received the holdings during the action.
@@ -50,4 +50,17 @@ public interface HoldingsMoveActionResult {
    * @since 1.0.0
    */
   Currency receivedCurrency();
+
+  /**
+   * Returns the resulting holdings after this action was performed for the {@link Account} that
+   * received the holdings. {@link #holdings()} returns the resulting holdings of the sending account.
+   *
+   * @return The resulting holdings for the {@link Account} that received the holdings, or null if the
+   * provider doesn't report them.
+   *
+   * @since 1.0.0
+   */
+  default BigDecimal receivingHoldings() {
+    return null;
+  }
 }
\ No newline at end of file
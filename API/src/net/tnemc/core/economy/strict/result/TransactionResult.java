@@ -0,0 +1,65 @@
+package net.tnemc.core.economy.strict.result;
+
+import net.tnemc.core.economy.strict.Transaction;
+import net.tnemc.core.economy.strict.result.response.EconomyResponse;
+
+import java.util.List;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Class that returns the aggregate result of executing a {@link Transaction}. A transaction is
+ * either applied as a whole, in which case {@link #success()} returns true, or not at all.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public interface TransactionResult extends EconomyResponse {
+
+  /**
+   * @return The {@link Transaction} that was executed.
+   *
+   * @since 1.0.0
+   */
+  Transaction transaction();
+
+  /**
+   * The per-leg results of the transaction. The list is in the same order as
+   * {@link Transaction#legs()}, and transfer legs are represented by a {@link HoldingsMoveActionResult}.
+   * Legs that were never performed because an earlier leg failed are represented by a result with
+   * a failed response and null holdings.
+   *
+   * @return The {@link HoldingsActionResult} for each leg of the transaction.
+   *
+   * @since 1.0.0
+   */
+  List<HoldingsActionResult> results();
+
+  /**
+   * The response correlating with the transaction. If the transaction failed, this is the response
+   * of the leg that caused it to fail.
+   *
+   * @return The {@link EconomyResponse response} for the transaction's result.
+   *
+   * @since 1.0.0
+   */
+  EconomyResponse result();
+}
@@ -0,0 +1,48 @@
+package net.tnemc.core.generic.source;
+
+import com.sun.istack.internal.NotNull;
+
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Represents an {@link ActionSource source} for actions relayed by a bridge, such as Vault, on behalf
+ * of a plugin that the bridge doesn't name. The name of the source is the name of the bridge, so
+ * anything that wants to know the plugin behind an action has to find it some other way.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class BridgeSource extends PluginSource {
+
+  /**
+   * Used to create an {@link ActionSource source} object that represents a bridge with a specific
+   * reason attached.
+   *
+   * @param bridge The name of the bridge relaying the action.
+   * @param reason The reason the action was performed.
+   *
+   * @since 1.0.0
+   */
+  public BridgeSource(@NotNull String bridge, @NotNull String reason) {
+    super(bridge, reason);
+  }
+}
@@ -0,0 +1,69 @@
+package net.tnemc.core.economy.lax;
+
+import net.tnemc.core.economy.lax.account.BasicAccount;
+import net.tnemc.core.economy.lax.currency.BasicCurrency;
+import net.tnemc.core.generic.source.PluginSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class BasicEconomyAdapterTest {
+
+  private final BasicEconomyAdapter economy = new BasicEconomyAdapter("Test", "world",
+                                                                      new BasicCurrency("dollar", "$", "Dollar", "Dollars", true));
+
+  @Test
+  void createAccountWithoutName() {
+    final UUID identifier = UUID.randomUUID();
+    assertTrue(economy.createAccount(identifier, null));
+    assertEquals(identifier.toString(), economy.getAccount(identifier).get().name());
+    assertTrue(economy.hasAccount(identifier.toString()));
+  }
+
+  @Test
+  void renamedAccountIsFoundByItsNewName() {
+    final UUID identifier = UUID.randomUUID();
+    economy.createAccount(identifier, "Notch");
+    final BasicAccount account = (BasicAccount)economy.getAccount(identifier).get();
+
+    account.setName("Jeb");
+    assertTrue(economy.hasAccount("jeb"));
+    assertFalse(economy.hasAccount("notch"));
+    assertEquals(account, economy.getAccount("Jeb").get());
+  }
+
+  @Test
+  void deletedAccountIsNotFoundAfterRename() {
+    final UUID identifier = UUID.randomUUID();
+    economy.createAccount(identifier, "Notch");
+    final BasicAccount account = (BasicAccount)economy.getAccount(identifier).get();
+    economy.deleteAccount(identifier, new PluginSource("Test"));
+
+    account.setName("Jeb");
+    assertFalse(economy.hasAccount("jeb"));
+  }
+}
@@ -0,0 +1,47 @@
+package net.tnemc.core.economy.lax.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A {@link StorageVisitor} that keeps everything it visits, for assertions.
+ */
+final class CollectingVisitor implements StorageVisitor {
+
+  final Map<String, StoredAccount> accounts = new HashMap<>();
+  final Map<String, Long> holdings = new HashMap<>();
+
+  @Override
+  public void account(StoredAccount account) {
+    accounts.put(account.identifier(), account);
+  }
+
+  @Override
+  public void holdings(StoredHoldings holdings) {
+    this.holdings.put(key(holdings.identifier(), holdings.world(), holdings.currency()), holdings.unscaled());
+  }
+
+  static String key(String identifier, String world, String currency) {
+    return identifier + "/" + world + "/" + currency;
+  }
+}
@@ -0,0 +1,119 @@
+package net.tnemc.core.economy.lax.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class LogStructuredStorageTest {
+
+  private static final Logger LOGGER = Logger.getLogger("LogStructuredStorageTest");
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void reopenKeepsLatestValues() throws IOException {
+    try(LogStructuredStorage storage = open()) {
+      storage.saveAccount(new StoredAccount("bank", null, "bank"));
+      for(long i = 1; i <= 1000; i++) {
+        storage.saveHoldings(new StoredHoldings("bank", "world", "dollar", i));
+      }
+      storage.saveAccount(new StoredAccount("gone", null, "gone"));
+      storage.saveHoldings(new StoredHoldings("gone", "world", "dollar", 5L));
+      storage.deleteAccount("gone");
+    }
+
+    final CollectingVisitor visitor = load();
+    assertEquals(1000L, visitor.holdings.get(CollectingVisitor.key("bank", "world", "dollar")));
+    assertFalse(visitor.accounts.containsKey("gone"));
+    assertFalse(visitor.holdings.containsKey(CollectingVisitor.key("gone", "world", "dollar")));
+  }
+
+  @Test
+  void recreateAfterDeleteInEarlierSegment() throws IOException {
+    try(LogStructuredStorage storage = open()) {
+      storage.saveAccount(new StoredAccount("x", null, "x"));
+      storage.deleteAccount("x");
+      fill(storage);
+      storage.saveAccount(new StoredAccount("x", null, "x"));
+      storage.saveHoldings(new StoredHoldings("x", "world", "dollar", 777L));
+    }
+
+    final CollectingVisitor visitor = load();
+    assertTrue(visitor.accounts.containsKey("x"));
+    assertEquals(777L, visitor.holdings.get(CollectingVisitor.key("x", "world", "dollar")));
+  }
+
+  @Test
+  void compactionKeepsLatestValues() throws IOException {
+    try(LogStructuredStorage storage = open()) {
+      storage.saveAccount(new StoredAccount("x", null, "x"));
+      storage.deleteAccount("x");
+      fill(storage);
+      storage.saveAccount(new StoredAccount("x", null, "x"));
+      storage.saveHoldings(new StoredHoldings("x", "world", "dollar", 777L));
+      fill(storage);
+
+      storage.compact();
+      assertEquals(1L, storage.compactions());
+      assertEquals(2, storage.files());
+    }
+
+    final CollectingVisitor visitor = load();
+    assertEquals(777L, visitor.holdings.get(CollectingVisitor.key("x", "world", "dollar")));
+    assertEquals(99L, visitor.holdings.get(CollectingVisitor.key("filler", "world", "dollar")));
+  }
+
+  /**
+   * Writes until the active segment has rotated at least once.
+   */
+  private static void fill(LogStructuredStorage storage) throws IOException {
+    final int files = storage.files();
+    for(long i = 0; storage.files() == files; i++) {
+      storage.saveHoldings(new StoredHoldings("filler", "world", "dollar", i % 100));
+    }
+    for(long i = 0; i < 100; i++) {
+      storage.saveHoldings(new StoredHoldings("filler", "world", "dollar", i));
+    }
+  }
+
+  private LogStructuredStorage open() throws IOException {
+    return LogStructuredStorage.open(directory, 4096, 1, TimeUnit.HOURS, 1000, LOGGER);
+  }
+
+  private CollectingVisitor load() throws IOException {
+    final CollectingVisitor visitor = new CollectingVisitor();
+    try(LogStructuredStorage storage = open()) {
+      storage.load(visitor);
+    }
+    return visitor;
+  }
+}
@@ -0,0 +1,98 @@
+package net.tnemc.core.economy.lax.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class StorageRecordsTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void roundTrip() throws IOException {
+    final UUID unique = UUID.randomUUID();
+    final ByteBuffer buffer = ByteBuffer.allocate(4096);
+    final StorageRecords records = new StorageRecords();
+    StorageRecords.header(buffer, 1L);
+    records.account(buffer, new StoredAccount(unique.toString(), unique, "Steve"));
+    records.account(buffer, new StoredAccount("bank", null, null));
+    records.holdings(buffer, new StoredHoldings(unique.toString(), "world", "dollar", 12345L));
+    records.holdings(buffer, new StoredHoldings("bank", "world", "dollar", -42L));
+    records.holdings(buffer, new StoredHoldings("bank", "wörld", "dollar", Long.MAX_VALUE));
+
+    final CollectingVisitor visitor = read(buffer);
+    assertEquals(unique, visitor.accounts.get(unique.toString()).unique());
+    assertEquals("Steve", visitor.accounts.get(unique.toString()).name());
+    assertNull(visitor.accounts.get("bank").unique());
+    assertEquals("bank", visitor.accounts.get("bank").name());
+    assertEquals(12345L, visitor.holdings.get(CollectingVisitor.key(unique.toString(), "world", "dollar")));
+    assertEquals(-42L, visitor.holdings.get(CollectingVisitor.key("bank", "world", "dollar")));
+    assertEquals(Long.MAX_VALUE, visitor.holdings.get(CollectingVisitor.key("bank", "wörld", "dollar")));
+  }
+
+  @Test
+  void boundCoversRecord() {
+    final ByteBuffer buffer = ByteBuffer.allocate(4096);
+    final StorageRecords records = new StorageRecords();
+    final String name = "a-rather-long-identifier-with-ünïcödé";
+
+    final int bound = records.bound(name, "world", "dollar");
+    records.holdings(buffer, new StoredHoldings(name, "world", "dollar", Long.MIN_VALUE));
+    assertTrue(buffer.position() <= bound);
+  }
+
+  @Test
+  void stopsAtCorruptRecord() throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(4096);
+    final StorageRecords records = new StorageRecords();
+    StorageRecords.header(buffer, 1L);
+    records.holdings(buffer, new StoredHoldings("bank", "world", "dollar", 1L));
+    final int end = buffer.position();
+    records.holdings(buffer, new StoredHoldings("bank", "world", "dollar", 2L));
+    buffer.put(end + 10, (byte)(buffer.get(end + 10) ^ 0xFF));
+
+    final CollectingVisitor visitor = read(buffer);
+    assertEquals(1L, visitor.holdings.get(CollectingVisitor.key("bank", "world", "dollar")));
+  }
+
+  private CollectingVisitor read(ByteBuffer buffer) throws IOException {
+    final Path file = directory.resolve("records.seg");
+    Files.write(file, Arrays.copyOf(buffer.array(), buffer.capacity()));
+
+    final CollectingVisitor visitor = new CollectingVisitor();
+    StorageRecords.read(file, new HashMap<>()).visit(visitor);
+    return visitor;
+  }
+}
@@ -0,0 +1,101 @@
+package net.tnemc.core.economy.lax.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class StorageStateTest {
+
+  @Test
+  void laterValuesWin() {
+    final StorageState first = new StorageState();
+    first.account(new StoredAccount("bank", null, "bank"));
+    first.holdings("bank", "world", "dollar", 100L);
+    first.holdings("bank", "nether", "dollar", 5L);
+
+    final StorageState second = new StorageState();
+    second.holdings("bank", "world", "dollar", 250L);
+
+    first.merge(second);
+    final CollectingVisitor visitor = visit(first);
+    assertEquals(250L, visitor.holdings.get(CollectingVisitor.key("bank", "world", "dollar")));
+    assertEquals(5L, visitor.holdings.get(CollectingVisitor.key("bank", "nether", "dollar")));
+    assertTrue(visitor.accounts.containsKey("bank"));
+  }
+
+  @Test
+  void deleteDiscardsEarlierState() {
+    final StorageState first = new StorageState();
+    first.account(new StoredAccount("bank", null, "bank"));
+    first.holdings("bank", "world", "dollar", 100L);
+
+    final StorageState second = new StorageState();
+    second.delete("bank");
+
+    first.merge(second);
+    final CollectingVisitor visitor = visit(first);
+    assertFalse(visitor.accounts.containsKey("bank"));
+    assertTrue(visitor.holdings.isEmpty());
+  }
+
+  @Test
+  void recreatedInSameFileDropsOldHoldings() {
+    final StorageState first = new StorageState();
+    first.holdings("bank", "nether", "dollar", 100L);
+
+    final StorageState second = new StorageState();
+    second.delete("bank");
+    second.account(new StoredAccount("bank", null, "bank"));
+    second.holdings("bank", "world", "dollar", 7L);
+
+    first.merge(second);
+    final CollectingVisitor visitor = visit(first);
+    assertNull(visitor.holdings.get(CollectingVisitor.key("bank", "nether", "dollar")));
+    assertEquals(7L, visitor.holdings.get(CollectingVisitor.key("bank", "world", "dollar")));
+  }
+
+  @Test
+  void recreatedAfterTombstoneInFirstFile() {
+    final StorageState first = new StorageState();
+    first.account(new StoredAccount("bank", null, "bank"));
+    first.delete("bank");
+
+    final StorageState second = new StorageState();
+    second.account(new StoredAccount("bank", null, "bank"));
+    second.holdings("bank", "world", "dollar", 777L);
+
+    first.merge(second);
+    final CollectingVisitor visitor = visit(first);
+    assertTrue(visitor.accounts.containsKey("bank"));
+    assertEquals(777L, visitor.holdings.get(CollectingVisitor.key("bank", "world", "dollar")));
+  }
+
+  private static CollectingVisitor visit(StorageState state) {
+    final CollectingVisitor visitor = new CollectingVisitor();
+    state.visit(visitor);
+    return visitor;
+  }
+}
@@ -0,0 +1,159 @@
+package net.tnemc.core.economy.lax.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class WriteBehindStorageTest {
+
+  private static final Logger LOGGER = Logger.getLogger("WriteBehindStorageTest");
+
+  @Test
+  void changesToTheSameHoldingsAreCoalesced() throws IOException {
+    final RecordingStorage delegate = new RecordingStorage();
+    final WriteBehindStorage storage = open(delegate);
+
+    for(long i = 1; i <= 1000; i++) {
+      storage.saveHoldings(new StoredHoldings("bank", "world", "dollar", i));
+      storage.saveHoldings(new StoredHoldings("bank", "nether", "dollar", -i));
+    }
+    assertEquals(2, storage.queueDepth());
+    assertEquals(2000L, storage.writes());
+    assertEquals(1998L, storage.coalesced());
+
+    storage.flush();
+    assertEquals(0, storage.queueDepth());
+    assertEquals(2L, storage.flushed());
+    assertEquals(2, delegate.written.size());
+    assertEquals(1000L, delegate.holdings.get(CollectingVisitor.key("bank", "world", "dollar")));
+    assertEquals(-1000L, delegate.holdings.get(CollectingVisitor.key("bank", "nether", "dollar")));
+    storage.close();
+  }
+
+  @Test
+  void failedFlushKeepsChangesPending() throws IOException {
+    final RecordingStorage delegate = new RecordingStorage();
+    final WriteBehindStorage storage = open(delegate);
+
+    storage.saveHoldings(new StoredHoldings("bank", "world", "dollar", 5L));
+    delegate.failing = true;
+    assertThrows(IOException.class, storage::flush);
+    assertEquals(1, storage.queueDepth());
+    assertEquals(1L, storage.failures());
+
+    delegate.failing = false;
+    storage.flush();
+    assertEquals(0, storage.queueDepth());
+    assertEquals(5L, delegate.holdings.get(CollectingVisitor.key("bank", "world", "dollar")));
+    storage.close();
+  }
+
+  @Test
+  void deleteDropsPendingChanges() throws IOException {
+    final RecordingStorage delegate = new RecordingStorage();
+    final WriteBehindStorage storage = open(delegate);
+
+    storage.saveHoldings(new StoredHoldings("gone", "world", "dollar", 5L));
+    storage.saveHoldings(new StoredHoldings("kept", "world", "dollar", 7L));
+    storage.deleteAccount("gone");
+    storage.flush();
+
+    assertFalse(delegate.holdings.containsKey(CollectingVisitor.key("gone", "world", "dollar")));
+    assertEquals(7L, delegate.holdings.get(CollectingVisitor.key("kept", "world", "dollar")));
+    storage.close();
+  }
+
+  @Test
+  void closeWritesPendingChanges() throws IOException {
+    final RecordingStorage delegate = new RecordingStorage();
+    final WriteBehindStorage storage = open(delegate);
+
+    storage.saveHoldings(new StoredHoldings("bank", "world", "dollar", 9L));
+    storage.close();
+
+    assertTrue(delegate.closed);
+    assertEquals(9L, delegate.holdings.get(CollectingVisitor.key("bank", "world", "dollar")));
+    assertThrows(IOException.class, ()->storage.saveHoldings(new StoredHoldings("bank", "world", "dollar", 1L)));
+  }
+
+  private static WriteBehindStorage open(RecordingStorage delegate) {
+    //A long interval and batch size keep the background thread from writing during the test.
+    return new WriteBehindStorage(delegate, 1L, TimeUnit.HOURS, 1000000, LOGGER);
+  }
+
+  /**
+   * A {@link HoldingsStorage} that keeps everything written to it in memory.
+   */
+  private static final class RecordingStorage implements HoldingsStorage {
+
+    private final List<StoredHoldings> written = new ArrayList<>();
+    private final Map<String, Long> holdings = new HashMap<>();
+    private volatile boolean failing = false;
+    private volatile boolean closed = false;
+
+    @Override
+    public synchronized void load(StorageVisitor visitor) {
+    }
+
+    @Override
+    public synchronized void saveAccount(StoredAccount account) {
+    }
+
+    @Override
+    public synchronized void deleteAccount(String identifier) {
+      holdings.keySet().removeIf(key->key.startsWith(identifier + "/"));
+    }
+
+    @Override
+    public synchronized void saveHoldings(Collection<StoredHoldings> batch) throws IOException {
+      if(failing) {
+        throw new IOException("Failing on purpose.");
+      }
+      for(StoredHoldings entry : batch) {
+        written.add(entry);
+        holdings.put(CollectingVisitor.key(entry.identifier(), entry.world(), entry.currency()), entry.unscaled());
+      }
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
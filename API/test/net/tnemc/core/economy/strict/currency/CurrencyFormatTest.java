@@ -0,0 +1,111 @@
+package net.tnemc.core.economy.strict.currency;
+
+import net.tnemc.core.economy.lax.currency.BasicCurrency;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class CurrencyFormatTest {
+
+  private final BasicCurrency dollar = new BasicCurrency("dollar", "$", "Dollar", "Dollars", true);
+
+  @Test
+  void formatsWithSymbolAndGrouping() {
+    final CurrencyFormat format = CurrencyFormat.of(dollar);
+    assertEquals("$0.00", format.format(BigDecimal.ZERO));
+    assertEquals("-$1,234.50", format.format(new BigDecimal("-1234.5")));
+    assertEquals("$1,000,000.00", format.format(new BigDecimal("1000000")));
+    assertEquals("$999.99", format.format(new BigDecimal("999.999")));
+    assertEquals("$0.00", format.format(new BigDecimal("-0.001")));
+  }
+
+  @Test
+  void usesTheCurrencyDecimalCharacter() {
+    final BasicCurrency euro = new BasicCurrency("euro", "€", ',', "Euro", "Euros", 2, false);
+    assertEquals("€1.234,56", CurrencyFormat.of(euro).format(new BigDecimal("1234.56")));
+    assertEquals("€1234,56", CurrencyFormat.builder(euro).grouping((char)0).build().format(new BigDecimal("1234.56")));
+  }
+
+  @Test
+  void appendsNames() {
+    final CurrencyFormat format = CurrencyFormat.builder(dollar).names(true).build();
+    assertEquals("$1.00 Dollar", format.format(BigDecimal.ONE));
+    assertEquals("-$1.00 Dollar", format.format(BigDecimal.ONE.negate()));
+    assertEquals("$2.50 Dollars", format.format(new BigDecimal("2.5")));
+  }
+
+  @Test
+  void formatsLargeAmounts() {
+    final CurrencyFormat format = CurrencyFormat.of(dollar);
+    assertEquals("$123,456,789,012,345,678,901.23", format.format(new BigDecimal("123456789012345678901.239")));
+    assertEquals("-$92,233,720,368,547,758.08", format.format(Long.MIN_VALUE, 2));
+    assertEquals("$92,233,720,368,547,758.07", format.format(Long.MAX_VALUE, 2));
+  }
+
+  @Test
+  void formatsMoney() {
+    final CurrencyFormat format = CurrencyFormat.of(dollar);
+    assertEquals("$12.34", format.format(Money.of(1234L, 2)));
+    assertEquals("$12.3400", format.format(Money.of(123400L, 4)));
+  }
+
+  @Test
+  void cachesRecentResults() {
+    final CurrencyFormat format = CurrencyFormat.builder(dollar).cache(16).build();
+    final String first = format.format(12345L, 2);
+    assertEquals("$123.45", first);
+    assertSame(first, format.format(12345L, 2));
+    assertEquals("$12.345", format.format(12345L, 3));
+  }
+
+  @Test
+  void rejectsInvalidPrecision() {
+    final CurrencyFormat format = CurrencyFormat.of(dollar);
+    assertThrows(IllegalArgumentException.class, ()->format.format(1L, -1));
+    assertThrows(IllegalArgumentException.class, ()->format.format(1L, Money.MAX_SCALE + 1));
+  }
+
+  @Test
+  void matchesDecimalFormat() {
+    final DecimalFormat reference = new DecimalFormat("$#,##0.00", DecimalFormatSymbols.getInstance(Locale.US));
+    reference.setRoundingMode(RoundingMode.DOWN);
+    reference.setNegativePrefix("-$");
+
+    final CurrencyFormat format = CurrencyFormat.builder(dollar).cache(64).build();
+    final Random random = new Random(7L);
+    for(int i = 0; i < 10000; i++) {
+      final BigDecimal amount = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), 3);
+      //Negative amounts that truncate to zero aren't formatted as -$0.00, unlike DecimalFormat.
+      assertEquals(reference.format(amount.setScale(2, RoundingMode.DOWN)), format.format(amount), amount.toPlainString());
+    }
+  }
+}
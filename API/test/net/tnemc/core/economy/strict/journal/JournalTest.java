@@ -0,0 +1,116 @@
+package net.tnemc.core.economy.strict.journal;
+
+import net.tnemc.core.economy.lax.BasicEconomyAdapter;
+import net.tnemc.core.economy.lax.currency.BasicCurrency;
+import net.tnemc.core.economy.strict.TransactionLeg;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class JournalTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void unacknowledgedEntriesSurviveReopen() throws IOException {
+    try(Journal journal = open(1 << 16)) {
+      for(int i = 1; i <= 3; i++) {
+        journal.append(deposit("bank", String.valueOf(i)));
+      }
+      journal.acknowledge(1L);
+    }
+
+    try(Journal journal = open(1 << 16)) {
+      assertEquals(2L, journal.recovered());
+
+      final List<JournalEntry> entries = new ArrayList<>();
+      journal.unacknowledged(entries::add);
+      assertEquals(2, entries.size());
+      assertEquals(new BigDecimal("2"), entries.get(0).amount());
+      assertEquals(new BigDecimal("3"), entries.get(1).amount());
+    }
+  }
+
+  @Test
+  void replayAppliesOnceAndAcknowledges() throws IOException {
+    try(Journal journal = open(1 << 16)) {
+      journal.append(deposit("bank", "5.00"));
+      journal.append(deposit("bank", "2.50"));
+    }
+
+    final BasicCurrency currency = new BasicCurrency("dollar", "$", "Dollar", "Dollars", true);
+    final BasicEconomyAdapter adapter = new BasicEconomyAdapter("Test", "world", currency);
+    try(Journal journal = open(1 << 16)) {
+      final JournalReplayer.Report report = new JournalReplayer(journal, adapter).replay();
+      assertEquals(2, report.replayed());
+      assertTrue(report.failures().isEmpty());
+    }
+    assertEquals(0, new BigDecimal("7.50").compareTo(adapter.getAccount("bank").get().holdings("world", currency)));
+
+    try(Journal journal = open(1 << 16)) {
+      assertEquals(0L, journal.recovered());
+    }
+  }
+
+  @Test
+  void acknowledgedSegmentsAreDeleted() throws IOException {
+    try(Journal journal = open(4096)) {
+      long last = 0L;
+      for(int i = 0; i < 500; i++) {
+        last = journal.append(deposit("bank", "1"));
+      }
+      final long before = segments();
+      assertTrue(before > 1);
+
+      journal.acknowledge(last);
+      assertEquals(1L, segments());
+    }
+  }
+
+  private Journal open(int segmentSize) throws IOException {
+    return Journal.open(directory, segmentSize, 1, TimeUnit.HOURS);
+  }
+
+  private long segments() throws IOException {
+    try(Stream<Path> files = Files.list(directory)) {
+      return files.filter(path->path.getFileName().toString().endsWith(".seg")).count();
+    }
+  }
+
+  private static JournalEntry deposit(String account, String amount) {
+    return new JournalEntry(TransactionLeg.Type.DEPOSIT, account, false, null, false, "world", "dollar",
+                            new BigDecimal(amount), "Test", "test");
+  }
+}
@@ -0,0 +1,84 @@
+package net.tnemc.core.economy.strict.metrics;
+
+import net.tnemc.core.generic.source.BridgeSource;
+import net.tnemc.core.generic.source.PluginSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class SlowCallWatchdogTest {
+
+  private final AtomicInteger walks = new AtomicInteger();
+
+  @Test
+  void fastCallsAreIgnored() {
+    final SlowCallWatchdog watchdog = watchdog(1);
+    watchdog.record("account.deposit", new BridgeSource("Vault", "Vault deposit."), 10L, false);
+
+    assertEquals(0, walks.get());
+    assertTrue(watchdog.recent().isEmpty());
+  }
+
+  @Test
+  void namedSourcesAreBlamedWithoutResolving() {
+    final SlowCallWatchdog watchdog = watchdog(1);
+    watchdog.record("account.deposit", new PluginSource("Shop"), 5000L, false);
+
+    assertEquals(0, walks.get());
+    assertEquals("Shop", watchdog.recent().get(0).blame());
+  }
+
+  @Test
+  void bridgeSourcesAreResolvedFromTheStack() {
+    final SlowCallWatchdog watchdog = watchdog(1);
+    watchdog.record("account.deposit", new BridgeSource("Vault", "Vault deposit."), 5000L, false);
+
+    assertEquals(1, walks.get());
+    assertEquals("Caller", watchdog.recent().get(0).blame());
+  }
+
+  @Test
+  void unsampledBridgeCallsAreBlamedOnTheBridge() {
+    final SlowCallWatchdog watchdog = watchdog(4);
+    for(int i = 0; i < 8; i++) {
+      watchdog.record("account.deposit", new BridgeSource("Vault", "Vault deposit."), 5000L, false);
+    }
+
+    assertEquals(2, walks.get());
+    assertEquals(2L, watchdog.offender("Caller").get().count());
+    assertEquals(6L, watchdog.offender("Vault").get().count());
+    assertFalse(watchdog.offender("Unknown").isPresent());
+  }
+
+  private SlowCallWatchdog watchdog(int sample) {
+    return new SlowCallWatchdog(1, TimeUnit.MICROSECONDS, 10, sample, ()->true, stack->{
+      walks.incrementAndGet();
+      return "Caller";
+    });
+  }
+}
@@ -0,0 +1,135 @@
+package net.tnemc.core.economy.strict.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class HoldingsRankingTest {
+
+  @Test
+  void ranksFromHighestToLowest() {
+    final HoldingsRanking ranking = new HoldingsRanking();
+    ranking.update("b", new BigDecimal("10"));
+    ranking.update("a", new BigDecimal("10"));
+    ranking.update("c", new BigDecimal("50"));
+    ranking.update("d", new BigDecimal("1.5"));
+
+    assertEquals(4, ranking.size());
+    assertEquals(1L, ranking.rank("c"));
+    assertEquals(2L, ranking.rank("a"));
+    assertEquals(3L, ranking.rank("b"));
+    assertEquals(4L, ranking.rank("d"));
+    assertEquals(-1L, ranking.rank("missing"));
+
+    final List<RankedHoldings> top = ranking.top(1, 2);
+    assertEquals(2, top.size());
+    assertEquals("a", top.get(0).identifier());
+    assertEquals(2L, top.get(0).rank());
+    assertEquals("b", top.get(1).identifier());
+  }
+
+  @Test
+  void updatesReplaceThePreviousEntry() {
+    final HoldingsRanking ranking = new HoldingsRanking();
+    ranking.update("a", new BigDecimal("1"));
+    ranking.update("b", new BigDecimal("2"));
+    ranking.update("a", new BigDecimal("3"));
+
+    assertEquals(2, ranking.size());
+    assertEquals(1L, ranking.rank("a"));
+
+    ranking.remove("a");
+    assertEquals(1, ranking.size());
+    assertEquals(-1L, ranking.rank("a"));
+    assertEquals(1L, ranking.rank("b"));
+  }
+
+  @Test
+  void seedKeepsNewerValues() {
+    final HoldingsRanking ranking = new HoldingsRanking();
+    ranking.update("a", new BigDecimal("20"));
+
+    assertFalse(ranking.seed("a", new BigDecimal("5")));
+    assertTrue(ranking.seed("b", new BigDecimal("5")));
+    assertEquals(2, ranking.size());
+    assertEquals(0, new BigDecimal("20").compareTo(ranking.top(0, 1).get(0).holdings()));
+  }
+
+  @Test
+  void countAndRangeAboveMinimum() {
+    final HoldingsRanking ranking = new HoldingsRanking();
+    for(int i = 1; i <= 10; i++) {
+      ranking.update("account-" + i, BigDecimal.valueOf(i));
+    }
+
+    assertEquals(5L, ranking.countAbove(new BigDecimal("5")));
+    assertEquals(0L, ranking.countAbove(new BigDecimal("10")));
+    assertEquals(10L, ranking.countAbove(BigDecimal.ZERO));
+
+    final List<RankedHoldings> above = ranking.above(new BigDecimal("7"), 1, 10);
+    assertEquals(2, above.size());
+    assertEquals("account-9", above.get(0).identifier());
+    assertEquals("account-8", above.get(1).identifier());
+  }
+
+  @Test
+  void matchesASortedList() {
+    final Random random = new Random(42L);
+    final HoldingsRanking ranking = new HoldingsRanking();
+    final Map<String, BigDecimal> expected = new HashMap<>();
+
+    for(int i = 0; i < 20000; i++) {
+      final String identifier = "account-" + random.nextInt(500);
+      if(random.nextInt(10) == 0) {
+        ranking.remove(identifier);
+        expected.remove(identifier);
+      } else {
+        final BigDecimal value = BigDecimal.valueOf(random.nextInt(1000), 2);
+        ranking.update(identifier, value);
+        expected.put(identifier, value);
+      }
+    }
+
+    final List<Map.Entry<String, BigDecimal>> sorted = new ArrayList<>(expected.entrySet());
+    sorted.sort(Comparator.<Map.Entry<String, BigDecimal>, BigDecimal>comparing(Map.Entry::getValue).reversed()
+                          .thenComparing(Map.Entry::getKey));
+
+    assertEquals(sorted.size(), ranking.size());
+    final List<RankedHoldings> all = ranking.top(0, sorted.size());
+    for(int i = 0; i < sorted.size(); i++) {
+      assertEquals(sorted.get(i).getKey(), all.get(i).identifier());
+      assertEquals(i + 1L, all.get(i).rank());
+      assertEquals(i + 1L, ranking.rank(sorted.get(i).getKey()));
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package net.tnemc.core.economy.strict.ranking;
+
+import net.tnemc.core.economy.lax.BasicEconomyAdapter;
+import net.tnemc.core.economy.lax.currency.BasicCurrency;
+import net.tnemc.core.economy.strict.currency.Money;
+import net.tnemc.core.generic.source.PluginSource;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class RankingEconomyAdapterTest {
+
+  private final BasicCurrency currency = new BasicCurrency("dollar", "$", "Dollar", "Dollars", true);
+  private final BasicEconomyAdapter economy = new BasicEconomyAdapter("Test", "world", currency);
+
+  @Test
+  void nothingRankedYet() {
+    final RankingEconomyAdapter ranking = new RankingEconomyAdapter(economy);
+    assertEquals(-1L, ranking.countAbove("world", currency, BigDecimal.ZERO));
+    assertEquals(0, ranking.topHoldings("world", currency, 0, 10).size());
+  }
+
+  @Test
+  void seedRanksExistingAccounts() {
+    deposit("rich", "100");
+    deposit("poor", "1");
+
+    final RankingEconomyAdapter ranking = new RankingEconomyAdapter(economy);
+    assertEquals(2, ranking.seed(economy.accounts(), Collections.singletonList("world")));
+    assertEquals(2, ranking.size("world", currency));
+    assertEquals(1L, ranking.rank(economy.getAccount("rich").get(), "world", currency));
+    assertEquals(1L, ranking.countAbove("world", currency, new BigDecimal("50")));
+  }
+
+  @Test
+  void changesThroughTheAdapterUpdateTheRanking() {
+    deposit("a", "5");
+    deposit("b", "10");
+    final RankingEconomyAdapter ranking = new RankingEconomyAdapter(economy);
+    ranking.seed(economy.accounts(), Collections.singletonList("world"));
+
+    ranking.getAccount("a").get().deposit(new BigDecimal("20"), "world", currency, new PluginSource("Test"));
+    assertEquals(1L, ranking.rank(economy.getAccount("a").get(), "world", currency));
+  }
+
+  @Test
+  void moneyChangesThroughTheAdapterUpdateTheRanking() {
+    deposit("a", "5");
+    deposit("b", "10");
+    final RankingEconomyAdapter ranking = new RankingEconomyAdapter(economy);
+    ranking.seed(economy.accounts(), Collections.singletonList("world"));
+
+    ranking.getAccount("a").get().deposit(Money.of(20.0, currency), "world", currency, new PluginSource("Test"));
+    assertEquals(1L, ranking.rank(economy.getAccount("a").get(), "world", currency));
+  }
+
+  @Test
+  void previousRankingsAreKept() {
+    deposit("a", "5");
+    final RankingEconomyAdapter first = new RankingEconomyAdapter(economy);
+    first.seed(economy.accounts(), Collections.singletonList("world"));
+
+    final RankingEconomyAdapter second = new RankingEconomyAdapter(economy, first);
+    assertEquals(1, second.size("world", currency));
+    assertEquals(0, new RankingEconomyAdapter(economy).size("world", currency));
+  }
+
+  private void deposit(String identifier, String amount) {
+    economy.getOrCreateAccount(identifier).deposit(new BigDecimal(amount), "world", currency, new PluginSource("Test"));
+  }
+}
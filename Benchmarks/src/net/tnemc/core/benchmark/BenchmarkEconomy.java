@@ -0,0 +1,64 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.lax.BasicEconomyAdapter;
+import net.tnemc.core.economy.lax.currency.BasicCurrency;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+import net.tnemc.core.generic.source.PluginSource;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Builds the in-memory economy that the benchmarks run against, so that the numbers reflect the
+ * cost Reserve adds rather than the cost of a provider's storage.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+final class BenchmarkEconomy {
+
+  static final String WORLD = "world";
+  static final PluginSource SOURCE = new PluginSource("Benchmarks");
+
+  private BenchmarkEconomy() {
+  }
+
+  static BasicCurrency currency() {
+    return new BasicCurrency("dollar", "$", '.', "Dollar", "Dollars", 2, true);
+  }
+
+  static BasicEconomyAdapter adapter() {
+    return new BasicEconomyAdapter("Benchmarks", WORLD, currency());
+  }
+
+  static UniqueAccount[] accounts(BasicEconomyAdapter adapter, int count, BigDecimal holdings) {
+    final UniqueAccount[] accounts = new UniqueAccount[count];
+    for(int i = 0; i < count; i++) {
+      final UUID id = new UUID(0L, i);
+      adapter.createAccount(id, "Player" + i);
+      accounts[i] = adapter.getOrCreateAccount(id);
+      accounts[i].deposit(holdings, WORLD, adapter.getDefaultCurrency(), SOURCE);
+    }
+    return accounts;
+  }
+}
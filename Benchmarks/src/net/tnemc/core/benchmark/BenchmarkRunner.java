@@ -0,0 +1,49 @@
+package net.tnemc.core.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Entry point for the benchmark jar. Runs every benchmark, or those matching the first argument,
+ * with the GC profiler attached so that allocations per operation are reported alongside the
+ * throughput and latency results.
+ *
+ * Usage: java -jar benchmarks.jar [regex]
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class BenchmarkRunner {
+
+  public static void main(String[] args) throws RunnerException {
+    final Options options = new OptionsBuilder()
+        .include((args.length > 0)? args[0] : "net\\.tnemc\\.core\\.benchmark\\..*")
+        .addProfiler(GCProfiler.class)
+        .build();
+
+    new Runner(options).run();
+  }
+}
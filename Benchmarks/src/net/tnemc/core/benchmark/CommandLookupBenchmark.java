@@ -0,0 +1,88 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.command.CommandManager;
+import net.tnemc.core.command.TNECommand;
+import net.tnemc.core.command.reserve.ReserveCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Measures the command and sub-command lookups performed for every command Reserve handles.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandLookupBenchmark {
+
+  private CommandManager manager;
+  private TNECommand command;
+
+  @Setup
+  public void setup() {
+    command = new ReserveCommand(null);
+
+    manager = new CommandManager();
+    manager.commands.put(new String[]{"reserve", "rsv"}, command);
+  }
+
+  @Benchmark
+  public TNECommand findByName() {
+    return manager.Find("reserve");
+  }
+
+  @Benchmark
+  public TNECommand findByAlias() {
+    return manager.Find("RSV");
+  }
+
+  @Benchmark
+  public TNECommand findSubByName() {
+    return command.FindSub("loaded");
+  }
+
+  @Benchmark
+  public TNECommand findSubByAlias() {
+    return command.FindSub("eco");
+  }
+
+  @Benchmark
+  public TNECommand findSubMissing() {
+    return command.FindSub("missing");
+  }
+}
@@ -0,0 +1,110 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.currency.CurrencyFormat;
+import net.tnemc.core.economy.strict.currency.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.concurrent.TimeUnit;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Measures {@link Currency#format(BigDecimal)}, which is called for every chat message and
+ * placeholder that displays an amount, against a {@link DecimalFormat} producing the same text.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CurrencyFormatBenchmark {
+
+  private Currency currency;
+  private BigDecimal small;
+  private BigDecimal large;
+  private Money money;
+  private CurrencyFormat cached;
+  private DecimalFormat decimalFormat;
+
+  @Setup
+  public void setup() {
+    currency = BenchmarkEconomy.currency();
+    small = new BigDecimal("12.5");
+    large = new BigDecimal("123456789.987");
+    money = Money.of(large, currency);
+    cached = CurrencyFormat.builder(currency).cache(256).build();
+
+    decimalFormat = new DecimalFormat("'" + currency.symbol() + "'#,##0.00");
+    decimalFormat.setRoundingMode(RoundingMode.DOWN);
+  }
+
+  @Benchmark
+  public String formatSmall() {
+    return currency.format(small);
+  }
+
+  @Benchmark
+  public String formatLarge() {
+    return currency.format(large);
+  }
+
+  @Benchmark
+  public String formatPrecision() {
+    return currency.format(large, 0);
+  }
+
+  @Benchmark
+  public String formatMoney() {
+    return cached.format(money);
+  }
+
+  @Benchmark
+  public String formatCached() {
+    return cached.format(large);
+  }
+
+  @Benchmark
+  public String decimalFormatSmall() {
+    return decimalFormat.format(small);
+  }
+
+  @Benchmark
+  public String decimalFormatLarge() {
+    return decimalFormat.format(large);
+  }
+}
@@ -0,0 +1,99 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.utils.Message;
+import net.tnemc.core.utils.MessageTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Measures {@link Message#replaceColours(String, boolean)}, which is run for every line of every
+ * message Reserve sends, against rendering a precompiled {@link MessageTemplate}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageBenchmark {
+
+  private final Map<String, String> variables = new HashMap<>();
+
+  private String message;
+  private MessageTemplate template;
+
+  @Setup
+  public void setup() {
+    message = "<gold>/reserve economy <white>- Displays the <green>economy<white> service that is currently being used.";
+    template = MessageTemplate.compile("<gold>$player<white> sent <green>$amount<white> to <gold>$receiver<white>.");
+
+    variables.put("$player", "creatorfromhell");
+    variables.put("$amount", "1,250.00");
+    variables.put("$receiver", "Notch");
+  }
+
+  @Benchmark
+  public String colour() {
+    return Message.replaceColours(message, false);
+  }
+
+  @Benchmark
+  public String strip() {
+    return Message.replaceColours(message, true);
+  }
+
+  @Benchmark
+  public String compile() {
+    return MessageTemplate.compile(message).render(variables, false);
+  }
+
+  @Benchmark
+  public String render() {
+    return template.render(variables, false);
+  }
+
+  @Benchmark
+  public String renderStripped() {
+    return template.render(variables, true);
+  }
+
+  @Benchmark
+  public String cached() {
+    return Message.template(Message.DEFAULT_LOCALE, message).render(variables, false);
+  }
+}
@@ -0,0 +1,121 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.lax.storage.SqlStorage;
+import net.tnemc.core.economy.lax.storage.StoredHoldings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Measures the transfer throughput of {@link SqlStorage}, where each transfer stores the holdings of
+ * two accounts. Single transfers commit each row on its own, while batched transfers store
+ * {@link #TRANSFERS} transfers in one transaction.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SqlStorageBenchmark {
+
+  private static final int TRANSFERS = 100;
+
+  /**
+   * The number of accounts the transfers are made between.
+   */
+  @Param({"1000", "100000"})
+  public int accounts;
+
+  private Path directory;
+  private SqlStorage storage;
+  private String[] identifiers;
+  private long amount = 0L;
+
+  @Setup
+  public void setup() throws Exception {
+    Class.forName("org.sqlite.JDBC");
+    directory = Files.createTempDirectory("reserve-sql");
+    storage = SqlStorage.open("jdbc:sqlite:" + new File(directory.toFile(), "economy.db").getAbsolutePath(), 4, null);
+
+    identifiers = new String[accounts];
+    final List<StoredHoldings> initial = new ArrayList<>(accounts);
+    for(int i = 0; i < accounts; i++) {
+      identifiers[i] = "Account" + i;
+      initial.add(new StoredHoldings(identifiers[i], BenchmarkEconomy.WORLD, "dollar", 100000L));
+    }
+    storage.saveHoldings(initial);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    storage.close();
+    for(File file : directory.toFile().listFiles()) {
+      Files.deleteIfExists(file.toPath());
+    }
+    Files.deleteIfExists(directory);
+  }
+
+  @Benchmark
+  public void singleTransfer() throws IOException {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final long value = ++amount;
+    storage.saveHoldings(new StoredHoldings(identifiers[random.nextInt(accounts)], BenchmarkEconomy.WORLD, "dollar", value));
+    storage.saveHoldings(new StoredHoldings(identifiers[random.nextInt(accounts)], BenchmarkEconomy.WORLD, "dollar", value));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TRANSFERS)
+  public void batchedTransfers() throws IOException {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final List<StoredHoldings> batch = new ArrayList<>(TRANSFERS * 2);
+    for(int i = 0; i < TRANSFERS; i++) {
+      final long value = ++amount;
+      batch.add(new StoredHoldings(identifiers[random.nextInt(accounts)], BenchmarkEconomy.WORLD, "dollar", value));
+      batch.add(new StoredHoldings(identifiers[random.nextInt(accounts)], BenchmarkEconomy.WORLD, "dollar", value));
+    }
+    storage.saveHoldings(batch);
+  }
+}
@@ -0,0 +1,85 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.lax.BasicEconomyAdapter;
+import net.tnemc.core.economy.strict.account.UniqueAccount;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.result.HoldingsMoveActionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Measures {@link net.tnemc.core.economy.strict.account.Account#transfer} while several threads
+ * move holdings between a small pool of accounts, against the in-memory reference economy.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@Threads(4)
+public class TransferContentionBenchmark {
+
+  /**
+   * The number of accounts the threads transfer between. Fewer accounts means more contention.
+   */
+  @Param({"2", "16", "256"})
+  public int accounts;
+
+  private UniqueAccount[] pool;
+  private Currency currency;
+  private BigDecimal amount;
+
+  @Setup
+  public void setup() {
+    final BasicEconomyAdapter adapter = BenchmarkEconomy.adapter();
+    pool = BenchmarkEconomy.accounts(adapter, accounts, new BigDecimal("1000000000.00"));
+    currency = adapter.getDefaultCurrency();
+    amount = new BigDecimal("1.25");
+  }
+
+  @Benchmark
+  public HoldingsMoveActionResult transfer() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final int from = random.nextInt(pool.length);
+    final int to = (from + 1 + random.nextInt(pool.length - 1)) % pool.length;
+    return pool[from].transfer(pool[to], amount, BenchmarkEconomy.WORLD, currency, BenchmarkEconomy.SOURCE);
+  }
+}
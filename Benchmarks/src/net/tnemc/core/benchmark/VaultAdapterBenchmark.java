@@ -0,0 +1,99 @@
+package net.tnemc.core.benchmark;
+
+import net.milkbowl.vault.economy.EconomyResponse;
+import net.tnemc.core.VaultAdapter;
+import net.tnemc.core.economy.lax.BasicEconomyAdapter;
+import net.tnemc.core.economy.strict.currency.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Measures the Vault balance path, which converts between double and BigDecimal on every call.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VaultAdapterBenchmark {
+
+  private VaultAdapter vault;
+  private String name;
+  private double amount;
+
+  @Setup
+  public void setup() {
+    final BasicEconomyAdapter adapter = BenchmarkEconomy.adapter();
+    BenchmarkEconomy.accounts(adapter, 1, new BigDecimal("1000.00"));
+
+    vault = new VaultAdapter(adapter, BenchmarkEconomy.WORLD);
+    name = "Player0";
+    amount = 123.45;
+  }
+
+  @Benchmark
+  public double getBalance() {
+    return vault.getBalance(name);
+  }
+
+  @Benchmark
+  public boolean has() {
+    return vault.has(name, amount);
+  }
+
+  @Benchmark
+  public EconomyResponse depositAndWithdraw() {
+    vault.depositPlayer(name, amount);
+    return vault.withdrawPlayer(name, amount);
+  }
+
+  @Benchmark
+  public BigDecimal doubleToBigDecimal() {
+    return new BigDecimal(amount);
+  }
+
+  @Benchmark
+  public BigDecimal doubleValueOf() {
+    return BigDecimal.valueOf(amount);
+  }
+
+  @Benchmark
+  public Money doubleToMoney() {
+    return Money.of(amount, 2);
+  }
+}
@@ -1,11 +1,18 @@
 package net.tnemc.core;
 
 import net.tnemc.core.configuration.CommentedConfiguration;
+import net.tnemc.core.configuration.ConfigListener;
 import net.tnemc.core.configuration.ConfigNodes;
+import net.tnemc.core.configuration.ConfigSnapshot;
+import net.tnemc.core.configuration.ConfigWatcher;
 import net.tnemc.core.utils.FileMgmt;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.util.logging.Level.SEVERE;
 
@@ -35,6 +42,11 @@ public class ConfigurationManager {
 
   private static CommentedConfiguration config, newConfig;
   private static JavaPlugin plugin;
+  private static File configFile;
+  private static ConfigWatcher watcher;
+
+  private static volatile ConfigSnapshot snapshot = ConfigSnapshot.defaults();
+  private static final List<ConfigListener> listeners = new CopyOnWriteArrayList<>();
 
   public static void initialize(JavaPlugin plugin) {
     ConfigurationManager.plugin = plugin;
@@ -64,6 +76,88 @@ public class ConfigurationManager {
     setDefaults(version, file);
 
     config.save();
+    configFile = file;
+    snapshot = snapshot(config);
+  }
+
+  private static ConfigSnapshot snapshot(CommentedConfiguration configuration) {
+    return ConfigSnapshot.of(node->configuration.getString(node.getRoot().toLowerCase(), node.getDefault()));
+  }
+
+  /**
+   * @return The {@link ConfigSnapshot} currently in use.
+   */
+  public static ConfigSnapshot snapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Registers a listener that is notified on the main thread when a reload of config.yml changes
+   * any values.
+   */
+  public static void addListener(ConfigListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Starts watching config.yml, so that edits are applied without a restart.
+   */
+  public static void watch() {
+    if(watcher != null || configFile == null) {
+      return;
+    }
+
+    try {
+      watcher = new ConfigWatcher(configFile, ConfigurationManager::reload);
+    } catch(IOException e) {
+      plugin.getLogger().warning("Unable to watch config.yml for changes, a restart is needed to apply edits: " + e.getMessage());
+    }
+  }
+
+  public static void stopWatching() {
+    if(watcher != null) {
+      try {
+        watcher.close();
+      } catch(IOException ignore) {
+        //Nothing left to release.
+      }
+      watcher = null;
+    }
+    listeners.clear();
+  }
+
+  /**
+   * Reads config.yml again and swaps in a new {@link ConfigSnapshot}. This is run on the watcher's
+   * thread, and the listeners are notified on the main thread afterwards.
+   */
+  static void reload() {
+    try {
+      final CommentedConfiguration reloaded = new CommentedConfiguration(configFile);
+      if(!reloaded.load()) {
+        plugin.getLogger().warning("Unable to reload config.yml, the previous settings are still in use.");
+        return;
+      }
+
+      final ConfigSnapshot previous = snapshot;
+      final ConfigSnapshot current = snapshot(reloaded);
+      final Set<ConfigNodes> changed = current.changed(previous);
+      if(changed.isEmpty()) {
+        return;
+      }
+
+      config = reloaded;
+      snapshot = current;
+
+      if(plugin.isEnabled()) {
+        plugin.getServer().getScheduler().runTask(plugin, ()->{
+          for(ConfigListener listener : listeners) {
+            listener.changed(current, changed);
+          }
+        });
+      }
+    } catch(RuntimeException e) {
+      plugin.getLogger().log(SEVERE, "Unable to reload config.yml", e);
+    }
   }
 
   /**
@@ -129,28 +223,26 @@ public class ConfigurationManager {
 
 
   public static String getString(ConfigNodes node) {
-    return config.getString(node.getRoot().toLowerCase(), node.getDefault());
+    return snapshot.getString(node);
   }
 
   public static boolean getBoolean(ConfigNodes node) {
-    return Boolean.parseBoolean(config.getString(node.getRoot().toLowerCase(), node.getDefault()));
+    return snapshot.getBoolean(node);
   }
 
   public static double getDouble(ConfigNodes node) {
-    try {
-      return Double.parseDouble(config.getString(node.getRoot().toLowerCase(), node.getDefault()).trim());
-    } catch(NumberFormatException e) {
+    final ConfigSnapshot current = snapshot;
+    if(!current.isDouble(node)) {
       sendError(node.getRoot().toLowerCase() + " from config.yml");
-      return 0.0;
     }
+    return current.getDouble(node);
   }
 
   public static int getInt(ConfigNodes node) {
-    try {
-      return Integer.parseInt(config.getString(node.getRoot().toLowerCase(), node.getDefault()).trim());
-    } catch(NumberFormatException e) {
+    final ConfigSnapshot current = snapshot;
+    if(!current.isInt(node)) {
       sendError(node.getRoot().toLowerCase() + " from config.yml");
-      return 0;
     }
+    return current.getInt(node);
   }
 }
@@ -0,0 +1,221 @@
+package net.tnemc.core;
+
+import net.tnemc.core.economy.strict.EconomyAdapter;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicePriority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Keeps track of the {@link EconomyAdapter economy adapters} registered with the ServicesManager.
+ * The registry is updated when adapters are registered or unregistered, and publishes the result as
+ * an immutable {@link Snapshot}, so looking up the active adapter is a single field read.
+ *
+ * The active adapter is resolved the same way as on Sponge: a later adapter only replaces the
+ * current one if it {@link EconomyAdapter#override() overrides}, and either has a higher
+ * {@link EconomyAdapter#priority() priority} or the current adapter doesn't override. An adapter
+ * that was {@link #select(String) selected} by name takes precedence over this resolution.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class EconomyRegistry {
+
+  private final Reserve plugin;
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  private String selected = null;
+
+  public EconomyRegistry(Reserve plugin) {
+    this.plugin = plugin;
+  }
+
+  /**
+   * @return The current {@link Snapshot} of the registry.
+   */
+  public Snapshot snapshot() {
+    return snapshot;
+  }
+
+  /**
+   * @return The decorated active {@link EconomyAdapter}, or null if no adapter is registered.
+   */
+  public EconomyAdapter active() {
+    return snapshot.active;
+  }
+
+  /**
+   * @return An immutable map of every registered {@link EconomyAdapter}, keyed by name.
+   */
+  public Map<String, EconomyAdapter> adapters() {
+    return snapshot.adapters;
+  }
+
+  /**
+   * Used to rebuild the snapshot from the adapters currently registered with the ServicesManager.
+   */
+  public synchronized void refresh() {
+    update(null);
+  }
+
+  /**
+   * Used to rebuild the snapshot after an adapter was unregistered. The adapter is excluded even if
+   * the ServicesManager still lists it.
+   *
+   * @param removed The {@link EconomyAdapter} that was unregistered.
+   */
+  public synchronized void unregistered(EconomyAdapter removed) {
+    update(removed);
+  }
+
+  /**
+   * Used to make the adapter with the specified name the active adapter, regardless of its priority.
+   *
+   * @param name The name of the {@link EconomyAdapter}.
+   *
+   * @return True if an adapter with the name is registered, otherwise false.
+   */
+  public synchronized boolean select(String name) {
+    if(!snapshot.adapters.containsKey(name)) {
+      return false;
+    }
+    selected = name;
+    update(null);
+    return true;
+  }
+
+  /**
+   * Used to decorate the active adapter again, for example after the decorators enabled in the
+   * configuration changed. The Vault bridge is moved over to the newly decorated adapter.
+   */
+  public synchronized void redecorate() {
+    final Snapshot previous = snapshot;
+    if(previous.provider == null) {
+      return;
+    }
+
+    final Snapshot current = new Snapshot(previous.adapters, previous.provider, plugin.decorate(previous.provider),
+                                          previous.priority);
+    snapshot = current;
+    plugin.activated(previous, current);
+  }
+
+  private void update(EconomyAdapter removed) {
+    final Collection<RegisteredServiceProvider<EconomyAdapter>> registrations = Bukkit.getServicesManager().getRegistrations(EconomyAdapter.class);
+    final Map<String, EconomyAdapter> adapters = new LinkedHashMap<>();
+
+    RegisteredServiceProvider<EconomyAdapter> resolved = null;
+    RegisteredServiceProvider<EconomyAdapter> chosen = null;
+    for(RegisteredServiceProvider<EconomyAdapter> registration : registrations) {
+      final EconomyAdapter adapter = registration.getProvider();
+      if(adapter == null || adapter == removed) {
+        continue;
+      }
+      adapters.putIfAbsent(adapter.name(), adapter);
+
+      if(resolved == null || replaces(adapter, resolved.getProvider())) {
+        resolved = registration;
+      }
+
+      if(chosen == null && adapter.name().equals(selected)) {
+        chosen = registration;
+      }
+    }
+    publish(adapters, (chosen != null)? chosen : resolved);
+  }
+
+  private void publish(Map<String, EconomyAdapter> adapters, RegisteredServiceProvider<EconomyAdapter> registration) {
+    final Snapshot previous = snapshot;
+    final EconomyAdapter provider = (registration == null)? null : registration.getProvider();
+
+    EconomyAdapter active = null;
+    if(provider != null) {
+      active = (provider == previous.provider)? previous.active : plugin.decorate(provider);
+    }
+
+    final Snapshot current = new Snapshot(Collections.unmodifiableMap(adapters), provider, active,
+                                          (registration == null)? ServicePriority.Normal : registration.getPriority());
+    snapshot = current;
+
+    if(previous.provider != provider) {
+      plugin.activated(previous, current);
+    }
+  }
+
+  private static boolean replaces(EconomyAdapter adapter, EconomyAdapter current) {
+    return adapter.override() && (adapter.priority() > current.priority() || !current.override());
+  }
+
+  /**
+   * An immutable view of the registry at one point in time.
+   */
+  public static final class Snapshot {
+
+    static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), null, null, ServicePriority.Normal);
+
+    private final Map<String, EconomyAdapter> adapters;
+    private final EconomyAdapter provider;
+    private final EconomyAdapter active;
+    private final ServicePriority priority;
+
+    private Snapshot(Map<String, EconomyAdapter> adapters, EconomyAdapter provider, EconomyAdapter active, ServicePriority priority) {
+      this.adapters = adapters;
+      this.provider = provider;
+      this.active = active;
+      this.priority = priority;
+    }
+
+    /**
+     * @return An immutable map of every registered {@link EconomyAdapter}, keyed by name.
+     */
+    public Map<String, EconomyAdapter> adapters() {
+      return adapters;
+    }
+
+    /**
+     * @return The active {@link EconomyAdapter} as it was registered, or null if there is none.
+     */
+    public EconomyAdapter provider() {
+      return provider;
+    }
+
+    /**
+     * @return The active {@link EconomyAdapter} wrapped in Reserve's decorators, or null if there is
+     * none.
+     */
+    public EconomyAdapter active() {
+      return active;
+    }
+
+    /**
+     * @return The {@link ServicePriority} the active adapter was registered with.
+     */
+    public ServicePriority priority() {
+      return priority;
+    }
+  }
+}
@@ -1,21 +1,65 @@
 package net.tnemc.core;
 
 import net.milkbowl.vault.economy.Economy;
+import net.tnemc.core.command.AsyncCommandRunner;
 import net.tnemc.core.command.CommandManager;
 import net.tnemc.core.command.TNECommand;
 import net.tnemc.core.command.reserve.ReserveCommand;
+import net.tnemc.core.configuration.ConfigNodes;
+import net.tnemc.core.configuration.ConfigSnapshot;
+import net.tnemc.core.economy.lax.BasicEconomyAdapter;
+import net.tnemc.core.economy.lax.currency.BasicCurrency;
+import net.tnemc.core.economy.lax.storage.HoldingsStorage;
+import net.tnemc.core.economy.lax.storage.LogStructuredStorage;
+import net.tnemc.core.economy.lax.storage.SqlStorage;
+import net.tnemc.core.economy.lax.storage.StorageBinding;
+import net.tnemc.core.economy.lax.storage.WriteBehindStorage;
 import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.async.AsyncEconomyAdapter;
+import net.tnemc.core.economy.strict.async.ExecutorAsyncEconomyAdapter;
+import net.tnemc.core.economy.strict.cache.CachingEconomyAdapter;
+import net.tnemc.core.economy.strict.cache.HandleCachingEconomyAdapter;
+import net.tnemc.core.economy.strict.event.EconomyEventBus;
+import net.tnemc.core.economy.strict.event.EventingEconomyAdapter;
+import net.tnemc.core.economy.strict.forwarding.ForwardingEconomyAdapter;
+import net.tnemc.core.economy.strict.journal.Journal;
+import net.tnemc.core.economy.strict.journal.JournalReplayer;
+import net.tnemc.core.economy.strict.journal.JournalingEconomyAdapter;
+import net.tnemc.core.economy.strict.metrics.CallRecorder;
+import net.tnemc.core.economy.strict.metrics.EconomyMetrics;
+import net.tnemc.core.economy.strict.metrics.InstrumentedEconomyAdapter;
+import net.tnemc.core.economy.strict.metrics.OperationStats;
+import net.tnemc.core.economy.strict.metrics.SlowCallWatchdog;
+import net.tnemc.core.economy.strict.ranking.RankingEconomyAdapter;
+import net.tnemc.core.economy.strict.ranking.SeedableEconomy;
+import net.tnemc.core.listener.ServiceRegisterListener;
+import net.tnemc.core.utils.CallerResolver;
 import org.bstats.bukkit.Metrics;
+import org.bstats.charts.AdvancedPie;
+import org.bstats.charts.SimplePie;
+import org.bstats.charts.SingleLineChart;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
-import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 
-import java.util.LinkedHashMap;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Created by creatorfromhell on 8/9/2017.
@@ -43,12 +87,37 @@ public class Reserve extends JavaPlugin {
 
   private static Reserve instance;
 
+  /**
+   * The nodes read by {@link #decorate(EconomyAdapter)}, which are applied by decorating the active
+   * adapter again.
+   */
+  private static final Set<ConfigNodes> DECORATOR_NODES = EnumSet.of(ConfigNodes.JOURNAL_SYNC, ConfigNodes.RANKING_ENABLED,
+                                                                     ConfigNodes.CACHE_ENABLED, ConfigNodes.CACHE_SIZE,
+                                                                     ConfigNodes.CACHE_TTL, ConfigNodes.CACHE_HANDLES,
+                                                                     ConfigNodes.METRICS_ENABLED);
+
   protected CommandManager commandManager;
 
-  private String ecoProvider = "";
+  private final EconomyRegistry registry = new EconomyRegistry(this);
+  private final EconomyMetrics metrics = new EconomyMetrics();
+  private final AtomicBoolean replaying = new AtomicBoolean(false);
+  private VaultAdapter vault;
 
   public String defaultWorld = "Default";
 
+  private ThreadPoolExecutor asyncExecutor;
+  private volatile AsyncEconomyAdapter asyncEconomy;
+  private volatile DecoratedEconomy decorated;
+  private RankingEconomyAdapter ranking;
+  private EconomyAdapter ranked;
+  private volatile Journal journal;
+  private volatile StorageBinding storage;
+  private BukkitTask checkpointTask;
+  private EconomyEventBus events;
+  private Metrics bStats;
+  private SlowCallWatchdog watchdog;
+  private AsyncCommandRunner commandRunner;
+
   public void onLoad() {
     instance = this;
 
@@ -63,39 +132,550 @@ public class Reserve extends JavaPlugin {
     }
     defaultWorld = Bukkit.getServer().getWorlds().get(0).getName();
     registerCommand(new String[]{"reserve", "rsv"}, new ReserveCommand(this));
+    getServer().getPluginManager().registerEvents(new ServiceRegisterListener(this), this);
+
+    asyncExecutor = ExecutorAsyncEconomyAdapter.boundedExecutor("Reserve-Async",
+                                                               ConfigurationManager.getInt(ConfigNodes.ASYNC_THREADS),
+                                                               ConfigurationManager.getInt(ConfigNodes.ASYNC_QUEUE));
+    commandRunner = new AsyncCommandRunner(this, ConfigurationManager.getInt(ConfigNodes.COMMANDS_THREADS),
+                                           ConfigurationManager.getInt(ConfigNodes.COMMANDS_PER_SENDER),
+                                           ConfigurationManager.getInt(ConfigNodes.COMMANDS_TIMEOUT));
+    events = new EconomyEventBus(ConfigurationManager.getInt(ConfigNodes.EVENTS_QUEUE),
+                                 ConfigurationManager.getInt(ConfigNodes.EVENTS_BATCH), getLogger());
+    if(ConfigurationManager.getBoolean(ConfigNodes.WATCHDOG_ENABLED)) {
+      watchdog = new SlowCallWatchdog((long)(ConfigurationManager.getDouble(ConfigNodes.WATCHDOG_THRESHOLD) * 1000000L),
+                                      TimeUnit.NANOSECONDS, ConfigurationManager.getInt(ConfigNodes.WATCHDOG_HISTORY),
+                                      ConfigurationManager.getInt(ConfigNodes.WATCHDOG_SAMPLE),
+                                      Bukkit::isPrimaryThread, new CallerResolver(this));
+    }
+    openJournal();
+    openStorage();
+    registry.refresh();
+
+    if(journal != null && storage != null) {
+      final long ticks = Math.max(1, ConfigurationManager.getInt(ConfigNodes.JOURNAL_CHECKPOINT)) * 20L;
+      checkpointTask = getServer().getScheduler().runTaskTimerAsynchronously(this, this::checkpointStorage, ticks, ticks);
+    }
+
+    ConfigurationManager.addListener(this::configChanged);
+    ConfigurationManager.watch();
+
+    bStats = new Metrics(this, 2586);
+    addCharts();
+  }
+
+  public void onDisable() {
+    ConfigurationManager.stopWatching();
+
+    if(checkpointTask != null) {
+      checkpointTask.cancel();
+      checkpointTask = null;
+    }
+
+    if(commandRunner != null) {
+      commandRunner.close();
+      commandRunner = null;
+    }
+
+    if(asyncExecutor != null) {
+      asyncExecutor.shutdown();
+      try {
+        if(!asyncExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+          getLogger().warning("Timed out while waiting for asynchronous economy calls to finish.");
+        }
+      } catch(InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      asyncExecutor = null;
+    }
+    asyncEconomy = null;
+    decorated = null;
+    vault = null;
+
+    if(events != null) {
+      events.close();
+      events = null;
+    }
 
-    new Metrics(this, 2586);
+    //The journal is only acknowledged when the built-in economy is the provider and its storage closed
+    //cleanly, which writes the holdings changes that are still held in memory. Reserve can't tell
+    //whether another economy plugin saved its changes, so those stay in the journal unless the plugin
+    //acknowledged them itself.
+    boolean persisted = false;
+    if(storage != null) {
+      final boolean builtIn = registry.snapshot().provider() == storage.adapter();
+      try {
+        storage.close();
+        persisted = builtIn;
+      } catch(IOException e) {
+        getLogger().severe("Unable to save the economy storage, its changes are kept in the journal: " + e.getMessage());
+      }
+      storage = null;
+    }
+
+    if(journal != null) {
+      try {
+        if(persisted) {
+          journal.acknowledge(journal.lastSequence());
+        }
+        journal.close();
+      } catch(IOException e) {
+        getLogger().warning("Unable to close the economy journal: " + e.getMessage());
+      }
+      journal = null;
+    }
   }
 
   public static Reserve instance() {
     return instance;
   }
 
-  public LinkedHashMap<String, EconomyAdapter> getRegisteredEconomies() {
-    LinkedHashMap<String, EconomyAdapter> registered = new LinkedHashMap<>();
-
-    for(RegisteredServiceProvider<EconomyAdapter> adapter : Bukkit.getServicesManager().getRegistrations(EconomyAdapter.class)) {
-      registered.put(adapter.getProvider().name(), adapter.getProvider());
-    }
+  public EconomyRegistry registry() {
+    return registry;
+  }
 
-    return registered;
+  public Map<String, EconomyAdapter> getRegisteredEconomies() {
+    return registry.adapters();
   }
 
   public void setEconomy(String name) {
-    ecoProvider = name;
+    registry.select(name);
   }
 
   public EconomyAdapter economy() {
-    return (EconomyAdapter)Bukkit.getServicesManager().getRegistration(EconomyAdapter.class);
+    return registry.active();
+  }
+
+  /**
+   * @return The {@link EconomyMetrics} that the latency of economy calls is recorded in.
+   */
+  public EconomyMetrics metrics() {
+    return metrics;
+  }
+
+  /**
+   * @return The {@link AsyncCommandRunner} that asynchronous commands are run on, or null if Reserve
+   * isn't enabled.
+   */
+  public AsyncCommandRunner commandRunner() {
+    return commandRunner;
+  }
+
+  /**
+   * @return The {@link SlowCallWatchdog} that tracks slow economy calls on the main thread, or null if
+   * it's disabled.
+   */
+  public SlowCallWatchdog watchdog() {
+    return watchdog;
+  }
+
+  /**
+   * @return The {@link EconomyEventBus} that economy listeners are registered with.
+   */
+  public EconomyEventBus events() {
+    return events;
+  }
+
+  /**
+   * @return The {@link Journal} economy changes are recorded in, or null if journaling is disabled.
+   */
+  public Journal journal() {
+    return journal;
+  }
+
+  /**
+   * Used by economy plugins that save on their own schedule, together with
+   * {@link #acknowledgeJournal(long)}, so the journal only replays changes they haven't saved. Call
+   * this right before saving, and pass the result to {@link #acknowledgeJournal(long)} once the save
+   * has completed.
+   *
+   * @return The sequence number of the last journaled change, or 0 if journaling is disabled.
+   */
+  public long journalPosition() {
+    final Journal current = journal;
+    return (current == null)? 0L : current.lastSequence();
+  }
+
+  /**
+   * Used to mark every journaled change up to a position returned by {@link #journalPosition()} as
+   * saved by the economy, so they aren't replayed after a crash.
+   *
+   * Nothing is acknowledged while changes from a previous run are waiting for /reserve replay.
+   *
+   * @param position The position returned by {@link #journalPosition()} before the save started.
+   */
+  public void acknowledgeJournal(long position) {
+    final Journal current = journal;
+
+    //Acknowledging would also discard the changes from the previous run that are waiting to be replayed.
+    if(current == null || current.checkpoint() < current.sessionStart() - 1) {
+      return;
+    }
+
+    try {
+      current.acknowledge(position);
+    } catch(IOException e) {
+      getLogger().warning("Unable to acknowledge the economy journal: " + e.getMessage());
+    }
   }
 
-  public void registerVault(RegisteredServiceProvider<EconomyAdapter> provider) {
-    getLogger().info("Reserve: Hooked " + provider.getProvider().name() + " into vault.");
-    getServer().getServicesManager().register(Economy.class, new VaultAdapter(provider.getProvider()), this, provider.getPriority());
+  /**
+   * @return The {@link StorageBinding} of the built-in economy, or null if it isn't enabled.
+   */
+  public StorageBinding storage() {
+    return storage;
+  }
+
+  /**
+   * Used to re-apply the journaled changes from a previous run that were never acknowledged. The
+   * changes are applied to the economy provider directly, and the balance caches are cleared afterwards.
+   * Only one replay runs at a time, since two replays would both apply the same changes.
+   *
+   * @return The {@link JournalReplayer.Report} of the replay, or null if journaling is disabled or no
+   * economy is registered.
+   *
+   * @throws IOException If the journal couldn't be read.
+   * @throws IllegalStateException If a replay is already running.
+   */
+  public JournalReplayer.Report replayJournal() throws IOException {
+    final EconomyRegistry.Snapshot snapshot = registry.snapshot();
+    final Journal current = journal;
+    if(current == null || snapshot.provider() == null) {
+      return null;
+    }
+
+    if(!replaying.compareAndSet(false, true)) {
+      throw new IllegalStateException("A journal replay is already running.");
+    }
+
+    try {
+      final JournalReplayer.Report report = new JournalReplayer(current, snapshot.provider()).replay();
+
+      EconomyAdapter adapter = snapshot.active();
+      while(adapter instanceof ForwardingEconomyAdapter) {
+        if(adapter instanceof CachingEconomyAdapter) {
+          ((CachingEconomyAdapter)adapter).invalidateAll();
+        } else if(adapter instanceof HandleCachingEconomyAdapter) {
+          ((HandleCachingEconomyAdapter)adapter).invalidateAll();
+        }
+        adapter = ((ForwardingEconomyAdapter)adapter).delegate();
+      }
+      return report;
+    } finally {
+      replaying.set(false);
+    }
+  }
+
+  /**
+   * Used to wrap an {@link EconomyAdapter} in the decorators that are enabled in the configuration,
+   * such as the journal, the event bus, the balance ranking and the balance and account handle caches. The decorated adapter is kept, and only rebuilt when a different
+   * adapter is passed in.
+   *
+   * @param adapter The {@link EconomyAdapter} to decorate.
+   *
+   * @return The decorated {@link EconomyAdapter}.
+   */
+  public EconomyAdapter decorate(EconomyAdapter adapter) {
+    DecoratedEconomy current = decorated;
+    if(current != null && current.source == adapter) {
+      return current.adapter;
+    }
+
+    synchronized(this) {
+      current = decorated;
+      if(current != null && current.source == adapter) {
+        return current.adapter;
+      }
+
+      EconomyAdapter chain = adapter;
+      if(journal != null) {
+        chain = new JournalingEconomyAdapter(chain, journal, ConfigurationManager.getBoolean(ConfigNodes.JOURNAL_SYNC), getLogger());
+      }
+
+      if(events != null) {
+        chain = new EventingEconomyAdapter(chain, events);
+      }
+
+      if(ConfigurationManager.getBoolean(ConfigNodes.RANKING_ENABLED)) {
+
+        //The rankings of the same economy are kept when its decorators are rebuilt, and only seeded
+        //when a different economy is ranked.
+        final boolean same = ranking != null && ranked == adapter;
+        ranking = new RankingEconomyAdapter(chain, (same)? ranking : null);
+        if(!same) {
+          ranked = adapter;
+          seedRanking(ranking, adapter);
+        }
+        chain = ranking;
+      } else {
+        ranking = null;
+        ranked = null;
+      }
+
+      if(ConfigurationManager.getBoolean(ConfigNodes.CACHE_ENABLED)) {
+        chain = new CachingEconomyAdapter(chain, ConfigurationManager.getInt(ConfigNodes.CACHE_SIZE),
+                                          ConfigurationManager.getInt(ConfigNodes.CACHE_TTL), TimeUnit.SECONDS);
+      }
+
+      final int handles = ConfigurationManager.getInt(ConfigNodes.CACHE_HANDLES);
+      if(handles > 0) {
+        chain = new HandleCachingEconomyAdapter(chain, handles);
+      }
+
+      final List<CallRecorder> recorders = new ArrayList<>();
+      if(ConfigurationManager.getBoolean(ConfigNodes.METRICS_ENABLED)) {
+        recorders.add(metrics);
+      }
+      if(watchdog != null) {
+        recorders.add(watchdog);
+      }
+      if(!recorders.isEmpty()) {
+        chain = new InstrumentedEconomyAdapter(chain, recorders.toArray(new CallRecorder[0]));
+      }
+
+      decorated = new DecoratedEconomy(adapter, chain);
+      return chain;
+    }
+  }
+
+  /**
+   * Used to fill a new ranking with the accounts of the economy it ranks, on a background thread. Only
+   * economies that can list their accounts cheaply, such as the built-in economy, are seeded. Asking
+   * any other economy for every account isn't safe off of the main thread and scales with every
+   * account it has, so their rankings fill in as their accounts are used instead.
+   */
+  private void seedRanking(RankingEconomyAdapter ranking, EconomyAdapter provider) {
+    if(!isEnabled()) {
+      return;
+    }
+
+    final List<String> worlds = new ArrayList<>();
+    for(World world : getServer().getWorlds()) {
+      worlds.add(world.getName());
+    }
+
+    if(!(provider instanceof SeedableEconomy)) {
+      getLogger().info("Reserve: " + provider.name() + " can't list its accounts, balances are ranked as they're used.");
+      return;
+    }
+
+    getServer().getScheduler().runTaskAsynchronously(this, ()->{
+      final int seeded = ranking.seed(((SeedableEconomy)provider).accounts(), worlds);
+      getLogger().info("Reserve: Ranked the holdings of " + seeded + " accounts of " + provider.name() + ".");
+    });
+  }
+
+  /**
+   * Called on the main thread after a reload of config.yml changed some values. Settings that can be
+   * changed at runtime are applied, and the rest are logged as needing a restart.
+   */
+  private void configChanged(ConfigSnapshot snapshot, Set<ConfigNodes> changed) {
+    final Set<ConfigNodes> restart = EnumSet.copyOf(changed);
+
+    if(changed.contains(ConfigNodes.ASYNC_THREADS) && asyncExecutor != null) {
+      final int threads = Math.max(1, snapshot.getInt(ConfigNodes.ASYNC_THREADS));
+      if(threads > asyncExecutor.getMaximumPoolSize()) {
+        asyncExecutor.setMaximumPoolSize(threads);
+        asyncExecutor.setCorePoolSize(threads);
+      } else {
+        asyncExecutor.setCorePoolSize(threads);
+        asyncExecutor.setMaximumPoolSize(threads);
+      }
+      restart.remove(ConfigNodes.ASYNC_THREADS);
+    }
+
+    if(restart.removeAll(DECORATOR_NODES)) {
+      synchronized(this) {
+        decorated = null;
+      }
+      registry.redecorate();
+    }
+
+    //Headers and the version nodes never need a restart.
+    restart.removeIf(node->node.getDefault().isEmpty() || node == ConfigNodes.VERSION || node == ConfigNodes.LAST_RUN_VERSION);
+
+    getLogger().info("Reserve: Applied the changes to config.yml.");
+    if(!restart.isEmpty()) {
+      getLogger().info("Reserve: A restart is needed to apply: " + restart);
+    }
+  }
+
+  /**
+   * Used to get the asynchronous bridge for the active {@link EconomyAdapter}. The calls made through
+   * the returned adapter are performed on Reserve's worker pool instead of the calling thread.
+   *
+   * @return The {@link AsyncEconomyAdapter} for the active economy, or null if no economy is
+   * registered.
+   */
+  public AsyncEconomyAdapter asyncEconomy() {
+    final EconomyAdapter adapter = economy();
+    if(adapter == null || asyncExecutor == null) {
+      return null;
+    }
+
+    AsyncEconomyAdapter current = asyncEconomy;
+    if(current == null || current.adapter() != adapter) {
+      current = new ExecutorAsyncEconomyAdapter(adapter, asyncExecutor);
+      asyncEconomy = current;
+    }
+    return current;
+  }
+
+  /**
+   * Called by the {@link EconomyRegistry} when the active adapter changes. The Vault bridge is moved
+   * over to the new adapter if it supports Vault.
+   */
+  void activated(EconomyRegistry.Snapshot previous, EconomyRegistry.Snapshot current) {
+    if(vault != null) {
+      getServer().getServicesManager().unregister(Economy.class, vault);
+      vault = null;
+    }
+    asyncEconomy = null;
+
+    if(current.provider() == null) {
+      getLogger().info("Reserve: No economy provider is registered.");
+      return;
+    }
+
+    getLogger().info("Reserve: Using " + current.provider().name() + " as the economy provider.");
+    if(current.provider().vault()) {
+      vault = new VaultAdapter(current.active());
+      getServer().getServicesManager().register(Economy.class, vault, this, current.priority());
+      getLogger().info("Reserve: Hooked " + current.provider().name() + " into vault.");
+    }
   }
 
   public boolean economyProvided() {
-    return ecoProvider != null;
+    return registry.active() != null;
+  }
+
+  private void addCharts() {
+    bStats.addCustomChart(new SimplePie("economy_provider", ()->{
+      final EconomyAdapter provider = registry.snapshot().provider();
+      return (provider == null)? "None" : provider.name();
+    }));
+
+    final AtomicLong reported = new AtomicLong();
+    bStats.addCustomChart(new SingleLineChart("economy_calls", ()->{
+      final long calls = metrics.calls();
+      return (int)Math.min(Integer.MAX_VALUE, Math.max(0L, calls - reported.getAndSet(calls)));
+    }));
+
+    bStats.addCustomChart(new AdvancedPie("economy_calls_by_method", ()->{
+      final Map<String, Integer> calls = new HashMap<>();
+      for(OperationStats stats : metrics.methods()) {
+        calls.put(stats.name(), (int)Math.min(Integer.MAX_VALUE, stats.calls()));
+      }
+      return calls;
+    }));
+
+    bStats.addCustomChart(new SimplePie("economy_withdraw_p99", ()->{
+      final long p99 = metrics.method("account.withdraw").map(OperationStats::p99).orElse(0L) / 1000000L;
+      return (p99 < 1)? "<1ms" : (p99 < 10)? "1-10ms" : (p99 < 50)? "10-50ms" : ">50ms";
+    }));
+  }
+
+  /**
+   * Used to load the built-in economy from its storage and register it with the ServicesManager, at
+   * the lowest priority so any economy plugin takes precedence over it.
+   */
+  private void openStorage() {
+    final String type = ConfigurationManager.getString(ConfigNodes.STORAGE_TYPE).toLowerCase();
+    if(type.equals("none")) {
+      return;
+    }
+
+    final File directory = new File(ConfigurationManager.getDataFolder(), "storage");
+    final BasicEconomyAdapter economy = new BasicEconomyAdapter("Reserve", defaultWorld,
+                                                                new BasicCurrency("Dollar", "$", "Dollar", "Dollars", true));
+    try {
+      final HoldingsStorage backend;
+      switch(type) {
+        case "flatfile":
+          backend = LogStructuredStorage.open(directory.toPath(),
+                                              ConfigurationManager.getInt(ConfigNodes.STORAGE_SEGMENT) * 1024 * 1024,
+                                              ConfigurationManager.getInt(ConfigNodes.STORAGE_FLUSH), TimeUnit.MILLISECONDS,
+                                              ConfigurationManager.getInt(ConfigNodes.STORAGE_COMPACT), getLogger());
+          break;
+        case "sqlite":
+          try {
+            //Bukkit servers ship the driver, but it isn't registered with the DriverManager until loaded.
+            Class.forName("org.sqlite.JDBC");
+          } catch(ClassNotFoundException e) {
+            getLogger().severe("Reserve: The SQLite driver isn't available, the built-in economy is disabled.");
+            return;
+          }
+          if(!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create " + directory);
+          }
+          backend = SqlStorage.open("jdbc:sqlite:" + new File(directory, "economy.db").getAbsolutePath(),
+                                    ConfigurationManager.getInt(ConfigNodes.STORAGE_CONNECTIONS),
+                                    ConfigurationManager.getString(ConfigNodes.LAST_RUN_VERSION));
+          break;
+        default:
+          getLogger().severe("Reserve: Unknown storage type " + type + ", the built-in economy is disabled.");
+          return;
+      }
+
+      int delay = ConfigurationManager.getInt(ConfigNodes.STORAGE_DELAY);
+
+      //Without a delay every change is committed to the database on the thread that made it, which is
+      //usually the main thread.
+      if(delay <= 0 && type.equals("sqlite")) {
+        delay = Integer.parseInt(ConfigNodes.STORAGE_DELAY.getDefault());
+        getLogger().warning("Reserve: storage.delay can't be 0 with sqlite storage, using " + delay + " instead.");
+      }
+      final HoldingsStorage buffered = (delay > 0)? new WriteBehindStorage(backend, delay, TimeUnit.MILLISECONDS,
+                                                                           ConfigurationManager.getInt(ConfigNodes.STORAGE_BATCH),
+                                                                           getLogger()) : backend;
+      storage = StorageBinding.bind(economy, buffered, getLogger());
+    } catch(IOException e) {
+      getLogger().severe("Reserve: Unable to load the economy storage, the built-in economy is disabled: " + e.getMessage());
+      storage = null;
+      return;
+    }
+    getServer().getServicesManager().register(EconomyAdapter.class, economy, this, ServicePriority.Lowest);
+  }
+
+  /**
+   * Flushes the built-in economy's storage, and acknowledges the changes journaled before the flush
+   * started. Every journaled change was applied to the economy, and handed to its storage, before
+   * it was journaled, so they're all on disk once the flush returns.
+   */
+  private void checkpointStorage() {
+    final StorageBinding binding = storage;
+    if(binding == null || registry.snapshot().provider() != binding.adapter()) {
+      return;
+    }
+
+    final long position = journalPosition();
+    try {
+      binding.flush();
+    } catch(IOException e) {
+      getLogger().warning("Unable to save the economy storage, its journaled changes are kept: " + e.getMessage());
+      return;
+    }
+    acknowledgeJournal(position);
+  }
+
+  private void openJournal() {
+    if(!ConfigurationManager.getBoolean(ConfigNodes.JOURNAL_ENABLED)) {
+      return;
+    }
+
+    try {
+      journal = Journal.open(new File(ConfigurationManager.getDataFolder(), "journal").toPath(),
+                             ConfigurationManager.getInt(ConfigNodes.JOURNAL_SEGMENT) * 1024 * 1024,
+                             ConfigurationManager.getInt(ConfigNodes.JOURNAL_FLUSH), TimeUnit.MILLISECONDS);
+      if(journal.recovered() > 0) {
+        getLogger().warning("Reserve: The journal contains " + journal.recovered() + " economy changes that may not have been saved. "
+                            + "If your economy plugin acknowledges its saves, or you use the built-in economy, use /reserve replay "
+                            + "to re-apply them. Otherwise replaying may apply changes the economy already saved a second time.");
+      }
+    } catch(IOException e) {
+      getLogger().severe("Reserve: Unable to open the economy journal, journaling is disabled: " + e.getMessage());
+      journal = null;
+    }
   }
 
   private CommandManager getCommandManager() {
@@ -124,8 +704,28 @@ public class Reserve extends JavaPlugin {
         sender.sendMessage(ChatColor.RED + "I'm sorry, but you're not allowed to use that commands.");
         return false;
       }
-      return ecoCommand.execute(sender, label, arguments);
+      return ecoCommand.dispatch(sender, label, arguments);
     }
     return false;
   }
+
+  @Override
+  public List<String> onTabComplete(CommandSender sender, Command command, String label, String[] arguments) {
+    TNECommand ecoCommand = commandManager.Find(label);
+    if(ecoCommand != null && ecoCommand.canExecute(sender)) {
+      return ecoCommand.tabComplete(sender, arguments);
+    }
+    return Collections.emptyList();
+  }
+
+  private static final class DecoratedEconomy {
+
+    private final EconomyAdapter source;
+    private final EconomyAdapter adapter;
+
+    private DecoratedEconomy(EconomyAdapter source, EconomyAdapter adapter) {
+      this.source = source;
+      this.adapter = adapter;
+    }
+  }
 }
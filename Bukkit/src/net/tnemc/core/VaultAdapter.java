@@ -3,6 +3,10 @@ package net.tnemc.core;
 import net.milkbowl.vault.economy.Economy;
 import net.milkbowl.vault.economy.EconomyResponse;
 import net.tnemc.core.economy.strict.EconomyAdapter;
+import net.tnemc.core.economy.strict.account.Account;
+import net.tnemc.core.economy.strict.currency.Currency;
+import net.tnemc.core.economy.strict.result.HoldingsActionResult;
+import net.tnemc.core.generic.source.BridgeSource;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
@@ -14,12 +18,21 @@ import java.util.UUID;
 
 public class VaultAdapter implements Economy {
 
+  //Vault doesn't tell us which plugin made a call, so every change shares one source per direction. The
+  //watchdog finds the plugin behind a bridge source from the stack, but only for the calls it flags.
+  private static final BridgeSource DEPOSIT_SOURCE = new BridgeSource("Vault", "Vault deposit.");
+  private static final BridgeSource WITHDRAW_SOURCE = new BridgeSource("Vault", "Vault withdrawal.");
+
   private final EconomyAdapter api;
   private final String world;
 
   public VaultAdapter(EconomyAdapter api) {
+    this(api, Reserve.instance().defaultWorld);
+  }
+
+  public VaultAdapter(EconomyAdapter api, String world) {
     this.api = api;
-    this.world = Reserve.instance().defaultWorld;
+    this.world = world;
   }
 
   @Override
@@ -44,7 +57,7 @@ public class VaultAdapter implements Economy {
 
   @Override
   public String format(double amount) {
-    return api.getDefaultCurrency().format(new BigDecimal(amount));
+    return api.getDefaultCurrency().format(BigDecimal.valueOf(amount));
   }
 
   @Override
@@ -79,86 +92,86 @@ public class VaultAdapter implements Economy {
 
   @Override
   public double getBalance(String username) {
-    return api.getOrCreateAccount(username).holdings(world).doubleValue();
+    return api.getOrCreateAccount(username).holdingsMoney(world).doubleValue();
   }
 
   @Override
   public double getBalance(OfflinePlayer offlinePlayer) {
-    return api.getOrCreateAccount(offlinePlayer.getUniqueId()).holdings(world).doubleValue();
+    return api.getOrCreateAccount(offlinePlayer.getUniqueId()).holdingsMoney(world).doubleValue();
   }
 
   @Override
   public double getBalance(String username, String world) {
-    return api.getOrCreateAccount(username).holdings(world).doubleValue();
+    return api.getOrCreateAccount(username).holdingsMoney(world).doubleValue();
   }
 
   @Override
   public double getBalance(OfflinePlayer offlinePlayer, String world) {
-    return api.getOrCreateAccount(offlinePlayer.getUniqueId()).holdings(world).doubleValue();
+    return api.getOrCreateAccount(offlinePlayer.getUniqueId()).holdingsMoney(world).doubleValue();
   }
 
   @Override
   public boolean has(String username, double amount) {
-    return api.getOrCreateAccount(username).has(world, new BigDecimal(amount));
+    return api.getOrCreateAccount(username).has(world, BigDecimal.valueOf(amount));
   }
 
   @Override
   public boolean has(OfflinePlayer offlinePlayer, double amount) {
-    return api.getOrCreateAccount(offlinePlayer.getUniqueId()).has(world, new BigDecimal(amount));
+    return api.getOrCreateAccount(offlinePlayer.getUniqueId()).has(world, BigDecimal.valueOf(amount));
   }
 
   @Override
   public boolean has(String username, String world, double amount) {
-    return api.getOrCreateAccount(username).has(world, new BigDecimal(amount));
+    return api.getOrCreateAccount(username).has(world, BigDecimal.valueOf(amount));
   }
 
   @Override
   public boolean has(OfflinePlayer offlinePlayer, String world, double amount) {
-    return api.getOrCreateAccount(offlinePlayer.getUniqueId()).has(world, new BigDecimal(amount));
+    return api.getOrCreateAccount(offlinePlayer.getUniqueId()).has(world, BigDecimal.valueOf(amount));
   }
 
   @Override
   public EconomyResponse withdrawPlayer(String username, double amount) {
-    return new EconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, "Banks not supported yet!");
+    return withdraw(api.getOrCreateAccount(username), world, amount);
   }
 
   @Override
   public EconomyResponse withdrawPlayer(OfflinePlayer offlinePlayer, double amount) {
-    return new EconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, "Banks not supported yet!");
+    return withdraw(api.getOrCreateAccount(offlinePlayer.getUniqueId()), world, amount);
   }
 
   @Override
   public EconomyResponse withdrawPlayer(String username, String world, double amount) {
-    return new EconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, "Banks not supported yet!");
+    return withdraw(api.getOrCreateAccount(username), world, amount);
   }
 
   @Override
   public EconomyResponse withdrawPlayer(OfflinePlayer offlinePlayer, String world, double amount) {
-    return new EconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, "Banks not supported yet!");
+    return withdraw(api.getOrCreateAccount(offlinePlayer.getUniqueId()), world, amount);
   }
 
   @Override
   public EconomyResponse depositPlayer(String username, double amount) {
-    return new EconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, "Banks not supported yet!");
+    return deposit(api.getOrCreateAccount(username), world, amount);
   }
 
   @Override
   public EconomyResponse depositPlayer(OfflinePlayer offlinePlayer, double amount) {
-    return new EconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, "Banks not supported yet!");
+    return deposit(api.getOrCreateAccount(offlinePlayer.getUniqueId()), world, amount);
   }
 
   @Override
   public EconomyResponse depositPlayer(String username, String world, double amount) {
-    return new EconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, "Banks not supported yet!");
+    return deposit(api.getOrCreateAccount(username), world, amount);
   }
 
   @Override
   public EconomyResponse depositPlayer(OfflinePlayer offlinePlayer, String world, double amount) {
-    return new EconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, "Banks not supported yet!");
+    return deposit(api.getOrCreateAccount(offlinePlayer.getUniqueId()), world, amount);
   }
 
   public EconomyResponse depositPlayer(final UUID id, String world, double amount) {
-    return new EconomyResponse(0, 0, EconomyResponse.ResponseType.NOT_IMPLEMENTED, "Banks not supported yet!");
+    return deposit(api.getOrCreateAccount(id), world, amount);
   }
 
   @Override
@@ -240,4 +253,34 @@ public class VaultAdapter implements Economy {
   public boolean createPlayerAccount(OfflinePlayer offlinePlayer, String world) {
     return api.createAccount(offlinePlayer.getUniqueId(), offlinePlayer.getName());
   }
+
+  private EconomyResponse deposit(Account account, String world, double amount) {
+    if(amount < 0) {
+      return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Cannot deposit negative funds.");
+    }
+
+    final Currency currency = api.getDefaultCurrency(world);
+    return response(account.deposit(BigDecimal.valueOf(amount), world, currency, DEPOSIT_SOURCE), amount);
+  }
+
+  private EconomyResponse withdraw(Account account, String world, double amount) {
+    if(amount < 0) {
+      return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Cannot withdraw negative funds.");
+    }
+
+    final Currency currency = api.getDefaultCurrency(world);
+    return response(account.withdraw(BigDecimal.valueOf(amount), world, currency, WITHDRAW_SOURCE), amount);
+  }
+
+  private static EconomyResponse response(HoldingsActionResult result, double amount) {
+    if(result == null) {
+      return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "The economy didn't return a result.");
+    }
+
+    final double balance = (result.holdings() == null)? 0 : result.holdings().doubleValue();
+    if(result.success()) {
+      return new EconomyResponse(amount, balance, EconomyResponse.ResponseType.SUCCESS, "");
+    }
+    return new EconomyResponse(0, balance, EconomyResponse.ResponseType.FAILURE, result.response());
+  }
 }
\ No newline at end of file
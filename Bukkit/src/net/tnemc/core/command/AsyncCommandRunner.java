@@ -0,0 +1,176 @@
+package net.tnemc.core.command;
+
+import net.tnemc.core.economy.strict.async.ExecutorAsyncEconomyAdapter;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Runs the commands that opt in through {@link TNECommand#async()} on a worker pool, so that a slow
+ * economy provider doesn't stall the server while an admin command runs. Permissions are checked
+ * before the command is submitted. The command gets a snapshot of its sender, which delivers what the
+ * command sends on the main thread, see {@link MainThreadSender}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class AsyncCommandRunner {
+
+  private static final int RUNNING = 0;
+  private static final int NOTIFIED = 1;
+  private static final int FINISHED = 2;
+
+  private final Map<String, Integer> running = new ConcurrentHashMap<>();
+
+  private final Plugin plugin;
+  private final ThreadPoolExecutor executor;
+  private final int perSender;
+  private final long timeout;
+
+  /**
+   * @param plugin The plugin that owns the commands.
+   * @param threads The number of worker threads.
+   * @param perSender The number of commands a single sender may have running at once.
+   * @param timeout The number of seconds after which the sender is told their command is still
+   *                running.
+   */
+  public AsyncCommandRunner(Plugin plugin, int threads, int perSender, int timeout) {
+    this.plugin = plugin;
+    this.executor = ExecutorAsyncEconomyAdapter.boundedExecutor("Reserve-Commands", threads, 16);
+    this.perSender = Math.max(1, perSender);
+    this.timeout = Math.max(1, timeout);
+  }
+
+  /**
+   * Submits the specified command to the worker pool.
+   *
+   * @param command The command to run.
+   * @param sender The sender of the command.
+   * @param label The label the command was run with.
+   * @param arguments The arguments of the command.
+   *
+   * @return True if the command was submitted, otherwise false.
+   */
+  public boolean submit(TNECommand command, CommandSender sender, String label, String[] arguments) {
+    final String key = key(sender);
+    if(!acquire(key)) {
+      sender.sendMessage(ChatColor.RED + "You already have " + perSender + " command(s) running, please wait for them to finish.");
+      return false;
+    }
+
+    final CommandSender output = MainThreadSender.wrap(plugin, sender, nodes(command, new HashSet<>()));
+    final AtomicInteger state = new AtomicInteger(RUNNING);
+    try {
+      executor.execute(()->{
+        try {
+          command.execute(output, label, arguments);
+        } catch(RuntimeException e) {
+          plugin.getLogger().warning("Command /" + label + " failed: " + e);
+          output.sendMessage(ChatColor.RED + "An error occurred while running the command, see the server log.");
+        } finally {
+          release(key);
+
+          //The sender was told they'd hear back once the command finished.
+          if(state.getAndSet(FINISHED) == NOTIFIED) {
+            output.sendMessage(ChatColor.GREEN + "/" + label + " has finished.");
+          }
+        }
+      });
+    } catch(RejectedExecutionException e) {
+      release(key);
+      sender.sendMessage(ChatColor.RED + "Too many commands are running right now, please try again shortly.");
+      return false;
+    }
+
+    plugin.getServer().getScheduler().runTaskLater(plugin, ()->{
+      if(state.compareAndSet(RUNNING, NOTIFIED)) {
+        sender.sendMessage(ChatColor.YELLOW + "/" + label + " is taking longer than " + timeout
+                           + " seconds, you'll be told when it finishes.");
+      }
+    }, timeout * 20L);
+    return true;
+  }
+
+  /**
+   * Stops accepting commands and waits briefly for the running commands to finish.
+   */
+  public void close() {
+    executor.shutdown();
+    try {
+      if(!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+        plugin.getLogger().warning("Timed out while waiting for asynchronous commands to finish.");
+      }
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean acquire(String key) {
+    final AtomicBoolean acquired = new AtomicBoolean(false);
+    running.compute(key, (k, count)->{
+      final int current = (count == null)? 0 : count;
+      if(current >= perSender) {
+        return count;
+      }
+      acquired.set(true);
+      return current + 1;
+    });
+    return acquired.get();
+  }
+
+  private void release(String key) {
+    running.computeIfPresent(key, (k, count)->(count <= 1)? null : count - 1);
+  }
+
+  /**
+   * Collects the permission nodes of a command and its sub commands, which are the nodes the command
+   * may check while it runs, for example to show its help.
+   */
+  private static Set<String> nodes(TNECommand command, Set<String> nodes) {
+    if(command.getNode() != null) {
+      nodes.add(command.getNode());
+    }
+    for(TNECommand sub : command.subCommands) {
+      nodes(sub, nodes);
+    }
+    return nodes;
+  }
+
+  private static String key(CommandSender sender) {
+    if(sender instanceof Player) {
+      return ((Player)sender).getUniqueId().toString();
+    }
+    return sender.getName();
+  }
+}
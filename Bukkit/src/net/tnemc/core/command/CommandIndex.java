@@ -0,0 +1,121 @@
+package net.tnemc.core.command;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An index of commands by their names and aliases. Lookups are case-insensitive and go through a
+ * hash map of the case-folded accessors, and completion walks a prefix trie of the same accessors.
+ * The index is built once when the commands are registered, and isn't modified afterwards.
+ *
+ * @param <T> The type of command being indexed.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class CommandIndex<T> {
+
+  private final Map<String, T> exact = new HashMap<>();
+  private final Node<T> root = new Node<>();
+
+  /**
+   * Adds a command under the specified accessor. If the accessor is already used by another
+   * command, the first command added keeps it, so names should be added before aliases.
+   *
+   * @param accessor The name or alias of the command.
+   * @param command The command.
+   */
+  public void add(String accessor, T command) {
+    final String folded = fold(accessor);
+    if(exact.putIfAbsent(folded, command) != null) {
+      return;
+    }
+
+    Node<T> node = root;
+    for(int i = 0; i < folded.length(); i++) {
+      node = node.children.computeIfAbsent(folded.charAt(i), c->new Node<>());
+    }
+    node.accessor = accessor;
+    node.command = command;
+  }
+
+  /**
+   * @param accessor The name or alias of the command, in any case.
+   *
+   * @return The command with the specified accessor, or null if there is none.
+   */
+  public T find(String accessor) {
+    return exact.get(fold(accessor));
+  }
+
+  /**
+   * @param prefix The prefix that was typed, in any case.
+   * @param filter Used to decide which commands may be suggested, for example based on permissions.
+   *
+   * @return The accessors that start with the specified prefix, in alphabetical order.
+   */
+  public List<String> complete(String prefix, Predicate<T> filter) {
+    final List<String> completions = new ArrayList<>();
+    final String folded = fold(prefix);
+
+    Node<T> node = root;
+    for(int i = 0; i < folded.length() && node != null; i++) {
+      node = node.children.get(folded.charAt(i));
+    }
+
+    if(node != null) {
+      collect(node, filter, completions);
+    }
+    return completions;
+  }
+
+  public int size() {
+    return exact.size();
+  }
+
+  private void collect(Node<T> node, Predicate<T> filter, List<String> completions) {
+    if(node.command != null && filter.test(node.command)) {
+      completions.add(node.accessor);
+    }
+
+    for(Node<T> child : node.children.values()) {
+      collect(child, filter, completions);
+    }
+  }
+
+  private static String fold(String accessor) {
+    return accessor.toLowerCase(Locale.ROOT);
+  }
+
+  private static final class Node<T> {
+
+    private final Map<Character, Node<T>> children = new TreeMap<>();
+    private String accessor;
+    private T command;
+  }
+}
@@ -41,18 +41,26 @@ public class CommandManager {
   private Integer lastRegister = 0;
   private Field commandMap = null;
   private Field knownCommands = null;
+  private Constructor<PluginCommand> constructor = null;
+  private CommandIndex<TNECommand> index = new CommandIndex<>();
 
   public void registerCommands() {
     if(lastRegister == commands.size()) { return; }
 
     lastRegister = commands.size();
-    try {
-      commandMap = Bukkit.getServer().getClass().getDeclaredField("commandMap");
-      commandMap.setAccessible(true);
-      knownCommands = SimpleCommandMap.class.getDeclaredField("knownCommands");
-      knownCommands.setAccessible(true);
-    } catch(Exception e) {
-      /* do nothing */
+    index = index(commands);
+
+    if(commandMap == null || knownCommands == null) {
+      try {
+        commandMap = Bukkit.getServer().getClass().getDeclaredField("commandMap");
+        commandMap.setAccessible(true);
+        knownCommands = SimpleCommandMap.class.getDeclaredField("knownCommands");
+        knownCommands.setAccessible(true);
+        constructor = PluginCommand.class.getDeclaredConstructor(String.class, Plugin.class);
+        constructor.setAccessible(true);
+      } catch(Exception e) {
+        /* do nothing */
+      }
     }
 
     if(commandMap != null && knownCommands != null) {
@@ -78,9 +86,7 @@ public class CommandManager {
 
   private void register(String command) {
     try {
-      Constructor<PluginCommand> c = PluginCommand.class.getDeclaredConstructor(String.class, Plugin.class);
-      c.setAccessible(true);
-      PluginCommand pluginCommand = c.newInstance(command, Reserve.instance());
+      PluginCommand pluginCommand = constructor.newInstance(command, Reserve.instance());
       ((SimpleCommandMap)commandMap.get(Bukkit.getServer())).register(command, pluginCommand);
     } catch(Exception e) {
       //nothing to see here
@@ -105,18 +111,33 @@ public class CommandManager {
   }
 
   public TNECommand Find(String name) {
-    for(TNECommand c : commands.values()) {
-      if(c.getName().equalsIgnoreCase(name)) {
-        return c;
+    return index.find(name);
+  }
+
+  /**
+   * Builds the index used to look up commands. Names are added before aliases and accessors so that
+   * a command's name always takes precedence over another command's alias.
+   */
+  static CommandIndex<TNECommand> index(Iterable<TNECommand> commands) {
+    final CommandIndex<TNECommand> index = new CommandIndex<>();
+    for(TNECommand command : commands) {
+      index.add(command.getName(), command);
+    }
+    for(TNECommand command : commands) {
+      for(String alias : command.getAliases()) {
+        index.add(alias, command);
       }
     }
-    for(TNECommand c : commands.values()) {
-      for(String s : c.getAliases()) {
-        if(s.equalsIgnoreCase(name)) {
-          return c;
-        }
+    return index;
+  }
+
+  private static CommandIndex<TNECommand> index(Map<String[], TNECommand> commands) {
+    final CommandIndex<TNECommand> index = index(commands.values());
+    for(Map.Entry<String[], TNECommand> entry : commands.entrySet()) {
+      for(String accessor : entry.getKey()) {
+        index.add(accessor, entry.getValue());
       }
     }
-    return null;
+    return index;
   }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package net.tnemc.core.command;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.permissions.Permission;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Wraps a {@link CommandSender} for a command that runs on a worker thread. Bukkit senders may only be
+ * used on the main thread, so the wrapper takes a snapshot of the sender when it's created, on the
+ * main thread. While the command runs, messages are delivered to the sender on the main thread, in
+ * the order they were sent, and the name, operator status, permissions, and a player's unique id and
+ * locale are answered from the snapshot. Only the permission nodes passed to
+ * {@link #wrap(Plugin, CommandSender, Collection)} are checked, any other node is reported as not
+ * permitted.
+ *
+ * The proxy implements the same Bukkit interfaces as the sender, so checks like {@code instanceof
+ * Player} behave the same. Any other method throws an {@link UnsupportedOperationException} when it's
+ * called off of the main thread.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+final class MainThreadSender {
+
+  private MainThreadSender() {
+  }
+
+  /**
+   * @param plugin The plugin that schedules the delivery of messages.
+   * @param sender The sender to wrap, which must be called on the main thread.
+   * @param nodes The permission nodes the command may check.
+   *
+   * @return The wrapped sender.
+   */
+  static CommandSender wrap(Plugin plugin, CommandSender sender, Collection<String> nodes) {
+    final Set<Class<?>> interfaces = new LinkedHashSet<>();
+    collect(sender.getClass(), interfaces);
+
+    final Map<String, Boolean> permissions = new HashMap<>();
+    for(String node : nodes) {
+      permissions.put(node.toLowerCase(), sender.hasPermission(node));
+    }
+
+    final String name = sender.getName();
+    final boolean op = sender.isOp();
+    final UUID id = (sender instanceof Player)? ((Player)sender).getUniqueId() : null;
+    final String locale = (sender instanceof Player)? ((Player)sender).getLocale() : null;
+    final String description = sender.toString();
+
+    return (CommandSender)Proxy.newProxyInstance(CommandSender.class.getClassLoader(),
+                                                 interfaces.toArray(new Class<?>[0]),
+                                                 (proxy, method, arguments)->{
+      switch(method.getName()) {
+        case "sendMessage":
+        case "sendRawMessage":
+          if(method.getReturnType() == void.class && !Bukkit.isPrimaryThread()) {
+            //Once Reserve is disabled nothing can be scheduled, and the sender can't be used from here.
+            if(plugin.isEnabled()) {
+              plugin.getServer().getScheduler().runTask(plugin, ()->invoke(sender, method, arguments));
+            }
+            return null;
+          }
+          break;
+        case "getName":
+          return name;
+        case "isOp":
+          return op;
+        case "getUniqueId":
+          return id;
+        case "getLocale":
+          return locale;
+        case "hasPermission":
+          return permitted(permissions, arguments[0]);
+        case "equals":
+          return proxy == arguments[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return description;
+        default:
+          break;
+      }
+
+      if(!Bukkit.isPrimaryThread()) {
+        throw new UnsupportedOperationException("CommandSender#" + method.getName()
+                                                + " can't be used by a command running off of the main thread.");
+      }
+      try {
+        return method.invoke(sender, arguments);
+      } catch(InvocationTargetException e) {
+        throw e.getCause();
+      }
+    });
+  }
+
+  private static boolean permitted(Map<String, Boolean> permissions, Object permission) {
+    final String node = (permission instanceof Permission)? ((Permission)permission).getName() : String.valueOf(permission);
+    return permissions.getOrDefault(node.toLowerCase(), false);
+  }
+
+  private static void invoke(CommandSender sender, Method method, Object[] arguments) {
+    try {
+      method.invoke(sender, arguments);
+    } catch(IllegalAccessException | InvocationTargetException ignore) {
+      //The sender went away, e.g. a player that logged out while the command was running.
+    }
+  }
+
+  private static void collect(Class<?> type, Set<Class<?>> interfaces) {
+    if(type == null) {
+      return;
+    }
+
+    for(Class<?> implemented : type.getInterfaces()) {
+      if(implemented.getName().startsWith("org.bukkit.") && Modifier.isPublic(implemented.getModifiers())) {
+        interfaces.add(implemented);
+      }
+      collect(implemented, interfaces);
+    }
+    collect(type.getSuperclass(), interfaces);
+  }
+}
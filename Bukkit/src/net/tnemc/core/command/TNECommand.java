@@ -45,6 +45,9 @@ public abstract class TNECommand {
 
   public final List<TNECommand> subCommands = new ArrayList<>();
 
+  private CommandIndex<TNECommand> subIndex = new CommandIndex<>();
+  private int indexed = 0;
+
   public abstract String getName();
 
   public abstract String[] getAliases();
@@ -136,6 +139,31 @@ public abstract class TNECommand {
     return true;
   }
 
+  /**
+   * Commands that may take a while, for example because they call the economy provider, can return
+   * true to run on Reserve's command worker pool instead of the main thread. The command is given a
+   * snapshot of its sender, which delivers messages on the main thread and answers permission checks
+   * for the nodes of this command and its sub commands. Other sender methods, such as getLocation or
+   * getServer, are unavailable, and anything else the command does must be safe to do off of the main
+   * thread.
+   *
+   * @return True if this command should run asynchronously, otherwise false.
+   */
+  public boolean async() {
+    return false;
+  }
+
+  /**
+   * Runs this command for a sender that is allowed to use it, on the command worker pool if this
+   * command is {@link #async() asynchronous}.
+   */
+  public boolean dispatch(CommandSender sender, String command, String[] arguments) {
+    if(async() && plugin.commandRunner() != null) {
+      return plugin.commandRunner().submit(this, sender, command, arguments);
+    }
+    return execute(sender, command, arguments);
+  }
+
   public boolean execute(CommandSender sender, String command, String[] arguments) {
     String world = Reserve.instance().defaultWorld;
 
@@ -172,7 +200,7 @@ public abstract class TNECommand {
       unable.translate(world, sender);
       return false;
     }
-    return sub.execute(sender, command, removeSub(arguments));
+    return sub.dispatch(sender, command, removeSub(arguments));
   }
 
   protected String[] removeSub(String[] oldArguments) {
@@ -182,19 +210,42 @@ public abstract class TNECommand {
   }
 
   public TNECommand FindSub(String name) {
-    for(TNECommand sub : subCommands) {
-      if(sub.getName().equalsIgnoreCase(name)) {
-        return sub;
-      }
+    return subIndex().find(name);
+  }
+
+  /**
+   * Used to complete the arguments of this command. By default this completes the names and aliases
+   * of the sub commands that the sender is able to use, and passes the remaining arguments on to
+   * the sub command.
+   *
+   * @param sender The sender completing the command.
+   * @param arguments The arguments typed so far, the last of which is being completed.
+   *
+   * @return The possible completions of the last argument.
+   */
+  public List<String> tabComplete(CommandSender sender, String[] arguments) {
+    if(arguments.length <= 1) {
+      final String prefix = (arguments.length == 0)? "" : arguments[0];
+      return subIndex().complete(prefix, sub->sub.canExecute(sender));
     }
-    for(TNECommand sub : subCommands) {
-      for(String s : sub.getAliases()) {
-        if(s.equalsIgnoreCase(name)) {
-          return sub;
-        }
-      }
+
+    final TNECommand sub = FindSub(arguments[0]);
+    if(sub == null || !sub.canExecute(sender)) {
+      return new ArrayList<>();
     }
-    return null;
+    return sub.tabComplete(sender, removeSub(arguments));
+  }
+
+  /**
+   * Sub commands are added by the constructors of the implementing classes, so the index is built
+   * the first time it's needed, and only built again if more sub commands are added afterwards.
+   */
+  private CommandIndex<TNECommand> subIndex() {
+    if(indexed != subCommands.size()) {
+      subIndex = CommandManager.index(subCommands);
+      indexed = subCommands.size();
+    }
+    return subIndex;
   }
 
   public Integer getPage(String pageValue) {
@@ -32,7 +32,10 @@ public class ReserveCommand extends TNECommand {
     super(plugin);
     subCommands.add(new ReserveEconomyCommand(plugin));
     subCommands.add(new ReserveLoadedCommand(plugin));
+    subCommands.add(new ReserveReplayCommand(plugin));
     subCommands.add(new ReserveSetCommand(plugin));
+    subCommands.add(new ReserveSlowCommand(plugin));
+    subCommands.add(new ReserveStatsCommand(plugin));
   }
 
   @Override
@@ -2,6 +2,7 @@ package net.tnemc.core.command.reserve;
 
 import net.tnemc.core.Reserve;
 import net.tnemc.core.command.TNECommand;
+import net.tnemc.core.economy.strict.EconomyAdapter;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 
@@ -64,10 +65,10 @@ public class ReserveEconomyCommand extends TNECommand {
   @Override
   public boolean execute(CommandSender sender, String command, String[] arguments) {
     if(Reserve.instance().economyProvided()) {
-      /*EconomyAPI api = Reserve.instance().economy();
+      EconomyAdapter api = Reserve.instance().economy();
       sender.sendMessage(ChatColor.WHITE + "Economy Service: " + ChatColor.GREEN + api.name());
-      sender.sendMessage(ChatColor.WHITE + " Supported Reserve Version: " + ChatColor.GREEN + api.version());
-      */return true;
+      sender.sendMessage(ChatColor.WHITE + " Priority: " + ChatColor.GREEN + api.priority());
+      return true;
     }
     sender.sendMessage(ChatColor.WHITE + "There is currently no economy service running.");
     return false;
@@ -0,0 +1,117 @@
+package net.tnemc.core.command.reserve;
+
+import net.tnemc.core.command.TNECommand;
+import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.lax.storage.StorageBinding;
+import net.tnemc.core.economy.strict.journal.JournalEntry;
+import net.tnemc.core.economy.strict.journal.JournalReplayer;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+import java.io.IOException;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+public class ReserveReplayCommand extends TNECommand {
+
+  public ReserveReplayCommand(Reserve plugin) {
+    super(plugin);
+  }
+
+  @Override
+  public String getName() {
+    return "replay";
+  }
+
+  @Override
+  public String[] getAliases() {
+    return new String[0];
+  }
+
+  @Override
+  public String getNode() {
+    return "reserve.admin.replay";
+  }
+
+  @Override
+  public boolean console() {
+    return true;
+  }
+
+  @Override
+  public boolean async() {
+    return true;
+  }
+
+  @Override
+  public String getHelp() {
+    return ChatColor.GOLD + "/reserve replay [confirm] " + ChatColor.WHITE + "- Re-applies journaled economy changes that weren't saved before a crash.";
+  }
+
+  @Override
+  public boolean execute(CommandSender sender, String command, String[] arguments) {
+    if(Reserve.instance().journal() == null) {
+      sender.sendMessage(ChatColor.RED + "The economy journal is disabled.");
+      return false;
+    }
+    if(!Reserve.instance().economyProvided()) {
+      sender.sendMessage(ChatColor.RED + "No economy provider is registered.");
+      return false;
+    }
+
+    //Only the built-in economy acknowledges the changes it saved while running, so with any other
+    //economy, replaying may apply changes it already saved a second time.
+    final StorageBinding builtIn = Reserve.instance().storage();
+    final boolean acknowledged = builtIn != null && Reserve.instance().registry().snapshot().provider() == builtIn.adapter();
+    if(!acknowledged && (arguments.length == 0 || !arguments[0].equalsIgnoreCase("confirm"))) {
+      sender.sendMessage(ChatColor.RED + "Your economy plugin may have saved some of the journaled changes already, and replaying "
+                         + "applies those a second time.");
+      sender.sendMessage(ChatColor.RED + "Only replay if it acknowledges its saves to Reserve, or didn't save since the last "
+                         + "shutdown, with /reserve replay confirm.");
+      return false;
+    }
+
+    final JournalReplayer.Report report;
+    try {
+      report = Reserve.instance().replayJournal();
+    } catch(IOException e) {
+      sender.sendMessage(ChatColor.RED + "Unable to read the economy journal: " + e.getMessage());
+      return false;
+    } catch(IllegalStateException e) {
+      sender.sendMessage(ChatColor.RED + "Unable to replay the economy journal: " + e.getMessage());
+      return false;
+    }
+
+    if(report == null) {
+      sender.sendMessage(ChatColor.RED + "The economy journal or provider is no longer available.");
+      return false;
+    }
+
+    sender.sendMessage(ChatColor.WHITE + "Replayed " + report.replayed() + " economy changes.");
+    if(!report.failures().isEmpty()) {
+      sender.sendMessage(ChatColor.RED + "" + report.failures().size() + " changes could not be replayed:");
+      for(JournalEntry entry : report.failures()) {
+        Reserve.instance().getLogger().warning("Unable to replay journal entry: " + entry);
+      }
+      sender.sendMessage(ChatColor.RED + "The failed changes have been written to the server log.");
+    }
+    return true;
+  }
+}
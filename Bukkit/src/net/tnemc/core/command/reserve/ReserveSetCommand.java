@@ -5,6 +5,10 @@ import net.tnemc.core.Reserve;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 
 /**
  * Created by creatorfromhell on 8/9/2017.
@@ -65,12 +69,27 @@ public class ReserveSetCommand extends TNECommand {
       help(sender);
       return false;
     }
-    /*if(Reserve.instance().getRegisteredEconomies().containsKey(arguments[0])) {
+    if(Reserve.instance().getRegisteredEconomies().containsKey(arguments[0])) {
       Reserve.instance().setEconomy(arguments[0]);
       sender.sendMessage(ChatColor.WHITE + "Successfully set economy provider to " + arguments[0] + ".");
       return true;
-    }*/
+    }
     sender.sendMessage(ChatColor.RED + "No economy provider found with the name of " + arguments[0] + ".");
     return false;
   }
+
+  @Override
+  public List<String> tabComplete(CommandSender sender, String[] arguments) {
+    final List<String> names = new ArrayList<>();
+    if(arguments.length == 1) {
+      final String prefix = arguments[0].toLowerCase();
+      for(String name : Reserve.instance().getRegisteredEconomies().keySet()) {
+        if(name.toLowerCase().startsWith(prefix)) {
+          names.add(name);
+        }
+      }
+      Collections.sort(names);
+    }
+    return names;
+  }
 }
\ No newline at end of file
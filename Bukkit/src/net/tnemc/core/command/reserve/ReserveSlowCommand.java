@@ -0,0 +1,132 @@
+package net.tnemc.core.command.reserve;
+
+import net.tnemc.core.command.TNECommand;
+import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.strict.metrics.SlowCall;
+import net.tnemc.core.economy.strict.metrics.SlowCallWatchdog;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+import java.util.List;
+import java.util.Optional;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+public class ReserveSlowCommand extends TNECommand {
+
+  private static final int LINES = 10;
+  private static final int FRAMES = 8;
+
+  public ReserveSlowCommand(Reserve plugin) {
+    super(plugin);
+  }
+
+  @Override
+  public String getName() {
+    return "slow";
+  }
+
+  @Override
+  public String[] getAliases() {
+    return new String[0];
+  }
+
+  @Override
+  public String getNode() {
+    return "reserve.admin.slow";
+  }
+
+  @Override
+  public boolean console() {
+    return true;
+  }
+
+  @Override
+  public String getHelp() {
+    return ChatColor.GOLD + "/reserve slow [plugin/recent/reset] " + ChatColor.WHITE + "- Displays the plugins making slow economy calls on the main thread.";
+  }
+
+  @Override
+  public boolean execute(CommandSender sender, String command, String[] arguments) {
+    final SlowCallWatchdog watchdog = Reserve.instance().watchdog();
+    if(watchdog == null) {
+      sender.sendMessage(ChatColor.RED + "The slow call watchdog is disabled.");
+      return false;
+    }
+
+    if(arguments.length == 0) {
+      final List<SlowCallWatchdog.Offender> offenders = watchdog.offenders();
+      sender.sendMessage(ChatColor.GOLD + "Slow economy calls on the main thread" + ChatColor.WHITE
+                         + " (over " + millis(watchdog.thresholdNanos()) + ")");
+      if(offenders.isEmpty()) {
+        sender.sendMessage(ChatColor.WHITE + " No slow economy calls have been recorded.");
+        return true;
+      }
+
+      for(int i = 0; i < Math.min(LINES, offenders.size()); i++) {
+        final SlowCallWatchdog.Offender offender = offenders.get(i);
+        final SlowCall worst = offender.worst();
+        sender.sendMessage(ChatColor.GREEN + " " + offender.name() + ChatColor.WHITE + ": " + offender.count() + " calls, "
+                           + millis(offender.totalNanos()) + " total, worst " + millis(worst.nanos()) + " in " + worst.method());
+      }
+      return true;
+    }
+
+    if(arguments[0].equalsIgnoreCase("reset")) {
+      watchdog.reset();
+      sender.sendMessage(ChatColor.WHITE + "Slow economy calls have been reset.");
+      return true;
+    }
+
+    if(arguments[0].equalsIgnoreCase("recent")) {
+      final List<SlowCall> recent = watchdog.recent();
+      sender.sendMessage(ChatColor.GOLD + "Recent slow economy calls");
+      for(int i = 0; i < Math.min(LINES, recent.size()); i++) {
+        final SlowCall call = recent.get(i);
+        sender.sendMessage(ChatColor.GREEN + " " + call.blame() + ChatColor.WHITE + ": " + call.method() + " took " + millis(call.nanos()));
+      }
+      return true;
+    }
+
+    final Optional<SlowCallWatchdog.Offender> offender = watchdog.offender(arguments[0]);
+    if(!offender.isPresent()) {
+      sender.sendMessage(ChatColor.RED + "No slow economy calls have been recorded for " + arguments[0] + ".");
+      return false;
+    }
+
+    final SlowCall worst = offender.get().worst();
+    sender.sendMessage(ChatColor.GOLD + offender.get().name() + ChatColor.WHITE + ": " + offender.get().count() + " calls, "
+                       + millis(offender.get().totalNanos()) + " total");
+    sender.sendMessage(ChatColor.WHITE + " Worst call: " + worst.method() + " took " + millis(worst.nanos()));
+
+    final StackTraceElement[] stack = worst.stack();
+    for(int i = 0; i < Math.min(FRAMES, stack.length); i++) {
+      sender.sendMessage(ChatColor.GRAY + "  at " + stack[i]);
+    }
+    if(stack.length > FRAMES) {
+      sender.sendMessage(ChatColor.GRAY + "  ... " + (stack.length - FRAMES) + " more");
+    }
+    return true;
+  }
+
+  private static String millis(long nanos) {
+    return String.format("%.3fms", nanos / 1000000.0);
+  }
+}
@@ -0,0 +1,128 @@
+package net.tnemc.core.command.reserve;
+
+import net.tnemc.core.command.TNECommand;
+import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.lax.storage.StorageBinding;
+import net.tnemc.core.economy.lax.storage.WriteBehindStorage;
+import net.tnemc.core.economy.strict.metrics.EconomyMetrics;
+import net.tnemc.core.economy.strict.metrics.LatencyHistogram;
+import net.tnemc.core.economy.strict.metrics.OperationStats;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+import java.util.List;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+public class ReserveStatsCommand extends TNECommand {
+
+  private static final int LINES = 10;
+
+  public ReserveStatsCommand(Reserve plugin) {
+    super(plugin);
+  }
+
+  @Override
+  public String getName() {
+    return "stats";
+  }
+
+  @Override
+  public String[] getAliases() {
+    return new String[0];
+  }
+
+  @Override
+  public String getNode() {
+    return "reserve.admin.stats";
+  }
+
+  @Override
+  public boolean console() {
+    return true;
+  }
+
+  @Override
+  public String getHelp() {
+    return ChatColor.GOLD + "/reserve stats [methods/sources/storage/reset] " + ChatColor.WHITE + "- Displays the latency of economy calls.";
+  }
+
+  @Override
+  public boolean execute(CommandSender sender, String command, String[] arguments) {
+    final EconomyMetrics metrics = Reserve.instance().metrics();
+    final String type = (arguments.length > 0)? arguments[0].toLowerCase() : "methods";
+
+    switch(type) {
+      case "reset":
+        metrics.reset();
+        sender.sendMessage(ChatColor.WHITE + "Economy call statistics have been reset.");
+        return true;
+      case "sources":
+        send(sender, "Economy calls by source", metrics.sources());
+        return true;
+      case "methods":
+        send(sender, "Economy calls by method", metrics.methods());
+        return true;
+      case "storage":
+        sendStorage(sender);
+        return true;
+      default:
+        help(sender);
+        return false;
+    }
+  }
+
+  private void send(CommandSender sender, String title, List<OperationStats> stats) {
+    final EconomyMetrics metrics = Reserve.instance().metrics();
+    sender.sendMessage(ChatColor.GOLD + title + ChatColor.WHITE + " (" + metrics.calls() + " calls, " + metrics.errors() + " errors)");
+    if(stats.isEmpty()) {
+      sender.sendMessage(ChatColor.WHITE + " No economy calls have been recorded.");
+      return;
+    }
+
+    for(int i = 0; i < Math.min(LINES, stats.size()); i++) {
+      final OperationStats entry = stats.get(i);
+      sender.sendMessage(ChatColor.GREEN + " " + entry.name() + ChatColor.WHITE + ": " + entry.calls() + " calls, "
+                         + entry.errors() + " errors, p50 " + millis(entry.p50()) + ", p99 " + millis(entry.p99())
+                         + ", p999 " + millis(entry.p999()));
+    }
+  }
+
+  private void sendStorage(CommandSender sender) {
+    final StorageBinding binding = Reserve.instance().storage();
+    if(binding == null || !(binding.storage() instanceof WriteBehindStorage)) {
+      sender.sendMessage(ChatColor.WHITE + "The built-in economy doesn't delay its storage writes.");
+      return;
+    }
+
+    final WriteBehindStorage storage = (WriteBehindStorage)binding.storage();
+    final LatencyHistogram latency = storage.flushLatency();
+    sender.sendMessage(ChatColor.GOLD + "Economy storage" + ChatColor.WHITE + " (" + storage.queueDepth() + " pending, "
+                       + storage.failures() + " failed flushes)");
+    sender.sendMessage(ChatColor.GREEN + " changes" + ChatColor.WHITE + ": " + storage.writes() + " received, "
+                       + storage.coalesced() + " coalesced, " + storage.flushed() + " stored");
+    sender.sendMessage(ChatColor.GREEN + " flushes" + ChatColor.WHITE + ": " + latency.count() + " flushes, p50 "
+                       + millis(latency.percentile(0.5)) + ", p99 " + millis(latency.percentile(0.99)) + ", max " + millis(latency.max()));
+  }
+
+  private static String millis(long nanos) {
+    return String.format("%.3fms", nanos / 1000000.0);
+  }
+}
@@ -13,10 +13,10 @@ import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.HashMap;
 
 /**
@@ -29,6 +29,7 @@ public class CommentedConfiguration extends YamlConfiguration {
   private final Yaml yaml = new Yaml(new YamlConstructor(), yamlRepresenter, yamlOptions);
   private final HashMap<String, String> comments;
   private final File file;
+  private byte[] hash = null;
 
   public CommentedConfiguration(File file) {
     super();
@@ -40,7 +41,10 @@ public class CommentedConfiguration extends YamlConfiguration {
     boolean loaded = true;
 
     try {
-      this.load(file);
+      //Read the file once, so that the hash of what's on disk is known without reading it again.
+      final byte[] data = (file.exists())? Files.toByteArray(file) : new byte[0];
+      this.loadFromString(new String(data, Charsets.UTF_8));
+      hash = hash(data);
     } catch(InvalidConfigurationException | IOException e) {
       loaded = false;
     }
@@ -49,139 +53,112 @@ public class CommentedConfiguration extends YamlConfiguration {
   }
 
   public void save() {
-    boolean saved = true;
-
-    // Save the config just like normal
+    final String contents;
     try {
-      /*
-       * Doing some saving of our own. We have found that the implementation of YAMLComfiguration used by Bukkit will attempt to
-       * cap strings at 80 characters long, forming new lines in some of our longer strings (channel_formats.)
-       */
-      this.save(file);
-
+      contents = (comments.isEmpty())? saveToString() : comment(saveToString());
     } catch(Exception e) {
-      saved = false;
+      return;
     }
 
-    // if there's comments to add, and it saved fine, we need to add comments
-    if(!comments.isEmpty() && saved) {
-      // String array of each line in the config file
-      String[] yamlContents = FileMgmt.convertFileToString(file).split("[" + System.getProperty("line.separator") + "]");
-
-      // This will hold the newly formatted line
-      StringBuilder newContents = new StringBuilder();
-      // This holds the current path the lines are at in the config
-      String currentPath = "";
-      // This tells if the specified path has already been commented
-      boolean commentedPath = false;
-      // This flags if the line is a node or unknown text.
-      boolean node;
-      // The depth of the path. (number of words separated by periods - 1)
-      int depth = 0;
-
-      // Loop through the config lines
-      for(String line : yamlContents) {
-        // If the line is a node (and not something like a list value)
-        if(line.contains(": ") || (line.length() > 1 && line.charAt(line.length() - 1) == ':')) {
-
-          // This is a new node, so we need to mark it for commenting (if there are comments)
-          commentedPath = false;
-          // This is a node so flag it as one
-          node = true;
-
-          // Grab the index of the end of the node name
-          int index;
-          index = line.indexOf(": ");
-          if(index < 0) {
-            index = line.length() - 1;
-          }
-          // If currentPath is empty, store the node name as the currentPath. (this is only on the first iteration, I think)
-          if(currentPath.isEmpty()) {
-            currentPath = line.substring(0, index);
-          } else {
-            // Calculate the whitespace preceding the node name
-            int whiteSpace = 0;
-            for(int n = 0; n < line.length(); n++) {
-              if(line.charAt(n) == ' ') {
-                whiteSpace++;
-              } else {
-                break;
-              }
-            }
-            // Find out if the current depth (whitespace * 2) is greater/lesser/equal to the previous depth
-            if(whiteSpace / 2 > depth) {
-              // Path is deeper.  Add a "." and the node name
-              currentPath += "." + line.substring(whiteSpace, index);
-              depth++;
-            } else if(whiteSpace / 2 < depth) {
-              // Path is shallower, calculate current depth from whitespace (whitespace / 2) and subtract that many levels from the currentPath
-              int newDepth = whiteSpace / 2;
-              for(int i = 0; i < depth - newDepth; i++) {
-                currentPath = currentPath.replace(currentPath.substring(currentPath.lastIndexOf(".")), "");
-              }
-              // Grab the index of the final period
-              int lastIndex = currentPath.lastIndexOf(".");
-              if(lastIndex < 0) {
-                // if there isn't a final period, set the current path to nothing because we're at root
-                currentPath = "";
-              } else {
-                // If there is a final period, replace everything after it with nothing
-                currentPath = currentPath.replace(currentPath.substring(currentPath.lastIndexOf(".")), "");
-                currentPath += ".";
-              }
-              // Add the new node name to the path
-              currentPath += line.substring(whiteSpace, index);
-              // Reset the depth
-              depth = newDepth;
-            } else {
-              // Path is same depth, replace the last path node name to the current node name
-              int lastIndex = currentPath.lastIndexOf(".");
-              if(lastIndex < 0) {
-                // if there isn't a final period, set the current path to nothing because we're at root
-                currentPath = "";
-              } else {
-                // If there is a final period, replace everything after it with nothing
-                currentPath = currentPath.replace(currentPath.substring(currentPath.lastIndexOf(".")), "");
-                currentPath += ".";
-              }
-              //currentPath = currentPath.replace(currentPath.substring(currentPath.lastIndexOf(".")), "");
-              currentPath += line.substring(whiteSpace, index);
-
-            }
+    final byte[] data = contents.getBytes(Charsets.UTF_8);
+    final byte[] updated = hash(data);
 
-          }
+    // Nothing changed since the file was last loaded or saved, so there's no need to write it. Without
+    // a hash, nothing is known about the file, so it's always written.
+    if(file.exists() && hash != null && updated != null && Arrays.equals(hash, updated)) {
+      return;
+    }
 
-        } else { node = false; }
+    if(FileMgmt.writeAtomically(data, file)) {
+      hash = updated;
+    }
+  }
 
-        if(node) {
-          String comment = null;
-          if(!commentedPath) {
-            // If there's a comment for the current path, retrieve it and flag that path as already commented
-            comment = comments.get(currentPath);
-          }
-          if(comment != null) {
-            // Add the comment to the beginning of the current line
-            line = comment + System.getProperty("line.separator") + line + System.getProperty("line.separator");
-            commentedPath = true;
-          } else {
-            // Add a new line as it is a node, but has no comment
-            line += System.getProperty("line.separator");
-          }
+  /**
+   * Adds the comments to the dumped configuration in a single pass. The path of each node is kept
+   * on a stack indexed by depth, so moving between nodes only truncates and appends to the path.
+   *
+   * @param dump The configuration, as dumped by {@link #saveToString()}.
+   *
+   * @return The configuration with the comments added before their nodes.
+   */
+  private String comment(String dump) {
+    final String separator = System.getProperty("line.separator");
+    final int indent = Math.max(1, options().indent());
+
+    final StringBuilder contents = new StringBuilder(dump.length() + comments.size() * 64);
+    final StringBuilder path = new StringBuilder();
+    int[] lengths = new int[8];
+
+    int start = 0;
+    while(start < dump.length()) {
+      int end = dump.indexOf('\n', start);
+      if(end < 0) {
+        end = dump.length();
+      }
+
+      final int whiteSpace = whiteSpace(dump, start, end);
+      final int colon = key(dump, start + whiteSpace, end);
+
+      if(colon > 0) {
+        final int depth = whiteSpace / indent;
+        if(depth >= lengths.length) {
+          lengths = Arrays.copyOf(lengths, Math.max(depth + 1, lengths.length << 1));
         }
-        // Add the (modified) line to the total config String
-        newContents.append(line).append((!node)? System.getProperty("line.separator") : "");
 
+        path.setLength((depth == 0)? 0 : lengths[depth - 1]);
+        if(depth > 0) {
+          path.append('.');
+        }
+        path.append(dump, start + whiteSpace, colon);
+        lengths[depth] = path.length();
+
+        final String comment = comments.get(path.toString());
+        if(comment != null) {
+          // Leading blank lines multiply on every save due to a bukkit bug, so the file never starts with one.
+          if(contents.length() > 0 || !comment.trim().isEmpty()) {
+            contents.append(comment).append(separator);
+          }
+        }
       }
-      /*
-       * Due to a bukkit bug we need to strip any extra new lines from the
-       * beginning of this file, else they will multiply.
-       */
-      while(newContents.toString().startsWith(System.getProperty("line.separator"))) {
-        newContents = new StringBuilder(newContents.toString().replaceFirst(System.getProperty("line.separator"), ""));
+
+      contents.append(dump, start, end).append(separator);
+      start = end + 1;
+    }
+    return contents.toString();
+  }
+
+  private static int whiteSpace(String dump, int start, int end) {
+    int count = 0;
+    while(start + count < end && dump.charAt(start + count) == ' ') {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * @return The index of the colon that ends the node name on the line, or -1 if the line isn't a
+   * node, such as a list value or part of a multi-line string.
+   */
+  private static int key(String dump, int start, int end) {
+    if(start >= end || dump.charAt(start) == '-' || dump.charAt(start) == '#') {
+      return -1;
+    }
+
+    for(int i = start; i < end; i++) {
+      if(dump.charAt(i) == ':' && (i == end - 1 || dump.charAt(i + 1) == ' ')) {
+        return i;
       }
+    }
+    return -1;
+  }
 
-      // Write the string to the config file
-      FileMgmt.stringToFile(newContents.toString(), file);
+  private static byte[] hash(byte[] data) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(data);
+    } catch(NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256, but without it the file is always written.
+      return null;
     }
   }
 
@@ -219,10 +196,8 @@ public class CommentedConfiguration extends YamlConfiguration {
 
     Files.createParentDirs(file);
 
-    String data = this.saveToString();
-
-    try(Writer writer = new OutputStreamWriter(new FileOutputStream(file), Charsets.UTF_8)) {
-      writer.write(data);
+    if(!FileMgmt.writeAtomically(this.saveToString().getBytes(Charsets.UTF_8), file)) {
+      throw new IOException("Unable to write " + file.getPath());
     }
   }
 
@@ -0,0 +1,39 @@
+package net.tnemc.core.configuration;
+
+import java.util.Set;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Notified on the main thread after config.yml is reloaded.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ConfigListener {
+
+  /**
+   * @param snapshot The {@link ConfigSnapshot} that is now in use.
+   * @param changed The nodes whose values changed. This is never empty.
+   */
+  void changed(ConfigSnapshot snapshot, Set<ConfigNodes> changed);
+}
@@ -14,6 +14,216 @@ public enum ConfigNodes {
       "version.last_run_version",
       "",
       "# Please do not edit."
+  ),
+  ASYNC_HEADER(
+      "async",
+      "",
+      "# Settings for the worker pool used to run economy calls off of the main thread."
+  ),
+  ASYNC_THREADS(
+      "async.threads",
+      "2",
+      "# The number of worker threads used to run blocking economy calls."
+  ),
+  ASYNC_QUEUE(
+      "async.queue",
+      "256",
+      "# The maximum number of economy calls that may wait for a worker thread.",
+      "# Calls made while the queue is full are rejected instead of blocking the caller."
+  ),
+  COMMANDS_HEADER(
+      "commands",
+      "",
+      "# Settings for the worker pool used to run slow admin commands off of the main thread."
+  ),
+  COMMANDS_THREADS(
+      "commands.threads",
+      "1",
+      "# The number of worker threads used to run admin commands, such as /reserve replay."
+  ),
+  COMMANDS_PER_SENDER(
+      "commands.per_sender",
+      "1",
+      "# The number of admin commands a single player or the console may have running at once."
+  ),
+  COMMANDS_TIMEOUT(
+      "commands.timeout",
+      "30",
+      "# The number of seconds after which the sender is told that their command is still running."
+  ),
+  METRICS_HEADER(
+      "metrics",
+      "",
+      "# Settings for the statistics Reserve records about economy calls."
+  ),
+  METRICS_ENABLED(
+      "metrics.enabled",
+      "true",
+      "# Whether or not the latency of economy calls should be recorded for /reserve stats."
+  ),
+  WATCHDOG_HEADER(
+      "watchdog",
+      "",
+      "# Settings for the watchdog that flags slow economy calls made on the server's main thread."
+  ),
+  WATCHDOG_ENABLED(
+      "watchdog.enabled",
+      "true",
+      "# Whether or not slow economy calls on the main thread should be tracked for /reserve slow."
+  ),
+  WATCHDOG_THRESHOLD(
+      "watchdog.threshold",
+      "5",
+      "# The number of milliseconds an economy call may take before it's flagged as slow."
+  ),
+  WATCHDOG_HISTORY(
+      "watchdog.history",
+      "100",
+      "# The number of recent slow calls to keep, which is also the maximum number of plugins tracked."
+  ),
+  WATCHDOG_SAMPLE(
+      "watchdog.sample",
+      "10",
+      "# Vault calls don't say which plugin made them, so the stack of a slow Vault call is walked to find it.",
+      "# The stack is walked for one in this many of those calls, the others are blamed on Vault. 1 walks it for every call."
+  ),
+  EVENTS_HEADER(
+      "events",
+      "",
+      "# Settings for the economy events Reserve publishes to other plugins."
+  ),
+  EVENTS_QUEUE(
+      "events.queue",
+      "4096",
+      "# The maximum number of completed economy actions that may wait to be delivered to listeners.",
+      "# Events published while the queue is full are dropped instead of slowing down the economy call."
+  ),
+  EVENTS_BATCH(
+      "events.batch",
+      "256",
+      "# The maximum number of completed economy actions delivered to a listener at once."
+  ),
+  RANKING_HEADER(
+      "ranking",
+      "",
+      "# Settings for the balance ranking used by balance top plugins."
+  ),
+  RANKING_ENABLED(
+      "ranking.enabled",
+      "true",
+      "# Whether or not Reserve should keep a sorted ranking of balances, which answers balance top",
+      "# and rank queries without scanning every account. The built-in economy is ranked in full when",
+      "# it's registered. Other economies are ranked as their balances are read or changed through Reserve."
+  ),
+  CACHE_HEADER(
+      "cache",
+      "",
+      "# Settings for the balance cache that is placed in front of the active economy."
+  ),
+  CACHE_ENABLED(
+      "cache.enabled",
+      "true",
+      "# Whether or not balances should be cached."
+  ),
+  CACHE_SIZE(
+      "cache.size",
+      "10000",
+      "# The maximum number of balances to cache. One balance is cached per account, world and currency."
+  ),
+  CACHE_TTL(
+      "cache.ttl",
+      "5",
+      "# The number of seconds a cached balance is used for before it's read from the economy again.",
+      "# Balances changed through Reserve are updated right away, so this only affects changes made",
+      "# directly through the economy plugin."
+  ),
+  CACHE_HANDLES(
+      "cache.handles",
+      "5000",
+      "# The maximum number of player accounts to keep resolved, so repeated lookups of the same player",
+      "# skip the economy plugin's account lookup. Set to 0 to disable."
+  ),
+  JOURNAL_HEADER(
+      "journal",
+      "",
+      "# Settings for the journal that records every change made through Reserve, so changes the economy",
+      "# hadn't saved yet can be replayed with /reserve replay after a crash.",
+      "# Replaying is only safe with the built-in economy, or with economy plugins that tell Reserve when",
+      "# they've saved. Any other economy may already have saved some of the journaled changes, and",
+      "# replaying applies those changes a second time."
+  ),
+  JOURNAL_ENABLED(
+      "journal.enabled",
+      "false",
+      "# Whether or not economy changes should be journaled."
+  ),
+  JOURNAL_SEGMENT(
+      "journal.segment",
+      "16",
+      "# The size of each journal file, in megabytes."
+  ),
+  JOURNAL_FLUSH(
+      "journal.flush",
+      "50",
+      "# The number of milliseconds between writes of the journal to disk. Every change made during",
+      "# this interval is written at once."
+  ),
+  JOURNAL_SYNC(
+      "journal.sync",
+      "false",
+      "# Whether or not changes should wait until their journal entry is written to disk. This protects",
+      "# against power loss as well as server crashes, at the cost of up to one flush interval per change."
+  ),
+  JOURNAL_CHECKPOINT(
+      "journal.checkpoint",
+      "30",
+      "# The number of seconds between saves of the built-in economy, after which its journaled changes",
+      "# are marked as saved and the journal files holding them are deleted."
+  ),
+  STORAGE_HEADER(
+      "storage",
+      "",
+      "# Settings for the built-in economy, which is used when no other economy plugin is installed."
+  ),
+  STORAGE_TYPE(
+      "storage.type",
+      "none",
+      "# How the built-in economy stores its accounts. Options: none, flatfile, sqlite",
+      "# With none, the built-in economy isn't registered."
+  ),
+  STORAGE_SEGMENT(
+      "storage.segment",
+      "64",
+      "# The size of each flatfile storage file, in megabytes."
+  ),
+  STORAGE_FLUSH(
+      "storage.flush",
+      "1000",
+      "# The number of milliseconds between writes of the flatfile storage to disk."
+  ),
+  STORAGE_COMPACT(
+      "storage.compact",
+      "8",
+      "# The number of full flatfile storage files that are merged into a new snapshot in the background."
+  ),
+  STORAGE_CONNECTIONS(
+      "storage.connections",
+      "4",
+      "# The number of connections kept open to the sqlite database."
+  ),
+  STORAGE_DELAY(
+      "storage.delay",
+      "1000",
+      "# The number of milliseconds holdings changes are kept in memory before they're stored, so",
+      "# repeated changes to the same holdings are only stored once. Changes still in memory are lost",
+      "# if the server crashes. Set to 0 to store every change right away, which isn't allowed with sqlite,",
+      "# since each change would be committed to the database on the main thread."
+  ),
+  STORAGE_BATCH(
+      "storage.batch",
+      "1000",
+      "# The number of holdings changes kept in memory that causes them to be stored before the delay",
+      "# has passed."
   );
 
 
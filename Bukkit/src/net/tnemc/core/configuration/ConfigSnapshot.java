@@ -0,0 +1,129 @@
+package net.tnemc.core.configuration;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * An immutable view of every {@link ConfigNodes} value, parsed once when the configuration is
+ * loaded. Reading a value is an array read, so it's cheap enough for hot paths.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class ConfigSnapshot {
+
+  private static final ConfigNodes[] NODES = ConfigNodes.values();
+
+  private final String[] strings = new String[NODES.length];
+  private final boolean[] booleans = new boolean[NODES.length];
+  private final int[] ints = new int[NODES.length];
+  private final double[] doubles = new double[NODES.length];
+  private final boolean[] validInts = new boolean[NODES.length];
+  private final boolean[] validDoubles = new boolean[NODES.length];
+
+  private ConfigSnapshot(Function<ConfigNodes, String> values) {
+    for(ConfigNodes node : NODES) {
+      final int index = node.ordinal();
+      final String value = values.apply(node);
+      strings[index] = (value == null)? node.getDefault() : value;
+
+      final String trimmed = strings[index].trim();
+      booleans[index] = Boolean.parseBoolean(trimmed);
+      try {
+        ints[index] = Integer.parseInt(trimmed);
+        validInts[index] = true;
+      } catch(NumberFormatException ignore) {
+        //Reported when the value is read as an int, since most nodes aren't numbers.
+      }
+      try {
+        doubles[index] = Double.parseDouble(trimmed);
+        validDoubles[index] = true;
+      } catch(NumberFormatException ignore) {
+        //Reported when the value is read as a double.
+      }
+    }
+  }
+
+  /**
+   * @param values The function used to get the raw value of each node. A null value is replaced with
+   *               the node's default.
+   *
+   * @return A snapshot of the parsed values.
+   */
+  public static ConfigSnapshot of(Function<ConfigNodes, String> values) {
+    return new ConfigSnapshot(values);
+  }
+
+  /**
+   * @return A snapshot containing the default value of each node.
+   */
+  public static ConfigSnapshot defaults() {
+    return new ConfigSnapshot(ConfigNodes::getDefault);
+  }
+
+  public String getString(ConfigNodes node) {
+    return strings[node.ordinal()];
+  }
+
+  public boolean getBoolean(ConfigNodes node) {
+    return booleans[node.ordinal()];
+  }
+
+  /**
+   * @return The value of the node as an int, or 0 if it isn't one. See {@link #isInt(ConfigNodes)}.
+   */
+  public int getInt(ConfigNodes node) {
+    return ints[node.ordinal()];
+  }
+
+  /**
+   * @return The value of the node as a double, or 0 if it isn't one. See {@link #isDouble(ConfigNodes)}.
+   */
+  public double getDouble(ConfigNodes node) {
+    return doubles[node.ordinal()];
+  }
+
+  public boolean isInt(ConfigNodes node) {
+    return validInts[node.ordinal()];
+  }
+
+  public boolean isDouble(ConfigNodes node) {
+    return validDoubles[node.ordinal()];
+  }
+
+  /**
+   * @param previous The snapshot to compare with.
+   *
+   * @return The nodes with a different value in this snapshot than in the previous one.
+   */
+  public Set<ConfigNodes> changed(ConfigSnapshot previous) {
+    final Set<ConfigNodes> changed = EnumSet.noneOf(ConfigNodes.class);
+    for(ConfigNodes node : NODES) {
+      if(!strings[node.ordinal()].equals(previous.strings[node.ordinal()])) {
+        changed.add(node);
+      }
+    }
+    return changed;
+  }
+}
@@ -0,0 +1,102 @@
+package net.tnemc.core.configuration;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Watches a file for changes on a daemon thread, and runs a reload task after it changes. Editors
+ * often write a file in several steps, so events that arrive within a short delay of each other
+ * result in a single reload.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class ConfigWatcher implements Closeable {
+
+  private static final long DEBOUNCE = 250L;
+
+  private final File file;
+  private final Runnable reload;
+  private final WatchService service;
+  private final Thread thread;
+
+  public ConfigWatcher(File file, Runnable reload) throws IOException {
+    this.file = file.getAbsoluteFile();
+    this.reload = reload;
+
+    final Path directory = this.file.getParentFile().toPath();
+    this.service = directory.getFileSystem().newWatchService();
+    directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+    this.thread = new Thread(this::run, "Reserve-Config");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  private void run() {
+    try {
+      while(true) {
+        if(!changed(service.take())) {
+          continue;
+        }
+
+        //Wait for the writes to settle, and discard the events they caused.
+        Thread.sleep(DEBOUNCE);
+        WatchKey key;
+        while((key = service.poll()) != null) {
+          key.pollEvents();
+          key.reset();
+        }
+
+        reload.run();
+      }
+    } catch(InterruptedException | ClosedWatchServiceException ignore) {
+      //The watcher was closed.
+    }
+  }
+
+  private boolean changed(WatchKey key) {
+    boolean changed = false;
+    for(WatchEvent<?> event : key.pollEvents()) {
+      if(event.kind() == StandardWatchEventKinds.OVERFLOW
+         || file.getName().equals(((Path)event.context()).getFileName().toString())) {
+        changed = true;
+      }
+    }
+    key.reset();
+    return changed;
+  }
+
+  @Override
+  public void close() throws IOException {
+    service.close();
+    thread.interrupt();
+  }
+}
@@ -1,11 +1,14 @@
 package net.tnemc.core.listener;
 
 import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.strict.EconomyAdapter;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
 import org.bukkit.event.server.ServiceRegisterEvent;
+import org.bukkit.event.server.ServiceUnregisterEvent;
 
-public class ServiceRegisterListener {
+public class ServiceRegisterListener implements Listener {
 
   private Reserve plugin;
 
@@ -15,6 +18,15 @@ public class ServiceRegisterListener {
 
   @EventHandler(priority = EventPriority.MONITOR)
   public void onEvent(final ServiceRegisterEvent event) {
+    if(EconomyAdapter.class.equals(event.getProvider().getService())) {
+      plugin.registry().refresh();
+    }
+  }
 
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onUnregister(final ServiceUnregisterEvent event) {
+    if(EconomyAdapter.class.equals(event.getProvider().getService())) {
+      plugin.registry().unregistered((EconomyAdapter)event.getProvider().getProvider());
+    }
   }
 }
\ No newline at end of file
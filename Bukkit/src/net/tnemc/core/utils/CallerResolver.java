@@ -0,0 +1,74 @@
+package net.tnemc.core.utils;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * Resolves the plugin that made an economy call from the stack of the calling thread. The first frame
+ * that belongs to a plugin other than Reserve is used, so calls made through the Vault bridge are
+ * blamed on the plugin that called Vault.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public class CallerResolver implements Function<StackTraceElement[], String> {
+
+  private static final String NONE = "";
+
+  private final Map<String, String> classes = new ConcurrentHashMap<>();
+  private final Plugin plugin;
+
+  public CallerResolver(Plugin plugin) {
+    this.plugin = plugin;
+  }
+
+  @Override
+  public String apply(StackTraceElement[] stack) {
+    for(StackTraceElement element : stack) {
+      final String name = element.getClassName();
+      if(name.startsWith("java.") || name.startsWith("sun.") || name.startsWith("org.bukkit.")) {
+        continue;
+      }
+
+      final String owner = classes.computeIfAbsent(name, this::owner);
+      if(!owner.equals(NONE)) {
+        return owner;
+      }
+    }
+    return null;
+  }
+
+  private String owner(String name) {
+    try {
+      final Class<?> type = Class.forName(name, false, plugin.getClass().getClassLoader());
+      final JavaPlugin owner = JavaPlugin.getProvidingPlugin(type);
+      return (owner == plugin)? NONE : owner.getName();
+    } catch(ClassNotFoundException | LinkageError | IllegalArgumentException | IllegalStateException ignore) {
+      return NONE;
+    }
+  }
+}
@@ -7,10 +7,13 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 
 /**
  * @author dumptruckman
@@ -85,18 +88,44 @@ public class FileMgmt {
    * @param file   File to write to.
    */
   public static void stringToFile(String source, File file) {
-    try {
-      OutputStreamWriter out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+    source = source.replace("\n", System.getProperty("line.separator"));
 
-      //BufferedWriter out = new BufferedWriter(new FileWriter(FileName));
+    if(!writeAtomically(source.getBytes(StandardCharsets.UTF_8), file)) {
+      System.out.println("Exception ");
+    }
+  }
 
-      source = source.replaceAll("\n", System.getProperty("line.separator"));
+  /**
+   * Writes bytes to a temporary file next to the specified file, and then moves it into place, so
+   * that a crash during the write can't leave the file truncated.
+   *
+   * @param data The bytes to write.
+   * @param file File to write to.
+   *
+   * @return True if the file was written, otherwise false.
+   */
+  public static boolean writeAtomically(byte[] data, File file) {
+    final File parent = file.getAbsoluteFile().getParentFile();
+    if(parent != null && !parent.exists()) {
+      parent.mkdirs();
+    }
 
-      out.write(source);
-      out.close();
+    final File temp = new File(parent, file.getName() + ".tmp");
+    try {
+      try(FileOutputStream out = new FileOutputStream(temp)) {
+        out.write(data);
+        out.getFD().sync();
+      }
 
+      try {
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch(AtomicMoveNotSupportedException e) {
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      return true;
     } catch(IOException e) {
-      System.out.println("Exception ");
+      temp.delete();
+      return false;
     }
   }
 }
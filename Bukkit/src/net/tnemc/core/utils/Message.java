@@ -6,6 +6,8 @@ import org.bukkit.entity.Player;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 
 /**
@@ -65,6 +67,13 @@ public class Message {
     colours.put("<reset>", ChatColor.RESET.toString());
   }
 
+  public static final String DEFAULT_LOCALE = "en_us";
+
+  private static final int MAX_TEMPLATES = 512;
+
+  private static final Map<String, Map<String, MessageTemplate>> templates = new ConcurrentHashMap<>();
+  private static volatile BiFunction<String, String, String> loader = (locale, node)->node;
+
   private final HashMap<String, String> variables = new HashMap<>();
   private final String node;
 
@@ -76,57 +85,70 @@ public class Message {
     variables.put(variable, replacement);
   }
 
-  public static String replaceColours(String message, boolean strip) {
-    for(Map.Entry<String, String> entry : colours.entrySet()) {
-      String replacement = (strip)? "" : entry.getValue();
-      message = message.replace(entry.getKey(), replacement);
+  /**
+   * Sets the function used to load the text of a message node for a locale. The text is loaded the
+   * first time the node is used in that locale, and compiled into a {@link MessageTemplate} that is
+   * reused afterwards. If the loader returns null, the node itself is used as the text.
+   *
+   * @param loader The function that accepts the locale and the node, and returns the text.
+   */
+  public static void setLoader(BiFunction<String, String, String> loader) {
+    Message.loader = loader;
+    templates.clear();
+  }
+
+  /**
+   * Discards every compiled template, so that they're loaded again when next used.
+   */
+  public static void clearTemplates() {
+    templates.clear();
+  }
+
+  public static MessageTemplate template(String locale, String node) {
+    final Map<String, MessageTemplate> compiled = templates.computeIfAbsent(locale, l->new ConcurrentHashMap<>());
+
+    final MessageTemplate template = compiled.get(node);
+    if(template != null) {
+      return template;
     }
-    if(strip) {
-      return ChatColor.stripColor(message);
+
+    //Commands build some of their messages at runtime, so stop caching rather than grow unbounded.
+    if(compiled.size() >= MAX_TEMPLATES) {
+      return load(locale, node);
     }
-    return ChatColor.translateAlternateColorCodes('&', message);
+    return compiled.computeIfAbsent(node, n->load(locale, n));
   }
 
-  public String grab(String world, CommandSender sender) {
-    String message = this.node;
+  private static MessageTemplate load(String locale, String node) {
+    final String text = loader.apply(locale, node);
+    return MessageTemplate.compile((text == null)? node : text);
+  }
 
-    for(Map.Entry<String, String> entry : variables.entrySet()) {
-      message = message.replace(entry.getKey(), entry.getValue());
-    }
-    return message;
+  public static String replaceColours(String message, boolean strip) {
+    return MessageTemplate.colour(message, strip);
+  }
+
+  public String grab(String world, CommandSender sender) {
+    return template(locale(sender), node).raw(variables);
   }
 
   public String[] grabWithNew(String world, CommandSender sender) {
-    String[] message = new String[]{this.node};
-
-    String[] formatted = new String[message.length];
-
-    for(int i = 0; i < message.length; i++) {
-      String send = message[i];
-      if(!send.equals(this.node)) {
-        for(Map.Entry<String, String> entry : variables.entrySet()) {
-          send = send.replace(entry.getKey(), entry.getValue());
-        }
-      }
-      boolean strip = !(sender instanceof Player);
-      formatted[i] = replaceColours(send, strip);
-    }
-    return formatted;
+    final boolean strip = !(sender instanceof Player);
+    return new String[] { template(locale(sender), node).render(variables, strip) };
   }
 
   public void translate(String world, CommandSender sender) {
     if(sender == null) { return; }
 
-    String[] message = new String[]{this.node};
-    for(String s : message) {
-      String send = s;
-      if(!send.equals(this.node)) {
-        for(Map.Entry<String, String> entry : variables.entrySet()) {
-          send = send.replace(entry.getKey(), entry.getValue());
-        }
-      }
-      boolean strip = !(sender instanceof Player);
-      sender.sendMessage(replaceColours(send, strip));
+    final boolean strip = !(sender instanceof Player);
+    sender.sendMessage(template(locale(sender), node).render(variables, strip));
+  }
+
+  private static String locale(CommandSender sender) {
+    if(sender instanceof Player) {
+      final String locale = ((Player)sender).getLocale();
+      return (locale == null || locale.isEmpty())? DEFAULT_LOCALE : locale.toLowerCase();
     }
+    return DEFAULT_LOCALE;
   }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+package net.tnemc.core.utils;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+/**
+ * A message that has been tokenized once into literal text and variable slots. Colour tags and
+ * {@code &} colour codes are resolved when the template is compiled, and the console variant with
+ * every colour stripped is kept alongside the coloured one, so rendering is a single
+ * {@link StringBuilder} pass that appends literals and fills the slots by index.
+ *
+ * Variables are written as {@code $name}, which matches the keys used with
+ * {@link Message#addVariable(String, String)}.
+ *
+ * @author creatorfromhell
+ * @since 1.0.0
+ */
+public final class MessageTemplate {
+
+  private static final char VARIABLE = '$';
+  private static final char ALTERNATE = '&';
+  private static final String CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+  private static final int LONGEST_TAG = 16;
+
+  private final String source;
+  private final String[] raw;
+  private final String[] coloured;
+  private final String[] stripped;
+  private final String[] slots;
+
+  private MessageTemplate(String source, String[] raw, String[] slots) {
+    this.source = source;
+    this.raw = raw;
+    this.slots = slots;
+    this.coloured = new String[raw.length];
+    this.stripped = new String[raw.length];
+
+    for(int i = 0; i < raw.length; i++) {
+      coloured[i] = colour(raw[i], false);
+      stripped[i] = colour(raw[i], true);
+    }
+  }
+
+  /**
+   * Tokenizes the specified text into a {@link MessageTemplate}.
+   *
+   * @param source The text of the message.
+   *
+   * @return The compiled {@link MessageTemplate}.
+   *
+   * @since 1.0.0
+   */
+  public static MessageTemplate compile(String source) {
+    final List<String> literals = new ArrayList<>();
+    final List<String> slots = new ArrayList<>();
+
+    int start = 0;
+    int i = 0;
+    while(i < source.length()) {
+      if(source.charAt(i) == VARIABLE) {
+        int end = i + 1;
+        while(end < source.length() && identifier(source.charAt(end))) {
+          end++;
+        }
+
+        if(end > i + 1) {
+          literals.add(source.substring(start, i));
+          slots.add(source.substring(i, end));
+          start = end;
+          i = end;
+          continue;
+        }
+      }
+      i++;
+    }
+    literals.add(source.substring(start));
+
+    return new MessageTemplate(source, literals.toArray(new String[0]), slots.toArray(new String[0]));
+  }
+
+  /**
+   * Resolves the colour tags and colour codes of the specified text in a single pass.
+   *
+   * @param text The text to colour.
+   * @param strip Whether the colours should be removed rather than resolved, as is done for
+   *              messages sent to the console.
+   *
+   * @return The coloured, or stripped, text.
+   *
+   * @since 1.0.0
+   */
+  public static String colour(String text, boolean strip) {
+    final StringBuilder builder = new StringBuilder(text.length() + 16);
+
+    int i = 0;
+    while(i < text.length()) {
+      final char c = text.charAt(i);
+
+      if(c == '<') {
+        final int close = text.indexOf('>', i + 1);
+        if(close > 0 && close - i < LONGEST_TAG) {
+          final String code = Message.colours.get(text.substring(i, close + 1));
+          if(code != null) {
+            if(!strip) {
+              builder.append(code);
+            }
+            i = close + 1;
+            continue;
+          }
+        }
+      }
+
+      final boolean code = i + 1 < text.length() && CODES.indexOf(text.charAt(i + 1)) >= 0;
+      if(!strip && c == ALTERNATE && code) {
+        builder.append(ChatColor.COLOR_CHAR).append(Character.toLowerCase(text.charAt(i + 1)));
+        i += 2;
+        continue;
+      }
+
+      if(strip && c == ChatColor.COLOR_CHAR && code) {
+        i += 2;
+        continue;
+      }
+
+      builder.append(c);
+      i++;
+    }
+    return builder.toString();
+  }
+
+  /**
+   * @return The text this template was compiled from.
+   *
+   * @since 1.0.0
+   */
+  public String source() {
+    return source;
+  }
+
+  /**
+   * @return The names of the variable slots in this template, in the order they appear.
+   *
+   * @since 1.0.0
+   */
+  public String[] slots() {
+    return slots.clone();
+  }
+
+  /**
+   * Renders this template with its colours resolved, or stripped.
+   *
+   * @param variables The values of the variables, keyed by their name including the {@code $}.
+   * @param strip Whether the colours should be stripped, as is done for messages sent to the console.
+   *
+   * @return The rendered message.
+   *
+   * @since 1.0.0
+   */
+  public String render(Map<String, String> variables, boolean strip) {
+    return render((strip)? stripped : coloured, variables, strip);
+  }
+
+  /**
+   * Renders this template without resolving its colours.
+   *
+   * @param variables The values of the variables, keyed by their name including the {@code $}.
+   *
+   * @return The rendered message.
+   *
+   * @since 1.0.0
+   */
+  public String raw(Map<String, String> variables) {
+    return render(raw, variables, false);
+  }
+
+  private String render(String[] literals, Map<String, String> variables, boolean strip) {
+    if(slots.length == 0 && variables.isEmpty()) {
+      return literals[0];
+    }
+
+    final StringBuilder builder = new StringBuilder(source.length() + (slots.length << 4));
+    for(int i = 0; i < slots.length; i++) {
+      builder.append(literals[i]);
+
+      String value = variables.get(slots[i]);
+      if(value == null) {
+        value = slots[i];
+      } else if(strip && value.indexOf(ChatColor.COLOR_CHAR) >= 0) {
+        value = ChatColor.stripColor(value);
+      }
+      builder.append(value);
+    }
+    builder.append(literals[slots.length]);
+
+    String message = builder.toString();
+
+    //Variables that aren't written as $name can't be slotted, so they fall back to a replacement.
+    for(Map.Entry<String, String> entry : variables.entrySet()) {
+      if(!slot(entry.getKey())) {
+        message = message.replace(entry.getKey(), entry.getValue());
+      }
+    }
+    return message;
+  }
+
+  private static boolean slot(String variable) {
+    if(variable.length() < 2 || variable.charAt(0) != VARIABLE) {
+      return false;
+    }
+
+    for(int i = 1; i < variable.length(); i++) {
+      if(!identifier(variable.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean identifier(char c) {
+    return c == '_' || Character.isLetterOrDigit(c);
+  }
+}
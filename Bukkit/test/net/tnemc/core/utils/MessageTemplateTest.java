@@ -0,0 +1,76 @@
+package net.tnemc.core.utils;
+
+import org.bukkit.ChatColor;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+/**
+ * Reserve API
+ * <p>
+ * Copyright (C) 2021 creatorfromhell
+ * <p>
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ * <p>
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * <p>
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA, or see
+ * it at <https://www.gnu.org/licenses/lgpl-3.0.txt>.
+ **/
+
+class MessageTemplateTest {
+
+  @Test
+  void fillsVariableSlots() {
+    final MessageTemplate template = MessageTemplate.compile("$player paid $amount to $target.");
+    assertArrayEquals(new String[] { "$player", "$amount", "$target" }, template.slots());
+
+    final Map<String, String> variables = new HashMap<>();
+    variables.put("$player", "Notch");
+    variables.put("$amount", "$5.00");
+    variables.put("$target", "Jeb");
+    assertEquals("Notch paid $5.00 to Jeb.", template.render(variables, false));
+  }
+
+  @Test
+  void keepsUnknownVariablesAndLoneDollarSigns() {
+    final MessageTemplate template = MessageTemplate.compile("Costs $ 5 for $missing");
+    assertEquals("Costs $ 5 for $missing", template.render(Collections.emptyMap(), false));
+  }
+
+  @Test
+  void resolvesColourTagsAndCodes() {
+    final MessageTemplate template = MessageTemplate.compile("<red>Error: &lbold<white> $text");
+    final Map<String, String> variables = Collections.singletonMap("$text", ChatColor.GREEN + "done");
+
+    assertEquals(ChatColor.RED + "Error: " + ChatColor.BOLD + "bold" + ChatColor.WHITE + " " + ChatColor.GREEN + "done",
+                 template.render(variables, false));
+
+    //Like ChatColor.stripColor, stripping only removes resolved colours and leaves & codes as written.
+    assertEquals("Error: &lbold done", template.render(variables, true));
+    assertEquals("<red>Error: &lbold<white> " + ChatColor.GREEN + "done", template.raw(variables));
+  }
+
+  @Test
+  void leavesUnknownTagsAlone() {
+    assertEquals("<notacolour> & text", MessageTemplate.colour("<notacolour> & text", false));
+  }
+
+  @Test
+  void replacesVariablesThatAreNotSlots() {
+    final MessageTemplate template = MessageTemplate.compile("Hello {name}");
+    assertEquals("Hello Notch", template.render(Collections.singletonMap("{name}", "Notch"), false));
+  }
+}
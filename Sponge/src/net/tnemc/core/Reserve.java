@@ -28,6 +28,7 @@ public class Reserve {
 
   @Listener
   public void onServerStart(GameStartedServerEvent event) {
+    instance = this;
     econService = new ReserveEconomyService();
 
     //initialize here.
@@ -0,0 +1,117 @@
+package net.tnemc.core.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.function.Function;
+
+/**
+ * Maps Reserve objects to their Sponge wrappers by identity, so that the same wrapper is handed out
+ * for as long as the Reserve object is in use. Keys are held weakly, and wrappers softly, because a
+ * wrapper references the object it wraps. Lookups of an existing wrapper don't allocate.
+ */
+public class WrapperCache<K, V> {
+
+  private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+  private final Function<K, V> factory;
+
+  private Entry<K, V>[] table;
+  private int size = 0;
+
+  public WrapperCache(Function<K, V> factory) {
+    this.factory = factory;
+    this.table = table(16);
+  }
+
+  public synchronized V get(K key) {
+    final int hash = System.identityHashCode(key);
+
+    for(Entry<K, V> entry = table[hash & (table.length - 1)]; entry != null; entry = entry.next) {
+      if(entry.get() == key) {
+        final V value = entry.value.get();
+        if(value != null) {
+          return value;
+        }
+
+        final V created = factory.apply(key);
+        entry.value = new SoftReference<>(created);
+        return created;
+      }
+    }
+
+    expunge();
+    if(size >= table.length - (table.length >> 2)) {
+      resize();
+    }
+
+    final V created = factory.apply(key);
+    final int index = hash & (table.length - 1);
+    table[index] = new Entry<>(key, hash, created, queue, table[index]);
+    size++;
+    return created;
+  }
+
+  public synchronized void clear() {
+    while(queue.poll() != null) {
+      //Drain the references that are no longer in the table.
+    }
+    table = table(16);
+    size = 0;
+  }
+
+  private void expunge() {
+    for(Reference<? extends K> reference; (reference = queue.poll()) != null; ) {
+      final Entry<?, ?> cleared = (Entry<?, ?>)reference;
+      final int index = cleared.hash & (table.length - 1);
+
+      Entry<K, V> previous = null;
+      for(Entry<K, V> entry = table[index]; entry != null; previous = entry, entry = entry.next) {
+        if(entry == cleared) {
+          if(previous == null) {
+            table[index] = entry.next;
+          } else {
+            previous.next = entry.next;
+          }
+          size--;
+          break;
+        }
+      }
+    }
+  }
+
+  private void resize() {
+    final Entry<K, V>[] resized = table(table.length << 1);
+
+    for(Entry<K, V> head : table) {
+      Entry<K, V> entry = head;
+      while(entry != null) {
+        final Entry<K, V> next = entry.next;
+        final int index = entry.hash & (resized.length - 1);
+        entry.next = resized[index];
+        resized[index] = entry;
+        entry = next;
+      }
+    }
+    table = resized;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K, V> Entry<K, V>[] table(int length) {
+    return (Entry<K, V>[])new Entry<?, ?>[length];
+  }
+
+  private static final class Entry<K, V> extends WeakReference<K> {
+
+    private final int hash;
+    private SoftReference<V> value;
+    private Entry<K, V> next;
+
+    private Entry(K key, int hash, V value, ReferenceQueue<K> queue, Entry<K, V> next) {
+      super(key, queue);
+      this.hash = hash;
+      this.value = new SoftReference<>(value);
+      this.next = next;
+    }
+  }
+}
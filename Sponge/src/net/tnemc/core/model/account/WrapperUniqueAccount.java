@@ -1,6 +1,8 @@
 package net.tnemc.core.model.account;
 
 import net.tnemc.core.economy.strict.account.GenericAccount;
+import net.tnemc.core.model.currency.WrapperCurrency;
+import net.tnemc.core.service.ReserveEconomyService;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.service.economy.Currency;
@@ -11,41 +13,66 @@ import org.spongepowered.api.service.economy.transaction.TransferResult;
 import org.spongepowered.api.text.Text;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
 public class WrapperUniqueAccount implements UniqueAccount {
 
-  private net.tnemc.core.economy.strict.account.UniqueAccount account;
+  private final net.tnemc.core.economy.strict.account.UniqueAccount account;
+  private final ReserveEconomyService service;
+  private Text displayName;
+  private volatile String name;
 
-  public WrapperUniqueAccount(net.tnemc.core.economy.strict.account.UniqueAccount account) {
+  public WrapperUniqueAccount(net.tnemc.core.economy.strict.account.UniqueAccount account, ReserveEconomyService service) {
     this.account = account;
+    this.service = service;
+  }
+
+  public net.tnemc.core.economy.strict.account.UniqueAccount account() {
+    return account;
   }
 
   @Override
   public Text getDisplayName() {
-    return Text.of(account.name());
+    //Account names rarely change, so the Text is only rebuilt when they do.
+    final String current = account.name();
+    if(!current.equals(name)) {
+      displayName = Text.of(current);
+      name = current;
+    }
+    return displayName;
   }
 
   @Override
   public BigDecimal getDefaultBalance(Currency currency) {
-    return null;
+    return BigDecimal.ZERO;
   }
 
   @Override
   public boolean hasBalance(Currency currency, Set<Context> contexts) {
-    return false;
+    final net.tnemc.core.economy.strict.currency.Currency reserve = WrapperCurrency.unwrap(currency);
+    return reserve != null && account.holdings(service.contexts().world(contexts), reserve) != null;
   }
 
   @Override
   public BigDecimal getBalance(Currency currency, Set<Context> contexts) {
-    return null;
+    final net.tnemc.core.economy.strict.currency.Currency reserve = WrapperCurrency.unwrap(currency);
+    if(reserve == null) {
+      return BigDecimal.ZERO;
+    }
+    final BigDecimal holdings = account.holdings(service.contexts().world(contexts), reserve);
+    return (holdings == null)? BigDecimal.ZERO : holdings;
   }
 
   @Override
   public Map<Currency, BigDecimal> getBalances(Set<Context> contexts) {
-    return null;
+    final Map<Currency, BigDecimal> balances = new HashMap<>();
+    for(Map.Entry<net.tnemc.core.economy.strict.currency.Currency, BigDecimal> entry : account.getMultiHoldings(service.contexts().world(contexts)).entrySet()) {
+      balances.put(service.wrap(entry.getKey()), entry.getValue());
+    }
+    return balances;
   }
 
   @Override
@@ -85,7 +112,7 @@ public class WrapperUniqueAccount implements UniqueAccount {
 
   @Override
   public Set<Context> getActiveContexts() {
-    return null;
+    return service.contexts().activeContexts(this, account.getUniqueID());
   }
 
   @Override
@@ -1,6 +1,8 @@
 package net.tnemc.core.model.account;
 
 import net.tnemc.core.economy.strict.account.GenericAccount;
+import net.tnemc.core.model.currency.WrapperCurrency;
+import net.tnemc.core.service.ReserveEconomyService;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.service.economy.Currency;
@@ -11,40 +13,65 @@ import org.spongepowered.api.service.economy.transaction.TransferResult;
 import org.spongepowered.api.text.Text;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 public class WrapperVirtualAccount implements VirtualAccount {
 
-  private GenericAccount account;
+  private final GenericAccount account;
+  private final ReserveEconomyService service;
+  private Text displayName;
+  private volatile String name;
 
-  public WrapperVirtualAccount(GenericAccount account) {
+  public WrapperVirtualAccount(GenericAccount account, ReserveEconomyService service) {
     this.account = account;
+    this.service = service;
+  }
+
+  public GenericAccount account() {
+    return account;
   }
 
   @Override
   public Text getDisplayName() {
-    return Text.of(account.name());
+    //Account names rarely change, so the Text is only rebuilt when they do.
+    final String current = account.name();
+    if(!current.equals(name)) {
+      displayName = Text.of(current);
+      name = current;
+    }
+    return displayName;
   }
 
   @Override
   public BigDecimal getDefaultBalance(Currency currency) {
-    return null;
+    return BigDecimal.ZERO;
   }
 
   @Override
   public boolean hasBalance(Currency currency, Set<Context> contexts) {
-    return false;
+    final net.tnemc.core.economy.strict.currency.Currency reserve = WrapperCurrency.unwrap(currency);
+    return reserve != null && account.holdings(service.contexts().world(contexts), reserve) != null;
   }
 
   @Override
   public BigDecimal getBalance(Currency currency, Set<Context> contexts) {
-    return null;
+    final net.tnemc.core.economy.strict.currency.Currency reserve = WrapperCurrency.unwrap(currency);
+    if(reserve == null) {
+      return BigDecimal.ZERO;
+    }
+    final BigDecimal holdings = account.holdings(service.contexts().world(contexts), reserve);
+    return (holdings == null)? BigDecimal.ZERO : holdings;
   }
 
   @Override
   public Map<Currency, BigDecimal> getBalances(Set<Context> contexts) {
-    return null;
+    final Map<Currency, BigDecimal> balances = new HashMap<>();
+    for(Map.Entry<net.tnemc.core.economy.strict.currency.Currency, BigDecimal> entry : account.getMultiHoldings(service.contexts().world(contexts)).entrySet()) {
+      balances.put(service.wrap(entry.getKey()), entry.getValue());
+    }
+    return balances;
   }
 
   @Override
@@ -84,6 +111,6 @@ public class WrapperVirtualAccount implements VirtualAccount {
 
   @Override
   public Set<Context> getActiveContexts() {
-    return null;
+    return service.contexts().activeContexts(this, null);
   }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package net.tnemc.core.model.currency;
 
+import net.tnemc.core.Reserve;
 import net.tnemc.core.economy.strict.currency.Currency;
 import org.spongepowered.api.text.Text;
 
@@ -7,25 +8,48 @@ import java.math.BigDecimal;
 
 public class WrapperCurrency implements org.spongepowered.api.service.economy.Currency {
 
-  private Currency currency;
+  private final Currency currency;
+  private final Text displayName;
+  private final Text pluralDisplayName;
+  private final Text symbol;
 
   public WrapperCurrency(Currency currency) {
     this.currency = currency;
+    this.displayName = Text.of(currency.display());
+    this.pluralDisplayName = Text.of(currency.displayPlural());
+    this.symbol = Text.of(currency.symbol());
+  }
+
+  public Currency currency() {
+    return currency;
+  }
+
+  public static Currency unwrap(org.spongepowered.api.service.economy.Currency currency) {
+    if(currency instanceof WrapperCurrency) {
+      return ((WrapperCurrency)currency).currency();
+    }
+
+    for(Currency reserve : Reserve.adapter().getCurrencies()) {
+      if(reserve.identifier().equals(currency.getId())) {
+        return reserve;
+      }
+    }
+    return null;
   }
 
   @Override
   public Text getDisplayName() {
-    return Text.of(currency.display());
+    return displayName;
   }
 
   @Override
   public Text getPluralDisplayName() {
-    return Text.of(currency.displayPlural());
+    return pluralDisplayName;
   }
 
   @Override
   public Text getSymbol() {
-    return Text.of(currency.symbol());
+    return symbol;
   }
 
   @Override
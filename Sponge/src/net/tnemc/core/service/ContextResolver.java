@@ -0,0 +1,148 @@
+package net.tnemc.core.service;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.context.ContextCalculator;
+import org.spongepowered.api.service.economy.account.Account;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Resolves the Reserve world name for a set of Sponge contexts, and the active contexts of accounts.
+ * Context sets are interned so that equal sets share one instance, which lets both the world name
+ * and the result of the registered {@link ContextCalculator calculators} be memoized per set.
+ */
+public class ContextResolver {
+
+  private static final int MAX_INTERNED = 1024;
+
+  private final Map<Set<Context>, Set<Context>> interned = new ConcurrentHashMap<>();
+  private final Map<Set<Context>, String> worlds = new ConcurrentHashMap<>();
+  private final Map<String, Set<Context>> worldContexts = new ConcurrentHashMap<>();
+  private final Map<String, Active> active = new ConcurrentHashMap<>();
+  private final List<ContextCalculator<Account>> calculators = new CopyOnWriteArrayList<>();
+
+  public void register(ContextCalculator<Account> calculator) {
+    calculators.add(calculator);
+
+    //The new calculator may add contexts to every account.
+    active.clear();
+  }
+
+  public Set<Context> intern(Set<Context> contexts) {
+    if(contexts == null || contexts.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    final Set<Context> existing = interned.get(contexts);
+    if(existing != null) {
+      return existing;
+    }
+
+    final Set<Context> copy = Collections.unmodifiableSet(new HashSet<>(contexts));
+    if(interned.size() >= MAX_INTERNED) {
+      return copy;
+    }
+    final Set<Context> previous = interned.putIfAbsent(copy, copy);
+    return (previous == null)? copy : previous;
+  }
+
+  /**
+   * @param contexts The contexts passed to an economy call.
+   *
+   * @return The name of the world the call applies to. This is the value of the world context if
+   * there is one, otherwise the default world.
+   */
+  public String world(Set<Context> contexts) {
+    final Set<Context> key = intern(contexts);
+
+    final String world = worlds.get(key);
+    if(world != null) {
+      return world;
+    }
+
+    final String resolved = resolveWorld(key);
+    if(worlds.size() < MAX_INTERNED) {
+      worlds.putIfAbsent(key, resolved);
+    }
+    return resolved;
+  }
+
+  /**
+   * @param account The account to get the active contexts of.
+   * @param owner The {@link UUID} of the player that owns the account, or null if it isn't owned by
+   *              a player.
+   *
+   * @return The active contexts of the account. The calculators are only invoked again when the
+   * contexts of the owner change, for example when the player changes worlds.
+   */
+  public Set<Context> activeContexts(Account account, UUID owner) {
+    final Set<Context> base = base(owner);
+
+    final Active cached = active.get(account.getIdentifier());
+    if(cached != null && cached.base == base) {
+      return cached.contexts;
+    }
+
+    Set<Context> contexts = base;
+    if(!calculators.isEmpty()) {
+      final Set<Context> accumulator = new HashSet<>(base);
+      for(ContextCalculator<Account> calculator : calculators) {
+        calculator.accumulateContexts(account, accumulator);
+      }
+      contexts = intern(accumulator);
+    }
+
+    active.put(account.getIdentifier(), new Active(base, contexts));
+    return contexts;
+  }
+
+  public void clear() {
+    interned.clear();
+    worlds.clear();
+    worldContexts.clear();
+    active.clear();
+  }
+
+  private Set<Context> base(UUID owner) {
+    if(owner == null) {
+      return Collections.emptySet();
+    }
+
+    final Optional<Player> player = Sponge.getServer().getPlayer(owner);
+    if(!player.isPresent()) {
+      return Collections.emptySet();
+    }
+    return worldContexts.computeIfAbsent(player.get().getWorld().getName(),
+                                         name->intern(Collections.singleton(new Context(Context.WORLD_KEY, name))));
+  }
+
+  private static String resolveWorld(Set<Context> contexts) {
+    for(Context context : contexts) {
+      if(context.getKey().equals(Context.WORLD_KEY)) {
+        return context.getValue();
+      }
+    }
+    return Sponge.getServer().getDefaultWorldName();
+  }
+
+  private static final class Active {
+
+    private final Set<Context> base;
+    private final Set<Context> contexts;
+
+    private Active(Set<Context> base, Set<Context> contexts) {
+      this.base = base;
+      this.contexts = contexts;
+    }
+  }
+}
@@ -1,6 +1,10 @@
 package net.tnemc.core.service;
 
 import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.strict.account.GenericAccount;
+import net.tnemc.core.model.WrapperCache;
+import net.tnemc.core.model.account.WrapperUniqueAccount;
+import net.tnemc.core.model.account.WrapperVirtualAccount;
 import net.tnemc.core.model.currency.WrapperCurrency;
 import org.spongepowered.api.service.context.ContextCalculator;
 import org.spongepowered.api.service.economy.Currency;
@@ -9,26 +13,73 @@ import org.spongepowered.api.service.economy.account.Account;
 import org.spongepowered.api.service.economy.account.AccountDeletionResultType;
 import org.spongepowered.api.service.economy.account.UniqueAccount;
 
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 public class ReserveEconomyService implements EconomyService {
 
+  private final WrapperCache<net.tnemc.core.economy.strict.currency.Currency, WrapperCurrency> currencyWrappers = new WrapperCache<>(WrapperCurrency::new);
+  private final WrapperCache<net.tnemc.core.economy.strict.account.UniqueAccount, WrapperUniqueAccount> uniqueWrappers = new WrapperCache<>(account->new WrapperUniqueAccount(account, this));
+  private final WrapperCache<GenericAccount, WrapperVirtualAccount> virtualWrappers = new WrapperCache<>(account->new WrapperVirtualAccount(account, this));
+
+  private final ContextResolver contexts = new ContextResolver();
+
+  private volatile Set<Currency> currencies = Collections.emptySet();
+
+  public ContextResolver contexts() {
+    return contexts;
+  }
+
+  public WrapperCurrency wrap(net.tnemc.core.economy.strict.currency.Currency currency) {
+    return currencyWrappers.get(currency);
+  }
+
+  public UniqueAccount wrap(net.tnemc.core.economy.strict.account.UniqueAccount account) {
+    return uniqueWrappers.get(account);
+  }
+
+  public Optional<Account> wrap(net.tnemc.core.economy.strict.account.Account account) {
+    if(account instanceof net.tnemc.core.economy.strict.account.UniqueAccount) {
+      return Optional.of(uniqueWrappers.get((net.tnemc.core.economy.strict.account.UniqueAccount)account));
+    }
+    if(account instanceof GenericAccount) {
+      return Optional.of(virtualWrappers.get((GenericAccount)account));
+    }
+    return Optional.empty();
+  }
 
   @Override
   public Currency getDefaultCurrency() {
-    return new WrapperCurrency(Reserve.adapter().getDefaultCurrency());
+    return wrap(Reserve.adapter().getDefaultCurrency());
   }
 
   @Override
   public Set<Currency> getCurrencies() {
-    Set<Currency> currencies = new HashSet<>();
+    final Set<net.tnemc.core.economy.strict.currency.Currency> current = Reserve.adapter().getCurrencies();
 
-    for(net.tnemc.core.economy.strict.currency.Currency cur : Reserve.adapter().getCurrencies()) {
-      currencies.add(new WrapperCurrency(cur));
+    //The wrapped set is only rebuilt when the adapter's currencies change.
+    final Set<Currency> cached = currencies;
+    if(cached.size() == current.size()) {
+      boolean changed = false;
+      for(net.tnemc.core.economy.strict.currency.Currency cur : current) {
+        if(!cached.contains(wrap(cur))) {
+          changed = true;
+          break;
+        }
+      }
+      if(!changed) {
+        return cached;
+      }
     }
+
+    final Set<Currency> wrapped = new LinkedHashSet<>();
+    for(net.tnemc.core.economy.strict.currency.Currency cur : current) {
+      wrapped.add(wrap(cur));
+    }
+    currencies = Collections.unmodifiableSet(wrapped);
     return currencies;
   }
 
@@ -44,12 +95,14 @@ public class ReserveEconomyService implements EconomyService {
 
   @Override
   public Optional<UniqueAccount> getOrCreateAccount(UUID uuid) {
-    return Optional.empty();
+    final net.tnemc.core.economy.strict.account.UniqueAccount account = Reserve.adapter().getOrCreateAccount(uuid);
+    return (account == null)? Optional.empty() : Optional.of(wrap(account));
   }
 
   @Override
   public Optional<Account> getOrCreateAccount(String identifier) {
-    return Optional.empty();
+    final net.tnemc.core.economy.strict.account.Account account = Reserve.adapter().getOrCreateAccount(identifier);
+    return (account == null)? Optional.empty() : wrap(account);
   }
 
   @Override
@@ -64,6 +117,6 @@ public class ReserveEconomyService implements EconomyService {
 
   @Override
   public void registerContextCalculator(ContextCalculator<Account> calculator) {
-
+    contexts.register(calculator);
   }
 }
\ No newline at end of file